@@ -0,0 +1,78 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.config.DatabaseConfig;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Banco com massa sintética para benchmarks que consultam o repositório.
+ *
+ * <p>A massa de {@link GeradorDados} é gerada uma vez por tamanho e semente e
+ * guardada em {@code target/bancos/}; as execuções seguintes só copiam o arquivo
+ * para um banco {@link DatabaseConfig#MEMORIA} ou {@link DatabaseConfig#TEMPORARIO}
+ * com {@code restore from}, o que leva segundos mesmo com um milhão de tarefas.
+ * Cada benchmark começa com o banco idêntico e o descarta ao fechar o pool.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BancoSintetico {
+
+    private static final Path PASTA = Path.of("target", "bancos");
+
+    private BancoSintetico() {
+    }
+
+    /**
+     * Inicializa {@link DatabaseConfig} com a massa pedida.
+     *
+     * @param tarefas quantidade de tarefas (as demais tabelas seguem {@link GeradorDados.Volume#proporcional(int)})
+     * @param semente semente do gerador
+     * @param modo {@code memoria} ou {@code temporario}
+     * @throws Exception se não conseguir gerar ou copiar a massa
+     */
+    public static void abrir(int tarefas, long semente, String modo) throws Exception {
+        Path modelo = modelo(tarefas, semente);
+
+        DatabaseConfig.initialize("memoria".equals(modo) ? DatabaseConfig.MEMORIA : DatabaseConfig.TEMPORARIO);
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("restore from '" + modelo.toAbsolutePath().toString().replace("'", "''") + "'");
+        }
+    }
+
+    /**
+     * Arquivo com a massa, gerado na primeira vez.
+     */
+    private static synchronized Path modelo(int tarefas, long semente) throws Exception {
+        Path arquivo = PASTA.resolve("sintetico-" + tarefas + "-" + semente + ".db");
+        if (Files.exists(arquivo)) {
+            return arquivo;
+        }
+
+        Files.createDirectories(PASTA);
+        Path parcial = PASTA.resolve(arquivo.getFileName() + ".parcial");
+        Files.deleteIfExists(parcial);
+        try {
+            DatabaseConfig.initialize(parcial.toString());
+            new GeradorDados(GeradorDados.Volume.proporcional(tarefas), semente, null).gerar();
+            // Junta o WAL ao arquivo principal antes de movê-lo
+            try (Connection conn = DatabaseConfig.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+                stmt.execute("ANALYZE");
+            }
+        } finally {
+            DatabaseConfig.close();
+        }
+        Files.move(parcial, arquivo, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(Path.of(parcial + "-wal"));
+        Files.deleteIfExists(Path.of(parcial + "-shm"));
+        return arquivo;
+    }
+}
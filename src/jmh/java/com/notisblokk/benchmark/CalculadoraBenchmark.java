@@ -0,0 +1,65 @@
+package com.notisblokk.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.notisblokk.model.HistoricoCalculadora;
+import com.notisblokk.repository.HistoricoCalculadoraRepository;
+import com.notisblokk.service.CalculadoraService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link CalculadoraService#calcular(String, Long, Long)}: validação,
+ * interpretação da expressão e cálculo.
+ *
+ * <p>O repositório de histórico é substituído por um que não grava, para medir só o
+ * serviço, e o log INFO de cada cálculo é desligado (iria para o console e o
+ * arquivo). A referência ({@link #referencia}) faz a mesma conta já interpretada,
+ * com {@link Double#parseDouble} (igual para todos os valores de {@code expressao}).</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CalculadoraBenchmark {
+
+    @Param({"125.5*4", "1500-37.25", "sqrt(144)", "12^2"})
+    private String expressao;
+
+    private CalculadoraService calculadora;
+    private String operando1 = "125.5";
+    private String operando2 = "4";
+
+    @Setup
+    public void preparar() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(CalculadoraService.class)).setLevel(Level.WARN);
+
+        calculadora = new CalculadoraService(new HistoricoCalculadoraRepository() {
+            @Override
+            public HistoricoCalculadora salvar(HistoricoCalculadora historico, Long sessaoId, Long usuarioId) {
+                return historico;
+            }
+        });
+    }
+
+    @Benchmark
+    public HistoricoCalculadora calcular() throws Exception {
+        return calculadora.calcular(expressao, 1L, 1L);
+    }
+
+    @Benchmark
+    public double referencia() {
+        return Double.parseDouble(operando1) * Double.parseDouble(operando2);
+    }
+}
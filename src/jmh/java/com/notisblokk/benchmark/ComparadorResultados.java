@@ -0,0 +1,151 @@
+package com.notisblokk.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compara dois resultados do JMH em JSON (gerados pelo profile {@code benchmark}),
+ * tipicamente de dois commits diferentes.
+ *
+ * <p>Para cada benchmark (com seus parâmetros e modo) mostra o placar da base e o
+ * novo, a variação e a alocação por operação ({@code gc.alloc.rate.norm}). A
+ * variação só é marcada como melhora ou piora quando passa da soma das margens de
+ * erro dos dois lados; abaixo disso aparece como {@code ~}. No modo throughput,
+ * maior é melhor; nos demais, menor.</p>
+ *
+ * <pre>
+ * mvn -Pbenchmark compile exec:exec@jmh-comparar -Djmh.base=benchmarks/base.json -Djmh.novo=benchmarks/atual.json
+ * </pre>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ComparadorResultados {
+
+    private static final String PACOTE = "com.notisblokk.benchmark.";
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+
+    private record Resultado(String nome, String modo, double placar, double erro, String unidade, double alocacao) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: ComparadorResultados <base.json> <novo.json>");
+            System.exit(1);
+        }
+
+        Map<String, Resultado> base = ler(new File(args[0]));
+        Map<String, Resultado> novo = ler(new File(args[1]));
+
+        Set<String> chaves = new LinkedHashSet<>(base.keySet());
+        chaves.addAll(novo.keySet());
+
+        List<String[]> linhas = new ArrayList<>();
+        linhas.add(new String[]{"Benchmark", "Modo", "Base", "Novo", "Unidade", "Variação", "", "Aloc. base", "Aloc. novo"});
+        for (String chave : chaves) {
+            Resultado b = base.get(chave);
+            Resultado n = novo.get(chave);
+            Resultado qualquer = b != null ? b : n;
+            linhas.add(new String[]{
+                qualquer.nome(),
+                qualquer.modo(),
+                b != null ? placar(b) : "-",
+                n != null ? placar(n) : "-",
+                qualquer.unidade(),
+                b != null && n != null ? String.format(Locale.ROOT, "%+.1f%%", (n.placar() / b.placar() - 1) * 100) : "",
+                b != null && n != null ? veredito(b, n) : (b == null ? "novo" : "removido"),
+                b != null ? bytes(b.alocacao()) : "-",
+                n != null ? bytes(n.alocacao()) : "-"
+            });
+        }
+
+        imprimir(linhas);
+        System.out.printf("%nBase: %s%nNovo: %s%n", args[0], args[1]);
+    }
+
+    private static Map<String, Resultado> ler(File arquivo) throws IOException {
+        if (!arquivo.isFile()) {
+            throw new IOException("Resultado não encontrado: " + arquivo.getPath());
+        }
+
+        Map<String, Resultado> resultados = new LinkedHashMap<>();
+        for (JsonNode item : new ObjectMapper().readTree(arquivo)) {
+            StringBuilder chave = new StringBuilder(item.path("benchmark").asText().replace(PACOTE, ""));
+            JsonNode params = item.path("params");
+            if (params.size() > 0) {
+                List<String> pares = new ArrayList<>();
+                Iterator<Map.Entry<String, JsonNode>> campos = params.fields();
+                while (campos.hasNext()) {
+                    Map.Entry<String, JsonNode> campo = campos.next();
+                    pares.add(campo.getKey() + "=" + campo.getValue().asText());
+                }
+                chave.append(" (").append(String.join(", ", pares)).append(')');
+            }
+
+            String modo = item.path("mode").asText();
+            JsonNode metrica = item.path("primaryMetric");
+            JsonNode alocacao = item.path("secondaryMetrics").path(ALOCACAO);
+            resultados.put(chave + " " + modo, new Resultado(
+                chave.toString(),
+                modo,
+                metrica.path("score").asDouble(),
+                numero(metrica.path("scoreError")),
+                metrica.path("scoreUnit").asText(),
+                alocacao.isMissingNode() ? Double.NaN : alocacao.path("score").asDouble()));
+        }
+        return resultados;
+    }
+
+    /** Margem de erro; "NaN" (uma só iteração) conta como zero. */
+    private static double numero(JsonNode valor) {
+        double numero = valor.asDouble(Double.NaN);
+        return Double.isNaN(numero) ? 0 : numero;
+    }
+
+    private static String veredito(Resultado base, Resultado novo) {
+        double diferenca = novo.placar() - base.placar();
+        if (Math.abs(diferenca) <= base.erro() + novo.erro()) {
+            return "~";
+        }
+        boolean maiorMelhor = "thrpt".equals(base.modo());
+        return (diferenca > 0) == maiorMelhor ? "melhor" : "pior";
+    }
+
+    private static String placar(Resultado resultado) {
+        return String.format(Locale.ROOT, "%.3f ± %.3f", resultado.placar(), resultado.erro());
+    }
+
+    private static String bytes(double valor) {
+        return Double.isNaN(valor) ? "-" : String.format(Locale.ROOT, "%.0f B/op", valor);
+    }
+
+    private static void imprimir(List<String[]> linhas) {
+        int[] larguras = new int[linhas.get(0).length];
+        for (String[] linha : linhas) {
+            for (int i = 0; i < linha.length; i++) {
+                larguras[i] = Math.max(larguras[i], linha[i].length());
+            }
+        }
+        for (String[] linha : linhas) {
+            StringBuilder texto = new StringBuilder();
+            for (int i = 0; i < linha.length; i++) {
+                // Benchmark e modo à esquerda, números à direita
+                String formato = i < 2 ? "%-" + larguras[i] + "s  " : "%" + larguras[i] + "s  ";
+                texto.append(String.format(formato, linha[i]));
+            }
+            System.out.println(texto.toString().stripTrailing());
+        }
+    }
+}
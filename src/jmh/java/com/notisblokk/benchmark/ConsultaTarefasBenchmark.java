@@ -0,0 +1,91 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.config.DatabaseConfig;
+import com.notisblokk.model.Tarefa;
+import com.notisblokk.model.TarefaDTO;
+import com.notisblokk.repository.TarefaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das consultas de tarefas do {@link TarefaRepository} sobre a massa
+ * sintética de {@link BancoSintetico}, passando pelo pool como na aplicação.
+ *
+ * <p>O padrão é 100 mil tarefas; {@code -p tarefas=1000000} mede o volume de um
+ * milhão de linhas (a primeira execução gera e guarda a massa em
+ * {@code target/bancos/}, as seguintes só a copiam). {@code modo=temporario} usa
+ * um arquivo em disco em vez do banco em memória, para separar o custo de I/O.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConsultaTarefasBenchmark {
+
+    private static final String[] TERMOS = {"contrato", "orçamento", "Jurídico", "divergências"};
+
+    @Param({"100000"})
+    private int tarefas;
+
+    @Param({"memoria"})
+    private String modo;
+
+    private TarefaRepository repository;
+    private int paginas;
+
+    @Setup
+    public void preparar() throws Exception {
+        BancoSintetico.abrir(tarefas, 42, modo);
+        repository = new TarefaRepository();
+        paginas = tarefas / 20;
+    }
+
+    @TearDown
+    public void encerrar() {
+        DatabaseConfig.close();
+    }
+
+    @Benchmark
+    public List<Tarefa> primeiraPagina() throws SQLException {
+        return repository.buscarComPaginacao(1, 20, "data_atualizacao", "DESC");
+    }
+
+    /** Página sorteada: o OFFSET percorre as linhas anteriores. */
+    @Benchmark
+    public List<Tarefa> paginaAleatoria() throws SQLException {
+        return repository.buscarComPaginacao(ThreadLocalRandom.current().nextInt(paginas) + 1, 20, "prazo_final", "ASC");
+    }
+
+    @Benchmark
+    public List<TarefaDTO> buscaPorTexto() throws SQLException {
+        return repository.buscarPorTexto(TERMOS[ThreadLocalRandom.current().nextInt(TERMOS.length)]);
+    }
+
+    /** Prazos da próxima semana, a consulta dos alertas. */
+    @Benchmark
+    public List<TarefaDTO> prazoDaSemana() throws SQLException {
+        LocalDate hoje = LocalDate.now();
+        return repository.buscarPorIntervaloPrazo(hoje, hoje.plusDays(7));
+    }
+
+    @Benchmark
+    public long contarTotal() throws SQLException {
+        return repository.contarTotal();
+    }
+}
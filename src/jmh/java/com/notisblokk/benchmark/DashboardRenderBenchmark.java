@@ -0,0 +1,109 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.config.ThymeleafConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da renderização do dashboard ({@code dashboard/index} com o layout base).
+ *
+ * <p>{@link #dashboard} usa o {@link TemplateEngine} da aplicação
+ * ({@link ThymeleafConfig#getTemplateEngine()}), com o modelo que o
+ * {@code DashboardController} monta para um administrador com 10 tarefas em alerta.
+ * A referência ({@link #dashboardComCache}) usa o mesmo resolver com cache de
+ * templates ligado: a diferença é o custo de ler e interpretar os templates a
+ * cada requisição.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardRenderBenchmark {
+
+    private TemplateEngine engine;
+    private TemplateEngine engineComCache;
+    private Map<String, Object> modelo;
+
+    @Setup
+    public void preparar() {
+        engine = ThymeleafConfig.getTemplateEngine();
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("/templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        engineComCache = new TemplateEngine();
+        engineComCache.setTemplateResolver(resolver);
+
+        modelo = new HashMap<>();
+        modelo.put("isAuthenticated", true);
+        modelo.put("isAdmin", true);
+        modelo.put("isOperator", false);
+        modelo.put("userName", "Administrador do Sistema");
+        modelo.put("userInitials", "AS");
+        modelo.put("theme", "light");
+        modelo.put("title", "Dashboard - Notisblokk");
+
+        String[] niveis = {"CRITICO", "URGENTE", "ALERTA"};
+        List<Map<String, Object>> alertas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> alerta = new HashMap<>();
+            alerta.put("id", (long) i);
+            alerta.put("titulo", "Tarefa de exemplo número " + i);
+            alerta.put("prazoFinal", String.format("%02d/11/2026", i + 1));
+            alerta.put("diasRestantes", (long) i - 3);
+            alerta.put("statusTexto", "Vence em " + i + " dias");
+            alerta.put("nivel", niveis[i % niveis.length]);
+            alerta.put("etiqueta", "Etiqueta " + i);
+            alerta.put("status", "Em andamento");
+            alertas.add(alerta);
+        }
+        modelo.put("totalNotas", 250L);
+        modelo.put("notasVencidas", 4);
+        modelo.put("notasUrgentes", 6);
+        modelo.put("notasAlerta", alertas);
+        modelo.put("sistemaStatus", "Operacional");
+        modelo.put("sistemaStatusClass", "success");
+    }
+
+    private Context contexto() {
+        // Mesmas variáveis de ThymeleafConfig.render, sem o Context do Javalin
+        Context contexto = new Context();
+        modelo.forEach(contexto::setVariable);
+        contexto.setVariable("appName", AppConfig.getAppName());
+        contexto.setVariable("appVersion", AppConfig.getAppVersion());
+        contexto.setVariable("contextPath", "");
+        return contexto;
+    }
+
+    @Benchmark
+    public String dashboard() {
+        return engine.process("dashboard/index", contexto());
+    }
+
+    @Benchmark
+    public String dashboardComCache() {
+        return engineComCache.process("dashboard/index", contexto());
+    }
+}
@@ -0,0 +1,644 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.config.DatabaseConfig;
+import com.notisblokk.util.PasswordUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Gerador de massa de dados sintética para benchmarks, testes de carga e
+ * análise de consultas.
+ *
+ * <p>Preenche o banco configurado em {@link DatabaseConfig} com usuários,
+ * etiquetas, status, sessões, tarefas, alertas enviados, histórico da
+ * calculadora e anexos, nos formatos que a aplicação grava (datas
+ * {@code dd/MM/yyyy HH:mm:ss}; {@code data_atualizacao} de parte das tarefas e
+ * {@code data_envio} dos alertas em ISO, como o {@code CURRENT_TIMESTAMP} dos
+ * triggers e defaults). As distribuições imitam o uso real:</p>
+ * <ul>
+ *   <li>Conteúdo das tarefas: 60% até 400 caracteres, 30% até 2 KB, 9% até 8 KB e 1% até 32 KB</li>
+ *   <li>Prazos: 5% vencidos, 10% na próxima semana, 25% no mês, 40% em seis meses e 20% em até dois anos</li>
+ *   <li>Sessões: 70% encerradas por logout, 25% expiradas e 5% ativas</li>
+ * </ul>
+ *
+ * <p>Tudo é inserido em uma única transação, com JDBC batch de {@value #LOTE}
+ * linhas e {@code synchronous = OFF} durante a carga. A mesma semente gera a
+ * mesma massa. Os usuários gerados têm a senha {@value #SENHA_USUARIOS} (um só
+ * hash BCrypt para todos). Os arquivos dos anexos só são gravados se houver
+ * uma pasta de anexos.</p>
+ *
+ * <p>Como a senha é conhecida e parte dos usuários é ADMIN, a massa só é gerada em
+ * um banco vazio: {@link #gerar()} recusa bancos que já têm tarefas, sessões,
+ * etiquetas ou anexos, e a linha de comando exige {@code banco=} e recusa um
+ * arquivo que já existe. Nunca aponte o gerador para o banco da aplicação.</p>
+ *
+ * <p>Uso (ver o perfil {@code benchmark} do pom):</p>
+ * <pre>
+ * mvn -Pbenchmark clean compile exec:exec@massa -Dmassa.args="banco=./massa.db tarefas=1000000 [usuarios=500] [semente=42] [arquivos=true]"
+ * </pre>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GeradorDados {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorDados.class);
+
+    /** Senha de todos os usuários gerados. */
+    public static final String SENHA_USUARIOS = "Usuario@123";
+
+    private static final int LOTE = 1000;
+    private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter ARQUIVO_FORMATTER = DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss");
+
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela", "Heitor",
+        "Isabela", "João", "Karina", "Lucas", "Mariana", "Nicolas", "Olívia", "Paulo", "Renata", "Sérgio", "Tatiane", "Vinícius"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Lima", "Pereira", "Costa",
+        "Ferreira", "Almeida", "Ribeiro", "Carvalho", "Gomes", "Martins", "Rocha", "Barbosa"};
+    private static final String[] AREAS = {"Financeiro", "Jurídico", "Compras", "RH", "Comercial", "Suporte",
+        "Infraestrutura", "Projetos", "Contratos", "Auditoria", "Marketing", "Logística"};
+    private static final String[] VERBOS = {"Revisar", "Enviar", "Preparar", "Aprovar", "Analisar", "Atualizar",
+        "Conferir", "Agendar", "Protocolar", "Responder", "Renovar", "Fechar"};
+    private static final String[] OBJETOS = {"relatório mensal", "contrato", "proposta comercial", "orçamento",
+        "parecer", "planilha de custos", "ata da reunião", "nota fiscal", "cronograma", "ofício", "auditoria interna",
+        "entrega ao cliente"};
+    private static final String[] FRASES = {
+        "Verificar os valores com o setor responsável antes do envio.",
+        "O cliente pediu ajustes na segunda versão do documento.",
+        "Aguardando retorno da diretoria para seguir com a aprovação.",
+        "Conferir prazos legais e anexar os comprovantes no processo.",
+        "Reunião marcada para alinhar as pendências com a equipe.",
+        "Atualizar a planilha compartilhada com os números do trimestre.",
+        "Há divergências entre o pedido e a nota fiscal recebida.",
+        "Priorizar os itens críticos e registrar o andamento diário."
+    };
+    private static final String[] NAVEGADORES = {
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/129.0 Safari/537.36",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_6) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.6 Safari/605.1.15",
+        "Mozilla/5.0 (X11; Linux x86_64; rv:131.0) Gecko/20100101 Firefox/131.0",
+        "Mozilla/5.0 (iPhone; CPU iPhone OS 17_6 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Mobile/15E148",
+        "Mozilla/5.0 (Linux; Android 14; SM-S918B) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/129.0 Mobile Safari/537.36"
+    };
+    /** Nomes de arquivo sem acentos: o caminho tem de ser válido em qualquer locale do sistema. */
+    private static final String[] ARQUIVOS = {"relatorio-mensal", "contrato", "proposta", "orcamento", "parecer",
+        "planilha-custos", "ata-reuniao", "nota-fiscal", "cronograma", "oficio", "comprovante", "digitalizacao"};
+    private static final String[][] TIPOS_ANEXO = {
+        {"pdf", "application/pdf"}, {"docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"},
+        {"xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"}, {"csv", "text/csv"},
+        {"txt", "text/plain"}, {"png", "image/png"}, {"jpg", "image/jpeg"}
+    };
+    private static final String[][] OPERACOES = {{"+", "SOMA"}, {"-", "SUBTRACAO"}, {"*", "MULTIPLICACAO"}, {"/", "DIVISAO"}};
+
+    /** Texto de onde saem os conteúdos das tarefas (recortes de tamanhos variados). */
+    private static final String TEXTO = montarTexto(32 * 1024);
+    private static final byte[] TEXTO_BYTES = TEXTO.getBytes(StandardCharsets.UTF_8);
+
+    private final Volume volume;
+    private final SplittableRandom aleatorio;
+    private final Path pastaAnexos;
+    private final LocalDateTime agora = LocalDateTime.now(BRAZIL_ZONE).withNano(0);
+
+    /**
+     * Quantidade de linhas a gerar por tabela.
+     *
+     * @param usuarios usuários (além dos existentes)
+     * @param etiquetas etiquetas
+     * @param status status de tarefa (além dos cinco padrão)
+     * @param sessoes sessões de login
+     * @param tarefas tarefas
+     * @param alertas alertas enviados
+     * @param calculos itens do histórico da calculadora
+     * @param anexos anexos
+     */
+    public record Volume(int usuarios, int etiquetas, int status, int sessoes, int tarefas,
+                         int alertas, int calculos, int anexos) {
+
+        /**
+         * Volume proporcional a uma quantidade de tarefas: um usuário para cada 2.000
+         * tarefas, uma sessão para cada 10, um alerta para cada 5, um cálculo para cada
+         * 10 e um anexo para cada 50.
+         *
+         * @param tarefas quantidade de tarefas
+         * @return Volume correspondente
+         */
+        public static Volume proporcional(int tarefas) {
+            return new Volume(
+                Math.max(2, tarefas / 2000),
+                Math.max(5, Math.min(200, tarefas / 500)),
+                3,
+                tarefas / 10,
+                tarefas,
+                tarefas / 5,
+                tarefas / 10,
+                tarefas / 50);
+        }
+
+        /**
+         * Total de linhas do volume.
+         *
+         * @return long soma das quantidades
+         */
+        public long total() {
+            return (long) usuarios + etiquetas + status + sessoes + tarefas + alertas + calculos + anexos;
+        }
+    }
+
+    /**
+     * Cria um gerador.
+     *
+     * @param volume quantidades por tabela
+     * @param semente semente dos sorteios (a mesma semente gera a mesma massa)
+     * @param pastaAnexos pasta onde gravar os arquivos dos anexos, ou null para só registrar no banco
+     */
+    public GeradorDados(Volume volume, long semente, Path pastaAnexos) {
+        this.volume = volume;
+        this.aleatorio = new SplittableRandom(semente);
+        this.pastaAnexos = pastaAnexos;
+    }
+
+    /**
+     * Gera a massa no banco de {@link DatabaseConfig}, já inicializado e vazio.
+     *
+     * @return Map linhas inseridas por tabela, na ordem de inserção
+     * @throws SQLException se houver erro ao inserir (nada é gravado)
+     * @throws IOException se houver erro ao gravar os arquivos dos anexos
+     * @throws IllegalStateException se o banco já tiver dados
+     */
+    public Map<String, Integer> gerar() throws SQLException, IOException {
+        long inicio = System.nanoTime();
+        Map<String, Integer> linhas = new LinkedHashMap<>();
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            verificarVazio(conn);
+            String sincronizacao = pragma(conn, "synchronous");
+            boolean autoCommit = conn.getAutoCommit();
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA synchronous = OFF");
+            }
+            conn.setAutoCommit(false);
+
+            try {
+                linhas.put("users", inserirUsuarios(conn));
+                long[] usuarios = ids(conn, "SELECT id FROM users");
+                linhas.put("etiquetas", inserirEtiquetas(conn, usuarios));
+                linhas.put("status_tarefa", inserirStatus(conn));
+                long[] etiquetas = ids(conn, "SELECT id FROM etiquetas");
+                long[] status = ids(conn, "SELECT id FROM status_tarefa");
+
+                Faixa sessoes = inserirSessoes(conn, usuarios);
+                linhas.put("sessions", sessoes.quantidade());
+                Faixa tarefas = inserirTarefas(conn, usuarios, etiquetas, status, sessoes);
+                linhas.put("tarefas", tarefas.quantidade());
+                linhas.put("alertas_enviados", inserirAlertas(conn, usuarios, tarefas));
+                linhas.put("historico_calculadora", inserirCalculos(conn, usuarios, sessoes));
+                linhas.put("anexos", inserirAnexos(conn, usuarios, tarefas));
+
+                conn.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("PRAGMA synchronous = " + sincronizacao);
+                }
+            }
+        }
+
+        logger.info("Massa gerada em {} ms: {}", (System.nanoTime() - inicio) / 1_000_000, linhas);
+        return linhas;
+    }
+
+    /** Ids consecutivos inseridos em uma tabela durante a transação. */
+    private record Faixa(long primeiro, int quantidade) {
+
+        long sortear(SplittableRandom aleatorio) {
+            return primeiro + aleatorio.nextInt(quantidade);
+        }
+    }
+
+    private int inserirUsuarios(Connection conn) throws SQLException {
+        String sql = """
+            INSERT INTO users (username, email, password_hash, full_name, role, active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+        // Um hash para todos: BCrypt levaria minutos para milhares de usuários
+        String hash = PasswordUtil.gerarHash(SENHA_USUARIOS);
+        long base = proximoId(conn, "users");
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.usuarios(); i++) {
+                String usuario = "usuario" + (base + i);
+                String criado = agora.minusDays(aleatorio.nextInt(730)).format(FORMATTER);
+                pstmt.setString(1, usuario);
+                pstmt.setString(2, usuario + "@exemplo.com.br");
+                pstmt.setString(3, hash);
+                pstmt.setString(4, sortear(NOMES) + " " + sortear(SOBRENOMES) + " " + sortear(SOBRENOMES));
+                pstmt.setString(5, aleatorio.nextInt(20) == 0 ? "ADMIN" : "OPERATOR");
+                pstmt.setBoolean(6, aleatorio.nextInt(10) != 0);
+                pstmt.setString(7, criado);
+                pstmt.setString(8, criado);
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return volume.usuarios();
+    }
+
+    private int inserirEtiquetas(Connection conn, long[] usuarios) throws SQLException {
+        String sql = "INSERT INTO etiquetas (nome, data_criacao, sessao_id, usuario_id) VALUES (?, ?, NULL, ?)";
+        long base = proximoId(conn, "etiquetas");
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.etiquetas(); i++) {
+                pstmt.setString(1, AREAS[i % AREAS.length] + " " + (base + i));
+                pstmt.setString(2, agora.minusDays(aleatorio.nextInt(730)).format(FORMATTER));
+                pstmt.setLong(3, sortear(usuarios));
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return volume.etiquetas();
+    }
+
+    private int inserirStatus(Connection conn) throws SQLException {
+        String sql = "INSERT INTO status_tarefa (nome, cor_hex, data_criacao, sessao_id, usuario_id) VALUES (?, ?, ?, NULL, NULL)";
+        long base = proximoId(conn, "status_tarefa");
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.status(); i++) {
+                pstmt.setString(1, "Etapa " + (base + i));
+                pstmt.setString(2, String.format("#%06X", aleatorio.nextInt(0x1000000)));
+                pstmt.setString(3, agora.format(FORMATTER));
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return volume.status();
+    }
+
+    private Faixa inserirSessoes(Connection conn, long[] usuarios) throws SQLException {
+        String sql = """
+            INSERT INTO sessions (user_id, login_time, logout_time, ip_address, user_agent, status, last_activity)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.sessoes(); i++) {
+                LocalDateTime login = agora.minusMinutes(aleatorio.nextInt(90 * 24 * 60));
+                LocalDateTime fim = login.plusMinutes(5 + aleatorio.nextInt(480));
+                int sorteio = aleatorio.nextInt(100);
+                String status = sorteio < 70 ? "LOGGED_OUT" : sorteio < 95 ? "EXPIRED" : "ACTIVE";
+
+                pstmt.setLong(1, sortear(usuarios));
+                pstmt.setString(2, login.format(FORMATTER));
+                pstmt.setString(3, "LOGGED_OUT".equals(status) ? fim.format(FORMATTER) : null);
+                pstmt.setString(4, "10." + aleatorio.nextInt(256) + "." + aleatorio.nextInt(256) + "." + (1 + aleatorio.nextInt(254)));
+                pstmt.setString(5, sortear(NAVEGADORES));
+                pstmt.setString(6, status);
+                pstmt.setLong(7, fim.atZone(BRAZIL_ZONE).toInstant().toEpochMilli());
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return faixa(conn, volume.sessoes());
+    }
+
+    private Faixa inserirTarefas(Connection conn, long[] usuarios, long[] etiquetas, long[] status, Faixa sessoes)
+            throws SQLException {
+        String sql = """
+            INSERT INTO tarefas (etiqueta_id, status_id, titulo, conteudo, data_criacao, data_atualizacao, prazo_final, sessao_id, usuario_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+        LocalDate hoje = agora.toLocalDate();
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.tarefas(); i++) {
+                LocalDateTime criacao = agora.minusMinutes(aleatorio.nextInt(2 * 365 * 24 * 60));
+                LocalDateTime atualizacao = criacao.plusMinutes(aleatorio.nextInt(
+                    (int) Math.max(1, Duration.between(criacao, agora).toMinutes())));
+
+                pstmt.setLong(1, sortear(etiquetas));
+                pstmt.setLong(2, sortear(status));
+                pstmt.setString(3, sortear(VERBOS) + " " + sortear(OBJETOS) + " - " + sortear(AREAS) + " " + (i + 1));
+                pstmt.setString(4, conteudo());
+                pstmt.setString(5, criacao.format(FORMATTER));
+                // Tarefas editadas ficam com o CURRENT_TIMESTAMP do trigger (ISO, UTC)
+                pstmt.setString(6, aleatorio.nextInt(10) < 3
+                    ? atualizacao.atZone(BRAZIL_ZONE).withZoneSameInstant(ZoneOffset.UTC).format(ISO_FORMATTER)
+                    : atualizacao.format(FORMATTER));
+                pstmt.setString(7, hoje.plusDays(diasAtePrazo()).format(DATE_FORMATTER));
+                if (sessoes.quantidade() > 0) {
+                    pstmt.setLong(8, sessoes.sortear(aleatorio));
+                } else {
+                    pstmt.setNull(8, Types.INTEGER);
+                }
+                pstmt.setLong(9, sortear(usuarios));
+                adicionar(pstmt, i);
+
+                if ((i + 1) % 100_000 == 0) {
+                    logger.info("Tarefas: {} de {}", i + 1, volume.tarefas());
+                }
+            }
+            pstmt.executeBatch();
+        }
+        return faixa(conn, volume.tarefas());
+    }
+
+    private int inserirAlertas(Connection conn, long[] usuarios, Faixa tarefas) throws SQLException {
+        if (tarefas.quantidade() == 0) {
+            return 0;
+        }
+        String sql = "INSERT INTO alertas_enviados (usuario_id, tarefa_id, nivel, dias_restantes, data_envio) VALUES (?, ?, ?, ?, ?)";
+        String[] niveis = {"CRITICO", "URGENTE", "ATENCAO"};
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.alertas(); i++) {
+                int nivel = aleatorio.nextInt(niveis.length);
+                pstmt.setLong(1, sortear(usuarios));
+                pstmt.setLong(2, tarefas.sortear(aleatorio));
+                pstmt.setString(3, niveis[nivel]);
+                pstmt.setInt(4, nivel == 0 ? aleatorio.nextInt(-10, 2) : nivel == 1 ? aleatorio.nextInt(2, 6) : aleatorio.nextInt(6, 16));
+                pstmt.setString(5, agora.minusMinutes(aleatorio.nextInt(180 * 24 * 60))
+                    .atZone(BRAZIL_ZONE).withZoneSameInstant(ZoneOffset.UTC).format(ISO_FORMATTER));
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return volume.alertas();
+    }
+
+    private int inserirCalculos(Connection conn, long[] usuarios, Faixa sessoes) throws SQLException {
+        String sql = """
+            INSERT INTO historico_calculadora (usuario_id, expressao, resultado, tipo_operacao, data_criacao, sessao_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.calculos(); i++) {
+                String[] operacao = sortear(OPERACOES);
+                double a = Math.round(aleatorio.nextDouble(1, 10_000) * 100) / 100.0;
+                double b = Math.round(aleatorio.nextDouble(1, 100) * 100) / 100.0;
+                double resultado = switch (operacao[0]) {
+                    case "+" -> a + b;
+                    case "-" -> a - b;
+                    case "*" -> a * b;
+                    default -> a / b;
+                };
+
+                pstmt.setLong(1, sortear(usuarios));
+                pstmt.setString(2, a + operacao[0] + b);
+                pstmt.setDouble(3, resultado);
+                pstmt.setString(4, operacao[1]);
+                pstmt.setString(5, agora.minusMinutes(aleatorio.nextInt(365 * 24 * 60)).format(FORMATTER));
+                if (sessoes.quantidade() > 0) {
+                    pstmt.setLong(6, sessoes.sortear(aleatorio));
+                } else {
+                    pstmt.setNull(6, Types.INTEGER);
+                }
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return volume.calculos();
+    }
+
+    private int inserirAnexos(Connection conn, long[] usuarios, Faixa tarefas) throws SQLException, IOException {
+        if (tarefas.quantidade() == 0) {
+            return 0;
+        }
+        String sql = """
+            INSERT INTO anexos (tarefa_id, nome_arquivo, caminho_arquivo, tipo_mime, tamanho_bytes, data_upload, usuario_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+        String pasta = pastaAnexos != null ? pastaAnexos.toString() : AppConfig.getUploadsFolder();
+        if (pastaAnexos != null) {
+            Files.createDirectories(pastaAnexos);
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < volume.anexos(); i++) {
+                String[] tipo = sortear(TIPOS_ANEXO);
+                String nome = sortear(ARQUIVOS) + "-" + (i + 1) + "." + tipo[0];
+                LocalDateTime envio = agora.minusMinutes(aleatorio.nextInt(365 * 24 * 60));
+                // Tamanho log-uniforme entre 1 KB e 256 KB
+                int tamanho = (int) Math.pow(2, aleatorio.nextDouble(10, 18));
+                String caminho = Path.of(pasta, envio.format(ARQUIVO_FORMATTER) + "_"
+                    + new UUID(aleatorio.nextLong(), aleatorio.nextLong()).toString().substring(0, 8) + "_" + nome).toString();
+
+                if (pastaAnexos != null) {
+                    gravarArquivo(Path.of(caminho), tamanho);
+                }
+
+                pstmt.setLong(1, tarefas.sortear(aleatorio));
+                pstmt.setString(2, nome);
+                pstmt.setString(3, caminho);
+                pstmt.setString(4, tipo[1]);
+                pstmt.setLong(5, tamanho);
+                pstmt.setString(6, envio.atZone(BRAZIL_ZONE).withZoneSameInstant(ZoneOffset.UTC).format(ISO_FORMATTER));
+                pstmt.setLong(7, sortear(usuarios));
+                adicionar(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+        return volume.anexos();
+    }
+
+    private void gravarArquivo(Path arquivo, int tamanho) throws IOException {
+        try (OutputStream saida = Files.newOutputStream(arquivo)) {
+            for (int escrito = 0; escrito < tamanho; escrito += TEXTO_BYTES.length) {
+                saida.write(TEXTO_BYTES, 0, Math.min(TEXTO_BYTES.length, tamanho - escrito));
+            }
+        }
+    }
+
+    /** Conteúdo HTML com tamanho sorteado pela distribuição da documentação da classe. */
+    private String conteudo() {
+        int faixa = aleatorio.nextInt(100);
+        int tamanho = faixa < 60 ? aleatorio.nextInt(40, 400)
+            : faixa < 90 ? aleatorio.nextInt(400, 2048)
+            : faixa < 99 ? aleatorio.nextInt(2048, 8192)
+            : aleatorio.nextInt(8192, TEXTO.length() - 16);
+        int inicio = aleatorio.nextInt(TEXTO.length() - tamanho);
+        return "<p>" + TEXTO.substring(inicio, inicio + tamanho) + "</p>";
+    }
+
+    /** Dias até o prazo, pela distribuição da documentação da classe. */
+    private int diasAtePrazo() {
+        int faixa = aleatorio.nextInt(100);
+        if (faixa < 5) {
+            return -aleatorio.nextInt(1, 61);
+        } else if (faixa < 15) {
+            return aleatorio.nextInt(0, 8);
+        } else if (faixa < 40) {
+            return aleatorio.nextInt(8, 31);
+        } else if (faixa < 80) {
+            return aleatorio.nextInt(31, 181);
+        }
+        return aleatorio.nextInt(181, 731);
+    }
+
+    private static String montarTexto(int tamanho) {
+        StringBuilder texto = new StringBuilder(tamanho + 128);
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        while (texto.length() < tamanho) {
+            texto.append(FRASES[aleatorio.nextInt(FRASES.length)]).append(' ');
+        }
+        return texto.substring(0, tamanho);
+    }
+
+    private <T> T sortear(T[] opcoes) {
+        return opcoes[aleatorio.nextInt(opcoes.length)];
+    }
+
+    private long sortear(long[] opcoes) {
+        return opcoes[aleatorio.nextInt(opcoes.length)];
+    }
+
+    private static void adicionar(PreparedStatement pstmt, int indice) throws SQLException {
+        pstmt.addBatch();
+        if ((indice + 1) % LOTE == 0) {
+            pstmt.executeBatch();
+        }
+    }
+
+    private static String pragma(Connection conn, String nome) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA " + nome)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private static long[] ids(Connection conn, String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Próximo id da tabela, usado para nomes únicos entre execuções. */
+    /**
+     * Recusa bancos com dados: os usuários gerados têm senha conhecida e alguns são ADMIN.
+     */
+    private static void verificarVazio(Connection conn) throws SQLException {
+        for (String tabela : new String[] {"tarefas", "sessions", "etiquetas", "anexos"}) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT EXISTS (SELECT 1 FROM " + tabela + ")")) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    throw new IllegalStateException("O banco " + DatabaseConfig.getCaminho()
+                        + " já tem dados (tabela " + tabela + "); a massa só é gerada em um banco vazio");
+                }
+            }
+        }
+    }
+
+    private static long proximoId(Connection conn, String tabela) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + tabela)) {
+            return rs.next() ? rs.getLong(1) : 1;
+        }
+    }
+
+    /**
+     * Faixa das últimas {@code quantidade} linhas inseridas: na mesma transação,
+     * sem outros escritores, os ids do AUTOINCREMENT são consecutivos.
+     */
+    private static Faixa faixa(Connection conn, int quantidade) throws SQLException {
+        if (quantidade == 0) {
+            return new Faixa(0, 0);
+        }
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+            rs.next();
+            return new Faixa(rs.getLong(1) - quantidade + 1, quantidade);
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> opcoes = new LinkedHashMap<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual < 0) {
+                logger.error("Argumento inválido: {} (use chave=valor)", arg);
+                System.exit(1);
+            }
+            opcoes.put(arg.substring(0, igual), arg.substring(igual + 1));
+        }
+
+        // Sem padrão: o banco da aplicação nunca deve receber a massa por descuido
+        String banco = opcoes.get("banco");
+        if (banco == null || banco.isBlank()) {
+            logger.error("Informe o banco de destino: banco=<arquivo novo> (ou banco={})", DatabaseConfig.TEMPORARIO);
+            System.exit(1);
+        }
+        if (!banco.equals(DatabaseConfig.MEMORIA) && !banco.equals(DatabaseConfig.TEMPORARIO) && Files.exists(Path.of(banco))) {
+            logger.error("O arquivo {} já existe; a massa só é gerada em um banco novo", banco);
+            System.exit(1);
+        }
+
+        Volume base = Volume.proporcional(Integer.parseInt(opcoes.getOrDefault("tarefas", "100000")));
+        Volume volume = new Volume(
+            inteiro(opcoes, "usuarios", base.usuarios()),
+            inteiro(opcoes, "etiquetas", base.etiquetas()),
+            inteiro(opcoes, "status", base.status()),
+            inteiro(opcoes, "sessoes", base.sessoes()),
+            base.tarefas(),
+            inteiro(opcoes, "alertas", base.alertas()),
+            inteiro(opcoes, "calculos", base.calculos()),
+            inteiro(opcoes, "anexos", base.anexos()));
+        Path pastaAnexos = Boolean.parseBoolean(opcoes.get("arquivos")) ? Path.of(AppConfig.getUploadsFolder()) : null;
+
+        try {
+            DatabaseConfig.initialize(banco);
+            Map<String, Integer> linhas = new GeradorDados(volume, Long.parseLong(opcoes.getOrDefault("semente", "42")),
+                pastaAnexos).gerar();
+
+            logger.info("Massa gerada em {}", DatabaseConfig.getCaminho());
+            linhas.forEach((tabela, quantidade) -> logger.info("  {}: {}", tabela, String.format("%,d", quantidade)));
+            logger.info("Senha dos usuários gerados: {}", SENHA_USUARIOS);
+        } catch (Exception e) {
+            logger.error("Erro ao gerar massa de dados", e);
+            System.exit(1);
+        } finally {
+            DatabaseConfig.close();
+        }
+    }
+
+    private static int inteiro(Map<String, String> opcoes, String chave, int padrao) {
+        String valor = opcoes.get(chave);
+        return valor != null ? Integer.parseInt(valor) : padrao;
+    }
+}
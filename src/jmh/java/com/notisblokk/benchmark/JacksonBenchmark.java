@@ -0,0 +1,80 @@
+package com.notisblokk.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.notisblokk.model.Etiqueta;
+import com.notisblokk.model.StatusTarefa;
+import com.notisblokk.model.Tarefa;
+import com.notisblokk.model.TarefaDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da serialização JSON de listas de {@link TarefaDTO}, na resposta de
+ * {@code GET /api/tarefas} ({@code {"success": true, "dados": [...]}}).
+ *
+ * <p>O {@link ObjectMapper} tem a mesma configuração do {@code Main} (JavaTimeModule,
+ * datas como texto). {@link #resposta} gera uma String, como o {@code ctx.json} do
+ * Javalin; a referência {@link #respostaBytes} escreve direto em bytes, sem a
+ * String intermediária.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonBenchmark {
+
+    @Param({"100", "1000"})
+    private int tarefas;
+
+    private ObjectMapper mapper;
+    private Map<String, Object> resposta;
+
+    @Setup
+    public void preparar() {
+        mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime agora = LocalDateTime.of(2026, 10, 18, 9, 30);
+        String[] cores = {"#4A90E2", "#10B981", "#F59E0B", "#EF4444"};
+        List<TarefaDTO> dados = new ArrayList<>(tarefas);
+        for (int i = 0; i < tarefas; i++) {
+            Etiqueta etiqueta = new Etiqueta((long) (i % 8), "Etiqueta " + (i % 8), agora, 1L, 1L);
+            StatusTarefa status = new StatusTarefa((long) (i % cores.length), "Status " + (i % cores.length),
+                cores[i % cores.length], agora, 1L, 1L);
+            Tarefa tarefa = new Tarefa((long) i, etiqueta.getId(), status.getId(), "Tarefa de exemplo número " + i,
+                "<p>Conteúdo da tarefa " + i + " com alguns detalhes.</p>",
+                agora.minusDays(i % 90), agora, LocalDate.of(2026, 11, 1).plusDays(i % 60), 1L, 1L);
+            dados.add(TarefaDTO.from(tarefa, etiqueta, status));
+        }
+        resposta = Map.of("success", true, "dados", dados);
+    }
+
+    @Benchmark
+    public String resposta() throws Exception {
+        return mapper.writeValueAsString(resposta);
+    }
+
+    @Benchmark
+    public byte[] respostaBytes() throws Exception {
+        return mapper.writeValueAsBytes(resposta);
+    }
+}
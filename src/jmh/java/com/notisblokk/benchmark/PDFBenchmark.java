@@ -0,0 +1,96 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.model.Etiqueta;
+import com.notisblokk.model.StatusTarefa;
+import com.notisblokk.model.Tarefa;
+import com.notisblokk.model.TarefaDTO;
+import com.notisblokk.service.PDFService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da geração de PDF pelo {@link PDFService} (com recursos compartilhados de
+ * {@link com.notisblokk.util.PDFRecursos}).
+ *
+ * <p>Os dados ficam em memória e a saída é descartada, medindo apenas a montagem do
+ * documento. Execute com {@code -prof gc} (padrão do profile) para ver a alocação por
+ * operação (gc.alloc.rate.norm). Para comparar com outra versão, rode o benchmark nos
+ * dois commits com {@code -Djmh.rotulo=base} e {@code -Djmh.rotulo=atual} e use
+ * {@code exec:exec@jmh-comparar} (ver o perfil {@code benchmark} do pom).</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PDFBenchmark {
+
+    @Param({"200"})
+    private int tarefasRelatorio;
+
+    private PDFService pdfService;
+
+    private Tarefa tarefa;
+    private Etiqueta etiqueta;
+    private StatusTarefa status;
+    private List<TarefaDTO> tarefas;
+
+    @Setup
+    public void preparar() {
+        pdfService = new PDFService();
+
+        LocalDateTime agora = LocalDateTime.of(2026, 10, 18, 9, 30);
+        etiqueta = new Etiqueta(1L, "Trabalho", agora, 1L, 1L);
+        status = new StatusTarefa(1L, "Em andamento", "#4A90E2", agora, 1L, 1L);
+
+        StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            conteudo.append("<p>Parágrafo ").append(i)
+                .append(" com <strong>texto</strong> de exemplo para a tarefa &amp; seus detalhes.</p>");
+        }
+        tarefa = new Tarefa(1L, 1L, 1L, "Revisar contrato de fornecimento", conteudo.toString(),
+            agora, agora, LocalDate.of(2026, 11, 30), 1L, 1L);
+
+        String[] cores = {"#4A90E2", "#10B981", "#F59E0B", "#EF4444"};
+        tarefas = new ArrayList<>(tarefasRelatorio);
+        for (int i = 0; i < tarefasRelatorio; i++) {
+            StatusTarefa s = new StatusTarefa((long) (i % cores.length), "Status " + (i % cores.length),
+                cores[i % cores.length], agora, 1L, 1L);
+            Tarefa t = new Tarefa((long) i, 1L, s.getId(), "Tarefa de exemplo número " + i, null,
+                agora, agora, LocalDate.of(2026, 11, 1).plusDays(i % 60), 1L, 1L);
+            tarefas.add(TarefaDTO.from(t, etiqueta, s));
+        }
+    }
+
+    @Benchmark
+    public void nota() throws Exception {
+        pdfService.escreverPDFNota(tarefa, etiqueta, status, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public long relatorio() throws Exception {
+        boolean[] entregue = {false};
+        return pdfService.escreverPDFRelatorio(tarefas.size(), () -> {
+            if (entregue[0]) {
+                return null;
+            }
+            entregue[0] = true;
+            return tarefas;
+        }, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,65 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.util.PasswordUtil;
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do hash de senhas ({@link PasswordUtil}, BCrypt).
+ *
+ * <p>{@link PasswordUtil} usa o custo de {@code senha.hash.custo} ou o padrão (12);
+ * a calibração não roda aqui. {@link #hashPassword} passa pelo
+ * {@link com.notisblokk.util.ExecutorHashSenha}, como no login e no cadastro, e
+ * {@link #gerarHash} roda na própria thread: a diferença é o custo da entrega ao
+ * executor. A referência ({@link #bcryptCustoMinimo}) usa o menor custo aceito
+ * ({@code senha.hash.custo.minimo}).</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SenhaBenchmark {
+
+    private static final String SENHA = "Senha@Forte2026";
+
+    private String hash;
+    private int custoMinimo;
+
+    @Setup
+    public void preparar() {
+        hash = PasswordUtil.gerarHash(SENHA);
+        custoMinimo = AppConfig.getSenhaHashCustoMinimo();
+    }
+
+    @Benchmark
+    public String gerarHash() {
+        return PasswordUtil.gerarHash(SENHA);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return PasswordUtil.hashPassword(SENHA);
+    }
+
+    @Benchmark
+    public boolean verificar() {
+        return PasswordUtil.verifyPassword(SENHA, hash);
+    }
+
+    @Benchmark
+    public String bcryptCustoMinimo() {
+        return BCrypt.hashpw(SENHA, BCrypt.gensalt(custoMinimo));
+    }
+}
@@ -0,0 +1,90 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.util.SimpleCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de leitura e escrita concorrentes no {@link SimpleCache}: três threads
+ * lendo e uma escrevendo sobre o mesmo cache, a proporção típica dos caches de
+ * etiquetas e status.
+ *
+ * <p>A referência ({@code mapa}) faz as mesmas operações em um
+ * {@link ConcurrentHashMap} puro; a diferença é o custo do TTL e dos contadores de
+ * acerto e falta. As chaves são pré-alocadas para não medir boxing.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SimpleCacheBenchmark {
+
+    @Param({"1024"})
+    private int chaves;
+
+    private Integer[] chavesBoxed;
+    private SimpleCache<Integer, String> cache;
+    private Map<Integer, String> mapa;
+
+    @Setup
+    public void preparar() {
+        chavesBoxed = new Integer[chaves];
+        cache = new SimpleCache<>("benchmark", 60);
+        mapa = new ConcurrentHashMap<>();
+        for (int i = 0; i < chaves; i++) {
+            chavesBoxed[i] = i;
+            cache.put(chavesBoxed[i], "valor-" + i);
+            mapa.put(chavesBoxed[i], "valor-" + i);
+        }
+    }
+
+    private Integer chave() {
+        return chavesBoxed[ThreadLocalRandom.current().nextInt(chaves)];
+    }
+
+    @Benchmark
+    @Group("cache")
+    @GroupThreads(3)
+    public String cacheLeitura() {
+        return cache.get(chave());
+    }
+
+    @Benchmark
+    @Group("cache")
+    @GroupThreads(1)
+    public void cacheEscrita() {
+        Integer chave = chave();
+        cache.put(chave, "valor-" + chave);
+    }
+
+    @Benchmark
+    @Group("mapa")
+    @GroupThreads(3)
+    public String mapaLeitura() {
+        return mapa.get(chave());
+    }
+
+    @Benchmark
+    @Group("mapa")
+    @GroupThreads(1)
+    public void mapaEscrita() {
+        Integer chave = chave();
+        mapa.put(chave, "valor-" + chave);
+    }
+}
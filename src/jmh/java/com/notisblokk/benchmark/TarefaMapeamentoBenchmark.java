@@ -0,0 +1,149 @@
+package com.notisblokk.benchmark;
+
+import com.notisblokk.model.TarefaDTO;
+import com.notisblokk.repository.TarefaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do mapeamento de linhas de tarefa para {@link TarefaDTO}, incluindo a
+ * conversão das datas gravadas como texto.
+ *
+ * <p>As linhas vêm de um SQLite em memória com as mesmas colunas da consulta de
+ * {@code TarefaRepository.buscarTodasComRelacionamentos()}, e o mapeador privado do
+ * repositório é chamado diretamente, sem pool nem disco. A referência
+ * ({@link #leituraSemMapeamento}) lê as mesmas colunas sem converter nada: a diferença
+ * entre os dois é o custo do mapeamento.</p>
+ *
+ * <p>{@code formato=brasileiro} grava as datas como dd/MM/yyyy; {@code formato=iso}
+ * como yyyy-MM-dd (há dados assim em bancos antigos e nos defaults do SQLite). Com
+ * {@link com.notisblokk.util.ConversorDatas} os dois formatos devem custar o mesmo.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TarefaMapeamentoBenchmark {
+
+    private static final DateTimeFormatter DATA_BR = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATA_HORA_BR = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final DateTimeFormatter DATA_HORA_ISO = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Param({"1000"})
+    private int linhas;
+
+    @Param({"brasileiro", "iso"})
+    private String formato;
+
+    private Connection conexao;
+    private PreparedStatement consulta;
+    private MethodHandle mapear;
+
+    @Setup
+    public void preparar() throws Throwable {
+        conexao = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = conexao.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE tarefas_mapeadas (
+                    id INTEGER PRIMARY KEY, titulo TEXT, conteudo TEXT, prazo_final TEXT,
+                    data_criacao TEXT, data_atualizacao TEXT, sessao_id INTEGER, usuario_id INTEGER,
+                    etiqueta_id INTEGER, etiqueta_nome TEXT, status_id INTEGER, status_nome TEXT, status_cor TEXT)
+                """);
+        }
+
+        boolean iso = "iso".equals(formato);
+        LocalDateTime criacao = LocalDateTime.of(2026, 1, 5, 8, 30, 15);
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO tarefas_mapeadas VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= linhas; i++) {
+                LocalDate prazo = LocalDate.of(2026, 2, 1).plusDays(i % 365);
+                LocalDateTime momento = criacao.plusMinutes(i * 7L);
+                insert.setLong(1, i);
+                insert.setString(2, "Tarefa de exemplo número " + i);
+                insert.setString(3, "<p>Conteúdo da tarefa " + i + " com alguns detalhes.</p>");
+                insert.setString(4, iso ? prazo.toString() : prazo.format(DATA_BR));
+                insert.setString(5, (iso ? DATA_HORA_ISO : DATA_HORA_BR).format(momento));
+                insert.setString(6, (iso ? DATA_HORA_ISO : DATA_HORA_BR).format(momento.plusHours(3)));
+                insert.setLong(7, 1);
+                insert.setLong(8, 1);
+                insert.setLong(9, i % 8 + 1);
+                insert.setString(10, "Etiqueta " + (i % 8 + 1));
+                insert.setLong(11, i % 4 + 1);
+                insert.setString(12, "Status " + (i % 4 + 1));
+                insert.setString(13, "#4A90E2");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        consulta = conexao.prepareStatement("SELECT * FROM tarefas_mapeadas ORDER BY id");
+
+        mapear = MethodHandles.privateLookupIn(TarefaRepository.class, MethodHandles.lookup())
+            .findVirtual(TarefaRepository.class, "mapResultSetToTarefaDTOCompleto",
+                MethodType.methodType(TarefaDTO.class, ResultSet.class))
+            .bindTo(new TarefaRepository());
+    }
+
+    @TearDown
+    public void encerrar() throws SQLException {
+        consulta.close();
+        conexao.close();
+    }
+
+    /**
+     * Referência: percorre as linhas lendo as mesmas colunas, sem montar DTOs nem converter datas.
+     */
+    @Benchmark
+    public void leituraSemMapeamento(Blackhole bh) throws SQLException {
+        try (ResultSet rs = consulta.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong("id"));
+                bh.consume(rs.getString("titulo"));
+                bh.consume(rs.getString("conteudo"));
+                bh.consume(rs.getLong("sessao_id"));
+                bh.consume(rs.getLong("usuario_id"));
+                bh.consume(rs.getString("prazo_final"));
+                bh.consume(rs.getString("data_criacao"));
+                bh.consume(rs.getString("data_atualizacao"));
+                bh.consume(rs.getLong("etiqueta_id"));
+                bh.consume(rs.getString("etiqueta_nome"));
+                bh.consume(rs.getLong("status_id"));
+                bh.consume(rs.getString("status_nome"));
+                bh.consume(rs.getString("status_cor"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void mapeamento(Blackhole bh) throws Throwable {
+        try (ResultSet rs = consulta.executeQuery()) {
+            while (rs.next()) {
+                bh.consume((TarefaDTO) mapear.invokeExact(rs));
+            }
+        }
+    }
+}
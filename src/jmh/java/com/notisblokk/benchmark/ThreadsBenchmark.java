@@ -0,0 +1,139 @@
+package com.notisblokk.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do modo de execução das requisições: pool de threads de plataforma
+ * (padrão do Javalin, 250 threads) contra uma virtual thread por requisição
+ * ({@code server.virtual.threads=true}).
+ *
+ * <p>Cada operação é uma requisição mista entregue ao executor por um dos 500
+ * clientes simultâneos: consulta no SQLite pelo pool HikariCP (10 conexões, como na
+ * aplicação), um pouco de CPU e, em uma a cada quatro requisições, uma espera
+ * bloqueante de 20 ms que simula SMTP ou disco lento. O tempo medido inclui a fila
+ * do executor.</p>
+ *
+ * <p>Em {@code Mode.SampleTime} o JMH informa os percentis (p0.99) da latência; em
+ * {@code Mode.Throughput}, as requisições por segundo.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(500)
+public class ThreadsBenchmark {
+
+    private static final int LINHAS = 5_000;
+    private static final int ESPERA_EXTERNA_MS = 20;
+
+    @Param({"plataforma", "virtual"})
+    private String modo;
+
+    @Param({"250"})
+    private int threadsPlataforma;
+
+    @Param({"10"})
+    private int conexoes;
+
+    private Path arquivo;
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void preparar() throws Exception {
+        arquivo = Files.createTempFile("threads-benchmark", ".db");
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:sqlite:" + arquivo);
+        config.setMaximumPoolSize(conexoes);
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("busy_timeout", "5000");
+        dataSource = new HikariDataSource(config);
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE tarefas (id INTEGER PRIMARY KEY, usuario_id INTEGER, titulo TEXT)");
+            stmt.execute("CREATE INDEX idx_tarefas_usuario ON tarefas(usuario_id)");
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO tarefas (usuario_id, titulo) VALUES (?, ?)")) {
+                for (int i = 0; i < LINHAS; i++) {
+                    pstmt.setInt(1, i % 100);
+                    pstmt.setString(2, "Tarefa " + i);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            conn.commit();
+        }
+
+        executor = "virtual".equals(modo)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(threadsPlataforma);
+    }
+
+    @TearDown
+    public void encerrar() throws Exception {
+        executor.shutdownNow();
+        dataSource.close();
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public int requisicaoMista() throws Exception {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int usuarioId = aleatorio.nextInt(100);
+        boolean esperaExterna = aleatorio.nextInt(4) == 0;
+
+        return executor.submit(() -> {
+            int encontradas = consultar(usuarioId);
+            Blackhole.consumeCPU(2_000);
+            if (esperaExterna) {
+                Thread.sleep(ESPERA_EXTERNA_MS);
+            }
+            return encontradas;
+        }).get();
+    }
+
+    private int consultar(int usuarioId) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                 "SELECT id, titulo FROM tarefas WHERE usuario_id = ? ORDER BY id DESC LIMIT 20")) {
+            pstmt.setInt(1, usuarioId);
+            int linhas = 0;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    linhas++;
+                }
+            }
+            return linhas;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.notisblokk.benchmark.carga;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Lê a ocupação do pool de conexões em {@code GET /metrics} enquanto um nível de
+ * carga roda.
+ *
+ * <p>O endpoint aceita leituras do loopback sem login
+ * ({@code metrics.acesso.local=true}, o padrão). A cada amostra guarda as
+ * conexões ativas e as threads aguardando conexão; a espera média para obter uma
+ * conexão e os timeouts saem da diferença entre a primeira e a última leitura do
+ * histograma {@code notisblokk_pool_aquisicao_segundos} e do contador
+ * {@code notisblokk_pool_timeouts_total}.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class AmostradorPool implements Runnable {
+
+    private static final Duration INTERVALO = Duration.ofMillis(500);
+
+    private final InstanciaLocal instancia;
+    private final HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private volatile boolean ativo = true;
+    private Leitura primeira;
+    private Leitura ultima;
+    private int amostras;
+    private double somaAtivas;
+    private double maximoAtivas;
+    private double maximoAguardando;
+
+    AmostradorPool(InstanciaLocal instancia) {
+        this.instancia = instancia;
+    }
+
+    /**
+     * Valores de uma leitura do /metrics.
+     */
+    private record Leitura(double ativas, double maximo, double aguardando, double esperaSegundos,
+                           double aquisicoes, double timeouts) {
+    }
+
+    /**
+     * Resultado do nível.
+     *
+     * @param mediaAtivas média de conexões ativas nas amostras
+     * @param maximoAtivas pico de conexões ativas
+     * @param tamanhoPool tamanho máximo do pool
+     * @param maximoAguardando pico de threads aguardando conexão
+     * @param esperaMediaMs espera média para obter uma conexão, em milissegundos
+     * @param timeouts pedidos de conexão que esgotaram o connectionTimeout
+     */
+    record Saturacao(double mediaAtivas, double maximoAtivas, double tamanhoPool, double maximoAguardando,
+                     double esperaMediaMs, double timeouts) {
+    }
+
+    @Override
+    public void run() {
+        while (ativo) {
+            Leitura leitura = ler();
+            if (leitura != null) {
+                synchronized (this) {
+                    if (primeira == null) {
+                        primeira = leitura;
+                    }
+                    ultima = leitura;
+                    amostras++;
+                    somaAtivas += leitura.ativas();
+                    maximoAtivas = Math.max(maximoAtivas, leitura.ativas());
+                    maximoAguardando = Math.max(maximoAguardando, leitura.aguardando());
+                }
+            }
+            try {
+                Thread.sleep(INTERVALO);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Para a amostragem e resume o período.
+     *
+     * @return Saturacao do nível, ou null se o /metrics não respondeu
+     */
+    synchronized Saturacao encerrar() {
+        ativo = false;
+        if (primeira == null) {
+            return null;
+        }
+        double aquisicoes = ultima.aquisicoes() - primeira.aquisicoes();
+        double esperaMediaMs = aquisicoes > 0 ? (ultima.esperaSegundos() - primeira.esperaSegundos()) / aquisicoes * 1000 : 0;
+        return new Saturacao(somaAtivas / amostras, maximoAtivas, ultima.maximo(), maximoAguardando,
+            esperaMediaMs, ultima.timeouts() - primeira.timeouts());
+    }
+
+    private Leitura ler() {
+        String texto;
+        try {
+            HttpResponse<String> resposta = cliente.send(
+                HttpRequest.newBuilder(instancia.uri("/metrics")).timeout(Duration.ofSeconds(5)).build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 200) {
+                return null;
+            }
+            texto = resposta.body();
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        double ativas = 0, maximo = 0, aguardando = 0, espera = 0, aquisicoes = 0, timeouts = 0;
+        for (String linha : texto.split("\n")) {
+            if (linha.startsWith("#")) {
+                continue;
+            }
+            if (linha.startsWith("notisblokk_pool_conexoes{") && linha.contains("estado=\"ativas\"")) {
+                ativas += valor(linha);
+            } else if (linha.startsWith("notisblokk_pool_conexoes_maximo")) {
+                maximo += valor(linha);
+            } else if (linha.startsWith("notisblokk_pool_threads_aguardando")) {
+                aguardando += valor(linha);
+            } else if (linha.startsWith("notisblokk_pool_aquisicao_segundos_sum")) {
+                espera += valor(linha);
+            } else if (linha.startsWith("notisblokk_pool_aquisicao_segundos_count")) {
+                aquisicoes += valor(linha);
+            } else if (linha.startsWith("notisblokk_pool_timeouts_total")) {
+                timeouts += valor(linha);
+            }
+        }
+        return new Leitura(ativas, maximo, aguardando, espera, aquisicoes, timeouts);
+    }
+
+    private static double valor(String linha) {
+        try {
+            return Double.parseDouble(linha.substring(linha.lastIndexOf(' ') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.notisblokk.benchmark.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ações que os usuários virtuais sorteiam a cada iteração, com o peso relativo
+ * de cada uma.
+ *
+ * <p>Os pesos imitam o uso da interface: a consulta de alertas é o polling que
+ * toda página aberta faz, seguida da lista de tarefas e do dashboard; criação,
+ * edição, PDF e anexo são menos frequentes. O login não entra no sorteio: cada
+ * usuário faz login uma vez ao entrar no nível.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+enum Cenario {
+
+    ALERTAS(30, "GET /api/notificacoes/alertas") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            usuario.get(medicoes, endpoint, "/api/notificacoes/alertas");
+        }
+    },
+
+    LISTA(20, "GET /api/tarefas?pagina") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            int paginas = Math.max(1, massa.quantidadeTarefas() / 20);
+            int pagina = ThreadLocalRandom.current().nextInt(paginas) + 1;
+            usuario.get(medicoes, endpoint, "/api/tarefas?pagina=" + pagina + "&tamanho=20");
+        }
+    },
+
+    DASHBOARD(15, "GET /dashboard") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            usuario.get(medicoes, endpoint, "/dashboard");
+        }
+    },
+
+    BUSCA(10, "GET /api/tarefas/buscar") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            String termo = Massa.TERMOS.get(ThreadLocalRandom.current().nextInt(Massa.TERMOS.size()));
+            usuario.get(medicoes, endpoint, "/api/tarefas/buscar?q=" + URLEncoder.encode(termo, StandardCharsets.UTF_8));
+        }
+    },
+
+    CRIAR(6, "POST /api/tarefas") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            massa.criarTarefa(usuario, medicoes, endpoint);
+        }
+    },
+
+    ATUALIZAR(8, "PUT /api/tarefas/{id}") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            long id = massa.sortearId();
+            usuario.putJson(medicoes, endpoint, "/api/tarefas/" + id, massa.corpoTarefa("Tarefa atualizada " + id));
+        }
+    },
+
+    PDF(6, "GET /api/tarefas/{id}/pdf") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            usuario.get(medicoes, endpoint, "/api/tarefas/" + massa.sortearId() + "/pdf");
+        }
+    },
+
+    ANEXO(5, "POST /api/tarefas/{id}/anexos") {
+        @Override
+        void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes) {
+            usuario.postArquivo(medicoes, endpoint, "/api/tarefas/" + massa.sortearId() + "/anexos",
+                "arquivo", "anexo-carga.txt", Massa.ANEXO);
+        }
+    };
+
+    final int peso;
+    final String endpoint;
+
+    Cenario(int peso, String endpoint) {
+        this.peso = peso;
+        this.endpoint = endpoint;
+    }
+
+    abstract void executar(UsuarioVirtual usuario, Massa massa, Medicoes medicoes);
+
+    /**
+     * Sorteia um cenário entre os ativos, proporcionalmente ao peso.
+     */
+    static Cenario sortear(List<Cenario> ativos, int pesoTotal) {
+        int sorteio = ThreadLocalRandom.current().nextInt(pesoTotal);
+        for (Cenario cenario : ativos) {
+            sorteio -= cenario.peso;
+            if (sorteio < 0) {
+                return cenario;
+            }
+        }
+        return ativos.get(ativos.size() - 1);
+    }
+
+    /**
+     * Dados compartilhados pelos cenários: a etiqueta e o status usados nas
+     * tarefas criadas e os ids das tarefas existentes (as da preparação e as
+     * criadas durante o teste).
+     */
+    static final class Massa {
+
+        static final List<String> TERMOS = List.of(
+            "relatório", "contrato", "reunião", "orçamento", "auditoria", "cliente", "entrega", "revisão");
+
+        /** Anexo de 16 KB. */
+        static final byte[] ANEXO = anexo();
+
+        private static final ObjectMapper JSON = new ObjectMapper();
+
+        private final long etiquetaId;
+        private final long statusId;
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+
+        Massa(long etiquetaId, long statusId) {
+            this.etiquetaId = etiquetaId;
+            this.statusId = statusId;
+        }
+
+        int quantidadeTarefas() {
+            return ids.size();
+        }
+
+        void adicionar(long id) {
+            ids.add(id);
+        }
+
+        long sortearId() {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        /**
+         * Cria uma tarefa com título sorteado entre os termos de busca e prazo entre
+         * 5 dias atrás e 60 dias à frente (parte delas cai nos alertas).
+         */
+        void criarTarefa(UsuarioVirtual usuario, Medicoes medicoes, String endpoint) {
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            String titulo = "Tarefa de carga: " + TERMOS.get(aleatorio.nextInt(TERMOS.size()))
+                + " " + aleatorio.nextInt(100_000);
+            byte[] resposta = usuario.postJson(medicoes, endpoint, "/api/tarefas", corpoTarefa(titulo));
+            if (resposta == null) {
+                return;
+            }
+            try {
+                JsonNode id = JSON.readTree(resposta).path("dados").path("id");
+                if (id.canConvertToLong()) {
+                    ids.add(id.asLong());
+                }
+            } catch (IOException e) {
+                // Requisição já registrada como sucesso; só o id não é aproveitado
+            }
+        }
+
+        String corpoTarefa(String titulo) {
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            try {
+                return JSON.writeValueAsString(Map.of(
+                    "etiquetaId", etiquetaId,
+                    "statusId", statusId,
+                    "titulo", titulo,
+                    "conteudo", "<p>Gerada pelo teste de carga. " + "Texto de exemplo. ".repeat(aleatorio.nextInt(1, 20)) + "</p>",
+                    "prazoFinal", LocalDate.now().plusDays(aleatorio.nextInt(-5, 61)).toString()));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static byte[] anexo() {
+            byte[] conteudo = new byte[16 * 1024];
+            byte[] linha = "Anexo gerado pelo teste de carga do Notisblokk.\n".getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < conteudo.length; i++) {
+                conteudo[i] = linha[i % linha.length];
+            }
+            return conteudo;
+        }
+    }
+}
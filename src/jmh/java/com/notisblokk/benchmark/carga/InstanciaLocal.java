@@ -0,0 +1,173 @@
+package com.notisblokk.benchmark.carga;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Instância da aplicação em um processo separado, com banco e arquivos em um
+ * diretório temporário.
+ *
+ * <p>O diretório vira o diretório de trabalho do processo (banco, uploads, logs e
+ * backups relativos ficam nele) e recebe um {@code application.properties}
+ * próprio, colocado antes do classpath da aplicação: é o mesmo arquivo do
+ * projeto com a porta livre sorteada, o host 127.0.0.1, o backup agendado
+ * desligado e as sobrescritas pedidas. Ao fechar, o processo é encerrado e o
+ * diretório é apagado (a menos que {@code manter} seja true).</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class InstanciaLocal implements AutoCloseable {
+
+    private static final Duration ESPERA_INICIO = Duration.ofSeconds(90);
+
+    private final Path diretorio;
+    private final Process processo;
+    private final int porta;
+    private final boolean manter;
+
+    private InstanciaLocal(Path diretorio, Process processo, int porta, boolean manter) {
+        this.diretorio = diretorio;
+        this.processo = processo;
+        this.porta = porta;
+        this.manter = manter;
+    }
+
+    /**
+     * Inicia a aplicação e espera a tela de login responder.
+     *
+     * @param sobrescritas propriedades que substituem as do application.properties
+     * @param argumentosJvm argumentos extras da JVM do servidor (ex.: {@code -Xmx512m})
+     * @param manter true para não apagar o diretório ao fechar
+     * @return InstanciaLocal pronta para receber requisições
+     */
+    static InstanciaLocal iniciar(Map<String, String> sobrescritas, List<String> argumentosJvm, boolean manter)
+            throws IOException, InterruptedException {
+        Path diretorio = Files.createTempDirectory("notisblokk-carga-");
+        int porta = portaLivre();
+
+        Properties propriedades = new Properties();
+        try (InputStream entrada = InstanciaLocal.class.getResourceAsStream("/application.properties")) {
+            if (entrada != null) {
+                propriedades.load(entrada);
+            }
+        }
+        propriedades.setProperty("server.port", String.valueOf(porta));
+        propriedades.setProperty("server.host", "127.0.0.1");
+        propriedades.setProperty("database.path", diretorio.resolve("notisblokk.db").toString());
+        propriedades.setProperty("backup.schedule.enabled", "false");
+        propriedades.putAll(sobrescritas);
+
+        Path configuracao = Files.createDirectories(diretorio.resolve("config"));
+        try (OutputStream saida = Files.newOutputStream(configuracao.resolve("application.properties"))) {
+            propriedades.store(saida, "Gerado pelo teste de carga");
+        }
+
+        List<String> comando = new ArrayList<>();
+        comando.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        comando.addAll(argumentosJvm);
+        comando.add("-cp");
+        comando.add(configuracao + File.pathSeparator + System.getProperty("java.class.path"));
+        comando.add("com.notisblokk.Main");
+
+        Process processo = new ProcessBuilder(comando)
+            .directory(diretorio.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(diretorio.resolve("servidor.log").toFile())
+            .start();
+
+        InstanciaLocal instancia = new InstanciaLocal(diretorio, processo, porta, manter);
+        try {
+            instancia.aguardarInicio();
+        } catch (IOException | InterruptedException e) {
+            instancia.close();
+            throw e;
+        }
+        return instancia;
+    }
+
+    private static int portaLivre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void aguardarInicio() throws IOException, InterruptedException {
+        HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest requisicao = HttpRequest.newBuilder(uri("/auth/login")).timeout(Duration.ofSeconds(5)).build();
+        long limite = System.nanoTime() + ESPERA_INICIO.toNanos();
+
+        while (System.nanoTime() < limite) {
+            if (!processo.isAlive()) {
+                throw new IOException("O servidor terminou durante a inicialização (código "
+                    + processo.exitValue() + "):\n" + finalDoLog());
+            }
+            try {
+                if (cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Ainda não está ouvindo a porta
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("O servidor não respondeu em " + ESPERA_INICIO.toSeconds() + " s:\n" + finalDoLog());
+    }
+
+    private String finalDoLog() {
+        try {
+            List<String> linhas = Files.readAllLines(diretorio.resolve("servidor.log"));
+            return String.join("\n", linhas.subList(Math.max(0, linhas.size() - 30), linhas.size()));
+        } catch (IOException e) {
+            return "(log indisponível: " + e.getMessage() + ")";
+        }
+    }
+
+    URI uri(String caminho) {
+        return URI.create("http://127.0.0.1:" + porta + caminho);
+    }
+
+    Path getDiretorio() {
+        return diretorio;
+    }
+
+    @Override
+    public void close() {
+        processo.destroy();
+        try {
+            if (!processo.waitFor(15, TimeUnit.SECONDS)) {
+                processo.destroyForcibly().waitFor(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            processo.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+
+        if (manter) {
+            return;
+        }
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Não foi possível apagar " + diretorio + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.notisblokk.benchmark.carga;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latências e falhas por endpoint, acumuladas pelos usuários virtuais durante
+ * um nível de carga.
+ *
+ * <p>Guarda todas as latências (em nanossegundos) para calcular os percentis
+ * exatos no fim; o volume de um teste local (dezenas de milhares de requisições)
+ * cabe com folga na memória.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Medicoes {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Registra uma requisição.
+     *
+     * @param endpoint nome do endpoint (método e rota)
+     * @param nanos latência da requisição, incluindo a leitura do corpo
+     * @param falha descrição da falha ({@code "HTTP 503"}, nome da exceção) ou null se deu certo
+     */
+    void registrar(String endpoint, long nanos, String falha) {
+        endpoints.computeIfAbsent(endpoint, e -> new Endpoint()).registrar(nanos, falha);
+    }
+
+    /** Resumos por endpoint, em ordem alfabética. */
+    Map<String, Resumo> resumir() {
+        Map<String, Resumo> resumos = new TreeMap<>();
+        endpoints.forEach((nome, endpoint) -> resumos.put(nome, endpoint.resumir()));
+        return resumos;
+    }
+
+    /** Resumo de todas as requisições do nível, somando os endpoints. */
+    Resumo total() {
+        Endpoint total = new Endpoint();
+        for (Endpoint endpoint : endpoints.values()) {
+            synchronized (endpoint) {
+                for (int i = 0; i < endpoint.quantidade; i++) {
+                    total.registrar(endpoint.latencias[i], null);
+                }
+                endpoint.falhas.forEach((motivo, vezes) -> total.falhas.merge(motivo, vezes, Integer::sum));
+                total.totalFalhas += endpoint.totalFalhas;
+            }
+        }
+        return total.resumir();
+    }
+
+    /**
+     * Números de um endpoint; latências em milissegundos.
+     */
+    record Resumo(int requisicoes, int falhas, double p50, double p95, double p99, double maximo,
+                  Map<String, Integer> motivos) {
+
+        double taxaFalhas() {
+            return requisicoes == 0 ? 0 : (double) falhas / requisicoes;
+        }
+    }
+
+    private static final class Endpoint {
+
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private int totalFalhas;
+        private final Map<String, Integer> falhas = new TreeMap<>();
+
+        synchronized void registrar(long nanos, String falha) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = nanos;
+            if (falha != null) {
+                totalFalhas++;
+                falhas.merge(falha, 1, Integer::sum);
+            }
+        }
+
+        synchronized Resumo resumir() {
+            long[] ordenadas = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(ordenadas);
+            return new Resumo(quantidade, totalFalhas,
+                percentil(ordenadas, 0.50), percentil(ordenadas, 0.95), percentil(ordenadas, 0.99),
+                quantidade == 0 ? 0 : ordenadas[quantidade - 1] / 1e6,
+                new TreeMap<>(falhas));
+        }
+
+        /** Percentil pelo método do posto mais próximo. */
+        private static double percentil(long[] ordenadas, double fracao) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int posicao = (int) Math.ceil(fracao * ordenadas.length) - 1;
+            return ordenadas[Math.max(posicao, 0)] / 1e6;
+        }
+    }
+}
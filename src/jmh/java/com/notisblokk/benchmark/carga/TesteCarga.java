@@ -0,0 +1,267 @@
+package com.notisblokk.benchmark.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Teste de carga de ponta a ponta contra uma instância local da aplicação.
+ *
+ * <p>Sobe a aplicação em outro processo, com banco temporário
+ * ({@link InstanciaLocal}), cria uma etiqueta e {@code carga.tarefas} tarefas e
+ * roda um nível de carga para cada quantidade de usuários em
+ * {@code carga.usuarios}. Cada usuário virtual (uma virtual thread com seu
+ * {@link java.net.http.HttpClient}) faz login e repete os {@link Cenario}s
+ * sorteados por peso, com uma pausa entre eles, até o fim do nível. O modelo é
+ * fechado: com o servidor saturado a vazão para de crescer e a latência sobe.</p>
+ *
+ * <p>Por nível, o relatório mostra requisições, vazão, p50/p95/p99 e máximo por
+ * endpoint, a taxa de falhas (status fora de 2xx, redirecionamento, timeout) e a
+ * saturação do pool de conexões lida do {@code /metrics}
+ * ({@link AmostradorPool}); no fim, um resumo dos níveis lado a lado. O
+ * aquecimento de cada nível não entra nos números, exceto o login, que acontece
+ * no início dele.</p>
+ *
+ * <p>Configuração por propriedades de sistema (no profile {@code benchmark}, as
+ * propriedades do Maven de mesmo nome; as demais vão em {@code carga.args}):</p>
+ * <ul>
+ *   <li>{@code carga.usuarios}: níveis de usuários simultâneos (padrão: 1,5,10,25)</li>
+ *   <li>{@code carga.duracao}: segundos medidos por nível (padrão: 30)</li>
+ *   <li>{@code carga.aquecimento}: segundos de aquecimento por nível (padrão: 5)</li>
+ *   <li>{@code carga.pausa.ms}: pausa média entre ações de um usuário (padrão: 100)</li>
+ *   <li>{@code carga.tarefas}: tarefas criadas antes do primeiro nível (padrão: 200)</li>
+ *   <li>{@code carga.cenarios}: cenários ativos, ex. {@code pdf,anexo} (padrão: todos)</li>
+ *   <li>{@code carga.usuario}/{@code carga.senha}: conta usada (padrão: o admin inicial;
+ *       administradores não têm limite de sessões simultâneas)</li>
+ *   <li>{@code carga.jvm}: argumentos da JVM do servidor, ex. {@code -Xmx512m}</li>
+ *   <li>{@code carga.app.<chave>}: sobrescreve {@code <chave>} do application.properties
+ *       do servidor, ex. {@code -Dcarga.app.server.virtual.threads=true}</li>
+ *   <li>{@code carga.manter}: true para não apagar o diretório temporário (banco e logs)</li>
+ * </ul>
+ *
+ * <p>Cliente e servidor dividem a mesma máquina: os números servem para comparar
+ * configurações e versões no mesmo hardware, não como capacidade absoluta.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TesteCarga {
+
+    private static final String PREFIXO_APP = "carga.app.";
+
+    private final InstanciaLocal instancia;
+    private final ExecutorService executorHttp;
+    private final String usuario;
+    private final String senha;
+    private final List<Cenario> cenarios;
+    private final int pesoTotal;
+    private final long pausaMs;
+
+    private Cenario.Massa massa;
+
+    private TesteCarga(InstanciaLocal instancia, ExecutorService executorHttp, List<Cenario> cenarios) {
+        this.instancia = instancia;
+        this.executorHttp = executorHttp;
+        this.usuario = System.getProperty("carga.usuario", "admin");
+        this.senha = System.getProperty("carga.senha", "Admin@123");
+        this.cenarios = cenarios;
+        this.pesoTotal = cenarios.stream().mapToInt(cenario -> cenario.peso).sum();
+        this.pausaMs = Long.getLong("carga.pausa.ms", 100);
+    }
+
+    /**
+     * Resultado de um nível de carga.
+     */
+    private record Nivel(int usuarios, int segundos, Map<String, Medicoes.Resumo> endpoints,
+                         Medicoes.Resumo total, AmostradorPool.Saturacao saturacao) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] niveis = Arrays.stream(System.getProperty("carga.usuarios", "1,5,10,25").split(","))
+            .map(String::trim).filter(nivel -> !nivel.isEmpty()).mapToInt(Integer::parseInt).toArray();
+        int duracao = Integer.getInteger("carga.duracao", 30);
+        int aquecimento = Integer.getInteger("carga.aquecimento", 5);
+        int tarefas = Integer.getInteger("carga.tarefas", 200);
+        boolean manter = Boolean.getBoolean("carga.manter");
+        List<Cenario> cenarios = cenarios(System.getProperty("carga.cenarios", ""));
+
+        Map<String, String> sobrescritas = new HashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+            .filter(chave -> chave.startsWith(PREFIXO_APP))
+            .forEach(chave -> sobrescritas.put(chave.substring(PREFIXO_APP.length()), System.getProperty(chave)));
+        List<String> argumentosJvm = Arrays.stream(System.getProperty("carga.jvm", "").trim().split("\\s+"))
+            .filter(argumento -> !argumento.isEmpty()).toList();
+
+        System.out.printf("Níveis: %s usuários, %d s cada (+%d s de aquecimento), pausa média %d ms%n",
+            Arrays.toString(niveis), duracao, aquecimento, Long.getLong("carga.pausa.ms", 100));
+        System.out.printf("Cenários: %s%n", cenarios);
+        if (!sobrescritas.isEmpty()) {
+            System.out.printf("Sobrescritas: %s%n", sobrescritas);
+        }
+
+        try (InstanciaLocal instancia = InstanciaLocal.iniciar(sobrescritas, argumentosJvm, manter);
+             ExecutorService executorHttp = Executors.newVirtualThreadPerTaskExecutor()) {
+            System.out.printf("Servidor em %s (diretório %s)%n", instancia.uri(""), instancia.getDiretorio());
+
+            TesteCarga teste = new TesteCarga(instancia, executorHttp, cenarios);
+            teste.preparar(tarefas);
+
+            List<Nivel> resultados = new ArrayList<>();
+            for (int usuarios : niveis) {
+                Nivel nivel = teste.executar(usuarios, aquecimento, duracao);
+                imprimir(nivel);
+                resultados.add(nivel);
+            }
+            imprimirResumo(resultados);
+
+            if (manter) {
+                System.out.printf("%nBanco e logs do servidor mantidos em %s%n", instancia.getDiretorio());
+            }
+        }
+    }
+
+    private static List<Cenario> cenarios(String nomes) {
+        if (nomes.isBlank()) {
+            return List.of(Cenario.values());
+        }
+        List<Cenario> cenarios = new ArrayList<>();
+        for (String nome : nomes.split(",")) {
+            cenarios.add(Cenario.valueOf(nome.trim().toUpperCase(Locale.ROOT)));
+        }
+        return cenarios;
+    }
+
+    /**
+     * Cria a etiqueta e as tarefas usadas pelos cenários, com o primeiro status
+     * padrão.
+     */
+    private void preparar(int tarefas) throws IOException {
+        Medicoes medicoes = new Medicoes();
+        UsuarioVirtual preparador = new UsuarioVirtual(instancia, executorHttp);
+        if (!preparador.login(medicoes, usuario, senha)) {
+            throw new IOException("Login de " + usuario + " falhou: " + medicoes.total().motivos());
+        }
+
+        ObjectMapper json = new ObjectMapper();
+        byte[] etiqueta = preparador.postJson(medicoes, "preparação", "/api/etiquetas",
+            "{\"nome\":\"Carga " + System.currentTimeMillis() + "\"}");
+        byte[] status = preparador.get(medicoes, "preparação", "/api/status-tarefa");
+        if (etiqueta == null || status == null) {
+            throw new IOException("Não foi possível criar a etiqueta ou ler os status: " + medicoes.total().motivos());
+        }
+        JsonNode primeiroStatus = json.readTree(status).path("dados").path(0).path("id");
+        if (!primeiroStatus.canConvertToLong()) {
+            throw new IOException("Nenhum status de tarefa cadastrado");
+        }
+
+        massa = new Cenario.Massa(json.readTree(etiqueta).path("dados").path("id").asLong(), primeiroStatus.asLong());
+        for (int i = 0; i < tarefas; i++) {
+            massa.criarTarefa(preparador, medicoes, "preparação");
+        }
+        if (massa.quantidadeTarefas() == 0) {
+            throw new IOException("Nenhuma tarefa criada na preparação: " + medicoes.total().motivos());
+        }
+        System.out.printf("Preparação: %d tarefas criadas%n", massa.quantidadeTarefas());
+    }
+
+    private Nivel executar(int usuarios, int aquecimento, int duracao) throws InterruptedException {
+        Medicoes medicoes = new Medicoes();
+        // Até o fim do aquecimento as ações vão para um registro descartado
+        AtomicReference<Medicoes> destino = new AtomicReference<>(new Medicoes());
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(aquecimento + duracao);
+
+        AmostradorPool.Saturacao saturacao;
+        try (ExecutorService virtuais = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < usuarios; i++) {
+                virtuais.submit(() -> simularUsuario(medicoes, destino, fim));
+            }
+
+            TimeUnit.SECONDS.sleep(aquecimento);
+            destino.set(medicoes);
+            AmostradorPool amostrador = new AmostradorPool(instancia);
+            Thread.ofVirtual().start(amostrador);
+
+            TimeUnit.NANOSECONDS.sleep(fim - System.nanoTime());
+            saturacao = amostrador.encerrar();
+        }
+        return new Nivel(usuarios, duracao, medicoes.resumir(), medicoes.total(), saturacao);
+    }
+
+    private void simularUsuario(Medicoes medicoes, AtomicReference<Medicoes> destino, long fim) {
+        UsuarioVirtual virtual = new UsuarioVirtual(instancia, executorHttp);
+        if (!virtual.login(medicoes, usuario, senha)) {
+            return;
+        }
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        while (System.nanoTime() < fim) {
+            Cenario.sortear(cenarios, pesoTotal).executar(virtual, massa, destino.get());
+            if (pausaMs > 0) {
+                try {
+                    // Pausa entre metade e uma vez e meia a média, para não sincronizar os usuários
+                    Thread.sleep(aleatorio.nextLong(pausaMs / 2, pausaMs * 3 / 2 + 1));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void imprimir(Nivel nivel) {
+        System.out.printf("%n== %d usuário(s), %d s ==%n", nivel.usuarios(), nivel.segundos());
+        System.out.printf("%-34s %8s %8s %9s %9s %9s %9s %8s%n",
+            "Endpoint", "Req", "Req/s", "p50 ms", "p95 ms", "p99 ms", "Máx ms", "Falhas");
+        nivel.endpoints().forEach((endpoint, resumo) -> linha(endpoint, resumo, nivel.segundos()));
+        linha("Total", nivel.total(), nivel.segundos());
+
+        nivel.endpoints().forEach((endpoint, resumo) -> {
+            if (!resumo.motivos().isEmpty()) {
+                System.out.printf("  falhas em %s: %s%n", endpoint, resumo.motivos());
+            }
+        });
+
+        AmostradorPool.Saturacao pool = nivel.saturacao();
+        if (pool == null) {
+            System.out.println("Pool: /metrics indisponível");
+        } else {
+            System.out.printf(Locale.ROOT,
+                "Pool: ativas média %.1f, pico %.0f de %.0f; threads aguardando (pico) %.0f; espera média %.2f ms; timeouts %.0f%n",
+                pool.mediaAtivas(), pool.maximoAtivas(), pool.tamanhoPool(), pool.maximoAguardando(),
+                pool.esperaMediaMs(), pool.timeouts());
+        }
+    }
+
+    private static void linha(String endpoint, Medicoes.Resumo resumo, int segundos) {
+        System.out.printf(Locale.ROOT, "%-34s %8d %8.1f %9.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+            endpoint, resumo.requisicoes(), (double) resumo.requisicoes() / segundos,
+            resumo.p50(), resumo.p95(), resumo.p99(), resumo.maximo(), resumo.taxaFalhas() * 100);
+    }
+
+    private static void imprimirResumo(List<Nivel> niveis) {
+        System.out.printf("%n== Resumo ==%n");
+        System.out.printf("%8s %8s %9s %9s %9s %8s %16s %11s %11s%n",
+            "Usuários", "Req/s", "p50 ms", "p95 ms", "p99 ms", "Falhas", "Pool ativas/máx", "Aguardando", "Espera ms");
+        for (Nivel nivel : niveis) {
+            Medicoes.Resumo total = nivel.total();
+            AmostradorPool.Saturacao pool = nivel.saturacao();
+            System.out.printf(Locale.ROOT, "%8d %8.1f %9.1f %9.1f %9.1f %7.2f%% %16s %11s %11s%n",
+                nivel.usuarios(), (double) total.requisicoes() / nivel.segundos(),
+                total.p50(), total.p95(), total.p99(), total.taxaFalhas() * 100,
+                pool == null ? "-" : String.format(Locale.ROOT, "%.1f/%.0f", pool.mediaAtivas(), pool.tamanhoPool()),
+                pool == null ? "-" : String.format(Locale.ROOT, "%.0f", pool.maximoAguardando()),
+                pool == null ? "-" : String.format(Locale.ROOT, "%.2f", pool.esperaMediaMs()));
+        }
+    }
+}
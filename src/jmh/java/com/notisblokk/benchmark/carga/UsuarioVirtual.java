@@ -0,0 +1,152 @@
+package com.notisblokk.benchmark.carga;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Um usuário do teste de carga: um {@link HttpClient} com o próprio cookie de
+ * sessão, que executa as requisições e registra latência e falhas em
+ * {@link Medicoes}.
+ *
+ * <p>Redirecionamentos não são seguidos: o login responde 302 para o dashboard
+ * (sucesso) ou de volta para {@code /auth/login} (falha), e nas demais rotas um
+ * redirecionamento significa sessão perdida e conta como falha. Respostas JSON
+ * com {@code "success": false} também contam como falha, porque parte dos
+ * controllers responde erros com status 200.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class UsuarioVirtual {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final InstanciaLocal instancia;
+    private final HttpClient cliente;
+
+    UsuarioVirtual(InstanciaLocal instancia, Executor executor) {
+        this.instancia = instancia;
+        this.cliente = HttpClient.newBuilder()
+            .executor(executor)
+            .version(HttpClient.Version.HTTP_1_1)
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(TIMEOUT)
+            .build();
+    }
+
+    /**
+     * Faz login pelo formulário.
+     *
+     * @return true se o servidor redirecionou para fora da tela de login
+     */
+    boolean login(Medicoes medicoes, String usuario, String senha) {
+        String formulario = "username=" + URLEncoder.encode(usuario, StandardCharsets.UTF_8)
+            + "&password=" + URLEncoder.encode(senha, StandardCharsets.UTF_8);
+        HttpRequest requisicao = requisicao("/auth/login")
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(formulario))
+            .build();
+
+        long inicio = System.nanoTime();
+        String falha;
+        try {
+            HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+            String destino = resposta.headers().firstValue("Location").orElse("");
+            falha = resposta.statusCode() != 302 ? "HTTP " + resposta.statusCode()
+                : destino.contains("/auth/login") ? "login recusado" : null;
+        } catch (IOException e) {
+            falha = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        medicoes.registrar("POST /auth/login", System.nanoTime() - inicio, falha);
+        return falha == null;
+    }
+
+    byte[] get(Medicoes medicoes, String endpoint, String caminho) {
+        return enviar(medicoes, endpoint, requisicao(caminho).GET().build());
+    }
+
+    byte[] postJson(Medicoes medicoes, String endpoint, String caminho, String json) {
+        return enviar(medicoes, endpoint, requisicao(caminho)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build());
+    }
+
+    byte[] putJson(Medicoes medicoes, String endpoint, String caminho, String json) {
+        return enviar(medicoes, endpoint, requisicao(caminho)
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(json))
+            .build());
+    }
+
+    /**
+     * Envia um arquivo como multipart/form-data.
+     */
+    byte[] postArquivo(Medicoes medicoes, String endpoint, String caminho, String campo,
+                       String nomeArquivo, byte[] conteudo) {
+        String fronteira = "----carga" + UUID.randomUUID().toString().replace("-", "");
+        byte[] cabecalho = ("--" + fronteira + "\r\n"
+            + "Content-Disposition: form-data; name=\"" + campo + "\"; filename=\"" + nomeArquivo + "\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] rodape = ("\r\n--" + fronteira + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+        byte[] corpo = new byte[cabecalho.length + conteudo.length + rodape.length];
+        System.arraycopy(cabecalho, 0, corpo, 0, cabecalho.length);
+        System.arraycopy(conteudo, 0, corpo, cabecalho.length, conteudo.length);
+        System.arraycopy(rodape, 0, corpo, cabecalho.length + conteudo.length, rodape.length);
+
+        return enviar(medicoes, endpoint, requisicao(caminho)
+            .header("Content-Type", "multipart/form-data; boundary=" + fronteira)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(corpo))
+            .build());
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        return HttpRequest.newBuilder(instancia.uri(caminho)).timeout(TIMEOUT);
+    }
+
+    /**
+     * Envia a requisição e lê o corpo inteiro (a latência inclui a leitura).
+     *
+     * @return corpo da resposta, ou null se o status não for 2xx ou houve erro de rede
+     */
+    private byte[] enviar(Medicoes medicoes, String endpoint, HttpRequest requisicao) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+            long nanos = System.nanoTime() - inicio;
+            int status = resposta.statusCode();
+            String falha = status < 200 || status >= 300 ? "HTTP " + status
+                : recusada(resposta) ? "success=false" : null;
+            medicoes.registrar(endpoint, nanos, falha);
+            return falha == null ? resposta.body() : null;
+        } catch (IOException e) {
+            medicoes.registrar(endpoint, System.nanoTime() - inicio, e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /** Resposta JSON com {@code "success": false} (aspas dentro de textos viriam escapadas). */
+    private static boolean recusada(HttpResponse<byte[]> resposta) {
+        if (!resposta.headers().firstValue("Content-Type").orElse("").startsWith("application/json")) {
+            return false;
+        }
+        return new String(resposta.body(), StandardCharsets.UTF_8).contains("\"success\":false");
+    }
+}
@@ -4,17 +4,25 @@ import com.notisblokk.config.AppConfig;
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.config.ThymeleafConfig;
 import com.notisblokk.controller.*;
+import com.notisblokk.repository.HttpSessionRepository;
+import com.notisblokk.middleware.MetricasRequisicao;
+import com.notisblokk.middleware.SecurityMiddleware;
+import com.notisblokk.middleware.ServerTiming;
+import com.notisblokk.scheduler.FilaJobs;
 import com.notisblokk.scheduler.QuartzSchedulerManager;
-import com.notisblokk.middleware.AdminMiddleware;
-import com.notisblokk.middleware.AuthMiddleware;
+import com.notisblokk.scheduler.RastreadorAtividade;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.notisblokk.util.ExecutorHashSenha;
+import com.notisblokk.util.PasswordUtil;
 import com.notisblokk.util.SessionUtil;
 import io.javalin.Javalin;
 import io.javalin.http.staticfiles.Location;
 import io.javalin.json.JavalinJackson;
 import io.javalin.plugin.bundled.CorsPluginConfig;
+import org.eclipse.jetty.server.session.DefaultSessionCache;
+import org.eclipse.jetty.server.session.SessionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +59,9 @@ public class Main {
             // Imprimir configurações
             AppConfig.printConfig();
 
+            // Calibrar custo do hash de senhas (antes do banco, que pode criar usuários padrão)
+            PasswordUtil.calibrar();
+
             // Inicializar banco de dados
             logger.info("Inicializando banco de dados...");
             DatabaseConfig.initialize();
@@ -60,6 +71,13 @@ public class Main {
             QuartzSchedulerManager schedulerManager = new QuartzSchedulerManager();
             schedulerManager.iniciar();
 
+            // Inicializar fila de jobs em segundo plano (relatórios, exportações, backups)
+            logger.info("Inicializando fila de jobs...");
+            FilaJobs.iniciar(new com.notisblokk.service.JobService().executores());
+
+            // Última atividade das sessões, gravada em lote
+            RastreadorAtividade.iniciar();
+
             // Criar aplicação Javalin
             Javalin app = createApp();
 
@@ -70,6 +88,8 @@ public class Main {
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 logger.info("Encerrando aplicação...");
                 schedulerManager.parar();
+                FilaJobs.parar();
+                RastreadorAtividade.parar();
                 DatabaseConfig.close();
                 app.stop();
                 logger.info("Aplicação encerrada");
@@ -112,6 +132,12 @@ public class Main {
             logger.info("Pasta de backups criada: {}", backupsDir.getAbsolutePath());
         }
 
+        java.io.File jobsDir = new java.io.File(AppConfig.getJobsPasta());
+        if (!jobsDir.exists()) {
+            jobsDir.mkdirs();
+            logger.info("Pasta de jobs criada: {}", jobsDir.getAbsolutePath());
+        }
+
         return Javalin.create(config -> {
             // Arquivos estáticos do classpath (CSS, JS, etc)
             config.staticFiles.add("/public", Location.CLASSPATH);
@@ -125,7 +151,7 @@ public class Main {
             });
 
             // Configurar Thymeleaf como template engine
-            config.fileRenderer(ThymeleafConfig.createJavalinRenderer());
+            config.fileRenderer(ServerTiming.renderizador(ThymeleafConfig.createJavalinRenderer()));
 
             // Configurar CORS (para desenvolvimento - restringir em produção)
             config.bundledPlugins.enableCors(cors -> {
@@ -137,19 +163,37 @@ public class Main {
             objectMapper.registerModule(new JavaTimeModule());
             objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-            config.jsonMapper(new JavalinJackson(objectMapper, true));
+            config.jsonMapper(ServerTiming.json(new JavalinJackson(objectMapper, true)));
+
+            // Contagem e latência por rota (/metrics); a linha de log de cada requisição
+            // fica em DEBUG (com.notisblokk.middleware.MetricasRequisicao)
+            config.requestLogger.http(new MetricasRequisicao());
 
-            // Habilitar logs de requisições
-            config.bundledPlugins.enableDevLogging();
+            // Virtual threads: requisições bloqueadas em JDBC/SMTP/arquivos não ocupam
+            // threads de plataforma; o limite passa a ser o pool de conexões
+            config.useVirtualThreads = AppConfig.isServerVirtualThreads();
 
             // Configurar tamanho máximo de requisições (5MB)
             config.http.maxRequestSize = 5 * 1024 * 1024L;
 
             // Session configuration
             config.jetty.modifyServletContextHandler(handler -> {
-                handler.getSessionHandler().setMaxInactiveInterval(
+                SessionHandler sessionHandler = handler.getSessionHandler();
+                sessionHandler.setMaxInactiveInterval(
                     AppConfig.getSessionTimeoutMinutes() * 60
                 );
+
+                // Sessões persistidas no SQLite (sobrevivem a reinícios); em memória
+                // ficam só as usadas recentemente
+                HttpSessionRepository sessionStore = new HttpSessionRepository();
+                sessionStore.setSavePeriodSec(AppConfig.getSessionStoreSaveSeconds());
+
+                DefaultSessionCache sessionCache = new DefaultSessionCache(sessionHandler);
+                sessionCache.setSessionDataStore(sessionStore);
+                sessionCache.setEvictionPolicy(AppConfig.getSessionCacheIdleSeconds());
+                sessionCache.setSaveOnInactiveEviction(true);
+                sessionCache.setRemoveUnloadableSessions(true);
+                sessionHandler.setSessionCache(sessionCache);
             });
 
         });
@@ -177,6 +221,9 @@ public class Main {
         ConfiguracoesController configuracoesController = new ConfiguracoesController();
         BackupController backupController = new BackupController();
         AnexoController anexoController = new AnexoController();
+        JobController jobController = new JobController();
+        MetricasController metricasController = new MetricasController();
+        ConsultasController consultasController = new ConsultasController();
 
         // Ferramentas (Calculadora e Bloco de Notas)
         CalculadoraController calculadoraController = new CalculadoraController();
@@ -184,6 +231,10 @@ public class Main {
         BlocoNotaController blocoNotaController = new BlocoNotaController();
         BlocoNotaViewController blocoNotaViewController = new BlocoNotaViewController();
 
+        // Server-Timing: o primeiro filtro abre a medição, o último a envia no cabeçalho
+        app.before(ServerTiming::iniciar);
+        app.after(ServerTiming::encerrar);
+
         // ========== ROTAS PÚBLICAS ==========
 
         // Raiz - redireciona para login ou dashboard
@@ -195,6 +246,9 @@ public class Main {
             }
         });
 
+        // Métricas (Prometheus): acesso local ou de administrador, decidido no controller
+        app.get("/metrics", metricasController::exportar);
+
         // ========== AUTENTICAÇÃO ==========
 
         app.get("/auth/login", authController::showLogin);
@@ -215,8 +269,8 @@ public class Main {
 
         // ========== ROTAS DE DEBUG (REMOVIDAS POR SEGURANÇA) ==========
         // As rotas de debug foram removidas pois expunham dados sensíveis do banco de dados
-        // sem autenticação. Se necessário para desenvolvimento, adicione AuthMiddleware e
-        // AdminMiddleware antes de habilitar novamente.
+        // sem autenticação. Se necessário para desenvolvimento, declare-as como admin na
+        // tabela de segurança antes de habilitar novamente.
 
         /*
         // DESABILITADO: Rota de debug expõe dados do banco sem autenticação
@@ -226,49 +280,17 @@ public class Main {
 
         // ========== ROTAS PROTEGIDAS (AUTENTICAÇÃO NECESSÁRIA) ==========
 
-        // Middleware para rotas protegidas
-        app.before("/dashboard", AuthMiddleware.require());
-        app.before("/api/dashboard/*", AuthMiddleware.require());
-        app.before("/admin/*", AuthMiddleware.require());
-        app.before("/admin/*", AdminMiddleware.require());
-        app.before("/api/users", AuthMiddleware.require());
-        app.before("/api/users/*", AuthMiddleware.require());
-        app.before("/api/users", AdminMiddleware.require());
-        app.before("/api/users/*", AdminMiddleware.require());
-        app.before("/api/sessions/*", AuthMiddleware.require());
-        app.before("/api/sessions/*", AdminMiddleware.require());
-
-        // Middleware para rotas de tarefas (requer autenticação)
-        app.before("/tarefas", AuthMiddleware.require());
-        app.before("/tarefas/*", AuthMiddleware.require());
-        app.before("/api/etiquetas", AuthMiddleware.require());
-        app.before("/api/etiquetas/*", AuthMiddleware.require());
-        app.before("/api/status-tarefa", AuthMiddleware.require());
-        app.before("/api/status-tarefa/*", AuthMiddleware.require());
-        app.before("/api/tarefas", AuthMiddleware.require());
-        app.before("/api/tarefas/*", AuthMiddleware.require());
-        app.before("/api/notificacoes/*", AuthMiddleware.require());
-        app.before("/perfil", AuthMiddleware.require());
-        app.before("/perfil/*", AuthMiddleware.require());
-        app.before("/configuracoes", AuthMiddleware.require());
-        app.before("/configuracoes/*", AuthMiddleware.require());
-        app.before("/api/configuracoes", AuthMiddleware.require());
-        app.before("/api/configuracoes/*", AuthMiddleware.require());
-        app.before("/backup", AuthMiddleware.require());
-        app.before("/backup", AdminMiddleware.require());
-        app.before("/api/backup/*", AuthMiddleware.require());
-        app.before("/api/backup/*", AdminMiddleware.require());
-        app.before("/api/anexos/*", AuthMiddleware.require());
-        app.before("/uploads/*", AuthMiddleware.require());
-        app.before("/api/theme", AuthMiddleware.require());
-
-        // Middleware para ferramentas (requer autenticação)
-        app.before("/calculadora", AuthMiddleware.require());
-        app.before("/calculadora/*", AuthMiddleware.require());
-        app.before("/api/calculadora/*", AuthMiddleware.require());
-        app.before("/bloco-notas", AuthMiddleware.require());
-        app.before("/bloco-notas/*", AuthMiddleware.require());
-        app.before("/api/bloco-notas/*", AuthMiddleware.require());
+        // Tabela de segurança: um único filtro, compilado uma vez; vale a regra mais restritiva
+        app.before(SecurityMiddleware.builder()
+            .autenticado(
+                "/dashboard", "/api/dashboard/*",
+                "/tarefas/*", "/api/tarefas/*", "/api/etiquetas/*", "/api/status-tarefa/*",
+                "/api/notificacoes/*", "/api/anexos/*", "/api/jobs/*", "/uploads/*", "/api/theme",
+                "/perfil/*", "/configuracoes/*", "/api/configuracoes/*",
+                "/calculadora/*", "/api/calculadora/*", "/bloco-notas/*", "/api/bloco-notas/*")
+            .admin(
+                "/admin/*", "/api/users/*", "/api/sessions/*", "/api/consultas/*", "/backup", "/api/backup/*")
+            .build());
 
         // Dashboard
         app.get("/dashboard", dashboardController::index);
@@ -292,6 +314,7 @@ public class Main {
 
         // API - Usuários (JSON)
         app.get("/api/users", userController::listJson);
+        app.get("/api/users/hash-senha/metricas", userController::metricasHashSenha);
         app.get("/api/users/{id}", userController::getUser);
 
         // Sessões
@@ -302,6 +325,11 @@ public class Main {
         app.get("/api/sessions/stats", sessionController::obterEstatisticas);
         app.post("/api/sessions/{id}/encerrar", sessionController::encerrar);
 
+        // Consultas SQL (tempo por consulta, consultas lentas)
+        app.get("/admin/consultas", consultasController::index);
+        app.get("/api/consultas", consultasController::listar);
+        app.post("/api/consultas/limpar", consultasController::limpar);
+
         // ========== API DE TAREFAS (AUTENTICAÇÃO NECESSÁRIA) ==========
 
         // Etiquetas
@@ -323,15 +351,22 @@ public class Main {
         app.get("/api/tarefas/paginado", tarefaController::listarPaginado); // Endpoint dedicado para paginação
         app.get("/api/tarefas/buscar", tarefaController::buscarPorTexto); // Busca por texto (query param: q)
         app.get("/api/tarefas/intervalo", tarefaController::buscarPorIntervaloPrazo); // Busca por intervalo de datas (query params: inicio, fim)
+        app.get("/api/tarefas/exportar", tarefaController::exportar); // Exportação em streaming (CSV/NDJSON)
         app.get("/api/tarefas/{id}", tarefaController::buscarPorId);
         app.get("/api/tarefas/etiqueta/{etiquetaId}", tarefaController::buscarPorEtiqueta);
         app.post("/api/tarefas", tarefaController::criar);
+        app.post("/api/tarefas/importar", tarefaController::importar); // Importação em lote via CSV
+        app.post("/api/tarefas/lote/deletar", tarefaController::deletarEmLote); // Operações em lote (body: ids e/ou filtro)
+        app.post("/api/tarefas/lote/status", tarefaController::alterarStatusEmLote);
+        app.post("/api/tarefas/lote/etiqueta", tarefaController::alterarEtiquetaEmLote);
+        app.post("/api/tarefas/lote/prazo", tarefaController::deslocarPrazoEmLote);
         app.put("/api/tarefas/{id}", tarefaController::atualizar);
         app.delete("/api/tarefas/{id}", tarefaController::deletar);
 
         // PDF de Tarefas
         app.get("/api/tarefas/{id}/pdf", tarefaController::gerarPDF);
         app.post("/api/tarefas/pdf/relatorio", tarefaController::gerarPDFRelatorio);
+        app.post("/api/tarefas/pdf/pacote", tarefaController::gerarPacotePDF);
 
         // Notificações
         app.get("/api/notificacoes/alertas", notificacaoController::gerarAlertas);
@@ -392,6 +427,13 @@ public class Main {
         app.get("/api/anexos/{id}/visualizar", anexoController::visualizar);
         app.delete("/api/anexos/{id}", anexoController::remover);
 
+        // ========== JOBS EM SEGUNDO PLANO ==========
+
+        app.get("/api/jobs", jobController::listar);
+        app.get("/api/jobs/{id}", jobController::buscarPorId);
+        app.post("/api/jobs/{id}/cancelar", jobController::cancelar);
+        app.get("/api/jobs/{id}/download", jobController::download);
+
         // ========== SERVIR ARQUIVOS DE UPLOAD ==========
 
         // Rota para servir arquivos de upload (fotos de perfil, anexos, etc)
@@ -487,6 +529,23 @@ public class Main {
             }
         });
 
+        // 503 - Hash de senhas sobrecarregado: falhar rápido em vez de acumular requisições
+        app.exception(ExecutorHashSenha.SobrecargaException.class, (e, ctx) -> {
+            logger.warn("Requisição recusada por sobrecarga: {} (IP: {})",
+                       ctx.path(), com.notisblokk.util.SessionUtil.getClientIp(ctx));
+            ctx.status(503);
+            ctx.header("Retry-After", "2");
+
+            if (ctx.path().startsWith("/api/")) {
+                ctx.json(java.util.Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+                ));
+            } else {
+                ctx.result(e.getMessage() + " - 503");
+            }
+        });
+
         // Exception handler global
         app.exception(Exception.class, (e, ctx) -> {
             logger.error("Exceção não tratada na rota: {}", ctx.path(), e);
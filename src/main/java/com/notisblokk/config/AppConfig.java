@@ -5,7 +5,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Configuração centralizada da aplicação.
@@ -109,11 +111,75 @@ public class AppConfig {
         return getProperty("server.host", "localhost");
     }
 
+    /**
+     * Indica se as requisições e os jobs rodam em virtual threads.
+     *
+     * <p>Com virtual threads o servidor não tem limite de threads; a concorrência
+     * das consultas passa a ser limitada pelo pool de conexões
+     * ({@code database.pool.size}).</p>
+     *
+     * @return boolean true para virtual threads (padrão: false, pool de threads de plataforma)
+     */
+    public static boolean isServerVirtualThreads() {
+        return Boolean.parseBoolean(getProperty("server.virtual.threads", "false"));
+    }
+
+    /**
+     * Retorna os endereços dos proxies reversos confiáveis.
+     *
+     * <p>Os cabeçalhos {@code X-Forwarded-For} e {@code X-Real-IP} só são usados para
+     * identificar o cliente quando a conexão vem de um desses endereços; de outra
+     * origem, qualquer cliente poderia escolher o próprio IP (e escapar do limite de
+     * tentativas de login por IP).</p>
+     *
+     * @return Set endereços IP (padrão: vazio, sempre o IP da conexão)
+     */
+    public static Set<String> getServerProxiesConfiaveis() {
+        Set<String> proxies = new HashSet<>();
+        for (String endereco : getProperty("server.proxies.confiaveis", "").split(",")) {
+            if (!endereco.isBlank()) {
+                proxies.add(endereco.trim());
+            }
+        }
+        return Set.copyOf(proxies);
+    }
+
+    /**
+     * Retorna a fração das requisições que recebem o cabeçalho {@code Server-Timing}
+     * (tempo de banco, renderização, JSON e chamadas externas). O tempo de banco é
+     * medido nas conexões dessas requisições mesmo com o monitor de consultas desligado.
+     *
+     * @return double fração entre 0 (desativado; padrão) e 1 (todas)
+     */
+    public static double getServerTimingAmostragem() {
+        String value = getProperty("server.timing.amostragem", "0");
+        try {
+            return Math.min(Math.max(Double.parseDouble(value), 0), 1);
+        } catch (NumberFormatException e) {
+            logger.warn("Valor inválido para server.timing.amostragem: {}. Usando padrão: 0", value);
+            return 0;
+        }
+    }
+
+    /**
+     * Indica se o cabeçalho {@code Server-Timing} só é enviado a administradores
+     * logados. Os tempos por etapa revelam detalhes internos (ex.: quanto uma
+     * consulta demora para um usuário que existe e para um que não existe).
+     *
+     * @return boolean true para enviar só a administradores (padrão: true)
+     */
+    public static boolean isServerTimingApenasAdmin() {
+        return Boolean.parseBoolean(getProperty("server.timing.apenas.admin", "true"));
+    }
+
     // ========== Banco de Dados ==========
 
     /**
      * Retorna o caminho do banco de dados.
      *
+     * <p>Além de um arquivo, aceita {@code :memory:} e {@code :temporario:}
+     * (ver {@link DatabaseConfig}).</p>
+     *
      * @return String caminho do arquivo do banco (padrão: ./notisblokk.db)
      */
     public static String getDatabasePath() {
@@ -129,6 +195,37 @@ public class AppConfig {
         return getIntProperty("database.pool.size", 10);
     }
 
+    /**
+     * Indica se os comandos SQL são cronometrados e agregados por consulta
+     * (ver {@code MonitorConsultas}). É uma ferramenta de diagnóstico: cada comando
+     * passa por proxies, então fica desligado em uso normal.
+     *
+     * @return boolean true para monitorar (padrão: false)
+     */
+    public static boolean isDatabaseMonitorConsultas() {
+        return Boolean.parseBoolean(getProperty("database.monitor.consultas", "false"));
+    }
+
+    /**
+     * Retorna o tempo a partir do qual um comando SQL é registrado como lento,
+     * com o SQL e o plano de execução no log.
+     *
+     * @return long limite em milissegundos (padrão: 200; 0 desativa o log de consultas lentas)
+     */
+    public static long getDatabaseConsultaLentaMs() {
+        return getIntProperty("database.consulta.lenta.ms", 200);
+    }
+
+    /**
+     * Indica se o log e a tela de consultas lentas mostram os valores ligados aos
+     * parâmetros. Os valores podem conter hashes de senha, e-mails e nomes de usuário.
+     *
+     * @return boolean true para mostrar os valores (padrão: false, o SQL vai com os {@code ?})
+     */
+    public static boolean isDatabaseConsultaLentaParametros() {
+        return Boolean.parseBoolean(getProperty("database.consulta.lenta.parametros", "false"));
+    }
+
     // ========== Sessão ==========
 
     /**
@@ -149,6 +246,44 @@ public class AppConfig {
         return getIntProperty("session.remember.days", 7);
     }
 
+    /**
+     * Intervalo mínimo entre gravações de uma sessão HTTP cujos atributos não mudaram
+     * (acessos que só atualizam datas são agrupados).
+     *
+     * @return int segundos (padrão: 60)
+     */
+    public static int getSessionStoreSaveSeconds() {
+        return getIntProperty("session.store.save.seconds", 60);
+    }
+
+    /**
+     * Tempo sem acesso após o qual uma sessão HTTP sai da memória (continua no banco).
+     *
+     * @return int segundos (padrão: 600)
+     */
+    public static int getSessionCacheIdleSeconds() {
+        return getIntProperty("session.cache.idle.seconds", 600);
+    }
+
+    /**
+     * Intervalo entre gravações em lote da última atividade das sessões.
+     *
+     * @return int segundos (padrão: 30)
+     */
+    public static int getSessionActivityFlushSeconds() {
+        return getIntProperty("session.activity.flush.seconds", 30);
+    }
+
+    /**
+     * Dias que sessões encerradas ficam no histórico detalhado antes de serem
+     * consolidadas no resumo diário (0 = manter sempre).
+     *
+     * @return int dias (padrão: 90)
+     */
+    public static int getSessionRetencaoDias() {
+        return getIntProperty("session.retencao.dias", 90);
+    }
+
     // ========== Aplicação ==========
 
     /**
@@ -243,6 +378,171 @@ public class AppConfig {
         return getIntProperty("backup.periodicidade.dias", 7);
     }
 
+    /**
+     * Retorna o limite de leitura/escrita do backup automático em KB/s.
+     *
+     * @return int limite em KB/s (padrão: 4096; 0 = sem limite)
+     */
+    public static int getBackupThrottleKbps() {
+        return getIntProperty("backup.throttle.kbps", 4096);
+    }
+
+    /**
+     * Retorna quantas páginas do SQLite são copiadas por passo do backup online.
+     *
+     * @return int páginas por passo (padrão: 64)
+     */
+    public static int getBackupThrottlePaginasPorPasso() {
+        return getIntProperty("backup.throttle.pages.per.step", 64);
+    }
+
+    /**
+     * Retorna a idade máxima, em dias, dos backups automáticos mantidos.
+     *
+     * @return int dias (padrão: 30)
+     */
+    public static int getBackupRetencaoDias() {
+        return getIntProperty("backup.retencao.dias", 30);
+    }
+
+    /**
+     * Retorna a quantidade máxima de backups automáticos mantidos.
+     *
+     * @return int quantidade (padrão: 10)
+     */
+    public static int getBackupRetencaoMaximo() {
+        return getIntProperty("backup.retencao.maximo", 10);
+    }
+
+    /**
+     * Retorna a quantidade mínima de backups automáticos mantidos, independente da idade.
+     *
+     * @return int quantidade (padrão: 3)
+     */
+    public static int getBackupRetencaoMinimo() {
+        return getIntProperty("backup.retencao.minimo", 3);
+    }
+
+    // ========== Importação ==========
+
+    /**
+     * Quantidade de linhas gravadas por transação na importação em lote.
+     *
+     * @return int tamanho do lote (padrão: 1000)
+     */
+    public static int getImportacaoLoteTamanho() {
+        return getIntProperty("importacao.lote.tamanho", 1000);
+    }
+
+    /**
+     * Quantidade máxima de erros por linha detalhados no resultado da importação.
+     *
+     * @return int quantidade (padrão: 500)
+     */
+    public static int getImportacaoErrosMaximo() {
+        return getIntProperty("importacao.erros.maximo", 500);
+    }
+
+    // ========== Jobs em segundo plano ==========
+
+    /**
+     * Pasta onde ficam os artefatos gerados pelos jobs (PDFs, exportações, resultados).
+     *
+     * @return String caminho da pasta (padrão: ./jobs)
+     */
+    public static String getJobsPasta() {
+        return getProperty("jobs.pasta", "./jobs");
+    }
+
+    /**
+     * Quantidade de workers que executam jobs ao mesmo tempo.
+     *
+     * @return int workers (padrão: 2)
+     */
+    public static int getJobsWorkers() {
+        return getIntProperty("jobs.workers", 2);
+    }
+
+    /**
+     * Quantidade máxima de jobs de um tipo executando ao mesmo tempo.
+     *
+     * @param tipo nome do tipo de job (ex.: PDF_RELATORIO)
+     * @param padrao valor usado se jobs.limite.&lt;tipo&gt; não estiver definido
+     * @return int limite
+     */
+    public static int getJobsLimite(String tipo, int padrao) {
+        return getIntProperty("jobs.limite." + tipo, padrao);
+    }
+
+    /**
+     * Intervalo entre verificações da fila de jobs (além do aviso imediato ao enfileirar).
+     *
+     * @return int segundos (padrão: 5)
+     */
+    public static int getJobsIntervaloSegundos() {
+        return getIntProperty("jobs.intervalo.segundos", 5);
+    }
+
+    /**
+     * Por quanto tempo jobs finalizados e seus artefatos são mantidos.
+     *
+     * @return int horas (padrão: 24)
+     */
+    public static int getJobsRetencaoHoras() {
+        return getIntProperty("jobs.retencao.horas", 24);
+    }
+
+    /**
+     * Quantas vezes um job interrompido por reinício da aplicação é executado novamente.
+     *
+     * @return int tentativas (padrão: 3)
+     */
+    public static int getJobsTentativasMaximo() {
+        return getIntProperty("jobs.tentativas.maximo", 3);
+    }
+
+    // ========== Cache de PDFs ==========
+
+    /**
+     * Pasta do cache em disco de PDFs gerados.
+     *
+     * @return String caminho da pasta (padrão: ./cache/pdf)
+     */
+    public static String getPdfCachePasta() {
+        return getProperty("pdf.cache.pasta", "./cache/pdf");
+    }
+
+    /**
+     * Espaço máximo em disco do cache de PDFs. Os menos usados recentemente são
+     * removidos ao ultrapassar o limite.
+     *
+     * @return int megabytes (padrão: 100; 0 desativa o cache)
+     */
+    public static int getPdfCacheLimiteMb() {
+        return getIntProperty("pdf.cache.limite.mb", 100);
+    }
+
+    // ========== Pacote de PDFs ==========
+
+    /**
+     * Threads que geram os PDFs de um pacote ZIP, compartilhadas por todas as requisições.
+     *
+     * @return int threads (padrão: 0 = quantidade de núcleos)
+     */
+    public static int getPdfPacoteThreads() {
+        int threads = getIntProperty("pdf.pacote.threads", 0);
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Quantidade máxima de tarefas em um pacote ZIP de PDFs.
+     *
+     * @return int tarefas (padrão: 500)
+     */
+    public static int getPdfPacoteMaximo() {
+        return getIntProperty("pdf.pacote.maximo", 500);
+    }
+
     // ========== Uploads ==========
 
     public static String getUploadsFolder() {
@@ -257,6 +557,19 @@ public class AppConfig {
         return getProperty("uploads.allowed.extensions", "txt,pdf,doc,docx,xls,xlsx,csv,jpg,png");
     }
 
+    // ========== Métricas ==========
+
+    /**
+     * Indica se {@code /metrics} pode ser lido sem login a partir do próprio servidor
+     * (endereço de loopback). Desativar quando houver proxy reverso na mesma máquina,
+     * pois todas as requisições chegariam de 127.0.0.1.
+     *
+     * @return boolean true para liberar o acesso local (padrão: true)
+     */
+    public static boolean isMetricsAcessoLocal() {
+        return Boolean.parseBoolean(getProperty("metrics.acesso.local", "true"));
+    }
+
     // ========== Security ==========
 
     public static int getSecurityLoginMaxAttempts() {
@@ -275,6 +588,100 @@ public class AppConfig {
         return getIntProperty("security.password.warning.days", 10);
     }
 
+    /**
+     * Tentativas de login falhas seguidas permitidas por IP antes de limitar.
+     *
+     * @return int tentativas (padrão: 20)
+     */
+    public static int getSecurityLoginIpTentativas() {
+        return getIntProperty("security.login.ip.tentativas", 20);
+    }
+
+    /**
+     * Tempo para um IP recuperar uma tentativa de login.
+     *
+     * @return int segundos (padrão: 30)
+     */
+    public static int getSecurityLoginIpRecargaSegundos() {
+        return getIntProperty("security.login.ip.recarga.segundos", 30);
+    }
+
+    /**
+     * Tempo para uma conta recuperar uma tentativa de login; a conta é bloqueada
+     * ao esgotar {@code security.login.max.attempts} tentativas.
+     *
+     * @return int segundos (padrão: 300)
+     */
+    public static int getSecurityLoginContaRecargaSegundos() {
+        return getIntProperty("security.login.conta.recarga.segundos", 300);
+    }
+
+    /**
+     * IPs/contas rastreados em memória pelo limitador de login.
+     *
+     * @return int chaves (padrão: 10000)
+     */
+    public static int getSecurityLoginLimitadorMaxChaves() {
+        return getIntProperty("security.login.limitador.max.chaves", 10000);
+    }
+
+    // ========== Hash de Senhas ==========
+
+    /**
+     * Threads dedicadas ao hash/verificação de senhas (BCrypt).
+     *
+     * @return int threads (padrão: 0 = metade dos núcleos, mínimo 1)
+     */
+    public static int getSenhaHashThreads() {
+        int threads = getIntProperty("senha.hash.threads", 0);
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * Operações de senha que podem aguardar na fila; acima disso a requisição recebe 503.
+     *
+     * @return int tamanho da fila (padrão: 16)
+     */
+    public static int getSenhaHashFila() {
+        return Math.max(1, getIntProperty("senha.hash.fila", 16));
+    }
+
+    /**
+     * Tempo máximo que uma operação de senha pode esperar na fila antes de ser descartada.
+     *
+     * @return int milissegundos (padrão: 3000)
+     */
+    public static int getSenhaHashEsperaMaximaMs() {
+        return getIntProperty("senha.hash.espera.maxima.ms", 3000);
+    }
+
+    /**
+     * Cost factor fixo do BCrypt.
+     *
+     * @return int custo (padrão: 0 = calibrar na inicialização)
+     */
+    public static int getSenhaHashCusto() {
+        return getIntProperty("senha.hash.custo", 0);
+    }
+
+    /**
+     * Tempo alvo de um hash usado na calibração do cost factor.
+     *
+     * @return int milissegundos (padrão: 250)
+     */
+    public static int getSenhaHashAlvoMs() {
+        return getIntProperty("senha.hash.alvo.ms", 250);
+    }
+
+    /**
+     * Cost factor mínimo aceito pela calibração.
+     *
+     * @return int custo (padrão: 10)
+     */
+    public static int getSenhaHashCustoMinimo() {
+        return getIntProperty("senha.hash.custo.minimo", 10);
+    }
+
     // ========== Alerts ==========
 
     public static boolean getAlertsEmailEnabled() {
@@ -313,7 +720,12 @@ public class AppConfig {
         logger.info("App: {} v{}", getAppName(), getAppVersion());
         logger.info("Servidor: {}:{}", getServerHost(), getServerPort());
         logger.info("Banco de dados: {}", getDatabasePath());
+        logger.info("Threads: {}", isServerVirtualThreads() ? "virtuais" : "plataforma");
         logger.info("Pool de conexões: {}", getDatabasePoolSize());
+        logger.info("Consultas lentas: {}", isDatabaseMonitorConsultas()
+            ? "a partir de " + getDatabaseConsultaLentaMs() + " ms" : "monitor desativado");
+        logger.info("Server-Timing: {}", getServerTimingAmostragem() > 0
+            ? getServerTimingAmostragem() * 100 + "% das requisições" : "desativado");
         logger.info("Timeout de sessão: {} min", getSessionTimeoutMinutes());
         logger.info("Timezone: {}", getAppTimezone());
         logger.info("Email: {} ({})", getEmailFrom(), getEmailFromName());
@@ -1,8 +1,10 @@
 package com.notisblokk.config;
 
+import com.notisblokk.util.MetricasPool;
+import com.notisblokk.util.MonitorConsultas;
+import com.notisblokk.util.PasswordUtil;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,7 +12,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -19,6 +24,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -34,12 +40,19 @@ import java.util.stream.Collectors;
  *
  * <p><b>Configurações do Pool HikariCP:</b></p>
  * <ul>
- *   <li>Pool size: 10 conexões</li>
+ *   <li>Pool size: {@code database.pool.size} conexões (padrão: 10); com virtual threads,
+ *       é o limite de consultas simultâneas</li>
  *   <li>Connection timeout: 30 segundos</li>
  *   <li>Idle timeout: 600 segundos (10 minutos)</li>
  *   <li>Max lifetime: 1800 segundos (30 minutos)</li>
+ *   <li>Journal mode WAL, busy timeout de 5 segundos</li>
  * </ul>
  *
+ * <p>O arquivo vem de {@code database.path}. Dois valores especiais servem a
+ * benchmarks e massas de teste: {@link #MEMORIA} (banco em memória, compartilhado
+ * pelas conexões do pool e descartado no {@link #close()}) e {@link #TEMPORARIO}
+ * (arquivo novo no diretório temporário, apagado no {@link #close()}).</p>
+ *
  * @author Notisblokk Team
  * @version 1.0
  * @since 2025-01-24
@@ -47,15 +60,24 @@ import java.util.stream.Collectors;
 public class DatabaseConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseConfig.class);
-    private static final String DATABASE_PATH = "./notisblokk.db";
     private static final String SCHEMA_FILE = "/database/schema.sql";
     private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
+    /** Caminho especial: banco em memória. Com cache compartilhado, escritas concorrentes falham com SQLITE_LOCKED. */
+    public static final String MEMORIA = ":memory:";
+    /** Caminho especial: arquivo temporário, apagado ao fechar o pool. */
+    public static final String TEMPORARIO = ":temporario:";
+
+    private static final AtomicInteger BANCOS_EM_MEMORIA = new AtomicInteger();
+
     private static HikariDataSource dataSource;
+    private static String caminho;
+    private static Path arquivoTemporario;
+    private static Connection ancoraMemoria;
 
     /**
-     * Inicializa o banco de dados.
+     * Inicializa o banco de dados no caminho de {@code database.path}.
      *
      * <p>Configura o pool de conexões HikariCP, executa o schema SQL e cria
      * os usuários padrão caso ainda não existam.</p>
@@ -63,11 +85,26 @@ public class DatabaseConfig {
      * @throws RuntimeException se houver erro na inicialização do banco
      */
     public static void initialize() {
+        initialize(AppConfig.getDatabasePath());
+    }
+
+    /**
+     * Inicializa o banco de dados em um caminho específico.
+     *
+     * <p>Se já houver um pool aberto, ele é fechado antes (o que apaga um banco
+     * {@link #MEMORIA} ou {@link #TEMPORARIO} anterior).</p>
+     *
+     * @param caminhoBanco arquivo do banco, {@link #MEMORIA} ou {@link #TEMPORARIO}
+     * @throws RuntimeException se houver erro na inicialização do banco
+     */
+    public static void initialize(String caminhoBanco) {
         logger.info("Iniciando configuração do banco de dados...");
+        close();
 
         try {
-            configurarHikariCP();
+            configurarHikariCP(urlJdbc(caminhoBanco));
             executarSchema();
+            aplicarMigracoes();
             criarUsuariosPadrao();
             criarStatusPadrao();
 
@@ -78,21 +115,52 @@ public class DatabaseConfig {
         }
     }
 
+    /**
+     * Monta a URL JDBC do caminho pedido, criando o arquivo temporário ou a
+     * conexão que mantém o banco em memória vivo.
+     *
+     * @param caminhoBanco arquivo do banco, {@link #MEMORIA} ou {@link #TEMPORARIO}
+     * @return String URL JDBC
+     * @throws IOException se não conseguir criar o arquivo temporário
+     * @throws SQLException se não conseguir abrir o banco em memória
+     */
+    private static String urlJdbc(String caminhoBanco) throws IOException, SQLException {
+        if (MEMORIA.equals(caminhoBanco)) {
+            // Nome próprio por inicialização e cache compartilhado: todas as conexões
+            // do pool enxergam o mesmo banco, que existe enquanto houver uma aberta
+            String url = "jdbc:sqlite:file:notisblokk-" + BANCOS_EM_MEMORIA.incrementAndGet() + "?mode=memory&cache=shared";
+            ancoraMemoria = DriverManager.getConnection(url);
+            caminho = MEMORIA;
+            return url;
+        }
+        if (TEMPORARIO.equals(caminhoBanco)) {
+            arquivoTemporario = Files.createTempFile("notisblokk-", ".db");
+            caminho = arquivoTemporario.toString();
+            return "jdbc:sqlite:" + caminho;
+        }
+        caminho = caminhoBanco;
+        return "jdbc:sqlite:" + caminhoBanco;
+    }
+
     /**
      * Configura o pool de conexões HikariCP.
      *
      * <p>Define as configurações de pool, timeouts e propriedades específicas
      * do SQLite para otimização de performance.</p>
+     *
+     * @param url URL JDBC do banco
      */
-    private static void configurarHikariCP() {
-        logger.info("Configurando pool de conexões HikariCP...");
+    private static void configurarHikariCP(String url) {
+        logger.info("Configurando pool de conexões HikariCP ({})...", caminho);
 
         HikariConfig config = new HikariConfig();
-        config.setJdbcUrl("jdbc:sqlite:" + DATABASE_PATH);
+        config.setJdbcUrl(url);
         config.setDriverClassName("org.sqlite.JDBC");
 
         // Configurações do pool
-        config.setMaximumPoolSize(10);
+        // Com virtual threads não há limite de threads: quem espera por conexão fica
+        // estacionado no pool, sem ocupar thread de plataforma
+        config.setMaximumPoolSize(Math.max(1, AppConfig.getDatabasePoolSize()));
         config.setMinimumIdle(2);
         config.setConnectionTimeout(30000); // 30 segundos
         config.setIdleTimeout(600000);      // 10 minutos
@@ -103,9 +171,17 @@ public class DatabaseConfig {
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
 
+        // WAL: leituras longas (exportações, relatórios) não bloqueiam as escritas
+        // concorrentes, como o progresso dos jobs em segundo plano
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("busy_timeout", "5000");
+
         // Nome do pool para identificação em logs
         config.setPoolName("NotisblokkPool");
 
+        // Espera, uso e ocupação das conexões expostos em /metrics
+        config.setMetricsTrackerFactory(new MetricasPool());
+
         dataSource = new HikariDataSource(config);
 
         logger.info("Pool de conexões HikariCP configurado com sucesso");
@@ -152,6 +228,66 @@ public class DatabaseConfig {
         }
     }
 
+    /**
+     * Aplica migrações incrementais em bancos criados por versões anteriores.
+     *
+     * <p>O schema.sql usa CREATE TABLE IF NOT EXISTS, que não altera tabelas já
+     * existentes. Colunas adicionadas depois da criação são incluídas aqui.</p>
+     *
+     * @throws SQLException se houver erro ao alterar as tabelas
+     */
+    private static void aplicarMigracoes() throws SQLException {
+        try (Connection conn = getConnection()) {
+            adicionarColunaSeAusente(conn, "backups", "duracao_ms", "INTEGER");
+            adicionarColunaSeAusente(conn, "backups", "throughput_kbps", "REAL");
+
+            // Expiração por inatividade: busca por faixa em (status, last_activity)
+            adicionarColunaSeAusente(conn, "sessions", "last_activity", "INTEGER");
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE INDEX IF NOT EXISTS idx_sessions_status_activity "
+                        + "ON sessions(status, last_activity)");
+                // Sessões ativas anteriores à coluna ganham um timeout completo a partir de agora
+                stmt.executeUpdate("UPDATE sessions SET last_activity = " + System.currentTimeMillis()
+                        + " WHERE status = 'ACTIVE' AND last_activity IS NULL");
+                // Sessões encerradas usam o login (dd/MM/yyyy HH:mm:ss ou ISO), para a retenção
+                stmt.executeUpdate("""
+                    UPDATE sessions SET last_activity = 1000 * CAST(strftime('%s',
+                        CASE WHEN login_time LIKE '__/__/____%'
+                             THEN substr(login_time, 7, 4) || '-' || substr(login_time, 4, 2) || '-'
+                                  || substr(login_time, 1, 2) || substr(login_time, 11)
+                             ELSE login_time END) AS INTEGER)
+                    WHERE last_activity IS NULL AND login_time IS NOT NULL
+                """);
+            }
+        }
+    }
+
+    /**
+     * Adiciona uma coluna a uma tabela caso ela ainda não exista.
+     *
+     * @param conn conexão ativa
+     * @param tabela nome da tabela
+     * @param coluna nome da coluna
+     * @param definicao tipo e restrições da coluna
+     * @throws SQLException se houver erro ao alterar a tabela
+     */
+    private static void adicionarColunaSeAusente(Connection conn, String tabela, String coluna, String definicao)
+            throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + tabela + ")")) {
+            while (rs.next()) {
+                if (coluna.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + tabela + " ADD COLUMN " + coluna + " " + definicao);
+            logger.info("Migração aplicada: coluna {}.{} adicionada", tabela, coluna);
+        }
+    }
+
     /**
      * Divide o schema SQL em statements individuais, respeitando blocos BEGIN/END.
      *
@@ -206,7 +342,7 @@ public class DatabaseConfig {
      *   <li><b>Operador:</b> username=operador, email=operador@notisblokk.com, senha=Operador@123, role=OPERATOR</li>
      * </ul>
      *
-     * <p>As senhas são criptografadas usando BCrypt com cost factor 12.</p>
+     * <p>As senhas são criptografadas usando BCrypt com o cost factor atual.</p>
      *
      * @throws SQLException se houver erro ao criar os usuários
      */
@@ -241,7 +377,7 @@ public class DatabaseConfig {
             try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
                 pstmt.setString(1, "admin");
                 pstmt.setString(2, "admin@notisblokk.com");
-                pstmt.setString(3, BCrypt.hashpw("Admin@123", BCrypt.gensalt(12)));
+                pstmt.setString(3, PasswordUtil.hashPassword("Admin@123"));
                 pstmt.setString(4, "Administrador do Sistema");
                 pstmt.setString(5, "ADMIN");
                 pstmt.setString(6, timestamp);
@@ -255,7 +391,7 @@ public class DatabaseConfig {
             try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
                 pstmt.setString(1, "operador");
                 pstmt.setString(2, "operador@notisblokk.com");
-                pstmt.setString(3, BCrypt.hashpw("Operador@123", BCrypt.gensalt(12)));
+                pstmt.setString(3, PasswordUtil.hashPassword("Operador@123"));
                 pstmt.setString(4, "Operador do Sistema");
                 pstmt.setString(5, "OPERATOR");
                 pstmt.setString(6, timestamp);
@@ -345,6 +481,11 @@ public class DatabaseConfig {
     /**
      * Obtém uma conexão do pool HikariCP.
      *
+     * <p>A conexão é instrumentada por {@link MonitorConsultas} quando o monitor de
+     * consultas está ligado (cada comando é cronometrado e os lentos vão para o log com
+     * o plano de execução) ou quando a requisição atual é medida pelo
+     * {@code Server-Timing} (só o tempo da etapa {@code banco}).</p>
+     *
      * @return Connection conexão ativa do pool
      * @throws SQLException se não conseguir obter conexão do pool
      */
@@ -352,13 +493,23 @@ public class DatabaseConfig {
         if (dataSource == null) {
             throw new SQLException("DataSource não inicializado. Chame initialize() primeiro.");
         }
-        return dataSource.getConnection();
+        return MonitorConsultas.instrumentar(dataSource.getConnection());
+    }
+
+    /**
+     * Retorna o arquivo do banco em uso ({@link #MEMORIA} para o banco em memória).
+     *
+     * @return String caminho do banco, ou null antes de {@link #initialize()}
+     */
+    public static String getCaminho() {
+        return caminho;
     }
 
     /**
      * Fecha o pool de conexões HikariCP.
      *
-     * <p>Deve ser chamado ao encerrar a aplicação para liberar recursos.</p>
+     * <p>Deve ser chamado ao encerrar a aplicação para liberar recursos. Um banco
+     * {@link #MEMORIA} é descartado e um {@link #TEMPORARIO} é apagado.</p>
      */
     public static void close() {
         if (dataSource != null && !dataSource.isClosed()) {
@@ -366,6 +517,26 @@ public class DatabaseConfig {
             dataSource.close();
             logger.info("Pool de conexões fechado");
         }
+        dataSource = null;
+
+        if (ancoraMemoria != null) {
+            try {
+                ancoraMemoria.close();
+            } catch (SQLException e) {
+                logger.warn("Erro ao fechar o banco em memória", e);
+            }
+            ancoraMemoria = null;
+        }
+        if (arquivoTemporario != null) {
+            for (String sufixo : new String[]{"", "-wal", "-shm"}) {
+                try {
+                    Files.deleteIfExists(Path.of(arquivoTemporario + sufixo));
+                } catch (IOException e) {
+                    logger.warn("Não foi possível apagar {}{}", arquivoTemporario, sufixo, e);
+                }
+            }
+            arquivoTemporario = null;
+        }
     }
 
     /**
@@ -5,10 +5,11 @@ import com.notisblokk.model.UserRole;
 import com.notisblokk.service.AuthService;
 import com.notisblokk.service.UserService;
 import com.notisblokk.service.SecurityService;
+import com.notisblokk.util.ExecutorHashSenha;
+import com.notisblokk.util.PasswordUtil;
 import com.notisblokk.util.SessionUtil;
 import com.notisblokk.util.ValidationUtil;
 import io.javalin.http.Context;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -132,6 +133,10 @@ public class AuthController {
             ctx.sessionAttribute("loginError", e.getMessage());
             ctx.redirect("/auth/login");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao processar login - Username: {}", usernameOrEmail, e);
             logger.error("Stack trace completo:", e);
@@ -231,6 +236,10 @@ public class AuthController {
                 "Cadastro realizado com sucesso! Verifique seu email para confirmar sua conta.");
             ctx.redirect("/auth/login");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao registrar usuário", e);
             ctx.sessionAttribute("registerError", e.getMessage());
@@ -454,7 +463,7 @@ public class AuthController {
             }
 
             // Atualizar senha
-            String passwordHash = BCrypt.hashpw(password, BCrypt.gensalt(12));
+            String passwordHash = PasswordUtil.hashPassword(password);
             userService.atualizarSenha(userId, passwordHash);
 
             // Limpar token
@@ -465,6 +474,10 @@ public class AuthController {
             ctx.sessionAttribute("loginSuccess", "Senha redefinida com sucesso! Faça login com sua nova senha.");
             ctx.redirect("/auth/login");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao processar nova senha", e);
             ctx.sessionAttribute("novaSenhaError", "Erro ao redefinir senha. Tente novamente.");
@@ -1,7 +1,9 @@
 package com.notisblokk.controller;
 
+import com.notisblokk.model.Job;
 import com.notisblokk.model.User;
 import com.notisblokk.service.BackupService;
+import com.notisblokk.service.JobService;
 import com.notisblokk.util.SessionUtil;
 import io.javalin.http.Context;
 import org.slf4j.Logger;
@@ -32,9 +34,11 @@ public class BackupController {
 
     private static final Logger logger = LoggerFactory.getLogger(BackupController.class);
     private final BackupService backupService;
+    private final JobService jobService;
 
     public BackupController() {
         this.backupService = new BackupService();
+        this.jobService = new JobService();
     }
 
     /**
@@ -68,20 +72,21 @@ public class BackupController {
 
     /**
      * POST /api/backup/manual
-     * Cria um backup manual do banco de dados.
+     * Enfileira um backup manual do banco de dados.
+     * Responde 202 com o ID do job (acompanhar em /api/jobs/{id}).
      */
     public void criarBackupManual(Context ctx) {
         try {
             User currentUser = SessionUtil.getCurrentUser(ctx);
 
-            String caminhoBackup = backupService.criarBackup(currentUser.getId(), "MANUAL");
+            Job job = jobService.enfileirarBackup(currentUser.getId());
 
-            logger.info("Backup manual criado por {}: {}", currentUser.getUsername(), caminhoBackup);
+            logger.info("Backup manual enfileirado por {} (job {})", currentUser.getUsername(), job.getId());
 
-            ctx.json(Map.of(
+            ctx.status(202).json(Map.of(
                 "success", true,
-                "message", "Backup criado com sucesso!",
-                "caminho", caminhoBackup
+                "message", "Backup em andamento",
+                "jobId", job.getId()
             ));
 
         } catch (Exception e) {
@@ -95,20 +100,21 @@ public class BackupController {
 
     /**
      * POST /api/backup/csv
-     * Exporta todas as tarefas para arquivo CSV.
+     * Enfileira a exportação de todas as tarefas para arquivo CSV.
+     * Responde 202 com o ID do job (acompanhar em /api/jobs/{id}).
      */
     public void exportarCSV(Context ctx) {
         try {
             User currentUser = SessionUtil.getCurrentUser(ctx);
 
-            String caminhoCSV = backupService.exportarTarefasCSV(currentUser.getId());
+            Job job = jobService.enfileirarBackupCSV(currentUser.getId());
 
-            logger.info("Export CSV criado por {}: {}", currentUser.getUsername(), caminhoCSV);
+            logger.info("Export CSV enfileirado por {} (job {})", currentUser.getUsername(), job.getId());
 
-            ctx.json(Map.of(
+            ctx.status(202).json(Map.of(
                 "success", true,
-                "message", "Tarefas exportadas para CSV com sucesso!",
-                "caminho", caminhoCSV
+                "message", "Exportação em andamento",
+                "jobId", job.getId()
             ));
 
         } catch (Exception e) {
@@ -0,0 +1,87 @@
+package com.notisblokk.controller;
+
+import com.notisblokk.util.MonitorConsultas;
+import com.notisblokk.util.SessionUtil;
+import io.javalin.http.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller da tela de consultas SQL mais custosas (apenas administradores).
+ *
+ * <p>Os números vêm de {@link MonitorConsultas} e valem desde a inicialização do
+ * servidor ou desde a última limpeza.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ConsultasController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsultasController.class);
+    private static final int LIMITE_PADRAO = 25;
+    private static final int LIMITE_MAXIMO = 200;
+
+    /**
+     * GET /admin/consultas
+     * Exibe a página de consultas SQL.
+     */
+    public void index(Context ctx) {
+        try {
+            Map<String, Object> model = new HashMap<>();
+            model.putAll(SessionUtil.getSessionAttributes(ctx));
+            model.put("title", "Consultas SQL - Notisblokk");
+
+            ctx.contentType("text/html; charset=utf-8");
+            ctx.render("admin/consultas", model);
+
+        } catch (Exception e) {
+            logger.error("Erro ao carregar página de consultas", e);
+            ctx.status(500);
+            ctx.result("Erro ao carregar página: " + e.getMessage());
+        }
+    }
+
+    /**
+     * GET /api/consultas
+     * Lista as consultas de maior custo.
+     * Query params: ordem (total, maximo, media, execucoes ou lentas; default total),
+     * limite (default 25, máximo 200).
+     */
+    public void listar(Context ctx) {
+        try {
+            String ordem = ctx.queryParam("ordem");
+            int limite = Math.min(Math.max(ctx.queryParamAsClass("limite", Integer.class).getOrDefault(LIMITE_PADRAO), 1),
+                                  LIMITE_MAXIMO);
+
+            Map<String, Object> resposta = new HashMap<>();
+            resposta.put("success", true);
+            resposta.put("dados", MonitorConsultas.listar(ordem, limite));
+            resposta.put("ativo", MonitorConsultas.isAtivo());
+            resposta.put("limiteLentaMs", MonitorConsultas.getLimiteLentaMs());
+            ctx.json(resposta);
+
+        } catch (Exception e) {
+            logger.error("Erro ao listar consultas", e);
+            ctx.json(Map.of(
+                "success", false,
+                "message", "Erro ao listar consultas: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * POST /api/consultas/limpar
+     * Zera as estatísticas acumuladas.
+     */
+    public void limpar(Context ctx) {
+        MonitorConsultas.limpar();
+        ctx.json(Map.of(
+            "success", true,
+            "message", "Estatísticas zeradas"
+        ));
+    }
+}
@@ -0,0 +1,198 @@
+package com.notisblokk.controller;
+
+import com.notisblokk.model.Job;
+import com.notisblokk.service.JobService;
+import com.notisblokk.util.SessionUtil;
+import io.javalin.http.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Controller responsável pelos jobs em segundo plano.
+ *
+ * <p>Gerencia:</p>
+ * <ul>
+ *   <li>Listagem e consulta de status/progresso</li>
+ *   <li>Cancelamento</li>
+ *   <li>Download do arquivo gerado</li>
+ * </ul>
+ *
+ * <p>Cada usuário vê apenas os próprios jobs; administradores veem todos.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JobController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobController.class);
+    private final JobService jobService;
+
+    public JobController() {
+        this.jobService = new JobService();
+    }
+
+    /**
+     * GET /api/jobs
+     * Lista os jobs mais recentes do usuário (todos, se administrador).
+     */
+    public void listar(Context ctx) {
+        try {
+            Long usuarioId = SessionUtil.isAdmin(ctx) ? null : SessionUtil.getCurrentUserId(ctx);
+            List<Job> jobs = jobService.listar(usuarioId);
+
+            ctx.json(Map.of(
+                "success", true,
+                "dados", jobs
+            ));
+
+        } catch (Exception e) {
+            logger.error("Erro ao listar jobs", e);
+            ctx.status(500).json(Map.of(
+                "success", false,
+                "message", "Erro ao listar jobs: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * GET /api/jobs/{id}
+     * Retorna status e progresso de um job.
+     */
+    public void buscarPorId(Context ctx) {
+        try {
+            Optional<Job> job = buscarJobPermitido(ctx);
+            if (job.isEmpty()) {
+                return;
+            }
+
+            ctx.json(Map.of(
+                "success", true,
+                "dados", job.get()
+            ));
+
+        } catch (Exception e) {
+            logger.error("Erro ao buscar job", e);
+            ctx.status(500).json(Map.of(
+                "success", false,
+                "message", "Erro ao buscar job: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * POST /api/jobs/{id}/cancelar
+     * Cancela um job pendente ou interrompe um job em execução.
+     */
+    public void cancelar(Context ctx) {
+        try {
+            Optional<Job> job = buscarJobPermitido(ctx);
+            if (job.isEmpty()) {
+                return;
+            }
+
+            if (!jobService.cancelar(job.get())) {
+                ctx.status(409).json(Map.of(
+                    "success", false,
+                    "message", "Job já finalizado"
+                ));
+                return;
+            }
+
+            ctx.json(Map.of(
+                "success", true,
+                "message", "Cancelamento solicitado"
+            ));
+
+        } catch (Exception e) {
+            logger.error("Erro ao cancelar job", e);
+            ctx.status(500).json(Map.of(
+                "success", false,
+                "message", "Erro ao cancelar job: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * GET /api/jobs/{id}/download
+     * Faz download do arquivo gerado por um job concluído.
+     */
+    public void download(Context ctx) {
+        try {
+            Optional<Job> encontrado = buscarJobPermitido(ctx);
+            if (encontrado.isEmpty()) {
+                return;
+            }
+            Job job = encontrado.get();
+
+            if (!job.isArtefatoDisponivel()) {
+                ctx.status(409).json(Map.of(
+                    "success", false,
+                    "message", "Job sem arquivo disponível (status: " + job.getStatus().getDisplayName() + ")"
+                ));
+                return;
+            }
+
+            Path arquivo = Paths.get(job.getArtefatoCaminho());
+            if (!Files.isRegularFile(arquivo)) {
+                ctx.status(410).json(Map.of(
+                    "success", false,
+                    "message", "Arquivo do job expirou ou foi removido"
+                ));
+                return;
+            }
+
+            // Enviar arquivo sem carregá-lo inteiro em memória
+            ctx.contentType(job.getArtefatoTipo() != null ? job.getArtefatoTipo() : "application/octet-stream");
+            ctx.header("Content-Disposition", "attachment; filename=\"" + job.getArtefatoNome() + "\"");
+            ctx.header("Content-Length", String.valueOf(Files.size(arquivo)));
+            ctx.result(Files.newInputStream(arquivo));
+
+            logger.info("Download do job {} ({})", job.getId(), job.getArtefatoNome());
+
+        } catch (Exception e) {
+            logger.error("Erro ao fazer download do job", e);
+            ctx.status(500).json(Map.of(
+                "success", false,
+                "message", "Erro ao fazer download: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Busca o job do path param, respondendo 400/404 quando inválido, inexistente
+     * ou de outro usuário.
+     */
+    private Optional<Job> buscarJobPermitido(Context ctx) throws Exception {
+        Long jobId;
+        try {
+            jobId = Long.parseLong(ctx.pathParam("id"));
+        } catch (NumberFormatException e) {
+            ctx.status(400).json(Map.of(
+                "success", false,
+                "message", "ID de job inválido"
+            ));
+            return Optional.empty();
+        }
+
+        Optional<Job> job = jobService.buscarPorId(jobId);
+        boolean permitido = job.isPresent()
+            && (SessionUtil.isAdmin(ctx) || SessionUtil.getCurrentUserId(ctx).equals(job.get().getUsuarioId()));
+
+        if (!permitido) {
+            ctx.status(404).json(Map.of(
+                "success", false,
+                "message", "Job não encontrado"
+            ));
+            return Optional.empty();
+        }
+        return job;
+    }
+}
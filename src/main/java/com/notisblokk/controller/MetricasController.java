@@ -0,0 +1,59 @@
+package com.notisblokk.controller;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.util.Metricas;
+import com.notisblokk.util.SessionUtil;
+import io.javalin.http.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Controller do endpoint de métricas no formato de texto do Prometheus.
+ *
+ * <p>A rota é pública na tabela de segurança porque o coletor do Prometheus não
+ * tem sessão; o acesso é decidido aqui: requisições do próprio servidor
+ * (loopback, se {@code metrics.acesso.local=true}) ou de um administrador logado.
+ * O endereço considerado é o da conexão, não o cabeçalho X-Forwarded-For.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricasController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricasController.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * GET /metrics
+     * Exporta todas as métricas registradas em {@link Metricas}.
+     */
+    public void exportar(Context ctx) {
+        if (!acessoPermitido(ctx)) {
+            logger.warn("Acesso negado a /metrics (IP: {})", ctx.req().getRemoteAddr());
+            ctx.status(403).result("Acesso negado.");
+            return;
+        }
+
+        ctx.contentType(CONTENT_TYPE).result(Metricas.exportar());
+    }
+
+    private static boolean acessoPermitido(Context ctx) {
+        if (AppConfig.isMetricsAcessoLocal() && isLoopback(ctx.req().getRemoteAddr())) {
+            return true;
+        }
+        return SessionUtil.isAdmin(ctx);
+    }
+
+    private static boolean isLoopback(String endereco) {
+        try {
+            // Endereço numérico: não há consulta DNS
+            return endereco != null && InetAddress.getByName(endereco).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
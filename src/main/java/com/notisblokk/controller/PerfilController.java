@@ -5,11 +5,12 @@ import com.notisblokk.repository.UserRepository;
 import com.notisblokk.service.FileUploadService;
 import com.notisblokk.service.SecurityService;
 import com.notisblokk.service.UserService;
+import com.notisblokk.util.ExecutorHashSenha;
+import com.notisblokk.util.PasswordUtil;
 import com.notisblokk.util.SessionUtil;
 import com.notisblokk.util.ValidationUtil;
 import io.javalin.http.Context;
 import io.javalin.http.UploadedFile;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -114,7 +115,7 @@ public class PerfilController {
             }
 
             // Validar senha atual
-            if (!BCrypt.checkpw(senhaAtual, currentUser.getPasswordHash())) {
+            if (!PasswordUtil.verifyPassword(senhaAtual, currentUser.getPasswordHash())) {
                 ctx.sessionAttribute("perfilError", "Senha atual incorreta");
                 ctx.redirect("/perfil");
                 return;
@@ -128,7 +129,7 @@ public class PerfilController {
             }
 
             // Atualizar senha
-            String passwordHash = BCrypt.hashpw(novaSenha, BCrypt.gensalt(12));
+            String passwordHash = PasswordUtil.hashPassword(novaSenha);
             userService.atualizarSenha(currentUser.getId(), passwordHash);
 
             logger.info("Senha alterada para usuário: {}", currentUser.getUsername());
@@ -136,6 +137,10 @@ public class PerfilController {
             ctx.sessionAttribute("perfilSuccess", "Senha alterada com sucesso!");
             ctx.redirect("/perfil");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao alterar senha", e);
             ctx.sessionAttribute("perfilError", "Erro ao alterar senha: " + e.getMessage());
@@ -175,7 +180,7 @@ public class PerfilController {
             }
 
             // Validar senha
-            if (!BCrypt.checkpw(senha, currentUser.getPasswordHash())) {
+            if (!PasswordUtil.verifyPassword(senha, currentUser.getPasswordHash())) {
                 ctx.sessionAttribute("perfilError", "Senha incorreta");
                 ctx.redirect("/perfil");
                 return;
@@ -198,6 +203,10 @@ public class PerfilController {
                 "Email alterado com sucesso! Verifique seu novo email para confirmar.");
             ctx.redirect("/perfil");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao alterar email", e);
             ctx.sessionAttribute("perfilError", "Erro ao alterar email: " + e.getMessage());
@@ -241,7 +250,7 @@ public class PerfilController {
                 .orElse(currentUser);
 
             // Atualizar sessão com usuário recarregado
-            ctx.sessionAttribute("currentUser", usuarioAtualizado);
+            SessionUtil.setCurrentUser(ctx, usuarioAtualizado);
 
             logger.info("Foto de perfil atualizada para usuário: {}", currentUser.getUsername());
 
@@ -290,7 +299,7 @@ public class PerfilController {
                 .orElse(currentUser);
 
             // Atualizar sessão com usuário recarregado
-            ctx.sessionAttribute("currentUser", usuarioAtualizado);
+            SessionUtil.setCurrentUser(ctx, usuarioAtualizado);
 
             logger.info("Foto de perfil removida para usuário: {}", currentUser.getUsername());
 
@@ -1,9 +1,8 @@
 package com.notisblokk.controller;
 
 import com.notisblokk.model.Session;
-import com.notisblokk.model.User;
+import com.notisblokk.repository.SessionRepository;
 import com.notisblokk.service.SessionService;
-import com.notisblokk.service.UserService;
 import com.notisblokk.util.SessionUtil;
 import io.javalin.http.Context;
 import org.slf4j.Logger;
@@ -17,7 +16,7 @@ import java.util.stream.Collectors;
  *
  * <p>Funcionalidades:</p>
  * <ul>
- *   <li>Listagem de sessões com filtros e ordenação</li>
+ *   <li>Listagem paginada de sessões com filtros e ordenação</li>
  *   <li>Encerramento de sessões ativas</li>
  *   <li>Estatísticas de sessões</li>
  * </ul>
@@ -29,12 +28,12 @@ import java.util.stream.Collectors;
 public class SessionController {
 
     private static final Logger logger = LoggerFactory.getLogger(SessionController.class);
+    private static final int LIMITE_PADRAO = 50;
+    private static final int LIMITE_MAXIMO = 200;
     private final SessionService sessionService;
-    private final UserService userService;
 
     public SessionController() {
         this.sessionService = new SessionService();
-        this.userService = new UserService();
     }
 
     /**
@@ -75,34 +74,28 @@ public class SessionController {
 
     /**
      * GET /api/sessions/listar
-     * Lista todas as sessões do sistema com informações de usuário.
+     * Lista sessões da mais recente para a mais antiga, paginadas por cursor.
+     * Query params: antesDe (ID da última sessão recebida; ausente na primeira página),
+     * limite (default 50, máximo 200). A resposta traz "proximo" com o cursor da
+     * página seguinte, ou null se não houver mais sessões.
      */
     public void listar(Context ctx) {
         try {
-            List<Session> sessions = sessionService.listarUltimasSessoes(1000); // Últimas 1000 sessões
-
-            // Buscar informações de usuários para enriquecer os dados
-            Map<Long, User> usuariosMap = new HashMap<>();
-            for (Session session : sessions) {
-                if (!usuariosMap.containsKey(session.getUserId())) {
-                    try {
-                        Optional<User> user = userService.buscarPorId(session.getUserId());
-                        user.ifPresent(u -> usuariosMap.put(u.getId(), u));
-                    } catch (Exception e) {
-                        logger.warn("Erro ao buscar usuário ID {}", session.getUserId());
-                    }
-                }
-            }
+            Long antesDe = ctx.queryParamAsClass("antesDe", Long.class).allowNullable().get();
+            int limite = Math.min(Math.max(ctx.queryParamAsClass("limite", Integer.class).getOrDefault(LIMITE_PADRAO), 1),
+                                  LIMITE_MAXIMO);
+
+            List<SessionRepository.SessaoListagem> pagina = sessionService.listarPagina(antesDe, limite);
 
-            // Criar lista enriquecida com nome do usuário
-            List<Map<String, Object>> sessionsEnriquecidas = sessions.stream().map(session -> {
+            // Criar lista enriquecida com nome do usuário (já trazido pela consulta)
+            List<Map<String, Object>> sessionsEnriquecidas = pagina.stream().map(item -> {
+                Session session = item.session();
                 Map<String, Object> sessionMap = new HashMap<>();
                 sessionMap.put("id", session.getId());
                 sessionMap.put("userId", session.getUserId());
 
-                User user = usuariosMap.get(session.getUserId());
-                sessionMap.put("userName", user != null ? user.getFullName() : "Usuário Desconhecido");
-                sessionMap.put("userEmail", user != null ? user.getEmail() : "");
+                sessionMap.put("userName", item.userName() != null ? item.userName() : "Usuário Desconhecido");
+                sessionMap.put("userEmail", item.userEmail() != null ? item.userEmail() : "");
 
                 sessionMap.put("loginTime", session.getFormattedLoginTime());
                 sessionMap.put("logoutTime", session.getFormattedLogoutTime());
@@ -117,10 +110,14 @@ public class SessionController {
                 return sessionMap;
             }).collect(Collectors.toList());
 
-            ctx.json(Map.of(
-                "success", true,
-                "dados", sessionsEnriquecidas
-            ));
+            // Página cheia: pode haver mais sessões depois da última
+            Long proximo = pagina.size() == limite ? pagina.get(pagina.size() - 1).session().getId() : null;
+
+            Map<String, Object> resposta = new HashMap<>();
+            resposta.put("success", true);
+            resposta.put("dados", sessionsEnriquecidas);
+            resposta.put("proximo", proximo);
+            ctx.json(resposta);
 
         } catch (Exception e) {
             logger.error("Erro ao listar sessões", e);
@@ -133,12 +130,15 @@ public class SessionController {
 
     /**
      * GET /api/sessions/stats
-     * Retorna estatísticas sobre as sessões.
+     * Retorna estatísticas sobre as sessões. Os totais e as distribuições por
+     * dispositivo, navegador e sistema somam as sessões detalhadas (inclusive as
+     * ativas) e o resumo diário das sessões já consolidadas.
      */
     public void obterEstatisticas(Context ctx) {
         try {
-            long totalSessoes = sessionService.contarTotalSessoes();
-            long sessoesAtivas = sessionService.contarSessoesAtivas();
+            SessionRepository.Estatisticas estatisticas = sessionService.obterEstatisticas();
+            long totalSessoes = estatisticas.total();
+            long sessoesAtivas = estatisticas.ativas();
 
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalSessoes", totalSessoes);
@@ -150,6 +150,11 @@ public class SessionController {
                 : 0;
             stats.put("percentualAtivas", String.format("%.1f%%", percentualAtivas));
 
+            SessionRepository.Distribuicao distribuicao = sessionService.somarLoginsPorDimensao();
+            stats.put("porDispositivo", distribuicao.porDispositivo());
+            stats.put("porNavegador", distribuicao.porNavegador());
+            stats.put("porSistema", distribuicao.porSistema());
+
             ctx.json(Map.of(
                 "success", true,
                 "dados", stats
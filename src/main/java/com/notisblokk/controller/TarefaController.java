@@ -1,15 +1,29 @@
 package com.notisblokk.controller;
 
-import com.notisblokk.model.Tarefa;
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.model.FiltroTarefa;
+import com.notisblokk.model.Job;
 import com.notisblokk.model.TarefaDTO;
 import com.notisblokk.model.PaginatedResponse;
+import com.notisblokk.service.ExportacaoService;
+import com.notisblokk.service.ImportacaoService;
+import com.notisblokk.service.JobService;
 import com.notisblokk.service.TarefaService;
 import com.notisblokk.service.PDFService;
 import com.notisblokk.util.SessionUtil;
 import io.javalin.http.Context;
+import io.javalin.http.UploadedFile;
+import org.apache.commons.io.input.BOMInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -28,8 +42,15 @@ import java.util.stream.Collectors;
  *   <li>POST /api/tarefas - Criar nova tarefa</li>
  *   <li>PUT /api/tarefas/{id} - Atualizar tarefa</li>
  *   <li>DELETE /api/tarefas/{id} - Deletar tarefa</li>
+ *   <li>GET /api/tarefas/exportar - Exportar tarefas em streaming (CSV/NDJSON)</li>
+ *   <li>POST /api/tarefas/importar - Importar tarefas em lote a partir de CSV</li>
+ *   <li>POST /api/tarefas/lote/{deletar|status|etiqueta|prazo} - Operações em lote por IDs ou filtro</li>
+ *   <li>POST /api/tarefas/pdf/pacote - ZIP com um PDF por tarefa, gerados em paralelo</li>
  * </ul>
  *
+ * <p>Exportação, importação e relatório PDF aceitam {@code assincrono=true}: a operação
+ * vira um job em segundo plano e a resposta é 202 com o ID do job (ver /api/jobs).</p>
+ *
  * @author Notisblokk Team
  * @version 1.0
  * @since 2025-01-26
@@ -39,6 +60,9 @@ public class TarefaController {
     private static final Logger logger = LoggerFactory.getLogger(TarefaController.class);
     private final TarefaService tarefaService;
     private final PDFService pdfService;
+    private final ExportacaoService exportacaoService;
+    private final ImportacaoService importacaoService;
+    private final JobService jobService;
 
     /**
      * Construtor padrão.
@@ -46,6 +70,40 @@ public class TarefaController {
     public TarefaController() {
         this.tarefaService = new TarefaService();
         this.pdfService = new PDFService();
+        this.exportacaoService = new ExportacaoService();
+        this.importacaoService = new ImportacaoService();
+        this.jobService = new JobService();
+    }
+
+    /**
+     * Classe interna para receber dados das operações em lote.
+     * A seleção é feita por "ids", por "filtro" ou pelos dois combinados (AND).
+     */
+    private static class OperacaoLoteRequest {
+        public List<Long> ids;
+        public FiltroRequest filtro;
+        public Long statusId;
+        public Long etiquetaId;
+        public Integer dias;
+    }
+
+    /**
+     * Filtro recebido no corpo das operações em lote (mesmos campos dos query params de exportação).
+     */
+    private static class FiltroRequest {
+        public String usuarioId;
+        public String etiquetaId;
+        public String statusId;
+        public String prazoInicio;
+        public String prazoFim;
+    }
+
+    /**
+     * Operação em lote executada por {@link #executarLote}.
+     */
+    @FunctionalInterface
+    private interface OperacaoLote {
+        int executar(OperacaoLoteRequest request, FiltroTarefa filtro) throws Exception;
     }
 
     /**
@@ -301,6 +359,103 @@ public class TarefaController {
         }
     }
 
+    /**
+     * GET /api/tarefas/exportar
+     * Exporta tarefas em streaming diretamente na resposta, sem arquivo temporário.
+     * Query params: formato (csv|ndjson, default csv), colunas (lista separada por vírgula),
+     * usuarioId, etiquetaId, statusId, prazoInicio, prazoFim, gzip (true|false),
+     * assincrono (true = gera o arquivo em um job em segundo plano)
+     */
+    public void exportar(Context ctx) {
+        ExportacaoService.Formato formato;
+        List<String> colunas;
+        FiltroTarefa filtro;
+
+        try {
+            formato = ExportacaoService.Formato.of(ctx.queryParam("formato"));
+            colunas = exportacaoService.resolverColunas(ctx.queryParam("colunas"));
+            filtro = montarFiltro(ctx);
+        } catch (Exception e) {
+            ctx.status(400);
+            ctx.json(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+            return;
+        }
+
+        boolean gzip = Boolean.parseBoolean(ctx.queryParam("gzip"));
+
+        if (isAssincrono(ctx)) {
+            try {
+                responderJob(ctx, jobService.enfileirarExportacao(formato, colunas, filtro, gzip,
+                    SessionUtil.getCurrentUserId(ctx)));
+            } catch (Exception e) {
+                logger.error("Erro ao enfileirar exportação de tarefas", e);
+                ctx.status(500);
+                ctx.json(Map.of("success", false, "message", "Erro ao exportar tarefas: " + e.getMessage()));
+            }
+            return;
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss"));
+        String fileName = "notisblokk_tarefas_" + timestamp + "." + formato.getExtensao() + (gzip ? ".gz" : "");
+
+        ctx.contentType(gzip ? "application/gzip" : formato.getContentType() + "; charset=utf-8");
+        ctx.header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        try {
+            long total = exportacaoService.exportar(formato, colunas, filtro, ctx.outputStream(), gzip);
+            logger.info("Exportação {} de {} tarefas por usuário {}",
+                formato, total, SessionUtil.getCurrentUserId(ctx));
+
+        } catch (Exception e) {
+            // A resposta já pode ter sido parcialmente enviada; apenas registrar
+            logger.error("Erro durante exportação de tarefas", e);
+        }
+    }
+
+    /**
+     * Monta o filtro de tarefas a partir dos query params
+     * usuarioId, etiquetaId, statusId, prazoInicio e prazoFim.
+     *
+     * @param ctx contexto da requisição
+     * @return FiltroTarefa filtro montado (vazio se nenhum parâmetro informado)
+     * @throws Exception se algum parâmetro for inválido
+     */
+    private FiltroTarefa montarFiltro(Context ctx) throws Exception {
+        return montarFiltro(ctx.queryParam("usuarioId"), ctx.queryParam("etiquetaId"),
+            ctx.queryParam("statusId"), ctx.queryParam("prazoInicio"), ctx.queryParam("prazoFim"));
+    }
+
+    private FiltroTarefa montarFiltro(String usuarioId, String etiquetaId, String statusId,
+                                      String prazoInicio, String prazoFim) throws Exception {
+        FiltroTarefa filtro = new FiltroTarefa();
+        filtro.setUsuarioId(parseIdOpcional(usuarioId, "usuarioId"));
+        filtro.setEtiquetaId(parseIdOpcional(etiquetaId, "etiquetaId"));
+        filtro.setStatusId(parseIdOpcional(statusId, "statusId"));
+
+        if (prazoInicio != null && !prazoInicio.isBlank()) {
+            filtro.setPrazoInicio(tarefaService.parsePrazoFinal(prazoInicio.trim()));
+        }
+        if (prazoFim != null && !prazoFim.isBlank()) {
+            filtro.setPrazoFim(tarefaService.parsePrazoFinal(prazoFim.trim()));
+        }
+
+        return filtro;
+    }
+
+    private Long parseIdOpcional(String valor, String nome) throws Exception {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new Exception("Parâmetro '" + nome + "' inválido");
+        }
+    }
+
     /**
      * POST /api/tarefas
      * Cria uma nova tarefa.
@@ -344,6 +499,188 @@ public class TarefaController {
         }
     }
 
+    /**
+     * POST /api/tarefas/importar
+     * Importa tarefas em lote a partir de um CSV com cabeçalho.
+     * O CSV pode vir no campo multipart "arquivo" ou diretamente no corpo (text/csv).
+     * Query params: lote (linhas por transação), separador ("," ou ";", default ","),
+     * progresso (true = resposta NDJSON com um evento por lote gravado),
+     * assincrono (true = grava o CSV e importa em um job em segundo plano)
+     */
+    public void importar(Context ctx) {
+        int lote;
+        char separador;
+        try {
+            lote = ctx.queryParam("lote") != null ? Integer.parseInt(ctx.queryParam("lote").trim()) : 0;
+            String sep = ctx.queryParam("separador");
+            separador = sep == null || sep.isEmpty() ? ',' : sep.charAt(0);
+            if (separador != ',' && separador != ';') {
+                throw new IllegalArgumentException("Separador inválido. Use , ou ;");
+            }
+        } catch (NumberFormatException e) {
+            ctx.status(400);
+            ctx.json(Map.of("success", false, "message", "Parâmetro 'lote' inválido"));
+            return;
+        } catch (IllegalArgumentException e) {
+            ctx.status(400);
+            ctx.json(Map.of("success", false, "message", e.getMessage()));
+            return;
+        }
+
+        boolean progresso = Boolean.parseBoolean(ctx.queryParam("progresso"));
+        Long sessaoId = SessionUtil.getCurrentSessionId(ctx);
+        Long usuarioId = SessionUtil.getCurrentUserId(ctx);
+
+        UploadedFile arquivo = ctx.isMultipartFormData() ? ctx.uploadedFile("arquivo") : null;
+        if (ctx.isMultipartFormData() && arquivo == null) {
+            ctx.status(400);
+            ctx.json(Map.of("success", false, "message", "Nenhum arquivo selecionado"));
+            return;
+        }
+
+        if (isAssincrono(ctx)) {
+            try (InputStream entrada = arquivo != null ? arquivo.content() : ctx.bodyInputStream()) {
+                responderJob(ctx, jobService.enfileirarImportacao(entrada, separador, lote, sessaoId, usuarioId));
+            } catch (Exception e) {
+                logger.error("Erro ao enfileirar importação de tarefas", e);
+                ctx.status(500);
+                ctx.json(Map.of("success", false, "message", "Erro ao importar tarefas: " + e.getMessage()));
+            }
+            return;
+        }
+
+        boolean[] streamIniciado = {false};
+
+        try (InputStream entrada = arquivo != null ? arquivo.content() : ctx.bodyInputStream();
+             Reader leitor = new BufferedReader(new InputStreamReader(
+                 BOMInputStream.builder().setInputStream(entrada).get(), StandardCharsets.UTF_8), 64 * 1024)) {
+
+            ImportacaoService.ProgressoListener listener = null;
+            if (progresso) {
+                listener = parcial -> {
+                    if (!streamIniciado[0]) {
+                        ctx.contentType("application/x-ndjson; charset=utf-8");
+                        streamIniciado[0] = true;
+                    }
+                    escreverEvento(ctx, Map.of(
+                        "tipo", "progresso",
+                        "linhasLidas", parcial.getLinhasLidas(),
+                        "inseridas", parcial.getInseridas(),
+                        "rejeitadas", parcial.getRejeitadas()
+                    ));
+                };
+            }
+
+            ImportacaoService.ResultadoImportacao resultado =
+                importacaoService.importarCSV(leitor, separador, lote, sessaoId, usuarioId, listener);
+
+            String mensagem = resultado.getInseridas() + " tarefa(s) importada(s), "
+                + resultado.getRejeitadas() + " linha(s) rejeitada(s)";
+            logger.info("Importação CSV por usuário {}: {}", usuarioId, mensagem);
+
+            if (progresso) {
+                ctx.contentType("application/x-ndjson; charset=utf-8");
+                escreverEvento(ctx, Map.of("tipo", "resultado", "success", true, "message", mensagem, "dados", resultado));
+            } else {
+                ctx.json(Map.of("success", true, "message", mensagem, "dados", resultado));
+            }
+
+        } catch (IllegalArgumentException e) {
+            ctx.status(400);
+            ctx.json(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Erro ao importar tarefas", e);
+            if (streamIniciado[0]) {
+                // Lotes anteriores já foram gravados e reportados; informar a falha como último evento
+                try {
+                    escreverEvento(ctx, Map.of("tipo", "erro", "success", false,
+                        "message", "Erro ao importar tarefas: " + e.getMessage()));
+                } catch (IOException ignorada) {
+                    logger.debug("Cliente desconectado durante importação");
+                }
+                return;
+            }
+            ctx.status(500);
+            ctx.json(Map.of("success", false, "message", "Erro ao importar tarefas: " + e.getMessage()));
+        }
+    }
+
+    private void escreverEvento(Context ctx, Map<String, Object> evento) throws IOException {
+        OutputStream saida = ctx.outputStream();
+        saida.write(ctx.jsonMapper().toJsonString(evento, Map.class).getBytes(StandardCharsets.UTF_8));
+        saida.write('\n');
+        saida.flush();
+    }
+
+    /**
+     * POST /api/tarefas/lote/deletar
+     * Deleta em uma única instrução as tarefas selecionadas.
+     * Body: {"ids": [...], "filtro": {...}}
+     */
+    public void deletarEmLote(Context ctx) {
+        executarLote(ctx, "deletada(s)",
+            (request, filtro) -> tarefaService.deletarEmLote(request.ids, filtro));
+    }
+
+    /**
+     * POST /api/tarefas/lote/status
+     * Altera o status das tarefas selecionadas.
+     * Body: {"ids": [...], "filtro": {...}, "statusId": 1}
+     */
+    public void alterarStatusEmLote(Context ctx) {
+        executarLote(ctx, "com status alterado",
+            (request, filtro) -> tarefaService.alterarStatusEmLote(request.ids, filtro, request.statusId));
+    }
+
+    /**
+     * POST /api/tarefas/lote/etiqueta
+     * Altera a etiqueta das tarefas selecionadas.
+     * Body: {"ids": [...], "filtro": {...}, "etiquetaId": 1}
+     */
+    public void alterarEtiquetaEmLote(Context ctx) {
+        executarLote(ctx, "com etiqueta alterada",
+            (request, filtro) -> tarefaService.alterarEtiquetaEmLote(request.ids, filtro, request.etiquetaId));
+    }
+
+    /**
+     * POST /api/tarefas/lote/prazo
+     * Desloca o prazo final das tarefas selecionadas.
+     * Body: {"ids": [...], "filtro": {...}, "dias": 7}
+     */
+    public void deslocarPrazoEmLote(Context ctx) {
+        executarLote(ctx, "com prazo alterado",
+            (request, filtro) -> tarefaService.deslocarPrazoEmLote(request.ids, filtro, request.dias));
+    }
+
+    private void executarLote(Context ctx, String descricao, OperacaoLote operacao) {
+        try {
+            OperacaoLoteRequest request = ctx.bodyAsClass(OperacaoLoteRequest.class);
+            FiltroRequest f = request.filtro;
+            FiltroTarefa filtro = f != null
+                ? montarFiltro(f.usuarioId, f.etiquetaId, f.statusId, f.prazoInicio, f.prazoFim)
+                : null;
+
+            int afetadas = operacao.executar(request, filtro);
+
+            ctx.json(Map.of(
+                "success", true,
+                "message", afetadas + " tarefa(s) " + descricao,
+                "dados", Map.of("afetadas", afetadas)
+            ));
+
+            logger.info("Operação em lote ({}) em {} tarefas por usuário {}",
+                descricao, afetadas, SessionUtil.getCurrentUserId(ctx));
+
+        } catch (Exception e) {
+            logger.error("Erro em operação de tarefas em lote", e);
+            ctx.status(400);
+            ctx.json(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+
     /**
      * PUT /api/tarefas/{id}
      * Atualiza uma tarefa existente.
@@ -437,36 +774,45 @@ public class TarefaController {
     /**
      * GET /api/tarefas/{id}/pdf
      * Gera PDF de uma tarefa específica.
+     * Responde com ETag da versão da tarefa; If-None-Match com a mesma versão retorna 304.
      */
     public void gerarPDF(Context ctx) {
         try {
             Long id = Long.parseLong(ctx.pathParam("id"));
 
-            // Gerar PDF
-            byte[] pdfBytes = pdfService.gerarPDFNota(id);
-
-            // Buscar tarefa para obter o título e usar no nome do arquivo
-            Optional<TarefaDTO> tarefaOpt = tarefaService.buscarPorId(id);
-            String fileName = "tarefa_" + id;
-            if (tarefaOpt.isPresent()) {
-                String titulo = tarefaOpt.get().getTitulo();
-                // Remover caracteres inválidos do nome do arquivo
-                String tituloProcessado = titulo.replaceAll("[^a-zA-Z0-9\\s-]", "")
-                                                .replaceAll("\\s+", "_");
-                // Limitar tamanho baseado na string processada
-                fileName = tituloProcessado.substring(0, Math.min(tituloProcessado.length(), 50));
+            Optional<PDFService.NotaPDF> notaOpt = pdfService.carregarNota(id);
+            if (notaOpt.isEmpty()) {
+                ctx.status(404);
+                ctx.json(Map.of(
+                    "success", false,
+                    "message", "Tarefa não encontrada"
+                ));
+                return;
+            }
+            PDFService.NotaPDF nota = notaOpt.get();
+
+            // Revalidação: o navegador já tem esta versão do PDF
+            String etag = "\"" + nota.getVersao() + "\"";
+            ctx.header("ETag", etag);
+            ctx.header("Cache-Control", "private, no-cache");
+            if (correspondeEtag(ctx.header("If-None-Match"), etag)) {
+                ctx.status(304);
+                return;
             }
 
+            // Título da tarefa no nome do arquivo, sem caracteres inválidos
+            String fileName = PDFService.nomeArquivo(nota.getTarefa().getTitulo());
+
             // Adicionar timestamp ao nome do arquivo (formato brasileiro: DDMMYYYY_HHmmss)
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss"));
             fileName = fileName + "_" + timestamp + ".pdf";
 
-            // Enviar PDF
+            // Enviar PDF (do cache, se esta versão já foi gerada)
             ctx.contentType("application/pdf");
             ctx.header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
-            ctx.result(pdfBytes);
+            pdfService.escreverPDFNota(nota, ctx.outputStream());
 
-            logger.info("PDF gerado para tarefa ID {}", id);
+            logger.info("PDF enviado para tarefa ID {}", id);
 
         } catch (NumberFormatException e) {
             ctx.status(400);
@@ -484,40 +830,49 @@ public class TarefaController {
         }
     }
 
+    /**
+     * Verifica se o cabeçalho If-None-Match contém o ETag (ou "*").
+     */
+    private boolean correspondeEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            candidato = candidato.trim();
+            if (candidato.startsWith("W/")) {
+                candidato = candidato.substring(2);
+            }
+            if (candidato.equals("*") || candidato.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * POST /api/tarefas/pdf/relatorio
-     * Gera PDF com relatório de múltiplas tarefas.
+     * Gera PDF com relatório de múltiplas tarefas, em streaming.
      * Espera um JSON com array de IDs: {"ids": [1, 2, 3]}
+     * Query param: assincrono (true = gera o PDF em um job em segundo plano)
      */
     public void gerarPDFRelatorio(Context ctx) {
-        try {
-            // Obter lista de IDs do body
-            Map<String, Object> body = ctx.bodyAsClass(Map.class);
-            @SuppressWarnings("unchecked")
-            List<Integer> ids = (List<Integer>) body.get("ids");
+        List<Long> tarefaIds;
+        long total;
 
-            if (ids == null || ids.isEmpty()) {
-                ctx.status(400);
-                ctx.json(Map.of(
-                    "success", false,
-                    "message", "Lista de IDs não pode estar vazia"
-                ));
+        try {
+            tarefaIds = lerIdsPDF(ctx);
+            if (tarefaIds == null) {
                 return;
             }
 
-            // Converter IDs para Long e buscar tarefas
-            List<Long> tarefaIds = ids.stream()
-                .map(Integer::longValue)
-                .collect(Collectors.toList());
+            if (isAssincrono(ctx)) {
+                responderJob(ctx, jobService.enfileirarRelatorioPDF(tarefaIds, SessionUtil.getCurrentUserId(ctx)));
+                return;
+            }
 
-            // Buscar as tarefas completas
-            List<TarefaDTO> tarefasDTO = tarefaService.listarTodas();
-            List<Tarefa> tarefas = tarefasDTO.stream()
-                .filter(n -> tarefaIds.contains(n.getId()))
-                .map(this::convertDTOToTarefa)
-                .collect(Collectors.toList());
+            total = pdfService.contarTarefasRelatorio(tarefaIds);
 
-            if (tarefas.isEmpty()) {
+            if (total == 0) {
                 ctx.status(404);
                 ctx.json(Map.of(
                     "success", false,
@@ -526,45 +881,117 @@ public class TarefaController {
                 return;
             }
 
-            // Gerar PDF
-            byte[] pdfBytes = pdfService.gerarPDFRelatorio(tarefas);
+        } catch (Exception e) {
+            logger.error("Erro ao preparar PDF de relatório", e);
+            ctx.status(500);
+            ctx.json(Map.of(
+                "success", false,
+                "message", "Erro ao gerar PDF: " + e.getMessage()
+            ));
+            return;
+        }
 
-            // Nome do arquivo com timestamp (formato brasileiro: DDMMYYYY_HHmmss)
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss"));
-            String fileName = "relatorio_tarefas_" + timestamp + ".pdf";
+        // Nome do arquivo com timestamp (formato brasileiro: DDMMYYYY_HHmmss)
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss"));
+        String fileName = "relatorio_tarefas_" + timestamp + ".pdf";
 
-            // Enviar PDF
-            ctx.contentType("application/pdf");
-            ctx.header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
-            ctx.result(pdfBytes);
+        ctx.contentType("application/pdf");
+        ctx.header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
 
-            logger.info("PDF de relatório gerado com {} tarefas", tarefas.size());
+        try {
+            // PDF escrito diretamente na resposta, à medida que as páginas ficam prontas
+            long escritas = pdfService.gerarPDFRelatorio(tarefaIds, total, ctx.outputStream());
+            logger.info("PDF de relatório gerado com {} tarefas", escritas);
 
         } catch (Exception e) {
+            // A resposta já pode ter sido parcialmente enviada; apenas registrar
             logger.error("Erro ao gerar PDF de relatório", e);
-            ctx.status(500);
+        }
+    }
+
+    /**
+     * POST /api/tarefas/pdf/pacote
+     * Gera um ZIP com o PDF individual de cada tarefa, em streaming.
+     * Espera um JSON com array de IDs: {"ids": [1, 2, 3]}
+     */
+    public void gerarPacotePDF(Context ctx) {
+        List<Long> tarefaIds;
+        try {
+            tarefaIds = lerIdsPDF(ctx);
+            if (tarefaIds == null) {
+                return;
+            }
+        } catch (Exception e) {
+            ctx.status(400);
             ctx.json(Map.of(
                 "success", false,
-                "message", "Erro ao gerar PDF: " + e.getMessage()
+                "message", "Corpo da requisição inválido"
             ));
+            return;
         }
+
+        int maximo = AppConfig.getPdfPacoteMaximo();
+        if (tarefaIds.size() > maximo) {
+            ctx.status(400);
+            ctx.json(Map.of(
+                "success", false,
+                "message", "Selecione no máximo " + maximo + " tarefas por pacote"
+            ));
+            return;
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss"));
+        String fileName = "tarefas_pdf_" + timestamp + ".zip";
+
+        ctx.contentType("application/zip");
+        ctx.header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        try {
+            int incluidos = pdfService.escreverPacotePDF(tarefaIds, ctx.outputStream());
+            logger.info("Pacote de PDFs gerado com {} tarefas por usuário {}",
+                incluidos, SessionUtil.getCurrentUserId(ctx));
+
+        } catch (Exception e) {
+            // A resposta já pode ter sido parcialmente enviada; apenas registrar
+            logger.error("Erro ao gerar pacote de PDFs", e);
+        }
+    }
+
+    /**
+     * Lê o array "ids" do corpo JSON. Responde 400 e retorna null se estiver vazio.
+     */
+    private List<Long> lerIdsPDF(Context ctx) {
+        Map<String, Object> body = ctx.bodyAsClass(Map.class);
+        @SuppressWarnings("unchecked")
+        List<Number> ids = (List<Number>) body.get("ids");
+
+        if (ids == null || ids.isEmpty()) {
+            ctx.status(400);
+            ctx.json(Map.of(
+                "success", false,
+                "message", "Lista de IDs não pode estar vazia"
+            ));
+            return null;
+        }
+
+        return ids.stream()
+            .map(Number::longValue)
+            .collect(Collectors.toList());
+    }
+
+    private boolean isAssincrono(Context ctx) {
+        return Boolean.parseBoolean(ctx.queryParam("assincrono"));
     }
 
     /**
-     * Converte TarefaDTO para Tarefa (helper method).
+     * Responde 202 com o ID do job enfileirado.
      */
-    private Tarefa convertDTOToTarefa(TarefaDTO dto) {
-        Tarefa tarefa = new Tarefa();
-        tarefa.setId(dto.getId());
-        tarefa.setEtiquetaId(dto.getEtiqueta() != null ? dto.getEtiqueta().getId() : null);
-        tarefa.setStatusId(dto.getStatus() != null ? dto.getStatus().getId() : null);
-        tarefa.setTitulo(dto.getTitulo());
-        tarefa.setConteudo(dto.getConteudo());
-        tarefa.setPrazoFinal(dto.getPrazoFinal());
-        tarefa.setDataCriacao(dto.getDataCriacao());
-        tarefa.setDataAtualizacao(dto.getDataAtualizacao());
-        tarefa.setSessaoId(dto.getSessaoId());
-        tarefa.setUsuarioId(dto.getUsuarioId());
-        return tarefa;
+    private void responderJob(Context ctx, Job job) {
+        ctx.status(202);
+        ctx.json(Map.of(
+            "success", true,
+            "message", job.getTipo().getDisplayName() + " em andamento",
+            "jobId", job.getId()
+        ));
     }
 }
@@ -3,6 +3,8 @@ package com.notisblokk.controller;
 import com.notisblokk.model.User;
 import com.notisblokk.model.UserRole;
 import com.notisblokk.service.UserService;
+import com.notisblokk.util.ExecutorHashSenha;
+import com.notisblokk.util.PasswordUtil;
 import com.notisblokk.util.SessionUtil;
 import io.javalin.http.Context;
 import org.slf4j.Logger;
@@ -12,6 +14,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Controller responsável pelo gerenciamento de usuários.
@@ -32,6 +35,8 @@ import java.util.Optional;
 public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
+    private static final int LIMITE_PADRAO = 50;
+    private static final int LIMITE_MAXIMO = 200;
     private final UserService userService;
 
     /**
@@ -43,7 +48,7 @@ public class UserController {
 
     /**
      * GET /admin/users
-     * Lista todos os usuários do sistema.
+     * Exibe a página de gerenciamento de usuários; a lista é carregada em páginas por GET /api/users.
      */
     public void list(Context ctx) {
         try {
@@ -55,14 +60,12 @@ public class UserController {
             // Título
             model.put("title", "Gerenciar Usuários - Notisblokk");
 
-            // Listar todos os usuários
-            List<User> users = userService.listarTodos();
-            model.put("users", users);
-
-            // Estatísticas
-            model.put("totalUsuarios", users.size());
-            model.put("usuariosAtivos", users.stream().filter(User::isActive).count());
-            model.put("usuariosInativos", users.stream().filter(u -> !u.isActive()).count());
+            // Estatísticas (a lista é carregada em páginas por /api/users)
+            long totalUsuarios = userService.contarTotal();
+            long usuariosAtivos = userService.contarAtivos();
+            model.put("totalUsuarios", totalUsuarios);
+            model.put("usuariosAtivos", usuariosAtivos);
+            model.put("usuariosInativos", totalUsuarios - usuariosAtivos);
 
             // Mensagens de feedback
             String success = ctx.sessionAttribute("userSuccess");
@@ -125,6 +128,10 @@ public class UserController {
             ctx.sessionAttribute("userSuccess", "Usuário criado com sucesso!");
             ctx.redirect("/admin/users");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao criar usuário", e);
             ctx.sessionAttribute("userError", e.getMessage());
@@ -169,6 +176,10 @@ public class UserController {
             ctx.sessionAttribute("userSuccess", "Usuário atualizado com sucesso!");
             ctx.redirect("/admin/users");
 
+        } catch (ExecutorHashSenha.SobrecargaException e) {
+            // Respondido como 503 pelo handler global
+            throw e;
+
         } catch (Exception e) {
             logger.error("Erro ao atualizar usuário", e);
             ctx.sessionAttribute("userError", e.getMessage());
@@ -318,18 +329,51 @@ public class UserController {
 
     /**
      * GET /api/users
-     * Lista todos os usuários em formato JSON.
+     * Diretório de usuários em JSON, paginado por cursor.
+     * Query params: q (prefixo de username, email ou nome), role (ADMIN/OPERATOR),
+     * ativo (true/false), apos (ID do último usuário recebido), limite (default 50,
+     * máximo 200). A resposta traz "proximo" com o cursor da página seguinte, ou null.
      */
     public void listJson(Context ctx) {
         try {
-            List<User> users = userService.listarTodos();
-
-            ctx.json(Map.of(
-                "success", true,
-                "users", users,
-                "total", users.size()
+            String prefixo = ctx.queryParam("q");
+            String roleParam = ctx.queryParam("role");
+            UserRole role = roleParam != null && !roleParam.isBlank() ? UserRole.fromString(roleParam) : null;
+            Boolean ativo = ctx.queryParamAsClass("ativo", Boolean.class).allowNullable().get();
+            Long apos = ctx.queryParamAsClass("apos", Long.class).allowNullable().get();
+            int limite = Math.min(Math.max(ctx.queryParamAsClass("limite", Integer.class).getOrDefault(LIMITE_PADRAO), 1),
+                                  LIMITE_MAXIMO);
+
+            List<User> users = userService.listarDiretorio(prefixo, role, ativo, apos, limite);
+
+            List<Map<String, Object>> dados = users.stream().map(user -> {
+                Map<String, Object> userData = new HashMap<>();
+                userData.put("id", user.getId());
+                userData.put("username", user.getUsername());
+                userData.put("email", user.getEmail());
+                userData.put("fullName", user.getFullName());
+                userData.put("role", user.getRole().name());
+                userData.put("roleDisplayName", user.getRoleDisplayName());
+                userData.put("admin", user.isAdmin());
+                userData.put("active", user.isActive());
+                userData.put("formattedCreatedAt", user.getFormattedCreatedAt());
+                return userData;
+            }).collect(Collectors.toList());
+
+            // Página cheia: pode haver mais usuários depois do último
+            Long proximo = users.size() == limite ? users.get(users.size() - 1).getId() : null;
+
+            Map<String, Object> resposta = new HashMap<>();
+            resposta.put("success", true);
+            resposta.put("users", dados);
+            resposta.put("proximo", proximo);
+            ctx.json(resposta);
+
+        } catch (IllegalArgumentException e) {
+            ctx.status(400).json(Map.of(
+                "success", false,
+                "message", e.getMessage()
             ));
-
         } catch (Exception e) {
             logger.error("Erro ao listar usuários (JSON)", e);
             ctx.json(Map.of(
@@ -338,4 +382,16 @@ public class UserController {
             ));
         }
     }
+
+    /**
+     * GET /api/users/hash-senha/metricas
+     * Retorna as métricas do executor de hash de senhas (fila, tempos, recusas) e o cost factor atual.
+     */
+    public void metricasHashSenha(Context ctx) {
+        ctx.json(Map.of(
+            "success", true,
+            "custo", PasswordUtil.getCost(),
+            "metricas", ExecutorHashSenha.getSituacao()
+        ));
+    }
 }
@@ -0,0 +1,69 @@
+package com.notisblokk.middleware;
+
+import com.notisblokk.util.Metricas;
+import io.javalin.http.Context;
+import io.javalin.http.HandlerType;
+import io.javalin.http.RequestLogger;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra a contagem e a latência de cada requisição HTTP, por rota.
+ *
+ * <p>Instalado como request logger do Javalin ({@code config.requestLogger.http}),
+ * que é chamado ao final de toda requisição, inclusive as encerradas pelo
+ * {@link SecurityMiddleware}. A rota é o caminho declarado
+ * ({@code /api/tarefas/{id}}), não o caminho pedido, para que a quantidade de
+ * séries fique limitada às rotas existentes.</p>
+ *
+ * <p>As séries de cada combinação método/rota/status são registradas no primeiro
+ * uso e guardadas aqui; as requisições seguintes apenas incrementam contadores.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricasRequisicao implements RequestLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricasRequisicao.class);
+
+    private final Map<String, Metricas.Contador> contadores = new ConcurrentHashMap<>();
+    private final Map<String, Metricas.Histograma> duracoes = new ConcurrentHashMap<>();
+
+    @Override
+    public void handle(@NotNull Context ctx, @NotNull Float duracaoMs) {
+        String metodo = ctx.method().name();
+        String rota = rota(ctx);
+        String status = Integer.toString(ctx.statusCode());
+
+        contadores.computeIfAbsent(metodo + ' ' + status + ' ' + rota, chave -> Metricas.contador(
+                "notisblokk_http_requisicoes_total", "Requisições HTTP atendidas",
+                "metodo", metodo, "rota", rota, "status", status))
+            .incrementar();
+
+        duracoes.computeIfAbsent(metodo + ' ' + rota, chave -> Metricas.histograma(
+                "notisblokk_http_duracao_segundos", "Tempo de atendimento das requisições HTTP",
+                Metricas.LIMITES_REQUISICAO, "metodo", metodo, "rota", rota))
+            .registrarNanos((long) (duracaoMs * 1_000_000L));
+
+        logger.debug("{} {} -> {} ({} ms)", metodo, ctx.path(), status, Math.round(duracaoMs));
+    }
+
+    private static String rota(Context ctx) {
+        // Encerrada em um filtro (ex.: sem login): não chegou a nenhum endpoint
+        if (ctx.handlerType() == HandlerType.BEFORE) {
+            return "filtro";
+        }
+
+        String rota = ctx.endpointHandlerPath();
+        if ("*".equals(rota)) {
+            return "arquivos_estaticos";
+        }
+        // Nenhuma rota encontrada (404/405): o Javalin devolve uma mensagem no lugar do caminho
+        return rota.startsWith("/") ? rota : "nao_encontrada";
+    }
+}
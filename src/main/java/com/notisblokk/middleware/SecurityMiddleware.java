@@ -0,0 +1,229 @@
+package com.notisblokk.middleware;
+
+import com.notisblokk.model.User;
+import com.notisblokk.scheduler.RastreadorAtividade;
+import com.notisblokk.util.SessionUtil;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Filtro único de segurança, guiado por uma tabela de rotas compilada na inicialização.
+ *
+ * <p>Substitui os vários {@code app.before(...)} de autenticação e de administrador:
+ * as regras são declaradas uma vez e compiladas em uma árvore de prefixos por
+ * segmento de caminho. A cada requisição o caminho é resolvido em uma única busca
+ * na árvore e o usuário é carregado no máximo uma vez (ver
+ * {@link SessionUtil#getCurrentUser(Context)}).</p>
+ *
+ * <p><b>Regras:</b></p>
+ * <ul>
+ *   <li>{@code /caminho}: apenas o caminho exato</li>
+ *   <li>{@code /caminho/*}: o caminho e tudo abaixo dele</li>
+ * </ul>
+ *
+ * <p>Quando várias regras se aplicam a um caminho, vale a mais restritiva; a ordem
+ * de declaração não importa. Caminhos sem regra são públicos.</p>
+ *
+ * <p><b>Uso:</b></p>
+ * <pre>
+ * app.before(SecurityMiddleware.builder()
+ *     .autenticado("/dashboard", "/api/tarefas/*")
+ *     .admin("/admin/*")
+ *     .build());
+ * </pre>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SecurityMiddleware implements Handler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecurityMiddleware.class);
+
+    /**
+     * Nível de acesso exigido por uma rota, do menos para o mais restritivo.
+     */
+    public enum Acesso {
+        PUBLICO,
+        AUTENTICADO,
+        ADMIN
+    }
+
+    /**
+     * Nó da árvore de prefixos: um segmento de caminho.
+     */
+    private static final class No {
+        private Map<String, No> filhos = new HashMap<>();
+        private Acesso exato = Acesso.PUBLICO;
+        private Acesso prefixo = Acesso.PUBLICO;
+
+        private No compilar() {
+            filhos.values().forEach(No::compilar);
+            filhos = Map.copyOf(filhos);
+            return this;
+        }
+    }
+
+    private final No raiz;
+
+    private SecurityMiddleware(No raiz) {
+        this.raiz = raiz;
+    }
+
+    /**
+     * Cria o construtor da tabela de rotas.
+     *
+     * @return Builder construtor vazio (todas as rotas públicas)
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Resolve o nível de acesso exigido por um caminho.
+     *
+     * @param caminho caminho da requisição (ex.: /api/tarefas/10)
+     * @return Acesso nível mais restritivo entre as regras que se aplicam
+     */
+    public Acesso resolver(String caminho) {
+        No no = raiz;
+        Acesso acesso = raiz.prefixo;
+
+        int inicio = 0;
+        int tamanho = caminho.length();
+        while (inicio < tamanho) {
+            int fim = caminho.indexOf('/', inicio);
+            if (fim < 0) {
+                fim = tamanho;
+            }
+            // Barras repetidas ou finais não formam segmento
+            if (fim > inicio) {
+                no = no.filhos.get(caminho.substring(inicio, fim));
+                if (no == null) {
+                    return acesso;
+                }
+                acesso = maisRestritivo(acesso, no.prefixo);
+            }
+            inicio = fim + 1;
+        }
+
+        return maisRestritivo(acesso, no.exato);
+    }
+
+    @Override
+    public void handle(@NotNull Context ctx) throws Exception {
+        Acesso acesso = resolver(ctx.path());
+        if (acesso == Acesso.PUBLICO) {
+            return;
+        }
+
+        // Usuário resolvido uma vez e guardado na requisição para os handlers seguintes
+        User user = SessionUtil.getCurrentUser(ctx);
+
+        if (user == null) {
+            logger.warn("Acesso não autorizado tentado: {} (IP: {})",
+                       ctx.path(), SessionUtil.getClientIp(ctx));
+
+            // Salvar URL original para redirecionar após login
+            ctx.sessionAttribute("redirectUrl", ctx.path());
+            ctx.redirect("/auth/login");
+            ServerTiming.descartar();
+            ctx.skipRemainingHandlers();
+            return;
+        }
+
+        if (acesso == Acesso.ADMIN && !user.isAdmin()) {
+            logger.warn("Acesso negado (não-admin): {} (Usuário: {}, IP: {})",
+                       ctx.path(), user.getUsername(), SessionUtil.getClientIp(ctx));
+
+            ctx.status(403);
+            ctx.result("Acesso negado. Apenas administradores podem acessar esta página.");
+            ServerTiming.descartar();
+            ctx.skipRemainingHandlers();
+            return;
+        }
+
+        // Usuário autorizado: anotar atividade (gravada em lote) e continuar
+        RastreadorAtividade.registrar(SessionUtil.getSessionId(ctx));
+        logger.debug("Acesso autorizado: {} (Usuário: {})", ctx.path(), user.getUsername());
+    }
+
+    private static Acesso maisRestritivo(Acesso a, Acesso b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * Construtor da tabela de rotas protegidas.
+     */
+    public static final class Builder {
+
+        private final No raiz = new No();
+
+        private Builder() {
+        }
+
+        /**
+         * Rotas que exigem usuário autenticado.
+         *
+         * @param padroes caminhos exatos ou prefixos terminados em {@code /*}
+         * @return Builder este construtor
+         */
+        public Builder autenticado(String... padroes) {
+            return regra(Acesso.AUTENTICADO, padroes);
+        }
+
+        /**
+         * Rotas que exigem usuário autenticado com perfil ADMIN.
+         *
+         * @param padroes caminhos exatos ou prefixos terminados em {@code /*}
+         * @return Builder este construtor
+         */
+        public Builder admin(String... padroes) {
+            return regra(Acesso.ADMIN, padroes);
+        }
+
+        private Builder regra(Acesso acesso, String... padroes) {
+            for (String padrao : padroes) {
+                if (padrao == null || !padrao.startsWith("/")) {
+                    throw new IllegalArgumentException("Rota deve começar com '/': " + padrao);
+                }
+
+                boolean prefixo = padrao.endsWith("/*");
+                String caminho = prefixo ? padrao.substring(0, padrao.length() - 2) : padrao;
+
+                No no = raiz;
+                for (String segmento : caminho.split("/")) {
+                    if (segmento.isEmpty()) {
+                        continue;
+                    }
+                    if (segmento.contains("*") || segmento.startsWith("{") || segmento.startsWith("<")) {
+                        throw new IllegalArgumentException("Curingas só são aceitos no final da rota: " + padrao);
+                    }
+                    no = no.filhos.computeIfAbsent(segmento, s -> new No());
+                }
+
+                if (prefixo) {
+                    no.prefixo = maisRestritivo(no.prefixo, acesso);
+                } else {
+                    no.exato = maisRestritivo(no.exato, acesso);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Compila a tabela em uma árvore imutável.
+         *
+         * @return SecurityMiddleware filtro pronto para {@code app.before(...)}
+         */
+        public SecurityMiddleware build() {
+            return new SecurityMiddleware(raiz.compilar());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.notisblokk.middleware;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.util.SessionUtil;
+import com.notisblokk.util.TempoRequisicao;
+import io.javalin.http.Context;
+import io.javalin.json.JsonMapper;
+import io.javalin.rendering.FileRenderer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.stream.Stream;
+
+/**
+ * Liga o {@link TempoRequisicao} ao Javalin e envia o cabeçalho {@code Server-Timing},
+ * que as ferramentas de desenvolvedor do navegador mostram na aba de rede.
+ *
+ * <p>{@link #iniciar(Context)} deve ser o primeiro filtro registrado, para que o
+ * tempo do {@link SecurityMiddleware} entre na conta; {@link #encerrar(Context)} é um
+ * filtro {@code after}. Requisições encerradas por um filtro (sem login, sem
+ * permissão) não passam pelos filtros {@code after}: o filtro que recusa chama
+ * {@link #descartar()} e a resposta sai sem o cabeçalho.</p>
+ *
+ * <p>Por padrão nenhuma requisição é medida ({@code server.timing.amostragem=0}) e,
+ * quando medida, o cabeçalho só vai para administradores logados
+ * ({@code server.timing.apenas.admin}).</p>
+ *
+ * <p>O renderizador do Thymeleaf e o mapeador JSON são envolvidos por
+ * {@link #renderizador(FileRenderer)} e {@link #json(JsonMapper)}; os dois rodam
+ * dentro do handler, na thread da requisição.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ServerTiming {
+
+    private static final double AMOSTRAGEM = AppConfig.getServerTimingAmostragem();
+    private static final boolean APENAS_ADMIN = AppConfig.isServerTimingApenasAdmin();
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Filtro before: abre a medição da requisição (conforme a amostragem).
+     */
+    public static void iniciar(Context ctx) {
+        TempoRequisicao.iniciar(AMOSTRAGEM);
+    }
+
+    /**
+     * Filtro after: fecha a medição e envia o cabeçalho.
+     */
+    public static void encerrar(Context ctx) {
+        String valor = TempoRequisicao.encerrar();
+        if (valor != null && (!APENAS_ADMIN || SessionUtil.isAdminSemCriarSessao(ctx))) {
+            ctx.header("Server-Timing", valor);
+        }
+    }
+
+    /**
+     * Descarta a medição de uma requisição recusada por um filtro {@code before}, que
+     * não chega a {@link #encerrar(Context)}: o contexto não fica preso à thread.
+     */
+    public static void descartar() {
+        TempoRequisicao.descartar();
+    }
+
+    /**
+     * Envolve o renderizador de templates para medir a etapa {@code render}.
+     *
+     * @param renderizador renderizador original
+     * @return FileRenderer renderizador medido
+     */
+    public static FileRenderer renderizador(FileRenderer renderizador) {
+        return (caminho, modelo, ctx) -> {
+            long inicio = System.nanoTime();
+            try {
+                return renderizador.render(caminho, modelo, ctx);
+            } finally {
+                TempoRequisicao.somar(TempoRequisicao.Etapa.RENDERIZACAO, System.nanoTime() - inicio);
+            }
+        };
+    }
+
+    /**
+     * Envolve o mapeador JSON para medir a etapa {@code json}: {@code ctx.json} e a
+     * leitura do corpo. Respostas em stream são escritas depois do handler e não entram.
+     *
+     * @param mapeador mapeador original
+     * @return JsonMapper mapeador medido
+     */
+    public static JsonMapper json(JsonMapper mapeador) {
+        return new JsonMapper() {
+            @NotNull
+            @Override
+            public String toJsonString(@NotNull Object obj, @NotNull Type tipo) {
+                long inicio = System.nanoTime();
+                try {
+                    return mapeador.toJsonString(obj, tipo);
+                } finally {
+                    TempoRequisicao.somar(TempoRequisicao.Etapa.JSON, System.nanoTime() - inicio);
+                }
+            }
+
+            @NotNull
+            @Override
+            public InputStream toJsonStream(@NotNull Object obj, @NotNull Type tipo) {
+                return mapeador.toJsonStream(obj, tipo);
+            }
+
+            @Override
+            public void writeToOutputStream(@NotNull Stream<?> stream, @NotNull OutputStream saida) {
+                mapeador.writeToOutputStream(stream, saida);
+            }
+
+            @NotNull
+            @Override
+            public <T> T fromJsonString(@NotNull String json, @NotNull Type tipo) {
+                long inicio = System.nanoTime();
+                try {
+                    return mapeador.fromJsonString(json, tipo);
+                } finally {
+                    TempoRequisicao.somar(TempoRequisicao.Etapa.JSON, System.nanoTime() - inicio);
+                }
+            }
+
+            @NotNull
+            @Override
+            public <T> T fromJsonStream(@NotNull InputStream json, @NotNull Type tipo) {
+                long inicio = System.nanoTime();
+                try {
+                    return mapeador.fromJsonStream(json, tipo);
+                } finally {
+                    TempoRequisicao.somar(TempoRequisicao.Etapa.JSON, System.nanoTime() - inicio);
+                }
+            }
+        };
+    }
+}
@@ -17,6 +17,8 @@ public class Backup {
     private Long tamanhoBytes;
     private LocalDateTime dataBackup;
     private Long usuarioId; // null se automático
+    private Long duracaoMs;
+    private Double throughputKbps;
 
     /**
      * Construtor padrão.
@@ -87,6 +89,22 @@ public class Backup {
         this.usuarioId = usuarioId;
     }
 
+    public Long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public void setDuracaoMs(Long duracaoMs) {
+        this.duracaoMs = duracaoMs;
+    }
+
+    public Double getThroughputKbps() {
+        return throughputKbps;
+    }
+
+    public void setThroughputKbps(Double throughputKbps) {
+        this.throughputKbps = throughputKbps;
+    }
+
     @Override
     public String toString() {
         return "Backup{" +
@@ -96,6 +114,8 @@ public class Backup {
                 ", tamanhoBytes=" + tamanhoBytes +
                 ", dataBackup=" + dataBackup +
                 ", usuarioId=" + usuarioId +
+                ", duracaoMs=" + duracaoMs +
+                ", throughputKbps=" + throughputKbps +
                 '}';
     }
 }
@@ -0,0 +1,91 @@
+package com.notisblokk.model;
+
+import java.time.LocalDate;
+
+/**
+ * Critérios de filtro para consultas e operações em lote sobre tarefas.
+ *
+ * <p>Todos os campos são opcionais; campos nulos não restringem o resultado.
+ * O intervalo de prazo é inclusivo nas duas pontas.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FiltroTarefa {
+
+    private Long usuarioId;
+    private Long etiquetaId;
+    private Long statusId;
+    private LocalDate prazoInicio;
+    private LocalDate prazoFim;
+
+    /**
+     * Construtor padrão.
+     */
+    public FiltroTarefa() {
+    }
+
+    /**
+     * Indica se nenhum critério foi informado.
+     *
+     * @return true se o filtro não restringe nenhuma tarefa
+     */
+    public boolean isVazio() {
+        return usuarioId == null && etiquetaId == null && statusId == null
+            && prazoInicio == null && prazoFim == null;
+    }
+
+    // Getters e Setters
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public Long getEtiquetaId() {
+        return etiquetaId;
+    }
+
+    public void setEtiquetaId(Long etiquetaId) {
+        this.etiquetaId = etiquetaId;
+    }
+
+    public Long getStatusId() {
+        return statusId;
+    }
+
+    public void setStatusId(Long statusId) {
+        this.statusId = statusId;
+    }
+
+    public LocalDate getPrazoInicio() {
+        return prazoInicio;
+    }
+
+    public void setPrazoInicio(LocalDate prazoInicio) {
+        this.prazoInicio = prazoInicio;
+    }
+
+    public LocalDate getPrazoFim() {
+        return prazoFim;
+    }
+
+    public void setPrazoFim(LocalDate prazoFim) {
+        this.prazoFim = prazoFim;
+    }
+
+    @Override
+    public String toString() {
+        return "FiltroTarefa{" +
+                "usuarioId=" + usuarioId +
+                ", etiquetaId=" + etiquetaId +
+                ", statusId=" + statusId +
+                ", prazoInicio=" + prazoInicio +
+                ", prazoFim=" + prazoFim +
+                '}';
+    }
+}
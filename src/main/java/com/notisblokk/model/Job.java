@@ -0,0 +1,210 @@
+package com.notisblokk.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa um job em segundo plano (relatórios, exportações,
+ * importações e backups).
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Job {
+
+    private Long id;
+    private TipoJob tipo;
+    private JobStatus status;
+    private String parametros; // JSON com os parâmetros do job
+    private long progressoAtual;
+    private Long progressoTotal; // null se desconhecido
+    private String mensagem;
+    @JsonIgnore
+    private String artefatoCaminho;
+    private String artefatoNome;
+    private String artefatoTipo;
+    private boolean cancelamentoSolicitado;
+    private int tentativas;
+    private Long usuarioId;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataInicio;
+    private LocalDateTime dataFim;
+
+    /**
+     * Construtor padrão.
+     */
+    public Job() {
+    }
+
+    /**
+     * Construtor para um novo job.
+     */
+    public Job(TipoJob tipo, String parametros, Long usuarioId) {
+        this.tipo = tipo;
+        this.status = JobStatus.PENDENTE;
+        this.parametros = parametros;
+        this.usuarioId = usuarioId;
+    }
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TipoJob getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoJob tipo) {
+        this.tipo = tipo;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public String getParametros() {
+        return parametros;
+    }
+
+    public void setParametros(String parametros) {
+        this.parametros = parametros;
+    }
+
+    public long getProgressoAtual() {
+        return progressoAtual;
+    }
+
+    public void setProgressoAtual(long progressoAtual) {
+        this.progressoAtual = progressoAtual;
+    }
+
+    public Long getProgressoTotal() {
+        return progressoTotal;
+    }
+
+    public void setProgressoTotal(Long progressoTotal) {
+        this.progressoTotal = progressoTotal;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    public String getArtefatoCaminho() {
+        return artefatoCaminho;
+    }
+
+    public void setArtefatoCaminho(String artefatoCaminho) {
+        this.artefatoCaminho = artefatoCaminho;
+    }
+
+    public String getArtefatoNome() {
+        return artefatoNome;
+    }
+
+    public void setArtefatoNome(String artefatoNome) {
+        this.artefatoNome = artefatoNome;
+    }
+
+    public String getArtefatoTipo() {
+        return artefatoTipo;
+    }
+
+    public void setArtefatoTipo(String artefatoTipo) {
+        this.artefatoTipo = artefatoTipo;
+    }
+
+    public boolean isCancelamentoSolicitado() {
+        return cancelamentoSolicitado;
+    }
+
+    public void setCancelamentoSolicitado(boolean cancelamentoSolicitado) {
+        this.cancelamentoSolicitado = cancelamentoSolicitado;
+    }
+
+    public int getTentativas() {
+        return tentativas;
+    }
+
+    public void setTentativas(int tentativas) {
+        this.tentativas = tentativas;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+
+    public void setDataInicio(LocalDateTime dataInicio) {
+        this.dataInicio = dataInicio;
+    }
+
+    public LocalDateTime getDataFim() {
+        return dataFim;
+    }
+
+    public void setDataFim(LocalDateTime dataFim) {
+        this.dataFim = dataFim;
+    }
+
+    /**
+     * @return Integer percentual concluído (0-100), ou null se o total for desconhecido
+     */
+    public Integer getPercentual() {
+        if (status == JobStatus.CONCLUIDO) {
+            return 100;
+        }
+        if (progressoTotal == null || progressoTotal <= 0) {
+            return null;
+        }
+        return (int) Math.min(100, progressoAtual * 100 / progressoTotal);
+    }
+
+    /**
+     * @return boolean true se há artefato para download
+     */
+    public boolean isArtefatoDisponivel() {
+        return status == JobStatus.CONCLUIDO && artefatoCaminho != null;
+    }
+
+    @Override
+    public String toString() {
+        return "Job{" +
+                "id=" + id +
+                ", tipo=" + tipo +
+                ", status=" + status +
+                ", progresso=" + progressoAtual + "/" + progressoTotal +
+                '}';
+    }
+}
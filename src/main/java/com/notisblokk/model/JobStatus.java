@@ -0,0 +1,61 @@
+package com.notisblokk.model;
+
+/**
+ * Enumeração que define os estados possíveis de um job em segundo plano.
+ *
+ * <ul>
+ *   <li><b>PENDENTE:</b> Aguardando um worker livre</li>
+ *   <li><b>EXECUTANDO:</b> Em execução</li>
+ *   <li><b>CONCLUIDO:</b> Finalizado com sucesso (artefato disponível, se houver)</li>
+ *   <li><b>FALHOU:</b> Finalizado com erro</li>
+ *   <li><b>CANCELADO:</b> Cancelado pelo usuário</li>
+ * </ul>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum JobStatus {
+
+    PENDENTE("Pendente"),
+    EXECUTANDO("Executando"),
+    CONCLUIDO("Concluído"),
+    FALHOU("Falhou"),
+    CANCELADO("Cancelado");
+
+    private final String displayName;
+
+    JobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Retorna o nome amigável do status.
+     *
+     * @return String nome para exibição
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return boolean true se o job não será mais executado
+     */
+    public boolean isFinal() {
+        return this == CONCLUIDO || this == FALHOU || this == CANCELADO;
+    }
+
+    /**
+     * Converte uma string para o enum correspondente.
+     *
+     * @param value valor em string
+     * @return JobStatus enum correspondente
+     * @throws IllegalArgumentException se o valor não for válido
+     */
+    public static JobStatus fromString(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Status de job não pode ser nulo");
+        }
+        return JobStatus.valueOf(value.toUpperCase());
+    }
+}
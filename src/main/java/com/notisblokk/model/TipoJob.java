@@ -0,0 +1,58 @@
+package com.notisblokk.model;
+
+/**
+ * Tipos de job em segundo plano.
+ *
+ * <p>Cada tipo define quantos jobs podem rodar ao mesmo tempo (sobrescrito por
+ * {@code jobs.limite.<TIPO>}) e se pode ser reexecutado do início quando a
+ * aplicação é reiniciada no meio da execução.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum TipoJob {
+
+    /** Relatório PDF de tarefas. */
+    PDF_RELATORIO("Relatório PDF", 2, true),
+
+    /** Exportação de tarefas em CSV/NDJSON. */
+    EXPORTACAO("Exportação de tarefas", 2, true),
+
+    /** Importação de tarefas via CSV. Não é reexecutada: os lotes já gravados seriam duplicados. */
+    IMPORTACAO("Importação de tarefas", 1, false),
+
+    /** Backup manual do banco SQLite. */
+    BACKUP("Backup do banco", 1, true),
+
+    /** Exportação de todas as tarefas para CSV na pasta de backups. */
+    BACKUP_CSV("Backup em CSV", 1, true);
+
+    private final String displayName;
+    private final int limitePadrao;
+    private final boolean retomavel;
+
+    TipoJob(String displayName, int limitePadrao, boolean retomavel) {
+        this.displayName = displayName;
+        this.limitePadrao = limitePadrao;
+        this.retomavel = retomavel;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return int quantidade padrão de jobs deste tipo executando ao mesmo tempo
+     */
+    public int getLimitePadrao() {
+        return limitePadrao;
+    }
+
+    /**
+     * @return boolean true se o job pode ser reiniciado do zero após uma queda da aplicação
+     */
+    public boolean isRetomavel() {
+        return retomavel;
+    }
+}
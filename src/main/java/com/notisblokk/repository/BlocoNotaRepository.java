@@ -2,6 +2,7 @@ package com.notisblokk.repository;
 
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.model.BlocoNota;
+import com.notisblokk.util.ConversorDatas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -219,30 +220,18 @@ public class BlocoNotaRepository {
         // Parse data_criacao usando formato brasileiro
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                nota.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataCriacaoStr);
-                try {
-                    nota.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data_criacao: {}", dataCriacaoStr);
-                }
+            nota.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (nota.getDataCriacao() == null) {
+                logger.error("Não foi possível fazer parse da data_criacao: {}", dataCriacaoStr);
             }
         }
 
         // Parse data_atualizacao usando formato brasileiro
         String dataAtualizacaoStr = rs.getString("data_atualizacao");
         if (dataAtualizacaoStr != null && !dataAtualizacaoStr.isEmpty()) {
-            try {
-                nota.setDataAtualizacao(LocalDateTime.parse(dataAtualizacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataAtualizacaoStr);
-                try {
-                    nota.setDataAtualizacao(LocalDateTime.parse(dataAtualizacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data_atualizacao: {}", dataAtualizacaoStr);
-                }
+            nota.setDataAtualizacao(ConversorDatas.parseDataHora(dataAtualizacaoStr));
+            if (nota.getDataAtualizacao() == null) {
+                logger.error("Não foi possível fazer parse da data_atualizacao: {}", dataAtualizacaoStr);
             }
         }
 
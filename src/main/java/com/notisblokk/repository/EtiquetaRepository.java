@@ -2,6 +2,7 @@ package com.notisblokk.repository;
 
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.model.Etiqueta;
+import com.notisblokk.util.ConversorDatas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -254,16 +255,9 @@ public class EtiquetaRepository {
         // Parse data_criacao usando formato brasileiro
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                etiqueta.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataCriacaoStr);
-                // Fallback para formato ISO caso exista dado antigo
-                try {
-                    etiqueta.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data: {}", dataCriacaoStr);
-                }
+            etiqueta.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (etiqueta.getDataCriacao() == null) {
+                logger.error("Não foi possível fazer parse da data: {}", dataCriacaoStr);
             }
         }
 
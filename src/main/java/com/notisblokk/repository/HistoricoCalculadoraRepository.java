@@ -2,6 +2,7 @@ package com.notisblokk.repository;
 
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.model.HistoricoCalculadora;
+import com.notisblokk.util.ConversorDatas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -305,15 +306,9 @@ public class HistoricoCalculadoraRepository {
         // Parse data_criacao usando formato brasileiro
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                historico.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataCriacaoStr);
-                try {
-                    historico.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data_criacao: {}", dataCriacaoStr);
-                }
+            historico.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (historico.getDataCriacao() == null) {
+                logger.error("Não foi possível fazer parse da data_criacao: {}", dataCriacaoStr);
             }
         }
 
@@ -0,0 +1,217 @@
+package com.notisblokk.repository;
+
+import com.notisblokk.config.DatabaseConfig;
+import org.eclipse.jetty.server.session.AbstractSessionDataStore;
+import org.eclipse.jetty.server.session.SessionData;
+import org.eclipse.jetty.util.ClassLoadingObjectInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Armazenamento das sessões HTTP do Jetty na tabela {@code http_sessions}.
+ *
+ * <p>Permite que as sessões (cookie JSESSIONID) sobrevivam a reinícios da aplicação.
+ * Os atributos são serializados em um BLOB; como a sessão guarda apenas o principal
+ * compacto (ver {@link com.notisblokk.util.SessionUtil}) e mensagens flash, cada
+ * linha ocupa poucas centenas de bytes.</p>
+ *
+ * <p>Acessos que só alteram datas são gravados no máximo uma vez por
+ * {@code savePeriodSec} (configurado pelo {@code SessionHandler}); alterações de
+ * atributos são gravadas ao final da requisição.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HttpSessionRepository extends AbstractSessionDataStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpSessionRepository.class);
+
+    @Override
+    public boolean isPassivating() {
+        return true;
+    }
+
+    @Override
+    public boolean doExists(String id) throws Exception {
+        String sql = "SELECT expiry FROM http_sessions WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, id);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return false;
+                }
+                long expiry = rs.getLong("expiry");
+                return expiry <= 0 || expiry > System.currentTimeMillis();
+            }
+        }
+    }
+
+    @Override
+    public SessionData doLoad(String id) throws Exception {
+        String sql = "SELECT * FROM http_sessions WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, id);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+
+                SessionData data = newSessionData(id,
+                    rs.getLong("created"),
+                    rs.getLong("accessed"),
+                    rs.getLong("last_accessed"),
+                    rs.getLong("max_inactive_ms"));
+                data.setContextPath(rs.getString("context_path"));
+                data.setVhost(rs.getString("vhost"));
+                data.setLastNode(rs.getString("last_node"));
+                data.setCookieSet(rs.getLong("cookie_set"));
+                data.setExpiry(rs.getLong("expiry"));
+                data.setLastSaved(rs.getLong("last_saved"));
+
+                byte[] atributos = rs.getBytes("atributos");
+                if (atributos != null && atributos.length > 0) {
+                    try (ClassLoadingObjectInputStream in =
+                             new ClassLoadingObjectInputStream(new ByteArrayInputStream(atributos))) {
+                        SessionData.deserializeAttributes(data, in);
+                    }
+                }
+                return data;
+            }
+        }
+    }
+
+    @Override
+    public void doStore(String id, SessionData data, long lastSaveTime) throws Exception {
+        String sql = """
+            INSERT INTO http_sessions (id, context_path, vhost, last_node, created, accessed,
+                                       last_accessed, cookie_set, expiry, max_inactive_ms,
+                                       last_saved, atributos)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT(id) DO UPDATE SET
+                last_node = excluded.last_node,
+                accessed = excluded.accessed,
+                last_accessed = excluded.last_accessed,
+                cookie_set = excluded.cookie_set,
+                expiry = excluded.expiry,
+                max_inactive_ms = excluded.max_inactive_ms,
+                last_saved = excluded.last_saved,
+                atributos = excluded.atributos
+        """;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            SessionData.serializeAttributes(data, out);
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, id);
+            pstmt.setString(2, data.getContextPath());
+            pstmt.setString(3, data.getVhost());
+            pstmt.setString(4, data.getLastNode());
+            pstmt.setLong(5, data.getCreated());
+            pstmt.setLong(6, data.getAccessed());
+            pstmt.setLong(7, data.getLastAccessed());
+            pstmt.setLong(8, data.getCookieSet());
+            pstmt.setLong(9, data.getExpiry());
+            pstmt.setLong(10, data.getMaxInactiveMs());
+            pstmt.setLong(11, data.getLastSaved());
+            pstmt.setBytes(12, bytes.toByteArray());
+            pstmt.executeUpdate();
+        }
+
+        logger.debug("Sessão HTTP {} gravada ({} bytes)", id, bytes.size());
+    }
+
+    @Override
+    public boolean delete(String id) throws Exception {
+        String sql = "DELETE FROM http_sessions WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, id);
+            return pstmt.executeUpdate() > 0;
+        }
+    }
+
+    @Override
+    public Set<String> doCheckExpired(Set<String> candidates, long time) {
+        Set<String> expiradas = new HashSet<>();
+        String sql = "SELECT expiry FROM http_sessions WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            for (String id : candidates) {
+                pstmt.setString(1, id);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    // Sem linha: já removida; expira também no cache
+                    if (!rs.next() || (rs.getLong("expiry") > 0 && rs.getLong("expiry") <= time)) {
+                        expiradas.add(id);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Erro ao verificar sessões HTTP expiradas: {}", e.getMessage());
+        }
+        return expiradas;
+    }
+
+    @Override
+    public Set<String> doGetExpired(long before) {
+        Set<String> expiradas = new HashSet<>();
+        String sql = "SELECT id FROM http_sessions WHERE expiry > 0 AND expiry <= ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, before);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    expiradas.add(rs.getString("id"));
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Erro ao buscar sessões HTTP expiradas: {}", e.getMessage());
+        }
+        return expiradas;
+    }
+
+    @Override
+    public void doCleanOrphans(long time) {
+        String sql = "DELETE FROM http_sessions WHERE expiry > 0 AND expiry <= ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, time);
+            int removidas = pstmt.executeUpdate();
+            if (removidas > 0) {
+                logger.info("{} sessão(ões) HTTP órfã(s) removida(s)", removidas);
+            }
+        } catch (SQLException e) {
+            logger.warn("Erro ao remover sessões HTTP órfãs: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package com.notisblokk.repository;
+
+import com.notisblokk.config.DatabaseConfig;
+import com.notisblokk.model.Job;
+import com.notisblokk.model.JobStatus;
+import com.notisblokk.model.TipoJob;
+import com.notisblokk.util.ConversorDatas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repositório para a fila persistente de jobs em segundo plano.
+ *
+ * <p>As datas são gravadas com {@code CURRENT_TIMESTAMP} (UTC, ISO) para permitir
+ * comparações diretas no SQL de retenção, e convertidas para o fuso da aplicação
+ * na leitura.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JobRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRepository.class);
+    private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private static final String COLUNAS = """
+        id, tipo, status, parametros, progresso_atual, progresso_total, mensagem,
+        artefato_caminho, artefato_nome, artefato_tipo, cancelamento_solicitado, tentativas,
+        usuario_id, data_criacao, data_inicio, data_fim
+        """;
+
+    /**
+     * Insere um novo job pendente.
+     *
+     * @param job job a ser enfileirado
+     * @return Job job com ID preenchido
+     * @throws SQLException se houver erro ao inserir
+     */
+    public Job salvar(Job job) throws SQLException {
+        String sql = "INSERT INTO jobs (tipo, status, parametros, usuario_id) VALUES (?, 'PENDENTE', ?, ?)";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            pstmt.setString(1, job.getTipo().name());
+            pstmt.setString(2, job.getParametros());
+            if (job.getUsuarioId() != null) {
+                pstmt.setLong(3, job.getUsuarioId());
+            } else {
+                pstmt.setNull(3, Types.INTEGER);
+            }
+            pstmt.executeUpdate();
+
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    job.setId(rs.getLong(1));
+                }
+            }
+            job.setStatus(JobStatus.PENDENTE);
+            return job;
+        }
+    }
+
+    /**
+     * Busca um job pelo ID.
+     *
+     * @param id ID do job
+     * @return Optional<Job> job encontrado
+     * @throws SQLException se houver erro na consulta
+     */
+    public Optional<Job> buscarPorId(Long id) throws SQLException {
+        String sql = "SELECT " + COLUNAS + " FROM jobs WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? Optional.of(mapResultSetToJob(rs)) : Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Lista os jobs mais recentes de um usuário (ou de todos, se usuarioId for null).
+     *
+     * @param usuarioId ID do usuário (null = todos)
+     * @param limite quantidade máxima de jobs
+     * @return List<Job> jobs do mais recente para o mais antigo
+     * @throws SQLException se houver erro na consulta
+     */
+    public List<Job> listarRecentes(Long usuarioId, int limite) throws SQLException {
+        String sql = "SELECT " + COLUNAS + " FROM jobs"
+            + (usuarioId != null ? " WHERE usuario_id = ?" : "")
+            + " ORDER BY id DESC LIMIT ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int indice = 1;
+            if (usuarioId != null) {
+                pstmt.setLong(indice++, usuarioId);
+            }
+            pstmt.setInt(indice, limite);
+
+            List<Job> jobs = new ArrayList<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    jobs.add(mapResultSetToJob(rs));
+                }
+            }
+            return jobs;
+        }
+    }
+
+    /**
+     * Lista os jobs pendentes em ordem de chegada.
+     *
+     * @param limite quantidade máxima de jobs
+     * @return List<Job> jobs pendentes
+     * @throws SQLException se houver erro na consulta
+     */
+    public List<Job> listarPendentes(int limite) throws SQLException {
+        String sql = "SELECT " + COLUNAS + " FROM jobs WHERE status = 'PENDENTE' ORDER BY id LIMIT ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, limite);
+            List<Job> jobs = new ArrayList<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    jobs.add(mapResultSetToJob(rs));
+                }
+            }
+            return jobs;
+        }
+    }
+
+    /**
+     * Marca o job como em execução, se ele ainda estiver pendente.
+     *
+     * @param id ID do job
+     * @return boolean true se o job foi assumido por este worker
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public boolean iniciarExecucao(Long id) throws SQLException {
+        String sql = """
+            UPDATE jobs SET status = 'EXECUTANDO', data_inicio = CURRENT_TIMESTAMP,
+                            progresso_atual = 0, progresso_total = NULL, mensagem = NULL
+            WHERE id = ? AND status = 'PENDENTE'
+        """;
+        return executarAtualizacao(sql, id) > 0;
+    }
+
+    /**
+     * Atualiza o progresso de um job em execução.
+     *
+     * @param id ID do job
+     * @param atual itens processados
+     * @param total total de itens (null se desconhecido)
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public void atualizarProgresso(Long id, long atual, Long total) throws SQLException {
+        String sql = "UPDATE jobs SET progresso_atual = ?, progresso_total = ? WHERE id = ? AND status = 'EXECUTANDO'";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, atual);
+            if (total != null) {
+                pstmt.setLong(2, total);
+            } else {
+                pstmt.setNull(2, Types.INTEGER);
+            }
+            pstmt.setLong(3, id);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Registra a conclusão de um job.
+     *
+     * @param id ID do job
+     * @param mensagem resumo do resultado
+     * @param caminho caminho do artefato gerado (null se não houver)
+     * @param nome nome do arquivo para download
+     * @param contentType tipo de conteúdo do artefato
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public void concluir(Long id, String mensagem, String caminho, String nome, String contentType)
+            throws SQLException {
+        String sql = """
+            UPDATE jobs SET status = 'CONCLUIDO', data_fim = CURRENT_TIMESTAMP, mensagem = ?,
+                            artefato_caminho = ?, artefato_nome = ?, artefato_tipo = ?,
+                            progresso_total = COALESCE(progresso_total, progresso_atual)
+            WHERE id = ?
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, mensagem);
+            pstmt.setString(2, caminho);
+            pstmt.setString(3, nome);
+            pstmt.setString(4, contentType);
+            pstmt.setLong(5, id);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Finaliza um job com falha ou cancelamento.
+     *
+     * @param id ID do job
+     * @param status FALHOU ou CANCELADO
+     * @param mensagem motivo
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public void finalizar(Long id, JobStatus status, String mensagem) throws SQLException {
+        String sql = "UPDATE jobs SET status = ?, data_fim = CURRENT_TIMESTAMP, mensagem = ? WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, status.name());
+            pstmt.setString(2, mensagem);
+            pstmt.setLong(3, id);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Solicita o cancelamento de um job. Jobs pendentes são cancelados na hora;
+     * jobs em execução são marcados e param no próximo ponto de verificação.
+     *
+     * @param id ID do job
+     * @return boolean true se o job ainda não estava finalizado
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public boolean solicitarCancelamento(Long id) throws SQLException {
+        String sql = """
+            UPDATE jobs SET cancelamento_solicitado = 1,
+                            status = CASE WHEN status = 'PENDENTE' THEN 'CANCELADO' ELSE status END,
+                            data_fim = CASE WHEN status = 'PENDENTE' THEN CURRENT_TIMESTAMP ELSE data_fim END,
+                            mensagem = CASE WHEN status = 'PENDENTE' THEN 'Cancelado antes de iniciar' ELSE mensagem END
+            WHERE id = ? AND status IN ('PENDENTE', 'EXECUTANDO')
+        """;
+        return executarAtualizacao(sql, id) > 0;
+    }
+
+    /**
+     * Recoloca na fila os jobs que estavam em execução quando a aplicação parou.
+     * Tipos não retomáveis, ou que já atingiram o máximo de tentativas, falham.
+     *
+     * @param maximoTentativas quantidade máxima de execuções de um mesmo job
+     * @return int quantidade de jobs recolocados na fila
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public int recuperarInterrompidos(int maximoTentativas) throws SQLException {
+        List<String> naoRetomaveis = new ArrayList<>();
+        for (TipoJob tipo : TipoJob.values()) {
+            if (!tipo.isRetomavel()) {
+                naoRetomaveis.add("'" + tipo.name() + "'");
+            }
+        }
+        String tiposNaoRetomaveis = naoRetomaveis.isEmpty() ? "''" : String.join(", ", naoRetomaveis);
+
+        String falhar = """
+            UPDATE jobs SET status = 'FALHOU', data_fim = CURRENT_TIMESTAMP,
+                            mensagem = 'Interrompido pelo reinício da aplicação'
+            WHERE status = 'EXECUTANDO'
+              AND (cancelamento_solicitado = 1 OR tentativas + 1 >= ? OR tipo IN (%s))
+        """.formatted(tiposNaoRetomaveis);
+        String recolocar = """
+            UPDATE jobs SET status = 'PENDENTE', tentativas = tentativas + 1, data_inicio = NULL
+            WHERE status = 'EXECUTANDO'
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            int falhos;
+            try (PreparedStatement pstmt = conn.prepareStatement(falhar)) {
+                pstmt.setInt(1, maximoTentativas);
+                falhos = pstmt.executeUpdate();
+            }
+            int recolocados;
+            try (PreparedStatement pstmt = conn.prepareStatement(recolocar)) {
+                recolocados = pstmt.executeUpdate();
+            }
+            if (falhos > 0) {
+                logger.warn("{} job(s) interrompido(s) marcado(s) como falha", falhos);
+            }
+            return recolocados;
+        }
+    }
+
+    /**
+     * Lista os jobs finalizados há mais tempo do que a retenção.
+     *
+     * @param horas retenção em horas
+     * @return List<Job> jobs expirados
+     * @throws SQLException se houver erro na consulta
+     */
+    public List<Job> listarExpirados(int horas) throws SQLException {
+        String sql = "SELECT " + COLUNAS + " FROM jobs"
+            + " WHERE status IN ('CONCLUIDO', 'FALHOU', 'CANCELADO')"
+            + " AND data_fim < datetime('now', '-' || ? || ' hours')";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, horas);
+            List<Job> jobs = new ArrayList<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    jobs.add(mapResultSetToJob(rs));
+                }
+            }
+            return jobs;
+        }
+    }
+
+    /**
+     * Lista os arquivos de entrada ({@code arquivo} nos parâmetros) dos jobs ainda não
+     * finalizados, que a limpeza da pasta de jobs não pode apagar.
+     *
+     * @return Set<String> caminhos como gravados nos parâmetros
+     * @throws SQLException se houver erro na consulta
+     */
+    public Set<String> listarArquivosEntradaEmAberto() throws SQLException {
+        String sql = """
+            SELECT arquivo FROM (
+                SELECT CASE WHEN json_valid(parametros) THEN json_extract(parametros, '$.arquivo') END AS arquivo
+                FROM jobs
+                WHERE status NOT IN ('CONCLUIDO', 'FALHOU', 'CANCELADO')
+            )
+            WHERE arquivo IS NOT NULL
+            """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            Set<String> arquivos = new HashSet<>();
+            while (rs.next()) {
+                arquivos.add(rs.getString("arquivo"));
+            }
+            return arquivos;
+        }
+    }
+
+    /**
+     * Remove um job.
+     *
+     * @param id ID do job
+     * @throws SQLException se houver erro ao remover
+     */
+    public void deletar(Long id) throws SQLException {
+        executarAtualizacao("DELETE FROM jobs WHERE id = ?", id);
+    }
+
+    private int executarAtualizacao(String sql, Long id) throws SQLException {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, id);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Mapeia ResultSet para objeto Job.
+     */
+    private Job mapResultSetToJob(ResultSet rs) throws SQLException {
+        Job job = new Job();
+        job.setId(rs.getLong("id"));
+        job.setTipo(TipoJob.valueOf(rs.getString("tipo")));
+        job.setStatus(JobStatus.fromString(rs.getString("status")));
+        job.setParametros(rs.getString("parametros"));
+        job.setProgressoAtual(rs.getLong("progresso_atual"));
+        long total = rs.getLong("progresso_total");
+        job.setProgressoTotal(rs.wasNull() ? null : total);
+        job.setMensagem(rs.getString("mensagem"));
+        job.setArtefatoCaminho(rs.getString("artefato_caminho"));
+        job.setArtefatoNome(rs.getString("artefato_nome"));
+        job.setArtefatoTipo(rs.getString("artefato_tipo"));
+        job.setCancelamentoSolicitado(rs.getBoolean("cancelamento_solicitado"));
+        job.setTentativas(rs.getInt("tentativas"));
+        long usuarioId = rs.getLong("usuario_id");
+        job.setUsuarioId(rs.wasNull() ? null : usuarioId);
+        job.setDataCriacao(converterData(rs.getString("data_criacao")));
+        job.setDataInicio(converterData(rs.getString("data_inicio")));
+        job.setDataFim(converterData(rs.getString("data_fim")));
+        return job;
+    }
+
+    /**
+     * Converte "yyyy-MM-dd HH:mm:ss" (UTC) para o horário local da aplicação.
+     */
+    private LocalDateTime converterData(String valor) {
+        LocalDateTime utc = ConversorDatas.parseDataHora(valor);
+        if (utc == null) {
+            return null;
+        }
+        return utc
+            .atOffset(ZoneOffset.UTC)
+            .atZoneSameInstant(BRAZIL_ZONE)
+            .toLocalDateTime();
+    }
+}
@@ -3,6 +3,8 @@ package com.notisblokk.repository;
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.model.Session;
 import com.notisblokk.model.SessionStatus;
+import com.notisblokk.util.ConversorDatas;
+import com.notisblokk.util.SessionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,11 +13,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,9 +36,12 @@ import java.util.Optional;
  *   <li>buscarPorId() - Busca sessão por ID</li>
  *   <li>buscarPorUsuario() - Lista sessões de um usuário</li>
  *   <li>buscarSessoesAtivas() - Lista sessões ativas</li>
+ *   <li>buscarPagina() - Lista sessões paginadas por cursor (keyset)</li>
  *   <li>salvar() - Cria nova sessão (login)</li>
  *   <li>encerrar() - Encerra sessão (logout)</li>
- *   <li>expirarSessoes() - Marca sessões como expiradas</li>
+ *   <li>registrarAtividades() - Grava em lote a última atividade das sessões</li>
+ *   <li>expirarSessoes() - Marca sessões ociosas como expiradas</li>
+ *   <li>consolidarAntigas() - Move sessões encerradas antigas para o resumo diário</li>
  * </ul>
  *
  * @author Notisblokk Team
@@ -45,6 +54,28 @@ public class SessionRepository {
     private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
+    /**
+     * Sessão com nome e email do usuário, para a listagem administrativa.
+     */
+    public record SessaoListagem(Session session, String userName, String userEmail) {
+    }
+
+    /**
+     * Totais de sessões: histórico detalhado mais o resumo diário.
+     */
+    public record Estatisticas(long total, long ativas) {
+    }
+
+    /**
+     * Logins por dispositivo, navegador e sistema, do maior para o menor.
+     */
+    public record Distribuicao(Map<String, Long> porDispositivo, Map<String, Long> porNavegador,
+                               Map<String, Long> porSistema) {
+    }
+
+    private record ChaveResumo(String dia, long userId, String dispositivo, String navegador, String sistema) {
+    }
+
     /**
      * Busca todas as sessões do sistema.
      *
@@ -205,6 +236,46 @@ public class SessionRepository {
         return sessions;
     }
 
+    /**
+     * Busca uma página de sessões, da mais recente para a mais antiga, com os dados do usuário.
+     *
+     * <p>Paginação por cursor (keyset): a próxima página começa após o menor ID da
+     * anterior, sem OFFSET, com o mesmo custo em qualquer ponto do histórico.</p>
+     *
+     * @param antesDeId ID da última sessão da página anterior (null para a primeira página)
+     * @param limite quantidade máxima de sessões
+     * @return List<SessaoListagem> sessões da página
+     * @throws SQLException se houver erro ao acessar o banco
+     */
+    public List<SessaoListagem> buscarPagina(Long antesDeId, int limite) throws SQLException {
+        String sql = """
+            SELECT s.*, u.full_name AS user_full_name, u.email AS user_email
+            FROM sessions s
+            LEFT JOIN users u ON u.id = s.user_id
+        """ + (antesDeId != null ? "WHERE s.id < ? " : "") + "ORDER BY s.id DESC LIMIT ?";
+        List<SessaoListagem> pagina = new ArrayList<>();
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int indice = 1;
+            if (antesDeId != null) {
+                pstmt.setLong(indice++, antesDeId);
+            }
+            pstmt.setInt(indice, limite);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    pagina.add(new SessaoListagem(mapResultSetToSession(rs),
+                            rs.getString("user_full_name"), rs.getString("user_email")));
+                }
+            }
+        }
+
+        logger.debug("Página de sessões carregada: {} sessões (antes de {})", pagina.size(), antesDeId);
+        return pagina;
+    }
+
     /**
      * Salva uma nova sessão no banco de dados.
      *
@@ -214,8 +285,9 @@ public class SessionRepository {
      */
     public Session salvar(Session session) throws SQLException {
         String sql = """
-            INSERT INTO sessions (user_id, login_time, logout_time, ip_address, user_agent, status)
-            VALUES (?, ?, ?, ?, ?, ?)
+            INSERT INTO sessions (user_id, login_time, logout_time, ip_address, user_agent, status, last_activity)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            RETURNING id
         """;
 
         try (Connection conn = DatabaseConfig.getConnection();
@@ -230,22 +302,15 @@ public class SessionRepository {
             pstmt.setString(4, session.getIpAddress());
             pstmt.setString(5, session.getUserAgent());
             pstmt.setString(6, session.getStatus().name());
+            pstmt.setLong(7, System.currentTimeMillis());
 
-            int affectedRows = pstmt.executeUpdate();
-
-            if (affectedRows == 0) {
-                throw new SQLException("Falha ao salvar sessão, nenhuma linha afetada");
-            }
-
-            // SQLite: Obter ID usando last_insert_rowid()
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
-
+            // INSERT e ID gerado no mesmo comando
+            try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
                     session.setId(rs.getLong(1));
                     session.setLoginTime(now);
                 } else {
-                    throw new SQLException("Falha ao obter ID da sessão criada");
+                    throw new SQLException("Falha ao salvar sessão, nenhuma linha afetada");
                 }
             }
 
@@ -347,9 +412,61 @@ public class SessionRepository {
     }
 
     /**
-     * Marca sessões como expiradas baseado no timeout.
+     * Grava a última atividade de várias sessões em uma única transação.
+     *
+     * <p>Nunca retrocede o valor gravado e ignora sessões que já não estão ativas.</p>
+     *
+     * @param atividades ID da sessão para instante da última atividade (epoch em ms)
+     * @return int número de sessões atualizadas
+     * @throws SQLException se houver erro ao gravar
+     */
+    public int registrarAtividades(Map<Long, Long> atividades) throws SQLException {
+        String sql = """
+            UPDATE sessions
+            SET last_activity = MAX(COALESCE(last_activity, 0), ?)
+            WHERE id = ? AND status = 'ACTIVE'
+        """;
+
+        if (atividades.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (Map.Entry<Long, Long> atividade : atividades.entrySet()) {
+                    pstmt.setLong(1, atividade.getValue());
+                    pstmt.setLong(2, atividade.getKey());
+                    pstmt.addBatch();
+                }
+
+                int atualizadas = 0;
+                for (int linhas : pstmt.executeBatch()) {
+                    atualizadas += Math.max(linhas, 0);
+                }
+                conn.commit();
+
+                logger.debug("Atividade gravada para {} de {} sessões", atualizadas, atividades.size());
+                return atualizadas;
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Marca como expiradas as sessões ativas sem atividade há mais que o timeout.
+     *
+     * <p>Busca por faixa no índice {@code (status, last_activity)}: só as sessões
+     * efetivamente expiradas são lidas.</p>
      *
-     * @param timeoutMinutes tempo em minutos para considerar expirada
+     * @param timeoutMinutes tempo de inatividade em minutos para considerar expirada
      * @return int número de sessões expiradas
      * @throws SQLException se houver erro ao expirar
      */
@@ -358,7 +475,7 @@ public class SessionRepository {
             UPDATE sessions
             SET status = 'EXPIRED', logout_time = ?
             WHERE status = 'ACTIVE'
-            AND datetime(login_time, 'localtime') < datetime('now', 'localtime', '-' || ? || ' minutes')
+            AND last_activity < ?
         """;
 
         try (Connection conn = DatabaseConfig.getConnection();
@@ -367,7 +484,7 @@ public class SessionRepository {
             String now = LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER);
 
             pstmt.setString(1, now);
-            pstmt.setInt(2, timeoutMinutes);
+            pstmt.setLong(2, System.currentTimeMillis() - timeoutMinutes * 60_000L);
 
             int affectedRows = pstmt.executeUpdate();
 
@@ -379,6 +496,187 @@ public class SessionRepository {
         }
     }
 
+    /**
+     * Move para o resumo diário as sessões encerradas sem atividade desde antes de um instante.
+     *
+     * <p>Cada sessão vira uma contagem em {@code sessions_resumo_diario} (dia do login,
+     * usuário, dispositivo, navegador e sistema) e é removida, na mesma transação.
+     * Processa no máximo {@code limite} sessões por chamada.</p>
+     *
+     * @param antesDe instante limite da última atividade (epoch em ms)
+     * @param limite quantidade máxima de sessões a consolidar
+     * @return int número de sessões consolidadas
+     * @throws SQLException se houver erro ao consolidar
+     */
+    public int consolidarAntigas(long antesDe, int limite) throws SQLException {
+        String sqlSelect = """
+            SELECT id, user_id, login_time, user_agent, last_activity
+            FROM sessions
+            WHERE status IN ('LOGGED_OUT', 'EXPIRED') AND last_activity < ?
+            LIMIT ?
+        """;
+        String sqlResumo = """
+            INSERT INTO sessions_resumo_diario (dia, user_id, dispositivo, navegador, sistema, logins)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT(dia, user_id, dispositivo, navegador, sistema)
+            DO UPDATE SET logins = logins + excluded.logins
+        """;
+        String sqlDelete = "DELETE FROM sessions WHERE id = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try {
+                Map<ChaveResumo, Integer> resumo = new HashMap<>();
+                List<Long> ids = new ArrayList<>();
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sqlSelect)) {
+                    pstmt.setLong(1, antesDe);
+                    pstmt.setInt(2, limite);
+
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            String userAgent = rs.getString("user_agent");
+                            LocalDateTime login = parseDataHora(rs.getString("login_time"));
+                            if (login == null) {
+                                login = LocalDateTime.ofInstant(
+                                        Instant.ofEpochMilli(rs.getLong("last_activity")), BRAZIL_ZONE);
+                            }
+
+                            ChaveResumo chave = new ChaveResumo(
+                                    login.toLocalDate().toString(),
+                                    rs.getLong("user_id"),
+                                    SessionUtil.extractDevice(userAgent),
+                                    SessionUtil.extractBrowser(userAgent),
+                                    SessionUtil.extractOS(userAgent));
+                            resumo.merge(chave, 1, Integer::sum);
+                            ids.add(rs.getLong("id"));
+                        }
+                    }
+                }
+
+                if (ids.isEmpty()) {
+                    conn.commit();
+                    return 0;
+                }
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sqlResumo)) {
+                    for (Map.Entry<ChaveResumo, Integer> entrada : resumo.entrySet()) {
+                        ChaveResumo chave = entrada.getKey();
+                        pstmt.setString(1, chave.dia());
+                        pstmt.setLong(2, chave.userId());
+                        pstmt.setString(3, chave.dispositivo());
+                        pstmt.setString(4, chave.navegador());
+                        pstmt.setString(5, chave.sistema());
+                        pstmt.setInt(6, entrada.getValue());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sqlDelete)) {
+                    for (Long id : ids) {
+                        pstmt.setLong(1, id);
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+
+                conn.commit();
+                logger.info("Consolidadas {} sessões antigas em {} linhas de resumo", ids.size(), resumo.size());
+                return ids.size();
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Conta o total de sessões (detalhadas e consolidadas) e as ativas em uma única consulta.
+     *
+     * <p>O histórico detalhado é limitado pela retenção; o restante vem das somas do
+     * resumo diário. As ativas usam o índice de status.</p>
+     *
+     * @return Estatisticas totais de sessões
+     * @throws SQLException se houver erro ao contar
+     */
+    public Estatisticas contarEstatisticas() throws SQLException {
+        String sql = """
+            SELECT (SELECT COUNT(*) FROM sessions)
+                   + (SELECT COALESCE(SUM(logins), 0) FROM sessions_resumo_diario) AS total,
+                   (SELECT COUNT(*) FROM sessions WHERE status = 'ACTIVE') AS ativas
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            rs.next();
+            return new Estatisticas(rs.getLong("total"), rs.getLong("ativas"));
+        }
+    }
+
+    /**
+     * Soma os logins por dispositivo, navegador e sistema: as sessões ainda detalhadas
+     * (inclusive as ativas) mais as já consolidadas no resumo diário.
+     *
+     * <p>As sessões detalhadas são agrupadas por user agent no banco; como há poucos
+     * user agents distintos, a classificação de cada um é feita uma vez só.</p>
+     *
+     * @return Distribuicao logins por dimensão
+     * @throws SQLException se houver erro ao consultar
+     */
+    public Distribuicao somarLoginsPorDimensao() throws SQLException {
+        String sqlResumo = """
+            SELECT dispositivo, navegador, sistema, SUM(logins) AS total
+            FROM sessions_resumo_diario
+            GROUP BY dispositivo, navegador, sistema
+        """;
+        String sqlSessoes = "SELECT user_agent, COUNT(*) AS total FROM sessions GROUP BY user_agent";
+
+        Map<String, Long> dispositivos = new HashMap<>();
+        Map<String, Long> navegadores = new HashMap<>();
+        Map<String, Long> sistemas = new HashMap<>();
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            try (ResultSet rs = stmt.executeQuery(sqlResumo)) {
+                while (rs.next()) {
+                    long total = rs.getLong("total");
+                    dispositivos.merge(rs.getString("dispositivo"), total, Long::sum);
+                    navegadores.merge(rs.getString("navegador"), total, Long::sum);
+                    sistemas.merge(rs.getString("sistema"), total, Long::sum);
+                }
+            }
+
+            try (ResultSet rs = stmt.executeQuery(sqlSessoes)) {
+                while (rs.next()) {
+                    String userAgent = rs.getString("user_agent");
+                    long total = rs.getLong("total");
+                    dispositivos.merge(SessionUtil.extractDevice(userAgent), total, Long::sum);
+                    navegadores.merge(SessionUtil.extractBrowser(userAgent), total, Long::sum);
+                    sistemas.merge(SessionUtil.extractOS(userAgent), total, Long::sum);
+                }
+            }
+        }
+
+        return new Distribuicao(ordenarPorTotal(dispositivos), ordenarPorTotal(navegadores), ordenarPorTotal(sistemas));
+    }
+
+    private static Map<String, Long> ordenarPorTotal(Map<String, Long> totais) {
+        Map<String, Long> ordenado = new LinkedHashMap<>();
+        totais.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEachOrdered(entrada -> ordenado.put(entrada.getKey(), entrada.getValue()));
+        return ordenado;
+    }
+
     /**
      * Conta o total de sessões no sistema.
      *
@@ -494,28 +792,19 @@ public class SessionRepository {
         session.setStatus(SessionStatus.fromString(rs.getString("status")));
 
         // Parse timestamps - SQLite retorna no formato ISO
-        String loginTimeStr = rs.getString("login_time");
-        String logoutTimeStr = rs.getString("logout_time");
-
-        if (loginTimeStr != null && !loginTimeStr.isEmpty()) {
-            try {
-                // Tentar formato brasileiro primeiro
-                session.setLoginTime(LocalDateTime.parse(loginTimeStr, FORMATTER));
-            } catch (Exception e) {
-                // Se falhar, tentar formato ISO (padrão do SQLite)
-                session.setLoginTime(LocalDateTime.parse(loginTimeStr.replace(" ", "T")));
-            }
-        }
-        if (logoutTimeStr != null && !logoutTimeStr.isEmpty()) {
-            try {
-                // Tentar formato brasileiro primeiro
-                session.setLogoutTime(LocalDateTime.parse(logoutTimeStr, FORMATTER));
-            } catch (Exception e) {
-                // Se falhar, tentar formato ISO (padrão do SQLite)
-                session.setLogoutTime(LocalDateTime.parse(logoutTimeStr.replace(" ", "T")));
-            }
-        }
+        session.setLoginTime(parseDataHora(rs.getString("login_time")));
+        session.setLogoutTime(parseDataHora(rs.getString("logout_time")));
 
         return session;
     }
+
+    /**
+     * Converte uma data/hora gravada no formato brasileiro ou ISO (padrão do SQLite).
+     *
+     * @param valor texto da coluna
+     * @return LocalDateTime data/hora ou null se vazio ou inválido
+     */
+    private static LocalDateTime parseDataHora(String valor) {
+        return ConversorDatas.parseDataHora(valor);
+    }
 }
@@ -2,6 +2,7 @@ package com.notisblokk.repository;
 
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.model.StatusTarefa;
+import com.notisblokk.util.ConversorDatas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -257,16 +258,9 @@ public class StatusTarefaRepository {
         // Parse data_criacao usando formato brasileiro
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                status.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataCriacaoStr);
-                // Fallback para formato ISO caso exista dado antigo
-                try {
-                    status.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data: {}", dataCriacaoStr);
-                }
+            status.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (status.getDataCriacao() == null) {
+                logger.error("Não foi possível fazer parse da data: {}", dataCriacaoStr);
             }
         }
 
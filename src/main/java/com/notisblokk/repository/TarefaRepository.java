@@ -1,10 +1,16 @@
 package com.notisblokk.repository;
 
 import com.notisblokk.config.DatabaseConfig;
+import com.notisblokk.model.FiltroTarefa;
 import com.notisblokk.model.Tarefa;
+import com.notisblokk.util.ConversorDatas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -15,7 +21,11 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +47,38 @@ public class TarefaRepository {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+    /**
+     * Expressão SQL que normaliza prazo_final (gravado como dd/MM/yyyy, ou ISO em
+     * dados antigos) para yyyy-MM-dd, permitindo comparações de intervalo.
+     */
+    private static final String PRAZO_ISO_SQL = """
+        (CASE WHEN substr(n.prazo_final, 3, 1) = '/'
+              THEN substr(n.prazo_final, 7, 4) || '-' || substr(n.prazo_final, 4, 2) || '-' || substr(n.prazo_final, 1, 2)
+              ELSE substr(n.prazo_final, 1, 10) END)""";
+
+    /**
+     * Colunas disponíveis para exportação (chave pública → expressão SQL).
+     * A ordem define a ordem padrão das colunas exportadas.
+     */
+    public static final Map<String, String> COLUNAS_EXPORTACAO;
+
+    static {
+        Map<String, String> colunas = new LinkedHashMap<>();
+        colunas.put("id", "n.id");
+        colunas.put("titulo", "n.titulo");
+        colunas.put("etiqueta", "e.nome");
+        colunas.put("status", "s.nome");
+        colunas.put("prazo_final", "n.prazo_final");
+        colunas.put("data_criacao", "n.data_criacao");
+        colunas.put("data_atualizacao", "n.data_atualizacao");
+        colunas.put("conteudo", "n.conteudo");
+        colunas.put("etiqueta_id", "n.etiqueta_id");
+        colunas.put("status_id", "n.status_id");
+        colunas.put("usuario_id", "n.usuario_id");
+        colunas.put("usuario", "u.username");
+        COLUNAS_EXPORTACAO = Collections.unmodifiableMap(colunas);
+    }
+
     /**
      * Busca todas as tarefas do sistema, ordenadas por prazo final (mais urgentes primeiro).
      *
@@ -314,6 +356,132 @@ public class TarefaRepository {
         return tarefasDTO;
     }
 
+    /**
+     * Busca as tarefas de um bloco de IDs com seus relacionamentos (etiquetas e status).
+     *
+     * <p>Destinado a leituras em blocos: o chamador divide a lista completa de IDs e
+     * chama este método para cada bloco, mantendo limitado o número de linhas em memória.
+     * IDs inexistentes são ignorados.</p>
+     *
+     * @param ids bloco de IDs
+     * @return List<TarefaDTO> tarefas encontradas, ordenadas por ID
+     * @throws SQLException se houver erro ao acessar o banco
+     */
+    public List<com.notisblokk.model.TarefaDTO> buscarPorIdsComRelacionamentos(List<Long> ids) throws SQLException {
+        List<com.notisblokk.model.TarefaDTO> tarefasDTO = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return tarefasDTO;
+        }
+
+        String sql = """
+            SELECT
+                n.id,
+                n.titulo,
+                n.conteudo,
+                n.prazo_final,
+                n.data_criacao,
+                n.data_atualizacao,
+                n.sessao_id,
+                n.usuario_id,
+                e.id as etiqueta_id,
+                e.nome as etiqueta_nome,
+                s.id as status_id,
+                s.nome as status_nome,
+                s.cor_hex as status_cor
+            FROM tarefas n
+            LEFT JOIN etiquetas e ON n.etiqueta_id = e.id
+            LEFT JOIN status_tarefa s ON n.status_id = s.id
+            WHERE n.id IN (SELECT value FROM json_each(?))
+            ORDER BY n.id ASC
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, ids.toString());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    tarefasDTO.add(mapResultSetToTarefaDTOCompleto(rs));
+                }
+            }
+        }
+
+        logger.debug("Bloco de {} IDs retornou {} tarefas", ids.size(), tarefasDTO.size());
+        return tarefasDTO;
+    }
+
+    /**
+     * Conta quantas das tarefas informadas existem.
+     *
+     * @param ids IDs das tarefas
+     * @return long quantidade de tarefas existentes
+     * @throws SQLException se houver erro ao acessar o banco
+     */
+    public long contarPorIds(List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "SELECT COUNT(*) FROM tarefas WHERE id IN (SELECT value FROM json_each(?))";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, ids.toString());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * Calcula um resumo (SHA-256) do que o relatório PDF exibe das tarefas informadas:
+     * título, etiqueta, status, prazo e data de atualização. Qualquer alteração que mude
+     * o relatório muda o resumo.
+     *
+     * @param ids IDs das tarefas
+     * @return String resumo em hexadecimal
+     * @throws SQLException se houver erro ao acessar o banco
+     */
+    public String calcularVersaoPorIds(List<Long> ids) throws SQLException {
+        String sql = """
+            SELECT n.id, n.titulo, n.prazo_final, n.data_atualizacao, e.nome, s.nome, s.cor_hex
+            FROM tarefas n
+            LEFT JOIN etiquetas e ON n.etiqueta_id = e.id
+            LEFT JOIN status_tarefa s ON n.status_id = s.id
+            WHERE n.id IN (SELECT value FROM json_each(?))
+            ORDER BY n.id ASC
+        """;
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, ids.toString());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                StringBuilder linha = new StringBuilder(128);
+                while (rs.next()) {
+                    linha.setLength(0);
+                    for (int coluna = 1; coluna <= 7; coluna++) {
+                        linha.append(rs.getString(coluna)).append('\u001F');
+                    }
+                    digest.update(linha.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     /**
      * Busca tarefas por usuário (para sistema de alertas).
      *
@@ -353,6 +521,213 @@ public class TarefaRepository {
         return tarefasDTO;
     }
 
+    /**
+     * Percorre as tarefas que atendem ao filtro com um cursor forward-only,
+     * entregando cada linha ao consumidor sem acumular resultados em memória.
+     *
+     * <p>Usado pela exportação em streaming: cada linha é escrita na resposta
+     * HTTP assim que lida do banco.</p>
+     *
+     * @param colunas chaves de {@link #COLUNAS_EXPORTACAO} a selecionar (na ordem desejada)
+     * @param filtro critérios de filtro (pode ser vazio)
+     * @param consumidor recebe o ResultSet posicionado em cada linha
+     * @return long quantidade de linhas percorridas
+     * @throws SQLException se houver erro ao acessar o banco
+     * @throws IOException se o consumidor falhar ao escrever a linha
+     */
+    public long percorrerParaExportacao(List<String> colunas, FiltroTarefa filtro, LinhaConsumer consumidor)
+            throws SQLException, IOException {
+
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i = 0; i < colunas.size(); i++) {
+            String expressao = COLUNAS_EXPORTACAO.get(colunas.get(i));
+            if (expressao == null) {
+                throw new IllegalArgumentException("Coluna de exportação inválida: " + colunas.get(i));
+            }
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(expressao).append(" AS ").append(colunas.get(i));
+        }
+        sql.append("""
+
+            FROM tarefas n
+            LEFT JOIN etiquetas e ON n.etiqueta_id = e.id
+            LEFT JOIN status_tarefa s ON n.status_id = s.id
+            LEFT JOIN users u ON n.usuario_id = u.id
+            """);
+
+        List<Object> params = new ArrayList<>();
+        sql.append(montarWhere(filtro, params));
+        sql.append(" ORDER BY n.id ASC");
+
+        long linhas = 0;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString(),
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            pstmt.setFetchSize(500);
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    consumidor.aceitar(rs);
+                    linhas++;
+                }
+            }
+        }
+
+        logger.debug("Exportação percorreu {} tarefas (filtro: {})", linhas, filtro);
+        return linhas;
+    }
+
+    /**
+     * Monta a cláusula WHERE para um filtro de tarefas (alias da tabela: n).
+     *
+     * @param filtro critérios de filtro (null ou vazio = sem restrição)
+     * @param params lista que recebe os parâmetros na ordem dos placeholders
+     * @return String cláusula WHERE (vazia se não houver critérios)
+     */
+    private String montarWhere(FiltroTarefa filtro, List<Object> params) {
+        if (filtro == null || filtro.isVazio()) {
+            return "";
+        }
+
+        List<String> condicoes = new ArrayList<>();
+
+        if (filtro.getUsuarioId() != null) {
+            condicoes.add("n.usuario_id = ?");
+            params.add(filtro.getUsuarioId());
+        }
+        if (filtro.getEtiquetaId() != null) {
+            condicoes.add("n.etiqueta_id = ?");
+            params.add(filtro.getEtiquetaId());
+        }
+        if (filtro.getStatusId() != null) {
+            condicoes.add("n.status_id = ?");
+            params.add(filtro.getStatusId());
+        }
+        if (filtro.getPrazoInicio() != null) {
+            condicoes.add(PRAZO_ISO_SQL + " >= ?");
+            params.add(filtro.getPrazoInicio().toString());
+        }
+        if (filtro.getPrazoFim() != null) {
+            condicoes.add(PRAZO_ISO_SQL + " <= ?");
+            params.add(filtro.getPrazoFim().toString());
+        }
+
+        return " WHERE " + String.join(" AND ", condicoes);
+    }
+
+    /**
+     * Remove em uma única instrução as tarefas selecionadas por IDs e/ou filtro.
+     *
+     * @param ids IDs das tarefas (null ou vazio = sem restrição por ID)
+     * @param filtro critérios de filtro (null ou vazio = sem restrição)
+     * @return int quantidade de tarefas removidas
+     * @throws SQLException se houver erro ao deletar
+     */
+    public int deletarEmLote(List<Long> ids, FiltroTarefa filtro) throws SQLException {
+        return executarEmLote("DELETE FROM tarefas AS n", List.of(), ids, filtro);
+    }
+
+    /**
+     * Altera em uma única instrução o status das tarefas selecionadas.
+     *
+     * @param ids IDs das tarefas (null ou vazio = sem restrição por ID)
+     * @param filtro critérios de filtro (null ou vazio = sem restrição)
+     * @param statusId novo status
+     * @return int quantidade de tarefas alteradas
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public int atualizarStatusEmLote(List<Long> ids, FiltroTarefa filtro, Long statusId) throws SQLException {
+        return executarEmLote("UPDATE tarefas AS n SET status_id = ?, data_atualizacao = ?",
+            List.of(statusId, LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER)), ids, filtro);
+    }
+
+    /**
+     * Altera em uma única instrução a etiqueta das tarefas selecionadas.
+     *
+     * @param ids IDs das tarefas (null ou vazio = sem restrição por ID)
+     * @param filtro critérios de filtro (null ou vazio = sem restrição)
+     * @param etiquetaId nova etiqueta
+     * @return int quantidade de tarefas alteradas
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public int atualizarEtiquetaEmLote(List<Long> ids, FiltroTarefa filtro, Long etiquetaId) throws SQLException {
+        return executarEmLote("UPDATE tarefas AS n SET etiqueta_id = ?, data_atualizacao = ?",
+            List.of(etiquetaId, LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER)), ids, filtro);
+    }
+
+    /**
+     * Desloca em uma única instrução o prazo final das tarefas selecionadas.
+     * O cálculo é feito pelo SQLite e o resultado é gravado em dd/MM/yyyy.
+     *
+     * @param ids IDs das tarefas (null ou vazio = sem restrição por ID)
+     * @param filtro critérios de filtro (null ou vazio = sem restrição)
+     * @param dias quantidade de dias (negativo antecipa o prazo)
+     * @return int quantidade de tarefas alteradas
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public int deslocarPrazoEmLote(List<Long> ids, FiltroTarefa filtro, int dias) throws SQLException {
+        return executarEmLote("UPDATE tarefas AS n SET prazo_final = strftime('%d/%m/%Y', "
+                + PRAZO_ISO_SQL + ", ?), data_atualizacao = ?",
+            List.of((dias >= 0 ? "+" : "") + dias + " days", LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER)),
+            ids, filtro);
+    }
+
+    /**
+     * Executa uma instrução de escrita sobre o conjunto de tarefas selecionado.
+     *
+     * <p>Os IDs são enviados como um único array JSON expandido por {@code json_each},
+     * de modo que a quantidade de IDs não esbarra no limite de parâmetros do SQLite.</p>
+     */
+    private int executarEmLote(String comando, List<Object> paramsComando, List<Long> ids, FiltroTarefa filtro)
+            throws SQLException {
+
+        List<Object> params = new ArrayList<>(paramsComando);
+        StringBuilder sql = new StringBuilder(comando);
+        String where = montarWhere(filtro, params);
+        sql.append(where);
+
+        if (ids != null && !ids.isEmpty()) {
+            sql.append(where.isEmpty() ? " WHERE " : " AND ");
+            sql.append("n.id IN (SELECT value FROM json_each(?))");
+            params.add(ids.toString());
+        }
+
+        int afetadas;
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < params.size(); i++) {
+                    pstmt.setObject(i + 1, params.get(i));
+                }
+                afetadas = pstmt.executeUpdate();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+
+        logger.info("Operação em lote afetou {} tarefas: {}", afetadas, comando);
+        return afetadas;
+    }
+
+    /**
+     * Consumidor de linhas de um ResultSet usado em leituras em streaming.
+     */
+    @FunctionalInterface
+    public interface LinhaConsumer {
+        void aceitar(ResultSet rs) throws SQLException, IOException;
+    }
+
     /**
      * Mapeia ResultSet para TarefaDTO com informações completas de etiqueta e status.
      * Usado pelo método buscarTodasComRelacionamentos() que traz todos os campos.
@@ -371,44 +746,29 @@ public class TarefaRepository {
         dto.setSessaoId(rs.getLong("sessao_id"));
         dto.setUsuarioId(rs.getLong("usuario_id"));
 
-        // Parse prazo_final (tentar formato brasileiro primeiro, depois ISO)
+        // Parse prazo_final (formato brasileiro ou ISO)
         String prazoFinalStr = rs.getString("prazo_final");
         if (prazoFinalStr != null && !prazoFinalStr.isEmpty()) {
-            try {
-                dto.setPrazoFinal(LocalDate.parse(prazoFinalStr, DATE_FORMATTER));
-            } catch (Exception e) {
-                try {
-                    dto.setPrazoFinal(LocalDate.parse(prazoFinalStr));
-                } catch (Exception ex) {
-                    logger.error("Erro ao parsear prazo_final: {}", prazoFinalStr);
-                }
+            dto.setPrazoFinal(ConversorDatas.parseData(prazoFinalStr));
+            if (dto.getPrazoFinal() == null) {
+                logger.error("Erro ao parsear prazo_final: {}", prazoFinalStr);
             }
         }
 
         // Parse datas de criação e atualização
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                dto.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                try {
-                    dto.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Erro ao parsear data_criacao: {}", dataCriacaoStr);
-                }
+            dto.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (dto.getDataCriacao() == null) {
+                logger.error("Erro ao parsear data_criacao: {}", dataCriacaoStr);
             }
         }
 
         String dataAtualizacaoStr = rs.getString("data_atualizacao");
         if (dataAtualizacaoStr != null && !dataAtualizacaoStr.isEmpty()) {
-            try {
-                dto.setDataAtualizacao(LocalDateTime.parse(dataAtualizacaoStr, FORMATTER));
-            } catch (Exception e) {
-                try {
-                    dto.setDataAtualizacao(LocalDateTime.parse(dataAtualizacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Erro ao parsear data_atualizacao: {}", dataAtualizacaoStr);
-                }
+            dto.setDataAtualizacao(ConversorDatas.parseDataHora(dataAtualizacaoStr));
+            if (dto.getDataAtualizacao() == null) {
+                logger.error("Erro ao parsear data_atualizacao: {}", dataAtualizacaoStr);
             }
         }
 
@@ -448,28 +808,18 @@ public class TarefaRepository {
         // Parse prazo_final
         String prazoFinalStr = rs.getString("prazo_final");
         if (prazoFinalStr != null && !prazoFinalStr.isEmpty()) {
-            try {
-                dto.setPrazoFinal(LocalDate.parse(prazoFinalStr, DATE_FORMATTER));
-            } catch (Exception e) {
-                try {
-                    dto.setPrazoFinal(LocalDate.parse(prazoFinalStr));
-                } catch (Exception ex) {
-                    logger.error("Erro ao parsear prazo_final: {}", prazoFinalStr);
-                }
+            dto.setPrazoFinal(ConversorDatas.parseData(prazoFinalStr));
+            if (dto.getPrazoFinal() == null) {
+                logger.error("Erro ao parsear prazo_final: {}", prazoFinalStr);
             }
         }
 
         // Parse datas de criação e atualização
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                dto.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                try {
-                    dto.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Erro ao parsear data_criacao: {}", dataCriacaoStr);
-                }
+            dto.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (dto.getDataCriacao() == null) {
+                logger.error("Erro ao parsear data_criacao: {}", dataCriacaoStr);
             }
         }
 
@@ -547,6 +897,59 @@ public class TarefaRepository {
         }
     }
 
+    /**
+     * Insere várias tarefas em uma única transação, usando JDBC batch.
+     *
+     * <p>Se qualquer inserção falhar, a transação inteira é desfeita e a exceção
+     * é propagada; nenhuma tarefa do lote é gravada.</p>
+     *
+     * @param tarefas tarefas a serem salvas (sem ID)
+     * @param sessaoId ID da sessão atual
+     * @param usuarioId ID do usuário atual
+     * @return int quantidade de tarefas inseridas
+     * @throws SQLException se houver erro ao salvar
+     */
+    public int salvarEmLote(List<Tarefa> tarefas, Long sessaoId, Long usuarioId) throws SQLException {
+        if (tarefas.isEmpty()) {
+            return 0;
+        }
+
+        String sql = """
+            INSERT INTO tarefas (etiqueta_id, status_id, titulo, conteudo, data_criacao, data_atualizacao, prazo_final, sessao_id, usuario_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            String timestamp = LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER);
+
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (Tarefa tarefa : tarefas) {
+                    pstmt.setLong(1, tarefa.getEtiquetaId());
+                    pstmt.setLong(2, tarefa.getStatusId());
+                    pstmt.setString(3, tarefa.getTitulo());
+                    pstmt.setString(4, tarefa.getConteudo());
+                    pstmt.setString(5, timestamp);
+                    pstmt.setString(6, timestamp);
+                    pstmt.setString(7, tarefa.getPrazoFinal().format(DATE_FORMATTER));
+                    pstmt.setObject(8, sessaoId);
+                    pstmt.setObject(9, usuarioId);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+
+        logger.debug("Lote de {} tarefas salvo", tarefas.size());
+        return tarefas.size();
+    }
+
     /**
      * Atualiza uma tarefa existente no banco de dados.
      *
@@ -703,47 +1106,27 @@ public class TarefaRepository {
         // Parse data_criacao usando formato brasileiro
         String dataCriacaoStr = rs.getString("data_criacao");
         if (dataCriacaoStr != null && !dataCriacaoStr.isEmpty()) {
-            try {
-                tarefa.setDataCriacao(LocalDateTime.parse(dataCriacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataCriacaoStr);
-                try {
-                    tarefa.setDataCriacao(LocalDateTime.parse(dataCriacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data_criacao: {}", dataCriacaoStr);
-                }
+            tarefa.setDataCriacao(ConversorDatas.parseDataHora(dataCriacaoStr));
+            if (tarefa.getDataCriacao() == null) {
+                logger.error("Não foi possível fazer parse da data_criacao: {}", dataCriacaoStr);
             }
         }
 
         // Parse data_atualizacao usando formato brasileiro
         String dataAtualizacaoStr = rs.getString("data_atualizacao");
         if (dataAtualizacaoStr != null && !dataAtualizacaoStr.isEmpty()) {
-            try {
-                tarefa.setDataAtualizacao(LocalDateTime.parse(dataAtualizacaoStr, FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", dataAtualizacaoStr);
-                try {
-                    tarefa.setDataAtualizacao(LocalDateTime.parse(dataAtualizacaoStr.replace(" ", "T")));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse da data_atualizacao: {}", dataAtualizacaoStr);
-                }
+            tarefa.setDataAtualizacao(ConversorDatas.parseDataHora(dataAtualizacaoStr));
+            if (tarefa.getDataAtualizacao() == null) {
+                logger.error("Não foi possível fazer parse da data_atualizacao: {}", dataAtualizacaoStr);
             }
         }
 
-        // Parse prazo_final (tentar formato brasileiro primeiro, depois ISO)
+        // Parse prazo_final (formato brasileiro ou ISO)
         String prazoFinalStr = rs.getString("prazo_final");
         if (prazoFinalStr != null && !prazoFinalStr.isEmpty()) {
-            try {
-                // Tentar formato brasileiro dd/MM/yyyy primeiro
-                tarefa.setPrazoFinal(LocalDate.parse(prazoFinalStr, DATE_FORMATTER));
-            } catch (Exception e) {
-                logger.warn("Erro ao fazer parse da data '{}', tentando formato ISO", prazoFinalStr);
-                try {
-                    // Fallback: tentar formato ISO yyyy-MM-dd
-                    tarefa.setPrazoFinal(LocalDate.parse(prazoFinalStr));
-                } catch (Exception ex) {
-                    logger.error("Não foi possível fazer parse do prazo_final: {}", prazoFinalStr);
-                }
+            tarefa.setPrazoFinal(ConversorDatas.parseData(prazoFinalStr));
+            if (tarefa.getPrazoFinal() == null) {
+                logger.error("Não foi possível fazer parse do prazo_final: {}", prazoFinalStr);
             }
         }
 
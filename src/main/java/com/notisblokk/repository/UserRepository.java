@@ -4,6 +4,8 @@ import com.notisblokk.config.AppConfig;
 import com.notisblokk.config.DatabaseConfig;
 import com.notisblokk.model.User;
 import com.notisblokk.model.UserRole;
+import com.notisblokk.util.ConversorDatas;
+import com.notisblokk.util.SimpleCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +30,7 @@ import java.util.Optional;
  * <p><b>Métodos principais:</b></p>
  * <ul>
  *   <li>buscarTodos() - Lista todos os usuários</li>
+ *   <li>buscarDiretorio() - Lista usuários paginados, com busca por prefixo e filtros</li>
  *   <li>buscarPorId() - Busca usuário por ID</li>
  *   <li>buscarPorUsername() - Busca usuário por username</li>
  *   <li>buscarPorEmail() - Busca usuário por email</li>
@@ -47,6 +50,9 @@ public class UserRepository {
     private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
+    // Usuários das sessões HTTP, que guardam só o ID; removidos a cada escrita
+    private static final SimpleCache<Long, User> CACHE_USUARIOS = new SimpleCache<>("UsuariosSessao", 1);
+
     /**
      * Busca todos os usuários do sistema.
      *
@@ -71,6 +77,89 @@ public class UserRepository {
         return users;
     }
 
+    /**
+     * Busca uma página do diretório de usuários, em ordem de ID.
+     *
+     * <p>Paginação por cursor (keyset) sobre o ID. A busca compara o prefixo com
+     * username, email e nome completo sem distinguir maiúsculas; cada coluna é lida
+     * pelo seu índice NOCASE e os IDs encontrados são unidos antes da paginação.
+     * Só as colunas exibidas são lidas: os objetos retornados não trazem hash de senha
+     * nem dados de segurança.</p>
+     *
+     * @param prefixo início de username, email ou nome (null ou vazio para todos)
+     * @param role perfil (null para todos)
+     * @param ativo situação (null para todos)
+     * @param aposId ID do último usuário da página anterior (null para a primeira página)
+     * @param limite quantidade máxima de usuários
+     * @return List<User> usuários da página (projeção reduzida)
+     * @throws SQLException se houver erro ao acessar o banco
+     */
+    public List<User> buscarDiretorio(String prefixo, UserRole role, Boolean ativo, Long aposId, int limite)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder(
+            "SELECT id, username, email, full_name, role, active, created_at FROM users WHERE 1 = 1");
+        List<Object> parametros = new ArrayList<>();
+
+        if (prefixo != null && !prefixo.isBlank()) {
+            // Curingas digitados pelo usuário são literais
+            String padrao = prefixo.trim()
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_") + "%";
+            sql.append(" AND id IN (SELECT id FROM users WHERE username LIKE ? ESCAPE '\\'")
+               .append(" UNION SELECT id FROM users WHERE email LIKE ? ESCAPE '\\'")
+               .append(" UNION SELECT id FROM users WHERE full_name LIKE ? ESCAPE '\\')");
+            parametros.add(padrao);
+            parametros.add(padrao);
+            parametros.add(padrao);
+        }
+        if (role != null) {
+            sql.append(" AND role = ?");
+            parametros.add(role.name());
+        }
+        if (ativo != null) {
+            sql.append(" AND active = ?");
+            parametros.add(ativo ? 1 : 0);
+        }
+        if (aposId != null) {
+            sql.append(" AND id > ?");
+            parametros.add(aposId);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        parametros.add(limite);
+
+        List<User> users = new ArrayList<>();
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < parametros.size(); i++) {
+                pstmt.setObject(i + 1, parametros.get(i));
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    User user = new User();
+                    user.setId(rs.getLong("id"));
+                    user.setUsername(rs.getString("username"));
+                    user.setEmail(rs.getString("email"));
+                    user.setFullName(rs.getString("full_name"));
+                    user.setRole(UserRole.fromString(rs.getString("role")));
+                    user.setActive(rs.getBoolean("active"));
+
+                    String createdAtStr = rs.getString("created_at");
+                    if (createdAtStr != null && !createdAtStr.isEmpty()) {
+                        user.setCreatedAt(ConversorDatas.parseDataHora(createdAtStr));
+                    }
+                    users.add(user);
+                }
+            }
+        }
+
+        logger.debug("Diretório de usuários: {} usuários (prefixo '{}', após {})", users.size(), prefixo, aposId);
+        return users;
+    }
+
     /**
      * Busca um usuário por ID.
      *
@@ -99,6 +188,25 @@ public class UserRepository {
         return Optional.empty();
     }
 
+    /**
+     * Busca um usuário por ID passando por um cache curto em memória. Usado para
+     * obter o usuário da sessão a cada requisição sem consultar o banco.
+     *
+     * @param id ID do usuário
+     * @return Optional contendo o usuário se encontrado
+     * @throws SQLException se houver erro na consulta
+     */
+    public Optional<User> buscarPorIdEmCache(Long id) throws SQLException {
+        User emCache = CACHE_USUARIOS.get(id);
+        if (emCache != null) {
+            return Optional.of(emCache);
+        }
+
+        Optional<User> user = buscarPorId(id);
+        user.ifPresent(u -> CACHE_USUARIOS.put(id, u));
+        return user;
+    }
+
     /**
      * Busca um usuário por username.
      *
@@ -185,6 +293,49 @@ public class UserRepository {
         return Optional.empty();
     }
 
+    /**
+     * Dados lidos de uma vez no login.
+     *
+     * @param user usuário (inclui tentativas e bloqueio)
+     * @param sessoesAtivas quantidade de sessões ativas do usuário
+     */
+    public record DadosLogin(User user, long sessoesAtivas) {
+    }
+
+    /**
+     * Busca, em uma única consulta, o usuário por username ou email, o estado de
+     * bloqueio e a quantidade de sessões ativas.
+     *
+     * @param usernameOrEmail username ou email
+     * @return Optional contendo os dados se o usuário existir
+     * @throws SQLException se houver erro na consulta
+     */
+    public Optional<DadosLogin> buscarParaLogin(String usernameOrEmail) throws SQLException {
+        String sql = """
+            SELECT u.*,
+                   (SELECT COUNT(*) FROM sessions s
+                    WHERE s.user_id = u.id AND s.status = 'ACTIVE') AS sessoes_ativas
+            FROM users u
+            WHERE u.username = ? OR u.email = ?
+            LIMIT 1
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, usernameOrEmail);
+            pstmt.setString(2, usernameOrEmail);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new DadosLogin(mapResultSetToUser(rs), rs.getLong("sessoes_ativas")));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * Salva um novo usuário no banco de dados.
      *
@@ -265,6 +416,7 @@ public class UserRepository {
             pstmt.setLong(8, user.getId());
 
             int affectedRows = pstmt.executeUpdate();
+            CACHE_USUARIOS.remove(user.getId());
 
             if (affectedRows == 0) {
                 throw new SQLException("Usuário com ID " + user.getId() + " não encontrado");
@@ -288,6 +440,7 @@ public class UserRepository {
 
             pstmt.setLong(1, id);
             int affectedRows = pstmt.executeUpdate();
+            CACHE_USUARIOS.remove(id);
 
             if (affectedRows == 0) {
                 throw new SQLException("Usuário com ID " + id + " não encontrado");
@@ -317,6 +470,7 @@ public class UserRepository {
             pstmt.setLong(3, id);
 
             int affectedRows = pstmt.executeUpdate();
+            CACHE_USUARIOS.remove(id);
 
             if (affectedRows == 0) {
                 throw new SQLException("Usuário com ID " + id + " não encontrado");
@@ -397,39 +551,19 @@ public class UserRepository {
         String senhaExpiraEmStr = rs.getString("senha_expira_em");
 
         if (createdAtStr != null && !createdAtStr.isEmpty()) {
-            try {
-                user.setCreatedAt(LocalDateTime.parse(createdAtStr, FORMATTER));
-            } catch (Exception e) {
-                user.setCreatedAt(LocalDateTime.parse(createdAtStr.replace(" ", "T")));
-            }
+            user.setCreatedAt(ConversorDatas.parseDataHora(createdAtStr));
         }
         if (updatedAtStr != null && !updatedAtStr.isEmpty()) {
-            try {
-                user.setUpdatedAt(LocalDateTime.parse(updatedAtStr, FORMATTER));
-            } catch (Exception e) {
-                user.setUpdatedAt(LocalDateTime.parse(updatedAtStr.replace(" ", "T")));
-            }
+            user.setUpdatedAt(ConversorDatas.parseDataHora(updatedAtStr));
         }
         if (bloqueadoAteStr != null && !bloqueadoAteStr.isEmpty()) {
-            try {
-                user.setBloqueadoAte(LocalDateTime.parse(bloqueadoAteStr, FORMATTER));
-            } catch (Exception e) {
-                user.setBloqueadoAte(LocalDateTime.parse(bloqueadoAteStr.replace(" ", "T")));
-            }
+            user.setBloqueadoAte(ConversorDatas.parseDataHora(bloqueadoAteStr));
         }
         if (dataAlteracaoSenhaStr != null && !dataAlteracaoSenhaStr.isEmpty()) {
-            try {
-                user.setDataAlteracaoSenha(LocalDateTime.parse(dataAlteracaoSenhaStr, FORMATTER));
-            } catch (Exception e) {
-                user.setDataAlteracaoSenha(LocalDateTime.parse(dataAlteracaoSenhaStr.replace(" ", "T")));
-            }
+            user.setDataAlteracaoSenha(ConversorDatas.parseDataHora(dataAlteracaoSenhaStr));
         }
         if (senhaExpiraEmStr != null && !senhaExpiraEmStr.isEmpty()) {
-            try {
-                user.setSenhaExpiraEm(LocalDateTime.parse(senhaExpiraEmStr, FORMATTER));
-            } catch (Exception e) {
-                user.setSenhaExpiraEm(LocalDateTime.parse(senhaExpiraEmStr.replace(" ", "T")));
-            }
+            user.setSenhaExpiraEm(ConversorDatas.parseDataHora(senhaExpiraEmStr));
         }
 
         return user;
@@ -455,6 +589,7 @@ public class UserRepository {
             pstmt.setLong(3, userId);
 
             int affectedRows = pstmt.executeUpdate();
+            CACHE_USUARIOS.remove(userId);
 
             if (affectedRows == 0) {
                 throw new SQLException("Usuário com ID " + userId + " não encontrado");
@@ -498,6 +633,7 @@ public class UserRepository {
             pstmt.setLong(5, userId);
 
             int affectedRows = pstmt.executeUpdate();
+            CACHE_USUARIOS.remove(userId);
 
             if (affectedRows == 0) {
                 throw new SQLException("Usuário com ID " + userId + " não encontrado");
@@ -507,6 +643,35 @@ public class UserRepository {
         }
     }
 
+    /**
+     * Substitui o hash da senha por outro da mesma senha (ex.: cost factor maior),
+     * sem alterar datas de expiração nem tentativas de login.
+     *
+     * <p>Só atualiza se o hash atual ainda for {@code hashAnterior}, para não
+     * sobrescrever uma troca de senha concorrente.</p>
+     *
+     * @param userId ID do usuário
+     * @param hashAnterior hash que está sendo substituído
+     * @param novoHash novo hash da mesma senha
+     * @return boolean true se o hash foi substituído
+     * @throws SQLException se houver erro ao atualizar
+     */
+    public boolean substituirHashSenha(Long userId, String hashAnterior, String novoHash) throws SQLException {
+        String sql = "UPDATE users SET password_hash = ? WHERE id = ? AND password_hash = ?";
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, novoHash);
+            pstmt.setLong(2, userId);
+            pstmt.setString(3, hashAnterior);
+
+            boolean substituido = pstmt.executeUpdate() > 0;
+            CACHE_USUARIOS.remove(userId);
+            return substituido;
+        }
+    }
+
     /**
      * Atualiza o email do usuário e marca como não verificado.
      *
@@ -533,6 +698,7 @@ public class UserRepository {
             pstmt.setLong(3, userId);
 
             int affectedRows = pstmt.executeUpdate();
+            CACHE_USUARIOS.remove(userId);
 
             if (affectedRows == 0) {
                 throw new SQLException("Usuário com ID " + userId + " não encontrado");
@@ -0,0 +1,124 @@
+package com.notisblokk.scheduler;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.service.BackupService;
+import com.notisblokk.service.ConfiguracaoService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Job do Quartz Scheduler para backup automático do banco de dados.
+ *
+ * <p>Executa conforme {@code backup.schedule.cron} (padrão: diariamente às 2h) e:</p>
+ * <ul>
+ *   <li>Verifica se o backup automático está habilitado ({@code backup.auto.enabled}
+ *       ou configuração {@code backup_auto} de algum administrador)</li>
+ *   <li>Respeita a periodicidade em dias ({@code backup_periodicidade})</li>
+ *   <li>Cria o backup com taxa de I/O limitada</li>
+ *   <li>Remove backups antigos conforme a política de retenção</li>
+ * </ul>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisallowConcurrentExecution
+public class BackupAutomaticoJob implements Job {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackupAutomaticoJob.class);
+
+    private final BackupService backupService;
+    private final ConfiguracaoService configuracaoService;
+
+    /**
+     * Construtor padrão (necessário para o Quartz).
+     */
+    public BackupAutomaticoJob() {
+        this.backupService = new BackupService();
+        this.configuracaoService = new ConfiguracaoService();
+    }
+
+    /**
+     * Método executado pelo Quartz Scheduler.
+     *
+     * @param context contexto de execução do job
+     * @throws JobExecutionException se houver erro na execução
+     */
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        logger.info("========================================");
+        logger.info("Iniciando job de backup automático");
+        logger.info("========================================");
+
+        try {
+            Map<Long, String> backupAuto = configuracaoService.buscarConfiguracaoAdministradores("backup_auto");
+            boolean habilitadoPorAdmin = backupAuto.containsValue("true");
+
+            if (!AppConfig.getBackupAutoEnabled() && !habilitadoPorAdmin) {
+                logger.info("Backup automático desabilitado, nada a fazer");
+                return;
+            }
+
+            int periodicidade = obterPeriodicidadeDias(backupAuto);
+            Integer diasDesdeUltimo = backupService.diasDesdeUltimoBackupAutomatico();
+
+            if (diasDesdeUltimo != null && diasDesdeUltimo < periodicidade) {
+                logger.info("Último backup automático há {} dia(s); periodicidade de {} dia(s), aguardando",
+                    diasDesdeUltimo, periodicidade);
+                return;
+            }
+
+            String caminho = backupService.criarBackupAutomatico();
+
+            logger.info("========================================");
+            logger.info("Job de backup finalizado com sucesso: {}", caminho);
+            logger.info("========================================");
+
+        } catch (Exception e) {
+            logger.error("Erro ao executar job de backup automático", e);
+            throw new JobExecutionException("Erro no backup automático: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Determina a periodicidade efetiva do backup.
+     *
+     * <p>Entre os administradores com backup automático habilitado, usa a menor
+     * periodicidade configurada. Sem preferência de administrador, usa
+     * {@code backup.periodicidade.dias}.</p>
+     *
+     * @param backupAuto configuração backup_auto por administrador
+     * @return int periodicidade em dias (mínimo 1)
+     */
+    private int obterPeriodicidadeDias(Map<Long, String> backupAuto) {
+        Map<Long, String> periodicidades =
+            configuracaoService.buscarConfiguracaoAdministradores("backup_periodicidade");
+
+        int periodicidade = Integer.MAX_VALUE;
+        for (Map.Entry<Long, String> entry : backupAuto.entrySet()) {
+            if (!"true".equals(entry.getValue())) {
+                continue;
+            }
+            String valor = periodicidades.get(entry.getKey());
+            try {
+                periodicidade = Math.min(periodicidade, valor != null
+                    ? Integer.parseInt(valor.trim())
+                    : AppConfig.getBackupPeriodicidadeDias());
+            } catch (NumberFormatException e) {
+                logger.warn("Periodicidade de backup inválida para userId {}: {}", entry.getKey(), valor);
+            }
+        }
+
+        if (periodicidade == Integer.MAX_VALUE) {
+            periodicidade = AppConfig.getBackupPeriodicidadeDias();
+        }
+
+        return Math.max(1, periodicidade);
+    }
+}
@@ -0,0 +1,437 @@
+package com.notisblokk.scheduler;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.model.Job;
+import com.notisblokk.model.JobStatus;
+import com.notisblokk.model.TipoJob;
+import com.notisblokk.repository.JobRepository;
+import com.notisblokk.util.FabricaThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fila persistente de jobs em segundo plano, com pool de workers limitado.
+ *
+ * <p>Os jobs ficam na tabela {@code jobs}; uma thread despachante lê os pendentes em
+ * ordem de chegada e os entrega aos workers respeitando o total de workers
+ * ({@code jobs.workers}) e o limite por tipo ({@code jobs.limite.<TIPO>}). O despacho
+ * acontece ao enfileirar, ao terminar um job e a cada {@code jobs.intervalo.segundos}.</p>
+ *
+ * <p>Na inicialização, jobs que estavam em execução quando a aplicação parou voltam
+ * para a fila (ver {@link JobRepository#recuperarInterrompidos(int)}). Jobs finalizados
+ * e seus artefatos são removidos após {@code jobs.retencao.horas}.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FilaJobs {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilaJobs.class);
+    private static final int INTERVALO_PROGRESSO_MS = 1000;
+    private static final long INTERVALO_LIMPEZA_MS = 60 * 60 * 1000L;
+    private static final String PREFIXO_ENTRADA = "entrada_";
+
+    private static final JobRepository jobRepository = new JobRepository();
+    private static final Object LOCK = new Object();
+
+    // Protegidos por LOCK
+    private static final Map<TipoJob, Integer> emExecucao = new EnumMap<>(TipoJob.class);
+    private static final Map<Long, ContextoJob> ativos = new ConcurrentHashMap<>();
+
+    private static Map<TipoJob, ExecutorJob> executores = Map.of();
+    private static ExecutorService workers;
+    private static ScheduledExecutorService despachante;
+    private static int totalWorkers;
+    private static long ultimaLimpeza;
+    private static volatile boolean encerrando;
+
+    private FilaJobs() {
+    }
+
+    /**
+     * Executa um job de determinado tipo.
+     */
+    @FunctionalInterface
+    public interface ExecutorJob {
+        /**
+         * @param job job com os parâmetros gravados na fila
+         * @param contexto progresso, cancelamento e arquivos do job
+         * @return ResultadoJob resumo e artefato gerado
+         * @throws Exception se o job falhar
+         */
+        ResultadoJob executar(Job job, ContextoJob contexto) throws Exception;
+    }
+
+    /**
+     * Resultado de um job concluído.
+     *
+     * @param mensagem resumo exibido ao usuário
+     * @param artefato arquivo para download (null se não houver)
+     * @param nomeArquivo nome sugerido para o download
+     * @param contentType tipo de conteúdo do artefato
+     */
+    public record ResultadoJob(String mensagem, Path artefato, String nomeArquivo, String contentType) {
+
+        public static ResultadoJob semArtefato(String mensagem) {
+            return new ResultadoJob(mensagem, null, null, null);
+        }
+    }
+
+    /**
+     * Contexto entregue ao executor: progresso, cancelamento cooperativo e
+     * arquivos de trabalho (removidos se o job falhar ou for cancelado).
+     */
+    public static final class ContextoJob {
+        private final Job job;
+        private final List<Path> arquivos = new ArrayList<>();
+        private volatile boolean cancelado;
+        private long ultimaGravacao;
+
+        ContextoJob(Job job) {
+            this.job = job;
+        }
+
+        /**
+         * Informa o progresso do job. A gravação no banco é feita no máximo uma vez
+         * por segundo; também verifica o cancelamento.
+         *
+         * @param atual itens processados
+         * @param total total de itens (null se desconhecido)
+         * @throws CancellationException se o cancelamento foi solicitado
+         */
+        public void progresso(long atual, Long total) {
+            verificarCancelamento();
+            job.setProgressoAtual(atual);
+            job.setProgressoTotal(total);
+
+            long agora = System.currentTimeMillis();
+            if (agora - ultimaGravacao < INTERVALO_PROGRESSO_MS) {
+                return;
+            }
+            ultimaGravacao = agora;
+            try {
+                jobRepository.atualizarProgresso(job.getId(), atual, total);
+            } catch (SQLException e) {
+                logger.warn("Não foi possível gravar o progresso do job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+
+        /**
+         * @throws CancellationException se o cancelamento foi solicitado
+         */
+        public void verificarCancelamento() {
+            if (cancelado) {
+                throw new CancellationException("Job cancelado");
+            }
+        }
+
+        /**
+         * Reserva um arquivo de trabalho na pasta de jobs.
+         *
+         * @param sufixo final do nome do arquivo (ex.: ".pdf")
+         * @return Path caminho do arquivo (ainda não criado)
+         * @throws IOException se a pasta não puder ser criada
+         */
+        public Path novoArquivo(String sufixo) throws IOException {
+            Path pasta = Paths.get(AppConfig.getJobsPasta());
+            Files.createDirectories(pasta);
+            Path arquivo = pasta.resolve("job_" + job.getId() + sufixo);
+            arquivos.add(arquivo);
+            return arquivo;
+        }
+
+        private void descartarArquivos() {
+            for (Path arquivo : arquivos) {
+                try {
+                    Files.deleteIfExists(arquivo);
+                } catch (IOException e) {
+                    logger.warn("Não foi possível remover {}: {}", arquivo, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Inicia os workers e o despachante, recolocando na fila os jobs interrompidos.
+     *
+     * @param executoresPorTipo executor de cada tipo de job
+     */
+    public static void iniciar(Map<TipoJob, ExecutorJob> executoresPorTipo) {
+        synchronized (LOCK) {
+            if (despachante != null) {
+                return;
+            }
+            executores = new EnumMap<>(executoresPorTipo);
+            totalWorkers = Math.max(1, AppConfig.getJobsWorkers());
+            encerrando = false;
+
+            // O despacho já limita os jobs simultâneos a totalWorkers; no modo virtual
+            // cada job ganha a sua virtual thread
+            workers = FabricaThreads.executor("job-worker", totalWorkers);
+            despachante = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "job-despachante");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        try {
+            int recolocados = jobRepository.recuperarInterrompidos(AppConfig.getJobsTentativasMaximo());
+            if (recolocados > 0) {
+                logger.info("{} job(s) interrompido(s) recolocado(s) na fila", recolocados);
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao recuperar jobs interrompidos", e);
+        }
+
+        int intervalo = Math.max(1, AppConfig.getJobsIntervaloSegundos());
+        despachante.scheduleWithFixedDelay(FilaJobs::despachar, 0, intervalo, TimeUnit.SECONDS);
+        logger.info("✅ Fila de jobs iniciada ({} workers)", totalWorkers);
+    }
+
+    /**
+     * Para o despachante e os workers. Jobs em execução são interrompidos no próximo
+     * ponto de verificação e permanecem como EXECUTANDO, voltando à fila na próxima
+     * inicialização.
+     */
+    public static void parar() {
+        ExecutorService workersAtuais;
+        synchronized (LOCK) {
+            if (despachante == null) {
+                return;
+            }
+            encerrando = true;
+            despachante.shutdownNow();
+            despachante = null;
+            workersAtuais = workers;
+            workers = null;
+            ativos.values().forEach(contexto -> contexto.cancelado = true);
+        }
+
+        workersAtuais.shutdown();
+        try {
+            if (!workersAtuais.awaitTermination(10, TimeUnit.SECONDS)) {
+                workersAtuais.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("✅ Fila de jobs parada");
+    }
+
+    /**
+     * Cria um arquivo na pasta de jobs para receber a entrada de um job antes de
+     * enfileirá-lo (ex.: CSV enviado para importação). O executor deve removê-lo ao
+     * terminar; sobras são apagadas pela limpeza periódica.
+     *
+     * @param sufixo final do nome do arquivo (ex.: ".csv")
+     * @return Path arquivo vazio criado
+     * @throws IOException se o arquivo não puder ser criado
+     */
+    public static Path novoArquivoEntrada(String sufixo) throws IOException {
+        Path pasta = Paths.get(AppConfig.getJobsPasta());
+        Files.createDirectories(pasta);
+        return Files.createTempFile(pasta, PREFIXO_ENTRADA, sufixo);
+    }
+
+    /**
+     * Pede um despacho imediato (ex.: logo após enfileirar um job).
+     */
+    public static void notificar() {
+        synchronized (LOCK) {
+            if (despachante != null) {
+                try {
+                    despachante.execute(FilaJobs::despachar);
+                } catch (RejectedExecutionException e) {
+                    logger.debug("Despachante encerrado; job será executado na próxima inicialização");
+                }
+            }
+        }
+    }
+
+    /**
+     * Sinaliza o cancelamento de um job em execução neste processo.
+     *
+     * @param jobId ID do job
+     */
+    public static void cancelar(Long jobId) {
+        ContextoJob contexto = ativos.get(jobId);
+        if (contexto != null) {
+            contexto.cancelado = true;
+        }
+    }
+
+    /**
+     * Entrega jobs pendentes aos workers livres. Executado apenas pela thread despachante.
+     */
+    private static void despachar() {
+        try {
+            int livres;
+            synchronized (LOCK) {
+                livres = totalWorkers - ativos.size();
+            }
+
+            if (livres > 0) {
+                // Lê além dos livres para poder pular tipos que já estão no limite
+                for (Job job : jobRepository.listarPendentes(totalWorkers * 10)) {
+                    if (livres == 0) {
+                        break;
+                    }
+                    if (despacharJob(job)) {
+                        livres--;
+                    }
+                }
+            }
+
+            long agora = System.currentTimeMillis();
+            if (agora - ultimaLimpeza >= INTERVALO_LIMPEZA_MS) {
+                ultimaLimpeza = agora;
+                limparExpirados();
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao despachar jobs", e);
+        }
+    }
+
+    private static boolean despacharJob(Job job) throws SQLException {
+        TipoJob tipo = job.getTipo();
+        ExecutorJob executor = executores.get(tipo);
+        if (executor == null) {
+            jobRepository.finalizar(job.getId(), JobStatus.FALHOU, "Tipo de job sem executor: " + tipo);
+            return false;
+        }
+
+        synchronized (LOCK) {
+            if (workers == null
+                    || emExecucao.getOrDefault(tipo, 0) >= AppConfig.getJobsLimite(tipo.name(), tipo.getLimitePadrao())) {
+                return false;
+            }
+        }
+
+        // Pode ter sido cancelado desde a leitura
+        if (!jobRepository.iniciarExecucao(job.getId())) {
+            return false;
+        }
+
+        ContextoJob contexto = new ContextoJob(job);
+        synchronized (LOCK) {
+            emExecucao.merge(tipo, 1, Integer::sum);
+            ativos.put(job.getId(), contexto);
+            workers.execute(() -> executar(job, executor, contexto));
+        }
+        logger.info("Job {} ({}) iniciado", job.getId(), tipo);
+        return true;
+    }
+
+    private static void executar(Job job, ExecutorJob executor, ContextoJob contexto) {
+        long inicio = System.currentTimeMillis();
+        try {
+            ResultadoJob resultado = executor.executar(job, contexto);
+            jobRepository.atualizarProgresso(job.getId(), job.getProgressoAtual(), job.getProgressoTotal());
+            jobRepository.concluir(job.getId(), resultado.mensagem(),
+                resultado.artefato() != null ? resultado.artefato().toString() : null,
+                resultado.nomeArquivo(), resultado.contentType());
+            logger.info("Job {} ({}) concluído em {} ms: {}",
+                job.getId(), job.getTipo(), System.currentTimeMillis() - inicio, resultado.mensagem());
+            OuvinteMetricasJobs.registrar("fila", job.getTipo().name(), "sucesso", System.currentTimeMillis() - inicio);
+
+        } catch (Exception e) {
+            contexto.descartarArquivos();
+            // Os serviços podem embrulhar a CancellationException; vale o sinalizador do contexto
+            if (e instanceof CancellationException || contexto.cancelado) {
+                if (encerrando) {
+                    logger.info("Job {} interrompido pelo encerramento da aplicação", job.getId());
+                } else {
+                    finalizar(job, JobStatus.CANCELADO, "Cancelado pelo usuário");
+                    OuvinteMetricasJobs.registrar("fila", job.getTipo().name(), "cancelado",
+                        System.currentTimeMillis() - inicio);
+                }
+            } else {
+                logger.error("Job {} ({}) falhou", job.getId(), job.getTipo(), e);
+                finalizar(job, JobStatus.FALHOU, e.getMessage());
+                OuvinteMetricasJobs.registrar("fila", job.getTipo().name(), "falha", System.currentTimeMillis() - inicio);
+            }
+        } finally {
+            synchronized (LOCK) {
+                emExecucao.merge(job.getTipo(), -1, Integer::sum);
+                ativos.remove(job.getId());
+            }
+            notificar();
+        }
+    }
+
+    private static void finalizar(Job job, JobStatus status, String mensagem) {
+        try {
+            jobRepository.finalizar(job.getId(), status, mensagem);
+        } catch (SQLException e) {
+            logger.error("Erro ao registrar o fim do job {}", job.getId(), e);
+        }
+    }
+
+    /**
+     * Remove jobs finalizados além da retenção e os artefatos gerados na pasta de jobs.
+     * Artefatos fora da pasta (ex.: arquivos de backup) são preservados.
+     */
+    private static void limparExpirados() {
+        try {
+            Path pasta = Paths.get(AppConfig.getJobsPasta()).toAbsolutePath().normalize();
+            int removidos = 0;
+
+            for (Job job : jobRepository.listarExpirados(AppConfig.getJobsRetencaoHoras())) {
+                if (job.getArtefatoCaminho() != null) {
+                    Path artefato = Paths.get(job.getArtefatoCaminho()).toAbsolutePath().normalize();
+                    if (artefato.startsWith(pasta)) {
+                        Files.deleteIfExists(artefato);
+                    }
+                }
+                jobRepository.deletar(job.getId());
+                removidos++;
+            }
+
+            if (removidos > 0) {
+                logger.info("Limpeza de jobs: {} job(s) expirado(s) removido(s)", removidos);
+            }
+
+            // Entradas de jobs que nunca chegaram a executar (cancelados ou interrompidos).
+            // A entrada de um job pendente ou em execução fica, por mais antiga que seja
+            if (Files.isDirectory(pasta)) {
+                long limite = System.currentTimeMillis() - AppConfig.getJobsRetencaoHoras() * 3600_000L;
+                Set<Path> emUso = new HashSet<>();
+                for (String caminho : jobRepository.listarArquivosEntradaEmAberto()) {
+                    emUso.add(Paths.get(caminho).toAbsolutePath().normalize());
+                }
+                try (var arquivos = Files.list(pasta)) {
+                    for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                        if (arquivo.getFileName().toString().startsWith(PREFIXO_ENTRADA)
+                                && !emUso.contains(arquivo.toAbsolutePath().normalize())
+                                && Files.getLastModifiedTime(arquivo).toMillis() < limite) {
+                            Files.deleteIfExists(arquivo);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao limpar jobs expirados", e);
+        }
+    }
+}
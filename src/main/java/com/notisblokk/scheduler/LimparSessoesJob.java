@@ -12,9 +12,11 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Executa periodicamente (padrão: a cada 1 hora) e:</p>
  * <ul>
- *   <li>Identifica sessões ativas que excederam o timeout de inatividade</li>
+ *   <li>Identifica sessões ativas sem atividade há mais que o timeout
+ *       (última atividade gravada por {@link RastreadorAtividade})</li>
  *   <li>Marca essas sessões como EXPIRED</li>
  *   <li>Registra logout_time automático</li>
+ *   <li>Consolida no resumo diário as sessões encerradas além da retenção</li>
  *   <li>Libera recursos do sistema</li>
  * </ul>
  *
@@ -59,16 +61,11 @@ public class LimparSessoesJob implements Job {
             int timeoutMinutes = sessionService.getDefaultSessionTimeout();
             logger.info("Timeout de sessão configurado: {} minutos", timeoutMinutes);
 
-            // Contar sessões ativas antes da limpeza
-            long sessoesAtivasAntes = sessionService.contarSessoesAtivas();
-            logger.info("Sessões ativas antes da limpeza: {}", sessoesAtivasAntes);
-
-            // Executar limpeza
+            // Executar limpeza (busca por faixa em last_activity: lê só as sessões que expiram)
             int sessoesExpiradas = sessionService.expirarSessoesAntigas(timeoutMinutes);
 
-            // Contar sessões ativas após a limpeza
-            long sessoesAtivasDepois = sessionService.contarSessoesAtivas();
-            logger.info("Sessões ativas após a limpeza: {}", sessoesAtivasDepois);
+            // Retenção: sessões encerradas antigas viram contagens no resumo diário
+            sessionService.aplicarRetencao();
 
             logger.info("========================================");
             if (sessoesExpiradas > 0) {
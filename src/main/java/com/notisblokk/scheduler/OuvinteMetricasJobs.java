@@ -0,0 +1,53 @@
+package com.notisblokk.scheduler;
+
+import com.notisblokk.util.Metricas;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+
+/**
+ * Registra a duração e o resultado de cada execução dos jobs do Quartz.
+ *
+ * <p>A fila de jobs ({@link FilaJobs}) usa a mesma métrica por
+ * {@link #registrar(String, String, String, long)}, distinguida pelo rótulo
+ * {@code origem}.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OuvinteMetricasJobs implements JobListener {
+
+    @Override
+    public String getName() {
+        return "metricas";
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException erro) {
+        registrar("quartz", context.getJobDetail().getKey().getName(),
+            erro == null ? "sucesso" : "falha", context.getJobRunTime());
+    }
+
+    /**
+     * Registra uma execução de job.
+     *
+     * @param origem "quartz" ou "fila"
+     * @param job nome do job ou tipo
+     * @param resultado desfecho (ex.: sucesso, falha, cancelado)
+     * @param duracaoMs duração em milissegundos
+     */
+    static void registrar(String origem, String job, String resultado, long duracaoMs) {
+        Metricas.histograma("notisblokk_job_duracao_segundos", "Duração das execuções de jobs",
+                Metricas.LIMITES_JOB, "origem", origem, "job", job, "resultado", resultado)
+            .registrarMillis(duracaoMs);
+    }
+}
@@ -0,0 +1,112 @@
+package com.notisblokk.scheduler;
+
+import com.notisblokk.util.FabricaThreads;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool de threads do Quartz que executa cada job em uma virtual thread.
+ *
+ * <p>Usado quando {@code server.virtual.threads=true}. O número de jobs simultâneos
+ * continua limitado por {@code threadCount}, como no {@code SimpleThreadPool}, mas
+ * um job parado em JDBC ou SMTP não ocupa uma thread de plataforma.</p>
+ *
+ * <p>Configurado pelo Quartz via reflexão ({@code org.quartz.threadPool.*}).</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PoolThreadsVirtuais implements ThreadPool {
+
+    private int threadCount = 10;
+    private Semaphore livres;
+    private ExecutorService executor;
+    private volatile boolean encerrado;
+
+    /**
+     * @param threadCount quantidade máxima de jobs simultâneos
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    @Override
+    public void initialize() {
+        int permissoes = Math.max(1, threadCount);
+        livres = new Semaphore(permissoes);
+        executor = FabricaThreads.executor("quartz-job", permissoes);
+    }
+
+    @Override
+    public boolean runInThread(Runnable tarefa) {
+        if (tarefa == null || encerrado) {
+            return false;
+        }
+
+        try {
+            livres.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    tarefa.run();
+                } finally {
+                    livres.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            livres.release();
+            return false;
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        // Espera uma vaga sem reservá-la; runInThread é quem a ocupa
+        try {
+            livres.acquire();
+            livres.release();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Math.max(1, livres.availablePermits());
+    }
+
+    @Override
+    public void shutdown(boolean aguardarJobs) {
+        encerrado = true;
+        executor.shutdown();
+        if (!aguardarJobs) {
+            return;
+        }
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    @Override
+    public void setInstanceId(String instanceId) {
+    }
+
+    @Override
+    public void setInstanceName(String instanceName) {
+    }
+}
@@ -1,10 +1,14 @@
 package com.notisblokk.scheduler;
 
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.util.FabricaThreads;
 import org.quartz.*;
 import org.quartz.impl.StdSchedulerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Properties;
+
 /**
  * Gerenciador do Quartz Scheduler para jobs de tarefas agendadas.
  *
@@ -19,6 +23,7 @@ import org.slf4j.LoggerFactory;
  * <ul>
  *   <li><b>AlertaEmailJob:</b> Envia alertas por email a cada 1 hora</li>
  *   <li><b>LimpezaAlertasJob:</b> Limpa alertas antigos diariamente às 3h</li>
+ *   <li><b>BackupAutomaticoJob:</b> Backup do banco conforme backup.schedule.cron</li>
  * </ul>
  *
  * @author Notisblokk Team
@@ -39,13 +44,19 @@ public class QuartzSchedulerManager {
         logger.info("Inicializando Quartz Scheduler...");
 
         // Criar scheduler
-        SchedulerFactory schedulerFactory = new StdSchedulerFactory();
+        SchedulerFactory schedulerFactory = FabricaThreads.isVirtuais()
+            ? new StdSchedulerFactory(propriedadesVirtuais())
+            : new StdSchedulerFactory();
         scheduler = schedulerFactory.getScheduler();
 
+        // Duração e resultado de cada execução, expostos em /metrics
+        scheduler.getListenerManager().addJobListener(new OuvinteMetricasJobs());
+
         // Configurar jobs
         configurarJobAlertaEmail();
         configurarJobLimpezaAlertas();
         configurarJobLimpezaSessoes();
+        configurarJobBackupAutomatico();
 
         // Iniciar scheduler
         scheduler.start();
@@ -53,6 +64,24 @@ public class QuartzSchedulerManager {
         logger.info("✅ Quartz Scheduler iniciado com sucesso");
     }
 
+    /**
+     * Propriedades padrão do Quartz, trocando o pool de threads por
+     * {@link PoolThreadsVirtuais} (mesmo limite de 10 jobs simultâneos).
+     *
+     * @return Properties configuração do scheduler
+     */
+    private static Properties propriedadesVirtuais() {
+        Properties props = new Properties();
+        props.setProperty("org.quartz.scheduler.instanceName", "DefaultQuartzScheduler");
+        props.setProperty("org.quartz.scheduler.rmi.export", "false");
+        props.setProperty("org.quartz.scheduler.rmi.proxy", "false");
+        props.setProperty("org.quartz.threadPool.class", PoolThreadsVirtuais.class.getName());
+        props.setProperty("org.quartz.threadPool.threadCount", "10");
+        props.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        props.setProperty("org.quartz.jobStore.misfireThreshold", "60000");
+        return props;
+    }
+
     /**
      * Configura o job de envio de alertas por email.
      * Executa a cada 1 hora.
@@ -137,6 +166,45 @@ public class QuartzSchedulerManager {
         logger.info("🔒 Job de limpeza de sessões agendado: executa a cada 1 hora");
     }
 
+    /**
+     * Configura o job de backup automático.
+     * Executa conforme backup.schedule.cron (padrão: diariamente às 2h).
+     */
+    private void configurarJobBackupAutomatico() throws SchedulerException {
+        if (!AppConfig.getBackupScheduleEnabled()) {
+            logger.info("💾 Job de backup automático desabilitado (backup.schedule.enabled=false)");
+            return;
+        }
+
+        String cron = AppConfig.getBackupScheduleCron();
+        if (!CronExpression.isValidExpression(cron)) {
+            logger.error("Expressão cron inválida para backup automático: '{}'. Job não agendado.", cron);
+            return;
+        }
+
+        // Definir job
+        JobDetail job = JobBuilder.newJob(BackupAutomaticoJob.class)
+            .withIdentity("backupAutomaticoJob", "manutencao")
+            .withDescription("Cria backups automáticos do banco de dados")
+            .build();
+
+        // Definir trigger: cron configurável
+        Trigger trigger = TriggerBuilder.newTrigger()
+            .withIdentity("backupAutomaticoTrigger", "manutencao")
+            .withDescription("Trigger para backup automático")
+            .withSchedule(
+                CronScheduleBuilder.cronSchedule(cron)
+                    .inTimeZone(java.util.TimeZone.getTimeZone(AppConfig.getAppTimezone()))
+                    .withMisfireHandlingInstructionFireAndProceed()
+            )
+            .build();
+
+        // Agendar job
+        scheduler.scheduleJob(job, trigger);
+
+        logger.info("💾 Job de backup automático agendado: cron '{}'", cron);
+    }
+
     /**
      * Para o scheduler de forma controlada.
      * Aguarda jobs em execução finalizarem.
@@ -0,0 +1,136 @@
+package com.notisblokk.scheduler;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.repository.SessionRepository;
+import com.notisblokk.util.Metricas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rastreia a última atividade das sessões de login com escritas agrupadas.
+ *
+ * <p>Cada requisição autenticada apenas anota o instante em memória; a cada
+ * {@code session.activity.flush.seconds} os instantes acumulados são gravados na
+ * coluna {@code sessions.last_activity} em uma única transação. Várias requisições
+ * da mesma sessão no intervalo resultam em uma só escrita.</p>
+ *
+ * <p>Se a aplicação parar de forma abrupta, perde-se no máximo um intervalo de
+ * atividade, o que só antecipa a expiração da sessão nesse mesmo intervalo.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RastreadorAtividade {
+
+    private static final Logger logger = LoggerFactory.getLogger(RastreadorAtividade.class);
+
+    private static final SessionRepository sessionRepository = new SessionRepository();
+
+    // ID da sessão -> instante da última requisição (epoch em ms) ainda não gravado
+    private static final ConcurrentHashMap<Long, Long> pendentes = new ConcurrentHashMap<>();
+
+    // Serializa as gravações; ReentrantLock em vez de synchronized para não fixar a
+    // virtual thread (job de limpeza de sessões) durante o JDBC
+    private static final ReentrantLock GRAVACAO = new ReentrantLock();
+
+    private static ScheduledExecutorService gravador;
+
+    static {
+        Metricas.medidor("notisblokk_sessoes_atividade_pendente", "Sessões com atividade ainda não gravada",
+            pendentes::size);
+    }
+
+    private RastreadorAtividade() {
+    }
+
+    /**
+     * Inicia a gravação periódica das atividades acumuladas.
+     */
+    public static synchronized void iniciar() {
+        if (gravador != null) {
+            return;
+        }
+
+        int intervalo = Math.max(1, AppConfig.getSessionActivityFlushSeconds());
+        gravador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "rastreador-atividade");
+            thread.setDaemon(true);
+            return thread;
+        });
+        gravador.scheduleWithFixedDelay(RastreadorAtividade::descarregar, intervalo, intervalo, TimeUnit.SECONDS);
+
+        logger.info("Rastreador de atividade de sessões iniciado (gravação a cada {}s)", intervalo);
+    }
+
+    /**
+     * Para a gravação periódica, gravando o que estiver pendente.
+     */
+    public static synchronized void parar() {
+        if (gravador == null) {
+            return;
+        }
+
+        gravador.shutdown();
+        gravador = null;
+        descarregar();
+    }
+
+    /**
+     * Anota uma requisição da sessão (apenas em memória).
+     *
+     * @param sessionId ID da sessão no banco (ignorado se null)
+     */
+    public static void registrar(Long sessionId) {
+        if (sessionId != null) {
+            pendentes.put(sessionId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Grava imediatamente as atividades acumuladas. Chamado também antes de expirar
+     * sessões, para que nenhuma sessão em uso seja expirada por atividade não gravada.
+     */
+    public static void descarregar() {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        GRAVACAO.lock();
+        try {
+            Map<Long, Long> lote = new HashMap<>();
+            for (Map.Entry<Long, Long> entrada : pendentes.entrySet()) {
+                // Remove só o valor copiado; uma requisição nesse meio tempo fica para o próximo lote
+                if (pendentes.remove(entrada.getKey(), entrada.getValue())) {
+                    lote.put(entrada.getKey(), entrada.getValue());
+                }
+            }
+
+            try {
+                sessionRepository.registrarAtividades(lote);
+            } catch (SQLException e) {
+                logger.warn("Erro ao gravar atividade de {} sessões; nova tentativa no próximo ciclo: {}",
+                        lote.size(), e.getMessage());
+                lote.forEach((id, instante) -> pendentes.merge(id, instante, Math::max));
+            }
+        } finally {
+            GRAVACAO.unlock();
+        }
+    }
+
+    /**
+     * @return int sessões com atividade ainda não gravada
+     */
+    public static int pendentes() {
+        return pendentes.size();
+    }
+}
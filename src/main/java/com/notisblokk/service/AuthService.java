@@ -1,13 +1,19 @@
 package com.notisblokk.service;
 
+import com.notisblokk.config.AppConfig;
 import com.notisblokk.model.Session;
 import com.notisblokk.model.User;
 import com.notisblokk.repository.UserRepository;
+import com.notisblokk.util.ExecutorHashSenha;
+import com.notisblokk.util.LimitadorTentativas;
 import com.notisblokk.util.PasswordUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 /**
@@ -32,8 +38,21 @@ import java.util.Optional;
 public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
+    // Tentativas de login falhas, compartilhadas por todas as instâncias
+    private static final LimitadorTentativas<String> TENTATIVAS_POR_IP = LimitadorTentativas.criar(
+            "login-ip",
+            AppConfig.getSecurityLoginIpTentativas(),
+            Duration.ofSeconds(AppConfig.getSecurityLoginIpRecargaSegundos()),
+            AppConfig.getSecurityLoginLimitadorMaxChaves());
+    private static final LimitadorTentativas<Long> TENTATIVAS_POR_CONTA = LimitadorTentativas.criar(
+            "login-conta",
+            AppConfig.getSecurityLoginMaxAttempts(),
+            Duration.ofSeconds(AppConfig.getSecurityLoginContaRecargaSegundos()),
+            AppConfig.getSecurityLoginLimitadorMaxChaves());
     private final UserRepository userRepository;
     private final SessionService sessionService;
+    private final SecurityService securityService;
 
     /**
      * Construtor padrão.
@@ -41,6 +60,7 @@ public class AuthService {
     public AuthService() {
         this.userRepository = new UserRepository();
         this.sessionService = new SessionService();
+        this.securityService = new SecurityService();
     }
 
     /**
@@ -48,17 +68,26 @@ public class AuthService {
      *
      * @param userRepository repositório de usuários
      * @param sessionService serviço de sessões
+     * @param securityService serviço de segurança (tentativas e bloqueio)
      */
-    public AuthService(UserRepository userRepository, SessionService sessionService) {
+    public AuthService(UserRepository userRepository, SessionService sessionService,
+                       SecurityService securityService) {
         this.userRepository = userRepository;
         this.sessionService = sessionService;
+        this.securityService = securityService;
     }
 
     /**
      * Autentica um usuário com base nas credenciais fornecidas.
      *
-     * <p>Valida username/email e senha, verifica se o usuário está ativo,
-     * e cria uma sessão no banco de dados.</p>
+     * <p>Valida username/email e senha, verifica se o usuário está ativo ou
+     * bloqueado, e cria uma sessão no banco de dados. O usuário, o bloqueio e as
+     * sessões ativas vêm de uma única consulta.</p>
+     *
+     * <p>As tentativas falhas são contadas em memória, por IP e por conta. Cada
+     * tentativa consome uma ficha do IP na entrada, devolvida se o login der certo; um
+     * IP sem fichas é recusado antes de qualquer consulta. Uma conta que esgota
+     * {@code security.login.max.attempts} é bloqueada no banco.</p>
      *
      * @param usernameOrEmail username ou email do usuário
      * @param password senha em texto plano
@@ -83,20 +112,42 @@ public class AuthService {
             throw new AuthenticationException("Senha não pode ser vazia");
         }
 
+        // Cada tentativa consome uma ficha do IP já na entrada (devolvida se o login der certo),
+        // para que requisições paralelas não passem todas antes de alguma falhar.
+        // IP sem fichas: recusar sem consultar o banco nem gastar um hash
+        if (ipAddress != null && !TENTATIVAS_POR_IP.tentar(ipAddress)) {
+            logger.warn("Login recusado por excesso de tentativas do IP {}", ipAddress);
+            throw new AuthenticationException("Muitas tentativas de login. Tente novamente em "
+                    + TENTATIVAS_POR_IP.segundosParaLiberar(ipAddress) + " segundos.");
+        }
+
         try {
-            // Buscar usuário por username ou email
-            Optional<User> userOpt = userRepository.buscarPorUsernameOuEmail(usernameOrEmail.trim());
+            // Usuário, estado de bloqueio e sessões ativas em uma única consulta
+            Optional<UserRepository.DadosLogin> dadosOpt = userRepository.buscarParaLogin(usernameOrEmail.trim());
 
-            if (userOpt.isEmpty()) {
+            if (dadosOpt.isEmpty()) {
                 logger.warn("Tentativa de login com credenciais inválidas: {}", usernameOrEmail);
                 throw new AuthenticationException("Credenciais inválidas");
             }
 
-            User user = userOpt.get();
+            User user = dadosOpt.get().user();
+
+            // Bloqueado por excesso de tentativas: recusar sem gastar um hash
+            if (user.isBloqueado()) {
+                logger.warn("Tentativa de login com usuário bloqueado: {}", user.getUsername());
+                throw new AuthenticationException(mensagemBloqueio(user.getBloqueadoAte()));
+            }
 
             // Verificar senha
             if (!PasswordUtil.verifyPassword(password, user.getPasswordHash())) {
                 logger.warn("Senha incorreta para usuário: {}", user.getUsername());
+
+                // Tentativas contadas em memória; o banco só é escrito quando a conta é bloqueada
+                if (TENTATIVAS_POR_CONTA.consumir(user.getId()) == 0) {
+                    TENTATIVAS_POR_CONTA.limpar(user.getId());
+                    LocalDateTime bloqueadoAte = securityService.bloquearUsuario(user.getId());
+                    throw new AuthenticationException(mensagemBloqueio(bloqueadoAte));
+                }
                 throw new AuthenticationException("Credenciais inválidas");
             }
 
@@ -106,9 +157,25 @@ public class AuthService {
                 throw new AuthenticationException("Usuário inativo. Contate o administrador.");
             }
 
-            // Criar sessão com validação de limite
+            TENTATIVAS_POR_CONTA.limpar(user.getId());
+            if (ipAddress != null) {
+                TENTATIVAS_POR_IP.devolver(ipAddress);
+            }
+
+            // Só escreve se houver tentativas ou bloqueio vencido a limpar
+            if (user.getTentativasLogin() > 0 || user.getBloqueadoAte() != null) {
+                securityService.resetarTentativas(user.getId());
+            }
+
+            // Hash gerado com custo menor que o atual: refazer em segundo plano
+            if (PasswordUtil.precisaRehash(user.getPasswordHash())) {
+                atualizarHashSenha(user, password);
+            }
+
+            // Criar sessão com validação de limite, usando a contagem já lida
             // Se o usuário atingir o limite de sessões, a mais antiga será encerrada automaticamente
-            Session session = sessionService.criarSessaoComLimite(user.getId(), ipAddress, userAgent);
+            Session session = sessionService.criarSessaoLogin(
+                    user, dadosOpt.get().sessoesAtivas(), ipAddress, userAgent);
 
             logger.info("Login bem-sucedido: {} (ID: {}, Role: {})",
                        user.getUsername(), user.getId(), user.getRole());
@@ -123,6 +190,37 @@ public class AuthService {
         }
     }
 
+    private static String mensagemBloqueio(LocalDateTime bloqueadoAte) {
+        return "Usuário bloqueado por excesso de tentativas. Tente novamente após "
+                + bloqueadoAte.format(DateTimeFormatter.ofPattern("HH:mm")) + ".";
+    }
+
+    /**
+     * Refaz o hash da senha com o cost factor atual, no executor de hash e apenas se
+     * ele estiver ocioso; se estiver ocupado, tenta de novo no próximo login.
+     *
+     * @param user usuário recém-autenticado
+     * @param password senha em texto plano já verificada
+     */
+    private void atualizarHashSenha(User user, String password) {
+        String hashAnterior = user.getPasswordHash();
+
+        boolean aceito = ExecutorHashSenha.executarSeOcioso(() -> {
+            try {
+                String novoHash = PasswordUtil.gerarHash(password);
+                if (userRepository.substituirHashSenha(user.getId(), hashAnterior, novoHash)) {
+                    logger.info("Hash de senha atualizado para o custo {}: {}", PasswordUtil.getCost(), user.getUsername());
+                }
+            } catch (SQLException e) {
+                logger.warn("Erro ao atualizar hash de senha de {}: {}", user.getUsername(), e.getMessage());
+            }
+        });
+
+        if (!aceito) {
+            logger.debug("Executor de hash ocupado; rehash de {} adiado", user.getUsername());
+        }
+    }
+
     /**
      * Encerra a sessão de um usuário (logout).
      *
@@ -5,8 +5,12 @@ import com.notisblokk.config.DatabaseConfig;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.io.FileUtils;
+import com.notisblokk.util.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.core.DB;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -14,11 +18,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -47,6 +51,9 @@ public class BackupService {
     // Formato brasileiro para backups: DDMMYYYY_HHmmss
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss");
 
+    // Reinícios do backup online tolerados antes de dispensar o limitador de I/O
+    private static final int REINICIOS_BACKUP = 3;
+
     /**
      * Cria um backup completo do banco de dados SQLite.
      *
@@ -72,30 +79,150 @@ public class BackupService {
         String backupFilePath = Paths.get(backupFolder, filename).toString();
 
         try {
-            // Copiar arquivo do banco de dados
-            String dbPath = AppConfig.getDatabasePath();
-            Path source = Paths.get(dbPath);
-            Path target = Paths.get(backupFilePath);
-
-            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            // Snapshot consistente do banco via API de backup online do SQLite
+            long inicio = System.nanoTime();
+            copiarBanco(Paths.get(backupFilePath), new RateLimiter(0));
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
 
-            long fileSize = Files.size(target);
-            logger.info("Backup criado com sucesso: {} ({} bytes)", backupFilePath, fileSize);
+            long fileSize = Files.size(Paths.get(backupFilePath));
+            logger.info("Backup criado com sucesso: {} ({} bytes em {} ms)", backupFilePath, fileSize, duracaoMs);
 
             // Registrar backup no banco
-            registrarBackup(backupFilePath, tipo, fileSize, userId);
+            registrarBackup(backupFilePath, tipo, fileSize, userId, duracaoMs);
 
             // Limpar backups antigos (manter últimos 10)
             limparBackupsAntigos(10);
 
             return backupFilePath;
 
-        } catch (IOException e) {
+        } catch (IOException | SQLException e) {
             logger.error("Erro ao criar backup", e);
             throw new Exception("Falha ao criar backup: " + e.getMessage());
         }
     }
 
+    /**
+     * Cria um backup automático com taxa de I/O limitada e aplica a política de retenção.
+     *
+     * <p>A cópia é feita em passos de poucas páginas pela API de backup online
+     * do SQLite, liberando o banco entre os passos. O ritmo é controlado por um
+     * {@link RateLimiter} configurado em {@code backup.throttle.kbps}, para que
+     * o backup não dispute o disco com as requisições interativas.</p>
+     *
+     * @return caminho do arquivo de backup criado
+     * @throws Exception se houver erro ao criar backup
+     */
+    public String criarBackupAutomatico() throws Exception {
+        int limiteKbps = AppConfig.getBackupThrottleKbps();
+        logger.info("Iniciando backup automático (limite: {} KB/s)", limiteKbps > 0 ? limiteKbps : "sem limite");
+
+        Path backupPath = Paths.get(AppConfig.getBackupFolder());
+        if (!Files.exists(backupPath)) {
+            Files.createDirectories(backupPath);
+            logger.info("Pasta de backups criada: {}", backupPath);
+        }
+
+        String timestamp = LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER);
+        Path target = backupPath.resolve(String.format("notisblokk_auto_%s.db", timestamp));
+
+        try {
+            long inicio = System.nanoTime();
+            copiarBanco(target, RateLimiter.kbps(limiteKbps));
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+            long fileSize = Files.size(target);
+            logger.info("Backup automático criado: {} ({} bytes em {} ms)", target, fileSize, duracaoMs);
+
+            registrarBackup(target.toString(), "AUTO", fileSize, null, duracaoMs);
+            aplicarRetencaoBackupsAutomaticos(
+                AppConfig.getBackupRetencaoMinimo(),
+                AppConfig.getBackupRetencaoMaximo(),
+                AppConfig.getBackupRetencaoDias()
+            );
+
+            return target.toString();
+
+        } catch (IOException | SQLException e) {
+            Files.deleteIfExists(target);
+            logger.error("Erro ao criar backup automático", e);
+            throw new Exception("Falha ao criar backup automático: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copia o banco de dados para o destino usando a API de backup online do SQLite.
+     *
+     * <p>Diferente de uma cópia do arquivo, o backup online gera um snapshot
+     * consistente mesmo com escritas concorrentes. Após cada passo, o limitador
+     * recebe o volume copiado e suspende a thread se necessário.</p>
+     *
+     * <p>Com o limitador, o backup leva vários passos; se cada passo abrisse a própria
+     * leitura, qualquer escrita de outra conexão entre dois passos faria o SQLite
+     * recomeçar a cópia do zero, e com escritas frequentes o backup nunca terminaria.
+     * Por isso todos os passos rodam dentro de uma única transação de leitura: no modo
+     * WAL ela enxerga o mesmo snapshot do início ao fim sem bloquear os escritores.
+     * Se ainda assim a cópia recomeçar {@value #REINICIOS_BACKUP} vezes, o limitador é
+     * dispensado para que o backup termine.</p>
+     *
+     * @param destino arquivo de destino
+     * @param limitador limitador de taxa de I/O
+     * @throws SQLException se houver erro no backup
+     */
+    private void copiarBanco(Path destino, RateLimiter limitador) throws SQLException {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            int pageSize;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("PRAGMA page_size")) {
+                pageSize = rs.next() ? rs.getInt(1) : 4096;
+            }
+
+            int paginasPorPasso = limitador.isLimitado()
+                ? Math.max(1, AppConfig.getBackupThrottlePaginasPorPasso())
+                : -1; // -1 = todas as páginas em um único passo
+
+            int[] paginasCopiadas = {0};
+            int[] reinicios = {0};
+            DB.ProgressObserver observer = (restantes, total) -> {
+                int copiadas = total - restantes;
+                if (copiadas < paginasCopiadas[0]) {
+                    reinicios[0]++;
+                    logger.warn("Backup online recomeçou após escrita concorrente ({} de {})",
+                        reinicios[0], REINICIOS_BACKUP);
+                }
+                int delta = Math.max(0, copiadas - paginasCopiadas[0]);
+                paginasCopiadas[0] = copiadas;
+                if (reinicios[0] >= REINICIOS_BACKUP) {
+                    return; // sem pausa: terminar antes da próxima escrita
+                }
+                try {
+                    limitador.acquire((long) delta * pageSize);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                // Abre a transação de leitura (BEGIN é adiado até a primeira leitura)
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM sqlite_master")) {
+                    rs.next();
+                }
+
+                SQLiteConnection sqlite = conn.unwrap(SQLiteConnection.class);
+                int rc = sqlite.getDatabase().backup("main", destino.toString(), observer, 100, 50, paginasPorPasso);
+
+                if (rc != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("Backup online do SQLite falhou (código " + rc + ")");
+                }
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
     /**
      * Exporta todas as tarefas para arquivo CSV.
      *
@@ -160,7 +287,7 @@ public class BackupService {
             long fileSize = new File(csvFilePath).length();
 
             // Registrar export no banco
-            registrarBackup(csvFilePath, "CSV", fileSize, userId);
+            registrarBackup(csvFilePath, "CSV", fileSize, userId, null);
 
             return csvFilePath;
 
@@ -177,11 +304,13 @@ public class BackupService {
      * @param tipo tipo do backup
      * @param tamanhoBytes tamanho do arquivo em bytes
      * @param userId ID do usuário (null se automático)
+     * @param duracaoMs duração da cópia em milissegundos (null se não medida)
      */
-    private void registrarBackup(String caminhoArquivo, String tipo, long tamanhoBytes, Long userId) {
+    private void registrarBackup(String caminhoArquivo, String tipo, long tamanhoBytes, Long userId,
+                                 Long duracaoMs) {
         String sql = """
-            INSERT INTO backups (caminho_arquivo, tipo, tamanho_bytes, usuario_id)
-            VALUES (?, ?, ?, ?)
+            INSERT INTO backups (caminho_arquivo, tipo, tamanho_bytes, usuario_id, duracao_ms, throughput_kbps)
+            VALUES (?, ?, ?, ?, ?, ?)
         """;
 
         try (Connection conn = DatabaseConfig.getConnection();
@@ -195,6 +324,13 @@ public class BackupService {
             } else {
                 pstmt.setNull(4, java.sql.Types.INTEGER);
             }
+            if (duracaoMs != null) {
+                pstmt.setLong(5, duracaoMs);
+                pstmt.setDouble(6, (tamanhoBytes / 1024.0) / (Math.max(duracaoMs, 1) / 1000.0));
+            } else {
+                pstmt.setNull(5, java.sql.Types.INTEGER);
+                pstmt.setNull(6, java.sql.Types.REAL);
+            }
 
             pstmt.executeUpdate();
             logger.info("Backup registrado no banco: {} ({})", caminhoArquivo, tipo);
@@ -214,6 +350,7 @@ public class BackupService {
 
         String sql = """
             SELECT b.id, b.caminho_arquivo, b.tipo, b.tamanho_bytes, b.data_backup,
+                   b.duracao_ms, b.throughput_kbps,
                    u.full_name as usuario_nome
             FROM backups b
             LEFT JOIN users u ON b.usuario_id = u.id
@@ -233,6 +370,11 @@ public class BackupService {
                 info.dataBackup = rs.getString("data_backup");
                 info.usuarioNome = rs.getString("usuario_nome");
 
+                long duracaoMs = rs.getLong("duracao_ms");
+                info.duracaoMs = rs.wasNull() ? null : duracaoMs;
+                double throughput = rs.getDouble("throughput_kbps");
+                info.throughputKbps = rs.wasNull() ? null : throughput;
+
                 // Verificar se arquivo ainda existe
                 info.existe = new File(info.caminhoArquivo).exists();
 
@@ -244,7 +386,112 @@ public class BackupService {
     }
 
     /**
-     * Remove backups antigos, mantendo apenas os N mais recentes.
+     * Retorna quantos dias de calendário se passaram desde o último backup automático.
+     *
+     * @return dias desde o último backup AUTO, ou null se nunca houve
+     * @throws SQLException se houver erro ao consultar
+     */
+    public Integer diasDesdeUltimoBackupAutomatico() throws SQLException {
+        String sql = """
+            SELECT CAST(julianday(date('now')) - julianday(date(MAX(data_backup))) AS INTEGER)
+            FROM backups
+            WHERE tipo = 'AUTO'
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            if (rs.next()) {
+                int dias = rs.getInt(1);
+                return rs.wasNull() ? null : dias;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Aplica a política de retenção aos backups automáticos.
+     *
+     * <p>Os {@code minimo} backups mais recentes são sempre mantidos. Dos demais,
+     * são removidos os que excedem {@code maximo} ou têm mais de {@code dias} dias.</p>
+     *
+     * @param minimo quantidade sempre mantida
+     * @param maximo quantidade máxima mantida
+     * @param dias idade máxima em dias
+     * @return quantidade de backups removidos
+     */
+    public int aplicarRetencaoBackupsAutomaticos(int minimo, int maximo, int dias) {
+        String sql = """
+            SELECT id, caminho_arquivo, julianday('now') - julianday(data_backup) AS idade_dias
+            FROM backups
+            WHERE tipo = 'AUTO'
+            ORDER BY data_backup DESC, id DESC
+        """;
+
+        List<Long> idsParaRemover = new ArrayList<>();
+        List<String> arquivosParaRemover = new ArrayList<>();
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql);
+                 ResultSet rs = pstmt.executeQuery()) {
+
+                int posicao = 0;
+                while (rs.next()) {
+                    posicao++;
+                    if (posicao <= minimo) {
+                        continue;
+                    }
+                    if (posicao > maximo || rs.getDouble("idade_dias") > dias) {
+                        idsParaRemover.add(rs.getLong("id"));
+                        arquivosParaRemover.add(rs.getString("caminho_arquivo"));
+                    }
+                }
+            }
+
+            if (idsParaRemover.isEmpty()) {
+                return 0;
+            }
+
+            conn.setAutoCommit(false);
+            try (PreparedStatement deleteStmt = conn.prepareStatement("DELETE FROM backups WHERE id = ?")) {
+                for (Long id : idsParaRemover) {
+                    deleteStmt.setLong(1, id);
+                    deleteStmt.addBatch();
+                }
+                deleteStmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao aplicar retenção de backups automáticos", e);
+            return 0;
+        }
+
+        for (String arquivo : arquivosParaRemover) {
+            try {
+                if (Files.deleteIfExists(Paths.get(arquivo))) {
+                    logger.info("Backup automático removido pela retenção: {}", arquivo);
+                }
+            } catch (IOException e) {
+                logger.warn("Não foi possível remover arquivo: {}", arquivo, e);
+            }
+        }
+
+        logger.info("Retenção de backups automáticos: {} removidos", idsParaRemover.size());
+        return idsParaRemover.size();
+    }
+
+    /**
+     * Remove backups manuais e exports antigos, mantendo apenas os N mais recentes.
+     *
+     * <p>Backups automáticos seguem a política própria de
+     * {@link #aplicarRetencaoBackupsAutomaticos(int, int, int)}.</p>
      *
      * @param manterQuantidade quantidade de backups a manter
      */
@@ -252,6 +499,7 @@ public class BackupService {
         String sql = """
             SELECT id, caminho_arquivo
             FROM backups
+            WHERE tipo <> 'AUTO'
             ORDER BY data_backup DESC
         """;
 
@@ -312,6 +560,8 @@ public class BackupService {
         public Long tamanhoBytes;
         public String dataBackup;
         public String usuarioNome;
+        public Long duracaoMs;
+        public Double throughputKbps;
         public boolean existe;
 
         public String getTamanhoFormatado() {
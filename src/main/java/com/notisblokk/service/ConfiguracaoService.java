@@ -106,6 +106,43 @@ public class ConfiguracaoService {
         return DEFAULTS.getOrDefault(chave, null);
     }
 
+    /**
+     * Busca o valor de uma configuração para todos os administradores ativos.
+     *
+     * <p>Usado por jobs do sistema (como o backup automático) que precisam
+     * respeitar preferências definidas pelos administradores.</p>
+     *
+     * @param chave Chave da configuração
+     * @return Map de userId para valor (apenas administradores com valor salvo)
+     */
+    public Map<Long, String> buscarConfiguracaoAdministradores(String chave) {
+        Map<Long, String> valores = new HashMap<>();
+
+        String sql = """
+            SELECT c.usuario_id, c.valor
+            FROM configuracoes c
+            INNER JOIN users u ON c.usuario_id = u.id
+            WHERE c.chave = ? AND u.role = 'ADMIN' AND u.active = 1
+        """;
+
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, chave);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    valores.put(rs.getLong("usuario_id"), rs.getString("valor"));
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao buscar configuração {} dos administradores", chave, e);
+        }
+
+        return valores;
+    }
+
     /**
      * Salva ou atualiza múltiplas configurações.
      *
@@ -1,6 +1,8 @@
 package com.notisblokk.service;
 
 import com.notisblokk.config.AppConfig;
+import com.notisblokk.util.Metricas;
+import com.notisblokk.util.TempoRequisicao;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,6 +29,10 @@ import java.util.Properties;
 public class EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
+    private static final Metricas.Contador EMAILS_ENVIADOS = Metricas.contador(
+        "notisblokk_emails_total", "Emails enviados por resultado", "resultado", "sucesso");
+    private static final Metricas.Contador EMAILS_FALHOS = Metricas.contador(
+        "notisblokk_emails_total", "Emails enviados por resultado", "resultado", "falha");
     private final Session session;
 
     /**
@@ -69,10 +75,17 @@ public class EmailService {
             message.setSubject(subject);
             message.setContent(htmlBody, "text/html; charset=UTF-8");
 
-            Transport.send(message);
+            long inicio = System.nanoTime();
+            try {
+                Transport.send(message);
+            } finally {
+                TempoRequisicao.somar(TempoRequisicao.Etapa.EXTERNO, System.nanoTime() - inicio);
+            }
+            EMAILS_ENVIADOS.incrementar();
             logger.info("Email enviado com sucesso para: {}", to);
 
         } catch (Exception e) {
+            EMAILS_FALHOS.incrementar();
             logger.error("Erro ao enviar email para {}", to, e);
             throw new Exception("Falha ao enviar email: " + e.getMessage());
         }
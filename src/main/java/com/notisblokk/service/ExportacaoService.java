@@ -0,0 +1,262 @@
+package com.notisblokk.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.notisblokk.model.FiltroTarefa;
+import com.notisblokk.repository.TarefaRepository;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serviço de exportação de tarefas em streaming (CSV e NDJSON).
+ *
+ * <p>Responsável por:</p>
+ * <ul>
+ *   <li>Validar as colunas solicitadas</li>
+ *   <li>Escrever as linhas diretamente no stream de saída (sem arquivo temporário)</li>
+ *   <li>Compactar a saída com gzip quando solicitado</li>
+ * </ul>
+ *
+ * <p>As linhas são lidas com cursor forward-only e escritas uma a uma, de modo
+ * que o uso de memória independe do tamanho da exportação.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ExportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportacaoService.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int INTERVALO_PROGRESSO = 1000;
+
+    /** Colunas exportadas quando nenhuma é informada (mesmas do export CSV do backup). */
+    public static final List<String> COLUNAS_PADRAO = List.of(
+        "id", "titulo", "etiqueta", "status", "prazo_final", "data_criacao", "data_atualizacao", "conteudo"
+    );
+
+    /** Cabeçalhos legíveis para o CSV. */
+    private static final Map<String, String> CABECALHOS = Map.ofEntries(
+        Map.entry("id", "ID"),
+        Map.entry("titulo", "Título"),
+        Map.entry("etiqueta", "Etiqueta"),
+        Map.entry("status", "Status"),
+        Map.entry("prazo_final", "Prazo Final"),
+        Map.entry("data_criacao", "Data Criação"),
+        Map.entry("data_atualizacao", "Data Atualização"),
+        Map.entry("conteudo", "Conteúdo"),
+        Map.entry("etiqueta_id", "ID Etiqueta"),
+        Map.entry("status_id", "ID Status"),
+        Map.entry("usuario_id", "ID Usuário"),
+        Map.entry("usuario", "Usuário")
+    );
+
+    /**
+     * Formatos de exportação suportados.
+     */
+    public enum Formato {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extensao;
+
+        Formato(String contentType, String extensao) {
+            this.contentType = contentType;
+            this.extensao = extensao;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+
+        /**
+         * Converte o parâmetro da requisição no formato correspondente.
+         *
+         * @param valor "csv" ou "ndjson" (null = csv)
+         * @return Formato formato correspondente
+         * @throws IllegalArgumentException se o formato não for suportado
+         */
+        public static Formato of(String valor) {
+            if (valor == null || valor.isBlank()) {
+                return CSV;
+            }
+            return switch (valor.trim().toLowerCase()) {
+                case "csv" -> CSV;
+                case "ndjson", "jsonl" -> NDJSON;
+                default -> throw new IllegalArgumentException("Formato inválido. Use csv ou ndjson");
+            };
+        }
+    }
+
+    private final TarefaRepository tarefaRepository;
+
+    public ExportacaoService() {
+        this.tarefaRepository = new TarefaRepository();
+    }
+
+    /**
+     * Valida e normaliza a lista de colunas solicitada.
+     *
+     * @param parametro lista separada por vírgulas (null ou vazio = colunas padrão)
+     * @return List<String> colunas válidas, sem duplicatas, na ordem solicitada
+     * @throws IllegalArgumentException se alguma coluna não existir
+     */
+    public List<String> resolverColunas(String parametro) {
+        if (parametro == null || parametro.isBlank()) {
+            return COLUNAS_PADRAO;
+        }
+
+        List<String> colunas = new ArrayList<>();
+        for (String coluna : parametro.split(",")) {
+            String chave = coluna.trim().toLowerCase();
+            if (chave.isEmpty() || colunas.contains(chave)) {
+                continue;
+            }
+            if (!TarefaRepository.COLUNAS_EXPORTACAO.containsKey(chave)) {
+                throw new IllegalArgumentException("Coluna inválida: " + chave
+                    + ". Disponíveis: " + String.join(", ", TarefaRepository.COLUNAS_EXPORTACAO.keySet()));
+            }
+            colunas.add(chave);
+        }
+
+        if (colunas.isEmpty()) {
+            return COLUNAS_PADRAO;
+        }
+        return colunas;
+    }
+
+    /**
+     * Exporta as tarefas que atendem ao filtro diretamente no stream de saída.
+     *
+     * <p>O stream não é fechado; apenas esvaziado (e finalizado, no caso de gzip).</p>
+     *
+     * @param formato formato de saída
+     * @param colunas colunas já validadas por {@link #resolverColunas(String)}
+     * @param filtro critérios de filtro
+     * @param saida stream de destino (ex.: resposta HTTP)
+     * @param gzip true para compactar a saída
+     * @return long quantidade de tarefas exportadas
+     * @throws SQLException se houver erro ao ler o banco
+     * @throws IOException se houver erro ao escrever a saída
+     */
+    public long exportar(Formato formato, List<String> colunas, FiltroTarefa filtro,
+                         OutputStream saida, boolean gzip) throws SQLException, IOException {
+        return exportar(formato, colunas, filtro, saida, gzip, null);
+    }
+
+    /**
+     * Igual a {@link #exportar(Formato, List, FiltroTarefa, OutputStream, boolean)}, informando
+     * a quantidade de linhas já escritas a cada {@value #INTERVALO_PROGRESSO} linhas.
+     * Uma exceção lançada pelo callback interrompe a exportação.
+     *
+     * @param progresso recebe o total de linhas escritas até o momento (pode ser null)
+     */
+    public long exportar(Formato formato, List<String> colunas, FiltroTarefa filtro,
+                         OutputStream saida, boolean gzip, LongConsumer progresso)
+            throws SQLException, IOException {
+        long inicio = System.currentTimeMillis();
+
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(saida, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(gzipStream != null ? gzipStream : saida, StandardCharsets.UTF_8),
+            BUFFER_SIZE
+        );
+
+        long total = switch (formato) {
+            case CSV -> exportarCSV(colunas, filtro, writer, progresso);
+            case NDJSON -> exportarNDJSON(colunas, filtro, writer, progresso);
+        };
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        saida.flush();
+
+        logger.info("{} tarefas exportadas em {} ({} ms, gzip: {})",
+            total, formato, System.currentTimeMillis() - inicio, gzip);
+        return total;
+    }
+
+    private long exportarCSV(List<String> colunas, FiltroTarefa filtro, Writer writer, LongConsumer progresso)
+            throws SQLException, IOException {
+        String[] cabecalhos = colunas.stream().map(CABECALHOS::get).toArray(String[]::new);
+        CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(cabecalhos).build());
+        Object[] valores = new Object[colunas.size()];
+        long[] escritas = {0};
+
+        long total = tarefaRepository.percorrerParaExportacao(colunas, filtro, rs -> {
+            for (int i = 0; i < valores.length; i++) {
+                valores[i] = rs.getObject(i + 1);
+            }
+            csvPrinter.printRecord(valores);
+            informarProgresso(progresso, ++escritas[0]);
+        });
+
+        csvPrinter.flush();
+        return total;
+    }
+
+    private long exportarNDJSON(List<String> colunas, FiltroTarefa filtro, Writer writer, LongConsumer progresso)
+            throws SQLException, IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        long[] escritas = {0};
+
+        long total = tarefaRepository.percorrerParaExportacao(colunas, filtro, rs -> {
+            generator.writeStartObject();
+            for (int i = 0; i < colunas.size(); i++) {
+                escreverCampo(generator, colunas.get(i), rs, i + 1);
+            }
+            generator.writeEndObject();
+            informarProgresso(progresso, ++escritas[0]);
+        });
+
+        if (total > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return total;
+    }
+
+    private static void informarProgresso(LongConsumer progresso, long escritas) {
+        if (progresso != null && escritas % INTERVALO_PROGRESSO == 0) {
+            progresso.accept(escritas);
+        }
+    }
+
+    private void escreverCampo(JsonGenerator generator, String nome, ResultSet rs, int indice)
+            throws SQLException, IOException {
+        Object valor = rs.getObject(indice);
+        if (valor == null) {
+            generator.writeNullField(nome);
+        } else if (valor instanceof Number numero) {
+            generator.writeNumberField(nome, numero.longValue());
+        } else {
+            generator.writeStringField(nome, valor.toString());
+        }
+    }
+}
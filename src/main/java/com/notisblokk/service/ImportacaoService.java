@@ -0,0 +1,509 @@
+package com.notisblokk.service;
+
+import com.notisblokk.config.AppConfig;
+import com.notisblokk.model.Etiqueta;
+import com.notisblokk.model.StatusTarefa;
+import com.notisblokk.model.Tarefa;
+import com.notisblokk.repository.EtiquetaRepository;
+import com.notisblokk.repository.StatusTarefaRepository;
+import com.notisblokk.repository.TarefaRepository;
+import com.notisblokk.util.FabricaThreads;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Serviço de importação de tarefas em lote a partir de CSV.
+ *
+ * <p>A importação funciona como um pipeline de dois estágios:</p>
+ * <ul>
+ *   <li><b>Leitura/validação:</b> uma thread lê o CSV em streaming, valida cada linha
+ *       e agrupa as linhas válidas em lotes</li>
+ *   <li><b>Gravação:</b> a thread da requisição cria as etiquetas ausentes e grava
+ *       cada lote em uma única transação</li>
+ * </ul>
+ *
+ * <p>A fila entre os estágios é limitada, de modo que o uso de memória independe
+ * do tamanho do arquivo. Linhas inválidas não interrompem a importação: são
+ * contadas e descritas (até {@code importacao.erros.maximo}) no resultado.</p>
+ *
+ * <p>Colunas reconhecidas (cabeçalho obrigatório, sem diferenciar maiúsculas nem acentos):
+ * titulo, conteudo, etiqueta ou etiqueta_id, status ou status_id, prazo_final.
+ * Demais colunas são ignoradas, o que permite reimportar um CSV exportado.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ImportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoService.class);
+    private static final int CAPACIDADE_FILA = 4;
+    private static final int TAMANHO_LOTE_MAXIMO = 10000;
+    private static final String STATUS_PADRAO = "pendente";
+    private static final Lote FIM = new Lote();
+
+    private final TarefaRepository tarefaRepository;
+    private final EtiquetaRepository etiquetaRepository;
+    private final StatusTarefaRepository statusTarefaRepository;
+    private final TarefaService tarefaService;
+
+    /**
+     * Construtor padrão.
+     */
+    public ImportacaoService() {
+        this.tarefaRepository = new TarefaRepository();
+        this.etiquetaRepository = new EtiquetaRepository();
+        this.statusTarefaRepository = new StatusTarefaRepository();
+        this.tarefaService = new TarefaService();
+    }
+
+    /**
+     * Recebe o resultado parcial a cada lote gravado.
+     */
+    @FunctionalInterface
+    public interface ProgressoListener {
+        void aoGravarLote(ResultadoImportacao parcial) throws IOException;
+    }
+
+    /**
+     * Importa tarefas de um CSV com cabeçalho.
+     *
+     * @param leitor conteúdo CSV (não é fechado por este método)
+     * @param separador separador de colunas (',' ou ';')
+     * @param tamanhoLote linhas por transação (≤ 0 = {@code importacao.lote.tamanho})
+     * @param sessaoId ID da sessão atual
+     * @param usuarioId ID do usuário atual
+     * @param listener notificado após cada lote gravado (pode ser null)
+     * @return ResultadoImportacao contagens e erros por linha
+     * @throws IllegalArgumentException se o cabeçalho não tiver as colunas obrigatórias
+     * @throws Exception se houver erro de leitura ou de banco que impeça continuar
+     */
+    public ResultadoImportacao importarCSV(Reader leitor, char separador, int tamanhoLote,
+                                           Long sessaoId, Long usuarioId,
+                                           ProgressoListener listener) throws Exception {
+        long inicio = System.currentTimeMillis();
+        int lote = tamanhoLote > 0 ? Math.min(tamanhoLote, TAMANHO_LOTE_MAXIMO) : AppConfig.getImportacaoLoteTamanho();
+
+        CSVParser parser = CSVFormat.DEFAULT.builder()
+            .setDelimiter(separador)
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setIgnoreSurroundingSpaces(true)
+            .build()
+            .parse(leitor);
+
+        Colunas colunas = Colunas.de(parser.getHeaderNames());
+
+        Map<String, Long> etiquetas = new HashMap<>();
+        Set<Long> etiquetaIds = new HashSet<>();
+        Map<String, Long> status = new HashMap<>();
+        Set<Long> statusIds = new HashSet<>();
+        try {
+            for (Etiqueta etiqueta : etiquetaRepository.buscarTodos()) {
+                etiquetas.putIfAbsent(chave(etiqueta.getNome()), etiqueta.getId());
+                etiquetaIds.add(etiqueta.getId());
+            }
+            for (StatusTarefa s : statusTarefaRepository.buscarTodos()) {
+                status.putIfAbsent(chave(s.getNome()), s.getId());
+                statusIds.add(s.getId());
+            }
+        } catch (SQLException e) {
+            throw new Exception("Erro ao carregar etiquetas e status: " + e.getMessage(), e);
+        }
+
+        ResultadoImportacao resultado = new ResultadoImportacao(lote);
+        BlockingQueue<Lote> fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+        Validador validador = new Validador(colunas, etiquetas, etiquetaIds, status, statusIds);
+        Throwable[] falhaLeitura = new Throwable[1];
+
+        Thread leitura = FabricaThreads.iniciar("importacao-csv-leitura", () -> {
+            Lote atual = new Lote();
+            try {
+                for (CSVRecord registro : parser) {
+                    validador.validar(registro, atual);
+                    if (atual.validas.size() + atual.erros.size() >= lote) {
+                        fila.put(atual);
+                        atual = new Lote();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                falhaLeitura[0] = e;
+            } finally {
+                // O FIM sempre chega: sem ele a thread da requisição esperaria para sempre no take()
+                try {
+                    if (!atual.validas.isEmpty() || !atual.erros.isEmpty()) {
+                        fila.put(atual);
+                    }
+                    fila.put(FIM);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        Map<String, Long> etiquetasCriadas = new HashMap<>();
+        try {
+            while (true) {
+                Lote atual = fila.take();
+                if (atual == FIM) {
+                    break;
+                }
+                gravarLote(atual, etiquetasCriadas, sessaoId, usuarioId, resultado);
+                if (listener != null) {
+                    listener.aoGravarLote(resultado);
+                }
+            }
+        } finally {
+            leitura.interrupt();
+        }
+
+        Throwable falha = falhaLeitura[0];
+        if (falha instanceof UncheckedIOException || falha instanceof IllegalStateException) {
+            // CSV malformado: as linhas anteriores já foram gravadas
+            resultado.registrarErro(parser.getCurrentLineNumber(), "Leitura interrompida: " + falha.getMessage());
+            resultado.interrompida = true;
+        } else if (falha instanceof Error erro) {
+            throw erro;
+        } else if (falha != null) {
+            throw new Exception("Erro ao ler o CSV: " + falha.getMessage(), falha);
+        }
+
+        resultado.duracaoMs = System.currentTimeMillis() - inicio;
+        logger.info("Importação CSV concluída: {} linhas, {} inseridas, {} rejeitadas, {} etiquetas criadas ({} ms)",
+            resultado.linhasLidas, resultado.inseridas, resultado.rejeitadas,
+            resultado.etiquetasCriadas, resultado.duracaoMs);
+        return resultado;
+    }
+
+    /**
+     * Cria as etiquetas ausentes do lote e grava as tarefas em uma transação.
+     * Se o lote falhar no banco, as linhas são regravadas uma a uma para isolar
+     * as que causaram o erro.
+     */
+    private void gravarLote(Lote lote, Map<String, Long> etiquetasCriadas, Long sessaoId, Long usuarioId,
+                            ResultadoImportacao resultado) {
+        resultado.linhasLidas += lote.validas.size() + lote.erros.size();
+        for (ErroLinha erro : lote.erros) {
+            resultado.registrarErro(erro.getLinha(), erro.getMensagem());
+        }
+
+        List<Tarefa> tarefas = new ArrayList<>(lote.validas.size());
+        List<Long> linhas = new ArrayList<>(lote.validas.size());
+
+        for (LinhaValida linha : lote.validas) {
+            if (linha.tarefa.getEtiquetaId() == null) {
+                Long etiquetaId = resolverEtiquetaNova(linha.etiquetaNova, etiquetasCriadas, sessaoId, usuarioId, resultado);
+                if (etiquetaId == null) {
+                    resultado.registrarErro(linha.numero, "Não foi possível criar a etiqueta '" + linha.etiquetaNova + "'");
+                    continue;
+                }
+                linha.tarefa.setEtiquetaId(etiquetaId);
+            }
+            tarefas.add(linha.tarefa);
+            linhas.add(linha.numero);
+        }
+
+        try {
+            resultado.inseridas += tarefaRepository.salvarEmLote(tarefas, sessaoId, usuarioId);
+        } catch (SQLException e) {
+            logger.warn("Falha ao gravar lote de {} tarefas, regravando linha a linha: {}", tarefas.size(), e.getMessage());
+            for (int i = 0; i < tarefas.size(); i++) {
+                try {
+                    resultado.inseridas += tarefaRepository.salvarEmLote(List.of(tarefas.get(i)), sessaoId, usuarioId);
+                } catch (SQLException erroLinha) {
+                    resultado.registrarErro(linhas.get(i), "Erro ao gravar: " + erroLinha.getMessage());
+                }
+            }
+        }
+    }
+
+    private Long resolverEtiquetaNova(String nome, Map<String, Long> etiquetasCriadas, Long sessaoId, Long usuarioId,
+                                      ResultadoImportacao resultado) {
+        String chave = chave(nome);
+        if (etiquetasCriadas.containsKey(chave)) {
+            return etiquetasCriadas.get(chave);
+        }
+
+        Long id = null;
+        try {
+            Etiqueta etiqueta = new Etiqueta();
+            etiqueta.setNome(nome);
+            id = etiquetaRepository.salvar(etiqueta, sessaoId, usuarioId).getId();
+            resultado.etiquetasCriadas++;
+        } catch (SQLException e) {
+            // Pode ter sido criada por outra requisição nesse meio tempo
+            try {
+                id = etiquetaRepository.buscarPorNome(nome).map(Etiqueta::getId).orElse(null);
+            } catch (SQLException ignorada) {
+                logger.error("Erro ao criar etiqueta '{}' na importação", nome, e);
+            }
+        }
+
+        // Falhas também são memorizadas, para não repetir a tentativa em cada linha
+        etiquetasCriadas.put(chave, id);
+        return id;
+    }
+
+    /**
+     * Normaliza nomes para comparação: minúsculas, sem acentos e sem espaços nas pontas.
+     */
+    private static String chave(String valor) {
+        String semAcento = Normalizer.normalize(valor.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return semAcento.toLowerCase();
+    }
+
+    /**
+     * Índices das colunas reconhecidas no cabeçalho (-1 = ausente).
+     */
+    private record Colunas(int titulo, int conteudo, int etiqueta, int etiquetaId,
+                           int status, int statusId, int prazoFinal) {
+
+        static Colunas de(List<String> cabecalho) {
+            Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < cabecalho.size(); i++) {
+                indices.putIfAbsent(chave(cabecalho.get(i)).replace(' ', '_'), i);
+            }
+
+            Colunas colunas = new Colunas(
+                indices.getOrDefault("titulo", -1),
+                indices.getOrDefault("conteudo", -1),
+                indices.getOrDefault("etiqueta", -1),
+                indices.getOrDefault("etiqueta_id", indices.getOrDefault("id_etiqueta", -1)),
+                indices.getOrDefault("status", -1),
+                indices.getOrDefault("status_id", indices.getOrDefault("id_status", -1)),
+                indices.getOrDefault("prazo_final", indices.getOrDefault("prazo", -1))
+            );
+
+            List<String> ausentes = new ArrayList<>();
+            if (colunas.titulo < 0) ausentes.add("titulo");
+            if (colunas.prazoFinal < 0) ausentes.add("prazo_final");
+            if (colunas.etiqueta < 0 && colunas.etiquetaId < 0) ausentes.add("etiqueta");
+            if (!ausentes.isEmpty()) {
+                throw new IllegalArgumentException("Colunas obrigatórias ausentes no cabeçalho: "
+                    + String.join(", ", ausentes));
+            }
+            return colunas;
+        }
+    }
+
+    /**
+     * Estágio de validação do pipeline (executado pela thread de leitura).
+     * Usa apenas os mapas carregados antes do início, que não são alterados depois.
+     */
+    private class Validador {
+        private final Colunas colunas;
+        private final Map<String, Long> etiquetas;
+        private final Set<Long> etiquetaIds;
+        private final Map<String, Long> status;
+        private final Set<Long> statusIds;
+
+        Validador(Colunas colunas, Map<String, Long> etiquetas, Set<Long> etiquetaIds,
+                  Map<String, Long> status, Set<Long> statusIds) {
+            this.colunas = colunas;
+            this.etiquetas = etiquetas;
+            this.etiquetaIds = etiquetaIds;
+            this.status = status;
+            this.statusIds = statusIds;
+        }
+
+        void validar(CSVRecord registro, Lote lote) {
+            long numero = registro.getRecordNumber() + 1; // +1 pelo cabeçalho
+            try {
+                Tarefa tarefa = new Tarefa();
+                String etiquetaNova = null;
+
+                String titulo = valor(registro, colunas.titulo);
+                if (titulo.isEmpty()) {
+                    throw new Exception("Título é obrigatório");
+                }
+                if (titulo.length() > 200) {
+                    throw new Exception("Título deve ter no máximo 200 caracteres");
+                }
+                tarefa.setTitulo(titulo);
+                tarefa.setConteudo(valor(registro, colunas.conteudo));
+
+                String etiquetaId = valor(registro, colunas.etiquetaId);
+                String etiqueta = valor(registro, colunas.etiqueta);
+                if (!etiqueta.isEmpty()) {
+                    if (etiqueta.length() > 100) {
+                        throw new Exception("Nome da etiqueta deve ter no máximo 100 caracteres");
+                    }
+                    tarefa.setEtiquetaId(etiquetas.get(chave(etiqueta)));
+                    if (tarefa.getEtiquetaId() == null) {
+                        etiquetaNova = etiqueta;
+                    }
+                } else if (!etiquetaId.isEmpty()) {
+                    tarefa.setEtiquetaId(idExistente(etiquetaId, etiquetaIds, "etiqueta"));
+                } else {
+                    throw new Exception("Etiqueta é obrigatória");
+                }
+
+                String statusNome = valor(registro, colunas.status);
+                String statusId = valor(registro, colunas.statusId);
+                if (!statusNome.isEmpty()) {
+                    tarefa.setStatusId(status.get(chave(statusNome)));
+                    if (tarefa.getStatusId() == null) {
+                        throw new Exception("Status não encontrado: " + statusNome);
+                    }
+                } else if (!statusId.isEmpty()) {
+                    tarefa.setStatusId(idExistente(statusId, statusIds, "status"));
+                } else {
+                    tarefa.setStatusId(status.get(STATUS_PADRAO));
+                    if (tarefa.getStatusId() == null) {
+                        throw new Exception("Status é obrigatório");
+                    }
+                }
+
+                LocalDate prazo = tarefaService.parsePrazoFinal(valor(registro, colunas.prazoFinal));
+                tarefa.setPrazoFinal(prazo);
+
+                lote.validas.add(new LinhaValida(numero, tarefa, etiquetaNova));
+
+            } catch (Exception e) {
+                lote.erros.add(new ErroLinha(numero, e.getMessage()));
+            }
+        }
+
+        private String valor(CSVRecord registro, int indice) {
+            if (indice < 0 || indice >= registro.size()) {
+                return "";
+            }
+            String valor = registro.get(indice);
+            return valor != null ? valor.trim() : "";
+        }
+
+        private Long idExistente(String valor, Set<Long> existentes, String nome) throws Exception {
+            try {
+                Long id = Long.parseLong(valor);
+                if (!existentes.contains(id)) {
+                    throw new Exception("ID de " + nome + " inexistente: " + id);
+                }
+                return id;
+            } catch (NumberFormatException e) {
+                throw new Exception("ID de " + nome + " inválido: '" + valor + "'");
+            }
+        }
+    }
+
+    /**
+     * Linha validada, pronta para gravação. {@code etiquetaNova} é preenchido quando a
+     * etiqueta ainda não existe e deve ser criada pelo estágio de gravação.
+     */
+    private record LinhaValida(long numero, Tarefa tarefa, String etiquetaNova) {
+    }
+
+    /**
+     * Lote trafegado entre os estágios do pipeline.
+     */
+    private static class Lote {
+        final List<LinhaValida> validas = new ArrayList<>();
+        final List<ErroLinha> erros = new ArrayList<>();
+    }
+
+    /**
+     * Erro de validação ou gravação de uma linha do CSV.
+     */
+    public static class ErroLinha {
+        private final long linha;
+        private final String mensagem;
+
+        public ErroLinha(long linha, String mensagem) {
+            this.linha = linha;
+            this.mensagem = mensagem;
+        }
+
+        public long getLinha() {
+            return linha;
+        }
+
+        public String getMensagem() {
+            return mensagem;
+        }
+    }
+
+    /**
+     * Resultado (parcial ou final) de uma importação.
+     */
+    public static class ResultadoImportacao {
+        private final int tamanhoLote;
+        private final int errosMaximo = AppConfig.getImportacaoErrosMaximo();
+        private final List<ErroLinha> erros = new ArrayList<>();
+        private long linhasLidas;
+        private long inseridas;
+        private long rejeitadas;
+        private int etiquetasCriadas;
+        private long duracaoMs;
+        private boolean interrompida;
+
+        ResultadoImportacao(int tamanhoLote) {
+            this.tamanhoLote = tamanhoLote;
+        }
+
+        void registrarErro(long linha, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < errosMaximo) {
+                erros.add(new ErroLinha(linha, mensagem));
+            }
+        }
+
+        public int getTamanhoLote() {
+            return tamanhoLote;
+        }
+
+        public long getLinhasLidas() {
+            return linhasLidas;
+        }
+
+        public long getInseridas() {
+            return inseridas;
+        }
+
+        public long getRejeitadas() {
+            return rejeitadas;
+        }
+
+        public int getEtiquetasCriadas() {
+            return etiquetasCriadas;
+        }
+
+        public long getDuracaoMs() {
+            return duracaoMs;
+        }
+
+        public boolean isInterrompida() {
+            return interrompida;
+        }
+
+        public List<ErroLinha> getErros() {
+            return erros;
+        }
+
+        /**
+         * @return boolean true se houve mais erros do que os detalhados em {@link #getErros()}
+         */
+        public boolean isErrosTruncados() {
+            return rejeitadas > erros.size();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.notisblokk.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.notisblokk.model.FiltroTarefa;
+import com.notisblokk.model.Job;
+import com.notisblokk.model.JobStatus;
+import com.notisblokk.model.TipoJob;
+import com.notisblokk.repository.JobRepository;
+import com.notisblokk.scheduler.FilaJobs;
+import com.notisblokk.scheduler.FilaJobs.ContextoJob;
+import com.notisblokk.scheduler.FilaJobs.ExecutorJob;
+import com.notisblokk.scheduler.FilaJobs.ResultadoJob;
+import org.apache.commons.io.input.BOMInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serviço de jobs em segundo plano.
+ *
+ * <p>Responsável por:</p>
+ * <ul>
+ *   <li>Enfileirar relatórios PDF, exportações, importações e backups</li>
+ *   <li>Consultar e cancelar jobs</li>
+ *   <li>Fornecer à {@link FilaJobs} o executor de cada {@link TipoJob}</li>
+ * </ul>
+ *
+ * <p>Os parâmetros de cada job são gravados em JSON, para que o job possa ser
+ * executado (ou reexecutado após um reinício) sem depender da requisição original.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+    private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss");
+    private static final int LIMITE_LISTAGEM = 50;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final JobRepository jobRepository;
+
+    public JobService() {
+        this.jobRepository = new JobRepository();
+    }
+
+    // ========== Enfileiramento ==========
+
+    /**
+     * Enfileira um relatório PDF das tarefas informadas.
+     *
+     * @param ids IDs das tarefas
+     * @param usuarioId ID do usuário que solicitou
+     * @return Job job criado
+     * @throws Exception se houver erro ao gravar o job
+     */
+    public Job enfileirarRelatorioPDF(List<Long> ids, Long usuarioId) throws Exception {
+        return enfileirar(TipoJob.PDF_RELATORIO, Map.of("ids", ids), usuarioId);
+    }
+
+    /**
+     * Enfileira uma exportação de tarefas.
+     *
+     * @param formato formato de saída
+     * @param colunas colunas já validadas
+     * @param filtro critérios de filtro
+     * @param gzip true para compactar
+     * @param usuarioId ID do usuário que solicitou
+     * @return Job job criado
+     * @throws Exception se houver erro ao gravar o job
+     */
+    public Job enfileirarExportacao(ExportacaoService.Formato formato, List<String> colunas,
+                                    FiltroTarefa filtro, boolean gzip, Long usuarioId) throws Exception {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        parametros.put("formato", formato.name());
+        parametros.put("colunas", colunas);
+        parametros.put("gzip", gzip);
+        parametros.put("filtro", filtro);
+        return enfileirar(TipoJob.EXPORTACAO, parametros, usuarioId);
+    }
+
+    /**
+     * Grava o CSV recebido na pasta de jobs e enfileira sua importação.
+     *
+     * @param conteudo conteúdo CSV (lido até o fim, não é fechado)
+     * @param separador separador de colunas
+     * @param lote linhas por transação (≤ 0 = padrão)
+     * @param sessaoId ID da sessão atual
+     * @param usuarioId ID do usuário atual
+     * @return Job job criado
+     * @throws Exception se houver erro ao gravar o arquivo ou o job
+     */
+    public Job enfileirarImportacao(InputStream conteudo, char separador, int lote,
+                                    Long sessaoId, Long usuarioId) throws Exception {
+        Path arquivo = FilaJobs.novoArquivoEntrada(".csv");
+        try {
+            Files.copy(conteudo, arquivo, StandardCopyOption.REPLACE_EXISTING);
+
+            Map<String, Object> parametros = new LinkedHashMap<>();
+            parametros.put("arquivo", arquivo.toString());
+            parametros.put("separador", String.valueOf(separador));
+            parametros.put("lote", lote);
+            parametros.put("sessaoId", sessaoId);
+            return enfileirar(TipoJob.IMPORTACAO, parametros, usuarioId);
+
+        } catch (Exception e) {
+            Files.deleteIfExists(arquivo);
+            throw e;
+        }
+    }
+
+    /**
+     * Enfileira um backup manual do banco.
+     *
+     * @param usuarioId ID do usuário que solicitou
+     * @return Job job criado
+     * @throws Exception se houver erro ao gravar o job
+     */
+    public Job enfileirarBackup(Long usuarioId) throws Exception {
+        return enfileirar(TipoJob.BACKUP, Map.of(), usuarioId);
+    }
+
+    /**
+     * Enfileira a exportação de todas as tarefas para CSV na pasta de backups.
+     *
+     * @param usuarioId ID do usuário que solicitou
+     * @return Job job criado
+     * @throws Exception se houver erro ao gravar o job
+     */
+    public Job enfileirarBackupCSV(Long usuarioId) throws Exception {
+        return enfileirar(TipoJob.BACKUP_CSV, Map.of(), usuarioId);
+    }
+
+    private Job enfileirar(TipoJob tipo, Map<String, Object> parametros, Long usuarioId) throws Exception {
+        try {
+            Job job = jobRepository.salvar(new Job(tipo, MAPPER.writeValueAsString(parametros), usuarioId));
+            logger.info("Job {} ({}) enfileirado por usuário {}", job.getId(), tipo, usuarioId);
+            FilaJobs.notificar();
+            return job;
+        } catch (SQLException e) {
+            throw new Exception("Erro ao enfileirar job: " + e.getMessage(), e);
+        }
+    }
+
+    // ========== Consulta e cancelamento ==========
+
+    /**
+     * Busca um job pelo ID.
+     *
+     * @param id ID do job
+     * @return Optional<Job> job encontrado
+     * @throws Exception se houver erro ao acessar o banco
+     */
+    public Optional<Job> buscarPorId(Long id) throws Exception {
+        try {
+            return jobRepository.buscarPorId(id);
+        } catch (SQLException e) {
+            throw new Exception("Erro ao buscar job: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lista os jobs mais recentes de um usuário (ou de todos, se usuarioId for null).
+     *
+     * @param usuarioId ID do usuário (null = todos)
+     * @return List<Job> jobs do mais recente para o mais antigo
+     * @throws Exception se houver erro ao acessar o banco
+     */
+    public List<Job> listar(Long usuarioId) throws Exception {
+        try {
+            return jobRepository.listarRecentes(usuarioId, LIMITE_LISTAGEM);
+        } catch (SQLException e) {
+            throw new Exception("Erro ao listar jobs: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Cancela um job pendente ou solicita a parada de um job em execução.
+     *
+     * @param job job a cancelar
+     * @return boolean true se o job ainda não estava finalizado
+     * @throws Exception se houver erro ao acessar o banco
+     */
+    public boolean cancelar(Job job) throws Exception {
+        try {
+            boolean cancelado = jobRepository.solicitarCancelamento(job.getId());
+            if (cancelado) {
+                FilaJobs.cancelar(job.getId());
+                if (job.getStatus() == JobStatus.PENDENTE && job.getTipo() == TipoJob.IMPORTACAO) {
+                    removerEntrada(job);
+                }
+                logger.info("Cancelamento solicitado para job {} ({})", job.getId(), job.getTipo());
+            }
+            return cancelado;
+        } catch (SQLException e) {
+            throw new Exception("Erro ao cancelar job: " + e.getMessage(), e);
+        }
+    }
+
+    // ========== Executores ==========
+
+    /**
+     * Executores de cada tipo de job, entregues à {@link FilaJobs} na inicialização.
+     *
+     * @return Map executor por tipo
+     */
+    public Map<TipoJob, ExecutorJob> executores() {
+        Map<TipoJob, ExecutorJob> executores = new EnumMap<>(TipoJob.class);
+        executores.put(TipoJob.PDF_RELATORIO, this::executarRelatorioPDF);
+        executores.put(TipoJob.EXPORTACAO, this::executarExportacao);
+        executores.put(TipoJob.IMPORTACAO, this::executarImportacao);
+        executores.put(TipoJob.BACKUP, this::executarBackup);
+        executores.put(TipoJob.BACKUP_CSV, this::executarBackupCSV);
+        return executores;
+    }
+
+    private ResultadoJob executarRelatorioPDF(Job job, ContextoJob contexto) throws Exception {
+        JsonNode parametros = MAPPER.readTree(job.getParametros());
+        List<Long> ids = new ArrayList<>();
+        parametros.path("ids").forEach(id -> ids.add(id.asLong()));
+
+        PDFService pdfService = new PDFService();
+        long total = pdfService.contarTarefasRelatorio(ids);
+        if (total == 0) {
+            throw new Exception("Nenhuma tarefa encontrada");
+        }
+        contexto.progresso(0, total);
+
+        Path arquivo = contexto.novoArquivo(".pdf");
+        try (OutputStream saida = new BufferedOutputStream(Files.newOutputStream(arquivo))) {
+            pdfService.gerarPDFRelatorio(ids, total, saida, lidas -> contexto.progresso(lidas, total));
+        }
+
+        return new ResultadoJob(total + " tarefa(s) no relatório", arquivo,
+            "relatorio_tarefas_" + timestamp() + ".pdf", "application/pdf");
+    }
+
+    private ResultadoJob executarExportacao(Job job, ContextoJob contexto) throws Exception {
+        JsonNode parametros = MAPPER.readTree(job.getParametros());
+        ExportacaoService.Formato formato = ExportacaoService.Formato.valueOf(parametros.path("formato").asText());
+        List<String> colunas = new ArrayList<>();
+        parametros.path("colunas").forEach(coluna -> colunas.add(coluna.asText()));
+        boolean gzip = parametros.path("gzip").asBoolean();
+        FiltroTarefa filtro = MAPPER.treeToValue(parametros.path("filtro"), FiltroTarefa.class);
+
+        String extensao = "." + formato.getExtensao() + (gzip ? ".gz" : "");
+        Path arquivo = contexto.novoArquivo(extensao);
+        long total;
+        try (OutputStream saida = Files.newOutputStream(arquivo)) {
+            total = new ExportacaoService().exportar(formato, colunas, filtro, saida, gzip,
+                escritas -> contexto.progresso(escritas, null));
+        }
+        contexto.progresso(total, total);
+
+        return new ResultadoJob(total + " tarefa(s) exportada(s)", arquivo,
+            "notisblokk_tarefas_" + timestamp() + extensao,
+            gzip ? "application/gzip" : formato.getContentType() + "; charset=utf-8");
+    }
+
+    private ResultadoJob executarImportacao(Job job, ContextoJob contexto) throws Exception {
+        JsonNode parametros = MAPPER.readTree(job.getParametros());
+        Path entrada = Paths.get(parametros.path("arquivo").asText());
+        char separador = parametros.path("separador").asText(",").charAt(0);
+        int lote = parametros.path("lote").asInt(0);
+        Long sessaoId = parametros.hasNonNull("sessaoId") ? parametros.get("sessaoId").asLong() : null;
+
+        try (InputStream conteudo = Files.newInputStream(entrada);
+             Reader leitor = new BufferedReader(new InputStreamReader(
+                 BOMInputStream.builder().setInputStream(conteudo).get(), StandardCharsets.UTF_8), 64 * 1024)) {
+
+            ImportacaoService.ResultadoImportacao resultado = new ImportacaoService().importarCSV(
+                leitor, separador, lote, sessaoId, job.getUsuarioId(),
+                parcial -> contexto.progresso(parcial.getLinhasLidas(), null));
+
+            // Resultado completo (com erros por linha) disponível para download
+            Path arquivo = contexto.novoArquivo(".json");
+            MAPPER.writeValue(arquivo.toFile(), resultado);
+
+            String mensagem = resultado.getInseridas() + " tarefa(s) importada(s), "
+                + resultado.getRejeitadas() + " linha(s) rejeitada(s)";
+            return new ResultadoJob(mensagem, arquivo, "importacao_" + timestamp() + ".json", "application/json");
+
+        } finally {
+            Files.deleteIfExists(entrada);
+        }
+    }
+
+    private ResultadoJob executarBackup(Job job, ContextoJob contexto) throws Exception {
+        String caminho = new BackupService().criarBackup(job.getUsuarioId(), "MANUAL");
+        Path arquivo = Paths.get(caminho);
+        return new ResultadoJob("Backup criado com sucesso!", arquivo,
+            arquivo.getFileName().toString(), "application/octet-stream");
+    }
+
+    private ResultadoJob executarBackupCSV(Job job, ContextoJob contexto) throws Exception {
+        String caminho = new BackupService().exportarTarefasCSV(job.getUsuarioId());
+        Path arquivo = Paths.get(caminho);
+        return new ResultadoJob("Tarefas exportadas para CSV com sucesso!", arquivo,
+            arquivo.getFileName().toString(), "text/csv; charset=utf-8");
+    }
+
+    private void removerEntrada(Job job) {
+        try {
+            String arquivo = MAPPER.readTree(job.getParametros()).path("arquivo").asText(null);
+            if (arquivo != null) {
+                Files.deleteIfExists(Paths.get(arquivo));
+            }
+        } catch (IOException e) {
+            logger.warn("Não foi possível remover a entrada do job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private static String timestamp() {
+        return LocalDateTime.now(BRAZIL_ZONE).format(TIMESTAMP);
+    }
+}
@@ -2,9 +2,11 @@ package com.notisblokk.service;
 
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.element.Cell;
@@ -13,18 +15,50 @@ import com.itextpdf.layout.properties.UnitValue;
 import com.notisblokk.config.AppConfig;
 import com.notisblokk.model.Etiqueta;
 import com.notisblokk.model.Tarefa;
+import com.notisblokk.model.TarefaDTO;
 import com.notisblokk.model.StatusTarefa;
 import com.notisblokk.repository.TarefaRepository;
 import com.notisblokk.repository.EtiquetaRepository;
 import com.notisblokk.repository.StatusTarefaRepository;
+import com.notisblokk.util.CacheDisco;
+import com.notisblokk.util.PDFRecursos;
+import org.apache.commons.io.output.TeeOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Serviço de geração de PDF para tarefas.
@@ -33,9 +67,17 @@ import java.util.List;
  * <ul>
  *   <li>Gerar PDF de uma tarefa individual</li>
  *   <li>Gerar PDF com lista de tarefas</li>
+ *   <li>Gerar pacote ZIP com um PDF por tarefa</li>
  *   <li>Formatar conteúdo HTML das tarefas</li>
  * </ul>
  *
+ * <p>Cores, bordas, fontes e a faixa de cabeçalho vêm de {@link PDFRecursos} e são
+ * compartilhados entre documentos; aqui só se monta o que varia por tarefa.</p>
+ *
+ * <p>Os PDFs gerados ficam em um cache em disco ({@link CacheDisco}, limitado por
+ * {@code pdf.cache.limite.mb}). A chave é um resumo de tudo o que o documento exibe,
+ * então uma tarefa alterada gera uma chave nova e a versão antiga sai por LRU.</p>
+ *
  * @author Notisblokk Team
  * @version 1.0
  * @since 2025-01-26
@@ -45,6 +87,43 @@ public class PDFService {
     private static final Logger logger = LoggerFactory.getLogger(PDFService.class);
     private static final ZoneId BRAZIL_ZONE = ZoneId.of("America/Sao_Paulo");
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final UnitValue[] COLUNAS_INFO = UnitValue.createPercentArray(new float[]{20, 20, 20, 20, 20});
+    private static final UnitValue[] COLUNAS_RELATORIO = UnitValue.createPercentArray(new float[]{35, 20, 20, 25});
+
+    /** Quantidade de IDs lidos por consulta na geração do relatório. */
+    public static final int BLOCO_RELATORIO = 500;
+
+    /** Versão do layout; incrementar ao mudar o visual para invalidar os PDFs em cache. */
+    private static final int VERSAO_LAYOUT = 1;
+
+    /**
+     * Executor dos pacotes ZIP, compartilhado por todas as requisições para que a
+     * geração em paralelo fique limitada aos núcleos disponíveis.
+     */
+    private static final class ExecutorPacote {
+        static final int THREADS = AppConfig.getPdfPacoteThreads();
+        static final ExecutorService INSTANCIA = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+            private final AtomicInteger contador = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable tarefa) {
+                Thread thread = new Thread(tarefa, "pdf-pacote-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /** PDF de uma tarefa pronto para entrar no pacote (pdf null = falhou). */
+    private record ArquivoPacote(Long tarefaId, String nome, byte[] pdf, String erro) {
+    }
+
+    /** Cache compartilhado, criado no primeiro uso. */
+    private static final class CachePDF {
+        static final CacheDisco INSTANCIA = CacheDisco.criar("PDFs",
+            Paths.get(AppConfig.getPdfCachePasta()), AppConfig.getPdfCacheLimiteMb() * 1024L * 1024L);
+    }
 
     private final TarefaRepository tarefaRepository;
     private final EtiquetaRepository etiquetaRepository;
@@ -57,18 +136,58 @@ public class PDFService {
     }
 
     /**
-     * Gera PDF de uma tarefa específica.
+     * Fornece as tarefas do relatório em blocos.
+     */
+    @FunctionalInterface
+    public interface FonteTarefas {
+        /**
+         * @return List<TarefaDTO> próximo bloco, ou null quando não houver mais tarefas
+         * @throws Exception se houver erro ao carregar o bloco
+         */
+        List<TarefaDTO> proximoBloco() throws Exception;
+    }
+
+    /**
+     * Tarefa carregada para o PDF individual, com a versão do seu conteúdo.
+     * A versão identifica o PDF no cache e serve de ETag.
+     */
+    public static final class NotaPDF {
+        private final Tarefa tarefa;
+        private final Etiqueta etiqueta;
+        private final StatusTarefa status;
+        private final String versao;
+
+        private NotaPDF(Tarefa tarefa, Etiqueta etiqueta, StatusTarefa status) {
+            this.tarefa = tarefa;
+            this.etiqueta = etiqueta;
+            this.status = status;
+            this.versao = resumo(VERSAO_LAYOUT, tarefa.getId(), tarefa.getTitulo(), tarefa.getConteudo(),
+                tarefa.getDataCriacao(), tarefa.getDataAtualizacao(), tarefa.getPrazoFinal(),
+                etiqueta != null ? etiqueta.getNome() : null,
+                status != null ? status.getNome() : null,
+                status != null ? status.getCorHex() : null);
+        }
+
+        public Tarefa getTarefa() {
+            return tarefa;
+        }
+
+        public String getVersao() {
+            return versao;
+        }
+    }
+
+    /**
+     * Carrega a tarefa, sua etiqueta e seu status para gerar o PDF individual.
      *
      * @param tarefaId ID da tarefa
-     * @return byte array do PDF gerado
-     * @throws Exception se houver erro ao gerar PDF
+     * @return Optional<NotaPDF> vazio se a tarefa não existir
+     * @throws Exception se houver erro ao acessar o banco
      */
-    public byte[] gerarPDFNota(Long tarefaId) throws Exception {
-        logger.info("Gerando PDF para tarefa ID: {}", tarefaId);
-
+    public Optional<NotaPDF> carregarNota(Long tarefaId) throws Exception {
         var tarefaOpt = tarefaRepository.buscarPorId(tarefaId);
         if (tarefaOpt.isEmpty()) {
-            throw new Exception("Tarefa não encontrada: " + tarefaId);
+            return Optional.empty();
         }
 
         Tarefa tarefa = tarefaOpt.get();
@@ -81,22 +200,197 @@ public class PDFService {
             ? statusRepository.buscarPorId(tarefa.getStatusId()).orElse(null)
             : null;
 
+        return Optional.of(new NotaPDF(tarefa, etiqueta, status));
+    }
+
+    /**
+     * Gera PDF de uma tarefa específica.
+     *
+     * @param tarefaId ID da tarefa
+     * @return byte array do PDF gerado
+     * @throws Exception se houver erro ao gerar PDF
+     */
+    public byte[] gerarPDFNota(Long tarefaId) throws Exception {
+        NotaPDF nota = carregarNota(tarefaId)
+            .orElseThrow(() -> new Exception("Tarefa não encontrada: " + tarefaId));
+
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        escreverPDFNota(nota, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Escreve o PDF da tarefa no stream, usando o cache quando a mesma versão
+     * já tiver sido gerada. Em caso de falha nada é escrito no stream.
+     *
+     * @param nota tarefa carregada por {@link #carregarNota(Long)}
+     * @param saida stream de destino (não é fechado)
+     * @throws Exception se houver erro ao gerar PDF
+     */
+    public void escreverPDFNota(NotaPDF nota, OutputStream saida) throws Exception {
+        Long tarefaId = nota.tarefa.getId();
+        String chave = "nota_" + tarefaId + "_" + nota.versao + ".pdf";
+
+        CacheDisco.Entrada emCache = CachePDF.INSTANCIA.abrir(chave);
+        if (emCache != null) {
+            try (InputStream conteudo = emCache.conteudo()) {
+                conteudo.transferTo(saida);
+            }
+            logger.debug("PDF da tarefa ID {} servido do cache", tarefaId);
+            return;
+        }
+
+        logger.info("Gerando PDF para tarefa ID: {}", tarefaId);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        escreverPDFNota(nota.tarefa, nota.etiqueta, nota.status, baos);
+        byte[] pdf = baos.toByteArray();
+
+        CachePDF.INSTANCIA.gravar(chave, pdf);
+        saida.write(pdf);
+        logger.info("PDF gerado com sucesso para tarefa ID: {}", tarefaId);
+    }
+
+    /**
+     * Escreve um ZIP com o PDF individual de cada tarefa, gerados em paralelo.
+     *
+     * <p>Os PDFs são gerados no executor compartilhado (um thread por núcleo, ou
+     * {@code pdf.pacote.threads}) e entram no ZIP na ordem em que ficam prontos. No máximo
+     * duas vezes a quantidade de threads fica em andamento por pacote, então a memória
+     * não cresce com o número de tarefas. Os PDFs já são compactados internamente e
+     * entram no ZIP sem nova compressão.</p>
+     *
+     * <p>Tarefas inexistentes ou que falharem são listadas em {@code erros.txt} dentro
+     * do ZIP, pois a resposta já pode ter começado. O stream não é fechado.</p>
+     *
+     * @param ids IDs das tarefas (duplicados são ignorados)
+     * @param saida stream de destino (ex.: resposta HTTP)
+     * @return int quantidade de PDFs incluídos
+     * @throws Exception se houver erro ao escrever o ZIP (ex.: cliente desconectado)
+     */
+    public int escreverPacotePDF(List<Long> ids, OutputStream saida) throws Exception {
+        List<Long> unicos = new ArrayList<>(new LinkedHashSet<>(ids));
+        logger.info("Gerando pacote ZIP com {} PDF(s)", unicos.size());
+
+        CompletionService<ArquivoPacote> conclusoes = new ExecutorCompletionService<>(ExecutorPacote.INSTANCIA);
+        Set<Future<ArquivoPacote>> emAndamento = new HashSet<>();
+        int janela = ExecutorPacote.THREADS * 2;
+        int proximo = 0;
+        int incluidos = 0;
+        StringBuilder erros = new StringBuilder();
+
+        ZipOutputStream zip = new ZipOutputStream(saida);
+        try {
+            while (proximo < unicos.size() || !emAndamento.isEmpty()) {
+                while (emAndamento.size() < janela && proximo < unicos.size()) {
+                    Long tarefaId = unicos.get(proximo++);
+                    emAndamento.add(conclusoes.submit(() -> gerarArquivoPacote(tarefaId)));
+                }
+
+                Future<ArquivoPacote> pronto = conclusoes.take();
+                emAndamento.remove(pronto);
+                ArquivoPacote arquivo = pronto.get();
+
+                if (arquivo.pdf() == null) {
+                    erros.append("Tarefa ").append(arquivo.tarefaId()).append(": ").append(arquivo.erro()).append('\n');
+                    continue;
+                }
+                escreverEntradaSemCompressao(zip, arquivo.nome(), arquivo.pdf());
+                incluidos++;
+            }
+
+            if (erros.length() > 0) {
+                zip.putNextEntry(new ZipEntry("erros.txt"));
+                zip.write(erros.toString().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+
+            zip.finish();
+            saida.flush();
+            logger.info("Pacote ZIP gerado com {} PDF(s)", incluidos);
+            return incluidos;
+
+        } catch (Exception e) {
+            // Ex.: cliente desconectou; não gerar o restante
+            emAndamento.forEach(futuro -> futuro.cancel(true));
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new Exception("Erro ao gerar pacote de PDFs: " + e.getMessage(), e);
+        }
+    }
+
+    private ArquivoPacote gerarArquivoPacote(Long tarefaId) {
+        try {
+            Optional<NotaPDF> nota = carregarNota(tarefaId);
+            if (nota.isEmpty()) {
+                return new ArquivoPacote(tarefaId, null, null, "não encontrada");
+            }
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            escreverPDFNota(nota.get(), baos);
+            String nome = tarefaId + "_" + nomeArquivo(nota.get().getTarefa().getTitulo()) + ".pdf";
+            return new ArquivoPacote(tarefaId, nome, baos.toByteArray(), null);
+
+        } catch (Exception e) {
+            logger.error("Erro ao gerar PDF da tarefa ID {} para o pacote", tarefaId, e);
+            return new ArquivoPacote(tarefaId, null, null, e.getMessage());
+        }
+    }
 
+    private static void escreverEntradaSemCompressao(ZipOutputStream zip, String nome, byte[] conteudo)
+            throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(conteudo);
+
+        ZipEntry entrada = new ZipEntry(nome);
+        entrada.setMethod(ZipEntry.STORED);
+        entrada.setSize(conteudo.length);
+        entrada.setCompressedSize(conteudo.length);
+        entrada.setCrc(crc.getValue());
+
+        zip.putNextEntry(entrada);
+        zip.write(conteudo);
+        zip.closeEntry();
+    }
+
+    /**
+     * Nome de arquivo a partir do título da tarefa: sem caracteres especiais,
+     * espaços trocados por "_" e no máximo 50 caracteres.
+     *
+     * @param titulo título da tarefa
+     * @return String nome seguro (sem extensão)
+     */
+    public static String nomeArquivo(String titulo) {
+        String processado = titulo.replaceAll("[^a-zA-Z0-9\\s-]", "")
+                                  .replaceAll("\\s+", "_");
+        return processado.substring(0, Math.min(processado.length(), 50));
+    }
+
+    /**
+     * Escreve o PDF de uma tarefa já carregada no stream informado.
+     *
+     * @param tarefa tarefa
+     * @param etiqueta etiqueta da tarefa (pode ser null)
+     * @param status status da tarefa (pode ser null)
+     * @param saida stream de destino (fechado ao final pelo PdfWriter)
+     * @throws Exception se houver erro ao gerar PDF
+     */
+    public void escreverPDFNota(Tarefa tarefa, Etiqueta etiqueta, StatusTarefa status, OutputStream saida)
+            throws Exception {
         try {
-            PdfWriter writer = new PdfWriter(baos);
+            PdfWriter writer = new PdfWriter(saida);
             PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
+            Document document = PDFRecursos.novoDocumento(pdf, PDFRecursos.fonteRegular(pdf));
 
             // Título da tarefa como cabeçalho principal
             document.add(new Paragraph(tarefa.getTitulo())
                 .setFontSize(18)
                 .setBold()
-                .setFontColor(new DeviceRgb(51, 65, 85))
+                .setFontColor(PDFRecursos.COR_TITULO)
                 .setMarginBottom(12));
 
             // Quadro de informações compacto (5 colunas)
-            Table infoTable = new Table(UnitValue.createPercentArray(new float[]{20, 20, 20, 20, 20}))
+            Table infoTable = new Table(COLUNAS_INFO)
                 .useAllAvailableWidth()
                 .setMarginBottom(15);
 
@@ -112,7 +406,7 @@ public class PDFService {
 
             Cell statusCell = createCompactValueCell(status != null ? status.getNome() : "N/A");
             if (status != null && status.getCorHex() != null) {
-                DeviceRgb color = hexToRgb(status.getCorHex());
+                DeviceRgb color = PDFRecursos.cor(status.getCorHex());
                 statusCell.setBackgroundColor(color);
                 statusCell.setFontColor(getContrastColor(color));
                 statusCell.setBold();
@@ -120,17 +414,17 @@ public class PDFService {
             infoTable.addCell(statusCell);
 
             String dataCriacao = tarefa.getDataCriacao() != null
-                ? tarefa.getDataCriacao().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+                ? tarefa.getDataCriacao().format(DATE_FORMATTER)
                 : "N/A";
             infoTable.addCell(createCompactValueCell(dataCriacao));
 
             String dataAtualizacao = tarefa.getDataAtualizacao() != null
-                ? tarefa.getDataAtualizacao().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+                ? tarefa.getDataAtualizacao().format(DATE_FORMATTER)
                 : "N/A";
             infoTable.addCell(createCompactValueCell(dataAtualizacao));
 
             String prazoFinal = tarefa.getPrazoFinal() != null
-                ? tarefa.getPrazoFinal().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+                ? tarefa.getPrazoFinal().format(DATE_FORMATTER)
                 : "N/A";
             infoTable.addCell(createCompactValueCell(prazoFinal));
 
@@ -140,7 +434,7 @@ public class PDFService {
             document.add(new Paragraph("\u00A0")
                 .setMarginTop(0)
                 .setMarginBottom(10)
-                .setBorderBottom(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 1)));
+                .setBorderBottom(PDFRecursos.BORDA_DIVISORIA));
 
             // Conteúdo direto (sem título)
             String conteudo = tarefa.getConteudo() != null && !tarefa.getConteudo().isEmpty()
@@ -152,11 +446,10 @@ public class PDFService {
                 .setMarginBottom(25)
                 .setTextAlignment(TextAlignment.JUSTIFIED));
 
-            // Rodapé discreto
-            document.add(new Paragraph("\u00A0")
-                .setMarginTop(15)
-                .setMarginBottom(5)
-                .setBorderTop(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 0.5f)));
+            // Rodapé discreto (linha pré-desenhada)
+            document.add(PDFRecursos.linhaRodape(pdf)
+                .setMarginTop(30)
+                .setMarginBottom(5));
 
             String rodape = String.format("Gerado em %s | %s",
                 LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER),
@@ -164,97 +457,191 @@ public class PDFService {
             document.add(new Paragraph(rodape)
                 .setFontSize(7)
                 .setTextAlignment(TextAlignment.CENTER)
-                .setFontColor(new DeviceRgb(148, 163, 184)));
+                .setFontColor(PDFRecursos.COR_RODAPE));
 
             document.close();
-            logger.info("PDF gerado com sucesso para tarefa ID: {}", tarefaId);
-
-            return baos.toByteArray();
 
         } catch (Exception e) {
-            logger.error("Erro ao gerar PDF para tarefa ID: {}", tarefaId, e);
+            logger.error("Erro ao gerar PDF para tarefa ID: {}", tarefa.getId(), e);
             throw new Exception("Erro ao gerar PDF: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Gera PDF com lista de tarefas (relatório).
+     * Conta quantas das tarefas solicitadas para o relatório existem.
      *
-     * @param tarefas lista de tarefas
-     * @return byte array do PDF gerado
+     * @param ids IDs das tarefas
+     * @return long quantidade de tarefas existentes
+     * @throws Exception se houver erro ao acessar o banco
+     */
+    public long contarTarefasRelatorio(List<Long> ids) throws Exception {
+        try {
+            return tarefaRepository.contarPorIds(new ArrayList<>(new TreeSet<>(ids)));
+        } catch (SQLException e) {
+            throw new Exception("Erro ao contar tarefas: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gera PDF com lista de tarefas (relatório) diretamente no stream de saída.
+     *
+     * <p>As tarefas são lidas em blocos de {@link #BLOCO_RELATORIO} IDs e a tabela é
+     * montada em modo "large table": cada bloco é descarregado no documento e as
+     * páginas completas são gravadas no stream assim que ficam prontas. O uso de
+     * memória independe da quantidade de tarefas e o download começa de imediato.</p>
+     *
+     * <p>As tarefas aparecem em ordem de ID. O stream não é fechado.</p>
+     *
+     * @param ids IDs das tarefas (duplicados e inexistentes são ignorados)
+     * @param total quantidade exibida no cabeçalho (ver {@link #contarTarefasRelatorio(List)})
+     * @param saida stream de destino (ex.: resposta HTTP)
+     * @return long quantidade de tarefas escritas
      * @throws Exception se houver erro ao gerar PDF
      */
-    public byte[] gerarPDFRelatorio(List<Tarefa> tarefas) throws Exception {
-        logger.info("Gerando PDF com relatório de {} tarefas", tarefas.size());
+    public long gerarPDFRelatorio(List<Long> ids, long total, OutputStream saida) throws Exception {
+        return gerarPDFRelatorio(ids, total, saida, null);
+    }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    /**
+     * Igual a {@link #gerarPDFRelatorio(List, long, OutputStream)}, informando a quantidade
+     * de tarefas já lidas a cada bloco. Uma exceção lançada pelo callback interrompe a geração.
+     *
+     * @param progresso recebe o total de tarefas lidas até o momento (pode ser null)
+     */
+    public long gerarPDFRelatorio(List<Long> ids, long total, OutputStream saida, LongConsumer progresso)
+            throws Exception {
+        List<Long> idsOrdenados = new ArrayList<>(new TreeSet<>(ids));
+
+        CacheDisco cache = CachePDF.INSTANCIA;
+        String chave = cache.isHabilitado() ? chaveRelatorio(idsOrdenados, total) : null;
+        if (chave != null) {
+            CacheDisco.Entrada emCache = cache.abrir(chave);
+            if (emCache != null) {
+                try (InputStream conteudo = emCache.conteudo()) {
+                    conteudo.transferTo(saida);
+                }
+                saida.flush();
+                if (progresso != null) {
+                    progresso.accept(total);
+                }
+                logger.info("PDF de relatório com {} tarefas servido do cache", total);
+                return total;
+            }
+        }
+
+        logger.info("Gerando PDF com relatório de {} tarefas", total);
+
+        int[] proximo = {0};
+        long[] lidas = {0};
+
+        FonteTarefas fonte = () -> {
+            if (proximo[0] >= idsOrdenados.size()) {
+                return null;
+            }
+            int fim = Math.min(proximo[0] + BLOCO_RELATORIO, idsOrdenados.size());
+            List<Long> bloco = idsOrdenados.subList(proximo[0], fim);
+            proximo[0] = fim;
+            List<TarefaDTO> tarefas = tarefaRepository.buscarPorIdsComRelacionamentos(bloco);
+            if (progresso != null) {
+                lidas[0] += tarefas.size();
+                progresso.accept(lidas[0]);
+            }
+            return tarefas;
+        };
+
+        // Sem cache: direto no stream. Com cache: também em um temporário, publicado se tudo der certo
+        if (chave == null) {
+            long escritas = escreverPDFRelatorio(total, fonte, saida);
+            logger.info("PDF de relatório gerado com sucesso ({} tarefas)", escritas);
+            return escritas;
+        }
+
+        Path temporario = cache.novoTemporario();
+        try {
+            long escritas;
+            try (OutputStream arquivo = new BufferedOutputStream(Files.newOutputStream(temporario))) {
+                escritas = escreverPDFRelatorio(total, fonte, new TeeOutputStream(saida, arquivo));
+            }
+            cache.publicar(chave, temporario);
+            logger.info("PDF de relatório gerado com sucesso ({} tarefas)", escritas);
+            return escritas;
+
+        } catch (Exception e) {
+            cache.descartar(temporario);
+            throw e;
+        }
+    }
+
+    /**
+     * Chave do relatório no cache: IDs pedidos, total exibido e o resumo do que o
+     * relatório mostra de cada tarefa.
+     */
+    private String chaveRelatorio(List<Long> idsOrdenados, long total) throws Exception {
+        try {
+            return "relatorio_" + resumo(VERSAO_LAYOUT, total, idsOrdenados,
+                tarefaRepository.calcularVersaoPorIds(idsOrdenados)) + ".pdf";
+        } catch (SQLException e) {
+            throw new Exception("Erro ao verificar cache do relatório: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * SHA-256 (hexadecimal) dos valores informados, separados por um caractere de controle.
+     */
+    private static String resumo(Object... valores) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object valor : valores) {
+                digest.update(String.valueOf(valor).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1F);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Escreve o relatório com as tarefas fornecidas em blocos. A tabela é descarregada
+     * e o stream esvaziado ao final de cada bloco. O stream não é fechado.
+     *
+     * @param total quantidade exibida no cabeçalho
+     * @param fonte fornecedor dos blocos de tarefas
+     * @param saida stream de destino
+     * @return long quantidade de tarefas escritas
+     * @throws Exception se houver erro ao gerar PDF
+     */
+    public long escreverPDFRelatorio(long total, FonteTarefas fonte, OutputStream saida) throws Exception {
+        long escritas = 0;
 
         try {
-            PdfWriter writer = new PdfWriter(baos);
+            PdfWriter writer = new PdfWriter(saida);
+            writer.setCloseStream(false);
             PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
+            PdfFont regular = PDFRecursos.fonteRegular(pdf);
+            Document document = PDFRecursos.novoDocumento(pdf, regular);
 
-            // Cabeçalho com fundo colorido
-            Table headerTable = new Table(UnitValue.createPercentArray(1))
-                .useAllAvailableWidth()
-                .setBackgroundColor(new DeviceRgb(74, 144, 226))
-                .setMarginBottom(20);
-
-            Cell headerCell = new Cell()
-                .add(new Paragraph(AppConfig.getAppName())
-                    .setFontSize(24)
-                    .setBold()
-                    .setFontColor(ColorConstants.WHITE)
-                    .setTextAlignment(TextAlignment.CENTER)
-                    .setMarginBottom(3))
-                .add(new Paragraph("Relatório de Tarefas")
-                    .setFontSize(14)
-                    .setFontColor(ColorConstants.WHITE)
-                    .setTextAlignment(TextAlignment.CENTER))
-                .setPadding(15)
-                .setBorder(null);
-
-            headerTable.addCell(headerCell);
-            document.add(headerTable);
+            // Cabeçalho com fundo colorido (XObject pré-desenhado)
+            document.add(PDFRecursos.cabecalhoRelatorio(pdf, regular, PDFRecursos.fonteNegrito(pdf))
+                .setMarginBottom(20));
 
             // Informações do relatório em caixa destacada
             Table infoBox = new Table(UnitValue.createPercentArray(2))
                 .useAllAvailableWidth()
                 .setMarginBottom(20)
-                .setBackgroundColor(new DeviceRgb(241, 245, 249));
-
-            infoBox.addCell(new Cell()
-                .add(new Paragraph("Total de tarefas:")
-                    .setBold()
-                    .setFontSize(10))
-                .setBorder(null)
-                .setPadding(8));
-
-            infoBox.addCell(new Cell()
-                .add(new Paragraph(String.valueOf(tarefas.size()))
-                    .setFontSize(10))
-                .setBorder(null)
-                .setPadding(8));
-
-            infoBox.addCell(new Cell()
-                .add(new Paragraph("Data de geração:")
-                    .setBold()
-                    .setFontSize(10))
-                .setBorder(null)
-                .setPadding(8));
-
-            infoBox.addCell(new Cell()
-                .add(new Paragraph(LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER))
-                    .setFontSize(10))
-                .setBorder(null)
-                .setPadding(8));
+                .setBackgroundColor(PDFRecursos.COR_FUNDO_CLARO);
+
+            infoBox.addCell(createInfoCell(new Paragraph("Total de tarefas:").setBold()));
+            infoBox.addCell(createInfoCell(new Paragraph(String.valueOf(total))));
+            infoBox.addCell(createInfoCell(new Paragraph("Data de geração:").setBold()));
+            infoBox.addCell(createInfoCell(new Paragraph(LocalDateTime.now(BRAZIL_ZONE).format(FORMATTER))));
 
             document.add(infoBox);
 
-            // Tabela de tarefas com bordas
-            Table table = new Table(UnitValue.createPercentArray(new float[]{35, 20, 20, 25}))
+            // Tabela de tarefas com bordas (large table: linhas descarregadas a cada bloco)
+            Table table = new Table(COLUNAS_RELATORIO, true)
                 .useAllAvailableWidth()
-                .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(200, 200, 200), 1));
+                .setBorder(PDFRecursos.BORDA_TABELA);
 
             // Cabeçalho da tabela
             table.addHeaderCell(createHeaderCell("Título"));
@@ -262,39 +649,42 @@ public class PDFService {
             table.addHeaderCell(createHeaderCell("Status"));
             table.addHeaderCell(createHeaderCell("Prazo Final"));
 
-            // Linhas
-            for (Tarefa tarefa : tarefas) {
-                // Buscar etiqueta e status
-                Etiqueta etiqueta = tarefa.getEtiquetaId() != null
-                    ? etiquetaRepository.buscarPorId(tarefa.getEtiquetaId()).orElse(null)
-                    : null;
-                StatusTarefa status = tarefa.getStatusId() != null
-                    ? statusRepository.buscarPorId(tarefa.getStatusId()).orElse(null)
-                    : null;
-
-                table.addCell(createTableCell(tarefa.getTitulo()));
-                table.addCell(createTableCell(etiqueta != null ? etiqueta.getNome() : "N/A"));
-
-                Cell statusCell = createTableCell(status != null ? status.getNome() : "N/A");
-                if (status != null && status.getCorHex() != null) {
-                    DeviceRgb color = hexToRgb(status.getCorHex());
-                    statusCell.setBackgroundColor(color);
-                    statusCell.setFontColor(getContrastColor(color));
+            document.add(table);
+
+            List<TarefaDTO> bloco;
+            while ((bloco = fonte.proximoBloco()) != null) {
+                for (TarefaDTO tarefa : bloco) {
+                    Etiqueta etiqueta = tarefa.getEtiqueta();
+                    StatusTarefa status = tarefa.getStatus();
+
+                    table.addCell(createTableCell(tarefa.getTitulo()));
+                    table.addCell(createTableCell(etiqueta != null && etiqueta.getNome() != null ? etiqueta.getNome() : "N/A"));
+
+                    Cell statusCell = createTableCell(status != null && status.getNome() != null ? status.getNome() : "N/A");
+                    if (status != null && status.getCorHex() != null) {
+                        DeviceRgb color = PDFRecursos.cor(status.getCorHex());
+                        statusCell.setBackgroundColor(color);
+                        statusCell.setFontColor(getContrastColor(color));
+                    }
+                    table.addCell(statusCell);
+
+                    String prazo = tarefa.getPrazoFinal() != null
+                        ? tarefa.getPrazoFinal().format(DATE_FORMATTER)
+                        : "N/A";
+                    table.addCell(createTableCell(prazo));
+                    escritas++;
                 }
-                table.addCell(statusCell);
 
-                String prazo = tarefa.getPrazoFinal() != null
-                    ? tarefa.getPrazoFinal().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
-                    : "N/A";
-                table.addCell(createTableCell(prazo));
+                // Descarrega as linhas do bloco e envia as páginas já concluídas
+                table.flush();
+                writer.flush();
             }
 
-            document.add(table);
-
+            table.complete();
             document.close();
-            logger.info("PDF de relatório gerado com sucesso");
+            saida.flush();
 
-            return baos.toByteArray();
+            return escritas;
 
         } catch (Exception e) {
             logger.error("Erro ao gerar PDF de relatório", e);
@@ -303,26 +693,14 @@ public class PDFService {
     }
 
     /**
-     * Cria célula de label (negrito).
+     * Cria célula da caixa de informações do relatório.
      */
-    private Cell createLabelCell(String text) {
+    private Cell createInfoCell(Paragraph paragraph) {
         return new Cell()
-            .add(new Paragraph(text).setBold())
+            .add(paragraph)
             .setFontSize(10)
             .setPadding(8)
-            .setBackgroundColor(new DeviceRgb(241, 245, 249))
-            .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 0.5f));
-    }
-
-    /**
-     * Cria célula de valor.
-     */
-    private Cell createValueCell(String text) {
-        return new Cell()
-            .add(new Paragraph(text))
-            .setFontSize(10)
-            .setPadding(8)
-            .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 0.5f));
+            .setBorder(Border.NO_BORDER);
     }
 
     /**
@@ -331,12 +709,12 @@ public class PDFService {
     private Cell createHeaderCell(String text) {
         return new Cell()
             .add(new Paragraph(text).setBold())
-            .setBackgroundColor(new DeviceRgb(51, 65, 85))
+            .setBackgroundColor(PDFRecursos.COR_TITULO)
             .setFontColor(ColorConstants.WHITE)
             .setFontSize(10)
             .setPadding(10)
             .setTextAlignment(TextAlignment.CENTER)
-            .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(30, 41, 59), 1));
+            .setBorder(PDFRecursos.BORDA_CABECALHO_TABELA);
     }
 
     /**
@@ -345,12 +723,12 @@ public class PDFService {
     private Cell createCompactHeaderCell(String text) {
         return new Cell()
             .add(new Paragraph(text).setBold())
-            .setBackgroundColor(new DeviceRgb(241, 245, 249))
-            .setFontColor(new DeviceRgb(71, 85, 105))
+            .setBackgroundColor(PDFRecursos.COR_FUNDO_CLARO)
+            .setFontColor(PDFRecursos.COR_LABEL)
             .setFontSize(8)
             .setPadding(5)
             .setTextAlignment(TextAlignment.CENTER)
-            .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 0.5f));
+            .setBorder(PDFRecursos.BORDA_FINA);
     }
 
     /**
@@ -362,7 +740,7 @@ public class PDFService {
             .setFontSize(9)
             .setPadding(5)
             .setTextAlignment(TextAlignment.CENTER)
-            .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 0.5f));
+            .setBorder(PDFRecursos.BORDA_FINA);
     }
 
     /**
@@ -373,7 +751,7 @@ public class PDFService {
             .add(new Paragraph(text))
             .setFontSize(9)
             .setPadding(8)
-            .setBorder(new com.itextpdf.layout.borders.SolidBorder(new DeviceRgb(226, 232, 240), 0.5f));
+            .setBorder(PDFRecursos.BORDA_FINA);
     }
 
     /**
@@ -389,17 +767,6 @@ public class PDFService {
                    .trim();
     }
 
-    /**
-     * Converte cor hexadecimal para DeviceRgb.
-     */
-    private DeviceRgb hexToRgb(String hex) {
-        hex = hex.replace("#", "");
-        int r = Integer.parseInt(hex.substring(0, 2), 16);
-        int g = Integer.parseInt(hex.substring(2, 4), 16);
-        int b = Integer.parseInt(hex.substring(4, 6), 16);
-        return new DeviceRgb(r, g, b);
-    }
-
     /**
      * Retorna cor de texto contrastante (preto ou branco).
      */
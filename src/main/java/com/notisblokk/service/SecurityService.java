@@ -44,33 +44,7 @@ public class SecurityService {
     }
 
     /**
-     * Registra uma tentativa de login falhada.
-     *
-     * @param userId ID do usuário
-     * @throws SQLException se houver erro ao atualizar
-     */
-    public void registrarTentativaFalha(Long userId) throws SQLException {
-        String sql = """
-            UPDATE users
-            SET tentativas_login = tentativas_login + 1
-            WHERE id = ?
-        """;
-
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setLong(1, userId);
-            pstmt.executeUpdate();
-
-            logger.info("Tentativa de login falhada registrada para usuário ID: {}", userId);
-
-            // Verificar se deve bloquear
-            verificarEBloquearUsuario(userId);
-        }
-    }
-
-    /**
-     * Reseta as tentativas de login após sucesso.
+     * Reseta as tentativas de login (e um bloqueio vencido) após sucesso.
      *
      * @param userId ID do usuário
      * @throws SQLException se houver erro ao atualizar
@@ -78,7 +52,8 @@ public class SecurityService {
     public void resetarTentativas(Long userId) throws SQLException {
         String sql = """
             UPDATE users
-            SET tentativas_login = 0
+            SET tentativas_login = 0,
+                bloqueado_ate = NULL
             WHERE id = ?
         """;
 
@@ -92,39 +67,14 @@ public class SecurityService {
         }
     }
 
-    /**
-     * Verifica quantas tentativas o usuário tem e bloqueia se necessário.
-     *
-     * @param userId ID do usuário
-     * @throws SQLException se houver erro ao acessar banco
-     */
-    private void verificarEBloquearUsuario(Long userId) throws SQLException {
-        String selectSql = "SELECT tentativas_login FROM users WHERE id = ?";
-
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(selectSql)) {
-
-            pstmt.setLong(1, userId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    int tentativas = rs.getInt("tentativas_login");
-
-                    if (tentativas >= AppConfig.getSecurityLoginMaxAttempts()) {
-                        bloquearUsuario(userId);
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Bloqueia um usuário por um período de tempo.
      *
      * @param userId ID do usuário
+     * @return LocalDateTime fim do bloqueio
      * @throws SQLException se houver erro ao atualizar
      */
-    public void bloquearUsuario(Long userId) throws SQLException {
+    public LocalDateTime bloquearUsuario(Long userId) throws SQLException {
         LocalDateTime bloqueadoAte = LocalDateTime.now(BRAZIL_ZONE)
                 .plusMinutes(AppConfig.getSecurityLoginLockoutMinutes());
 
@@ -142,6 +92,7 @@ public class SecurityService {
             pstmt.executeUpdate();
 
             logger.warn("Usuário ID {} bloqueado até {}", userId, bloqueadoAte.format(FORMATTER));
+            return bloqueadoAte;
         }
     }
 
@@ -1,14 +1,17 @@
 package com.notisblokk.service;
 
+import com.notisblokk.config.AppConfig;
 import com.notisblokk.model.Session;
 import com.notisblokk.model.User;
 import com.notisblokk.repository.SessionRepository;
 import com.notisblokk.repository.UserRepository;
+import com.notisblokk.scheduler.RastreadorAtividade;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -39,6 +42,7 @@ public class SessionService {
      * Timeout padrão para expiração de sessões (em minutos).
      */
     private static final int DEFAULT_SESSION_TIMEOUT = 30;
+    private static final int LOTE_RETENCAO = 500;
 
     /**
      * Limite máximo de sessões simultâneas por usuário.
@@ -197,6 +201,58 @@ public class SessionService {
         }
     }
 
+    /**
+     * Lista uma página de sessões (paginação por cursor), com nome e email do usuário.
+     *
+     * @param antesDeId ID da última sessão da página anterior (null para a primeira)
+     * @param limite quantidade máxima de sessões
+     * @return List<SessionRepository.SessaoListagem> sessões da página
+     * @throws Exception se houver erro ao listar
+     */
+    public List<SessionRepository.SessaoListagem> listarPagina(Long antesDeId, int limite) throws Exception {
+        try {
+            return sessionRepository.buscarPagina(antesDeId, limite);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao listar página de sessões", e);
+            throw new Exception("Erro ao listar sessões: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Consolida no resumo diário as sessões encerradas há mais de
+     * {@code session.retencao.dias} dias, em lotes.
+     *
+     * @return int número de sessões consolidadas (0 se a retenção estiver desativada)
+     * @throws Exception se houver erro ao consolidar
+     */
+    public int aplicarRetencao() throws Exception {
+        int dias = AppConfig.getSessionRetencaoDias();
+        if (dias <= 0) {
+            return 0;
+        }
+
+        long antesDe = System.currentTimeMillis() - dias * 24L * 60 * 60 * 1000;
+        int total = 0;
+
+        try {
+            int consolidadas;
+            do {
+                consolidadas = sessionRepository.consolidarAntigas(antesDe, LOTE_RETENCAO);
+                total += consolidadas;
+            } while (consolidadas == LOTE_RETENCAO);
+
+            if (total > 0) {
+                logger.info("Retenção de {} dias: {} sessões consolidadas no resumo diário", dias, total);
+            }
+            return total;
+
+        } catch (SQLException e) {
+            logger.error("Erro ao aplicar retenção de sessões", e);
+            throw new Exception("Erro ao aplicar retenção de sessões: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Expira sessões antigas baseado no timeout configurado.
      *
@@ -220,6 +276,8 @@ public class SessionService {
         logger.info("Expirando sessões antigas (timeout: {} min)", timeoutMinutes);
 
         try {
+            // Atividade ainda em memória precisa estar no banco antes de comparar
+            RastreadorAtividade.descarregar();
             int count = sessionRepository.expirarSessoes(timeoutMinutes);
 
             if (count > 0) {
@@ -250,6 +308,39 @@ public class SessionService {
         }
     }
 
+    /**
+     * Obtém os totais de sessões (histórico detalhado mais resumo diário) e as ativas.
+     *
+     * @return SessionRepository.Estatisticas totais de sessões
+     * @throws Exception se houver erro ao contar
+     */
+    public SessionRepository.Estatisticas obterEstatisticas() throws Exception {
+        try {
+            return sessionRepository.contarEstatisticas();
+
+        } catch (SQLException e) {
+            logger.error("Erro ao obter estatísticas de sessões", e);
+            throw new Exception("Erro ao obter estatísticas: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Soma os logins por dispositivo, navegador e sistema, das sessões detalhadas
+     * (inclusive as ativas) e das consolidadas no resumo diário.
+     *
+     * @return SessionRepository.Distribuicao logins por dimensão
+     * @throws Exception se houver erro ao consultar
+     */
+    public SessionRepository.Distribuicao somarLoginsPorDimensao() throws Exception {
+        try {
+            return sessionRepository.somarLoginsPorDimensao();
+
+        } catch (SQLException e) {
+            logger.error("Erro ao somar logins por dimensão", e);
+            throw new Exception("Erro ao obter resumo de sessões: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Conta as sessões ativas no sistema.
      *
@@ -384,6 +475,42 @@ public class SessionService {
         }
     }
 
+    /**
+     * Cria a sessão de um login usando o usuário e a contagem de sessões ativas já
+     * lidos na autenticação ({@link UserRepository#buscarParaLogin(String)}), sem
+     * consultá-los de novo. Aplica o mesmo limite de {@link #criarSessaoComLimite}.
+     *
+     * @param user usuário autenticado
+     * @param sessoesAtivas sessões ativas do usuário no momento da leitura
+     * @param ipAddress endereço IP do cliente
+     * @param userAgent user agent do navegador
+     * @return Session sessão criada
+     * @throws Exception se houver erro ao criar sessão ou se limite não puder ser aplicado
+     */
+    public Session criarSessaoLogin(User user, long sessoesAtivas, String ipAddress, String userAgent) throws Exception {
+        try {
+            // Administradores não têm limite de sessões
+            if (!user.isAdmin() && sessoesAtivas >= MAX_SESSIONS_PER_USER) {
+                logger.warn("Usuário ID {} atingiu o limite de {} sessões simultâneas", user.getId(), MAX_SESSIONS_PER_USER);
+
+                if (!sessionRepository.encerrarSessaoMaisAntigaDoUsuario(user.getId())) {
+                    throw new Exception("Limite de sessões simultâneas atingido e não foi possível encerrar sessão antiga");
+                }
+            }
+
+            Session session = new Session();
+            session.setUserId(user.getId());
+            session.setIpAddress(ipAddress);
+            session.setUserAgent(userAgent);
+
+            return sessionRepository.salvar(session);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao criar sessão para usuário ID {}", user.getId(), e);
+            throw new Exception("Erro ao criar sessão: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Retorna o limite máximo de sessões simultâneas por usuário.
      *
@@ -1,6 +1,7 @@
 package com.notisblokk.service;
 
 import com.notisblokk.model.Etiqueta;
+import com.notisblokk.model.FiltroTarefa;
 import com.notisblokk.model.Tarefa;
 import com.notisblokk.model.TarefaDTO;
 import com.notisblokk.model.PaginatedResponse;
@@ -8,13 +9,12 @@ import com.notisblokk.model.StatusTarefa;
 import com.notisblokk.repository.EtiquetaRepository;
 import com.notisblokk.repository.TarefaRepository;
 import com.notisblokk.repository.StatusTarefaRepository;
+import com.notisblokk.util.ConversorDatas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -35,8 +35,6 @@ import java.util.Optional;
 public class TarefaService {
 
     private static final Logger logger = LoggerFactory.getLogger(TarefaService.class);
-    private static final DateTimeFormatter DATE_FORMATTER_BR = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    private static final DateTimeFormatter DATE_FORMATTER_BR_HIFEN = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
     private final TarefaRepository tarefaRepository;
     private final EtiquetaRepository etiquetaRepository;
@@ -354,6 +352,122 @@ public class TarefaService {
         }
     }
 
+    /**
+     * Deleta em lote as tarefas selecionadas por IDs e/ou filtro.
+     *
+     * @param ids IDs das tarefas (pode ser null se houver filtro)
+     * @param filtro critérios de filtro (pode ser null se houver IDs)
+     * @return int quantidade de tarefas deletadas
+     * @throws Exception se nenhuma seleção for informada ou houver erro ao deletar
+     */
+    public int deletarEmLote(List<Long> ids, FiltroTarefa filtro) throws Exception {
+        validarSelecaoLote(ids, filtro);
+
+        try {
+            int deletadas = tarefaRepository.deletarEmLote(ids, filtro);
+            logger.warn("{} tarefas deletadas em lote", deletadas);
+            return deletadas;
+
+        } catch (SQLException e) {
+            logger.error("Erro ao deletar tarefas em lote", e);
+            throw new Exception("Erro ao deletar tarefas: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Altera em lote o status das tarefas selecionadas.
+     *
+     * @param ids IDs das tarefas (pode ser null se houver filtro)
+     * @param filtro critérios de filtro (pode ser null se houver IDs)
+     * @param statusId novo status
+     * @return int quantidade de tarefas alteradas
+     * @throws Exception se a seleção ou o status forem inválidos, ou houver erro ao atualizar
+     */
+    public int alterarStatusEmLote(List<Long> ids, FiltroTarefa filtro, Long statusId) throws Exception {
+        validarSelecaoLote(ids, filtro);
+        if (statusId == null || statusId <= 0) {
+            throw new Exception("Status é obrigatório");
+        }
+
+        try {
+            statusTarefaRepository.buscarPorId(statusId)
+                .orElseThrow(() -> new Exception("Status não encontrado"));
+            return tarefaRepository.atualizarStatusEmLote(ids, filtro, statusId);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao alterar status em lote", e);
+            throw new Exception("Erro ao alterar status: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Altera em lote a etiqueta das tarefas selecionadas.
+     *
+     * @param ids IDs das tarefas (pode ser null se houver filtro)
+     * @param filtro critérios de filtro (pode ser null se houver IDs)
+     * @param etiquetaId nova etiqueta
+     * @return int quantidade de tarefas alteradas
+     * @throws Exception se a seleção ou a etiqueta forem inválidas, ou houver erro ao atualizar
+     */
+    public int alterarEtiquetaEmLote(List<Long> ids, FiltroTarefa filtro, Long etiquetaId) throws Exception {
+        validarSelecaoLote(ids, filtro);
+        if (etiquetaId == null || etiquetaId <= 0) {
+            throw new Exception("Etiqueta é obrigatória");
+        }
+
+        try {
+            etiquetaRepository.buscarPorId(etiquetaId)
+                .orElseThrow(() -> new Exception("Etiqueta não encontrada"));
+            return tarefaRepository.atualizarEtiquetaEmLote(ids, filtro, etiquetaId);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao alterar etiqueta em lote", e);
+            throw new Exception("Erro ao alterar etiqueta: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adia (ou antecipa, com valor negativo) em lote o prazo final das tarefas selecionadas.
+     *
+     * @param ids IDs das tarefas (pode ser null se houver filtro)
+     * @param filtro critérios de filtro (pode ser null se houver IDs)
+     * @param dias quantidade de dias (diferente de zero, até 3650 em módulo)
+     * @return int quantidade de tarefas alteradas
+     * @throws Exception se a seleção ou a quantidade de dias forem inválidas, ou houver erro ao atualizar
+     */
+    public int deslocarPrazoEmLote(List<Long> ids, FiltroTarefa filtro, Integer dias) throws Exception {
+        validarSelecaoLote(ids, filtro);
+        if (dias == null || dias == 0) {
+            throw new Exception("Informe a quantidade de dias");
+        }
+        if (Math.abs(dias) > 3650) {
+            throw new Exception("Deslocamento máximo de 3650 dias");
+        }
+
+        try {
+            return tarefaRepository.deslocarPrazoEmLote(ids, filtro, dias);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao deslocar prazos em lote", e);
+            throw new Exception("Erro ao alterar prazos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Garante que uma operação em lote tenha alguma seleção, evitando
+     * que uma requisição vazia atinja todas as tarefas.
+     */
+    private void validarSelecaoLote(List<Long> ids, FiltroTarefa filtro) throws Exception {
+        boolean semIds = ids == null || ids.isEmpty();
+        boolean semFiltro = filtro == null || filtro.isVazio();
+        if (semIds && semFiltro) {
+            throw new Exception("Informe os IDs das tarefas ou um filtro");
+        }
+        if (!semIds && ids.stream().anyMatch(id -> id == null || id <= 0)) {
+            throw new Exception("Lista de IDs contém valores inválidos");
+        }
+    }
+
     /**
      * Valida dados de uma tarefa.
      *
@@ -395,36 +509,15 @@ public class TarefaService {
      * @return LocalDate data parseada
      * @throws Exception se o formato for inválido
      */
-    private LocalDate parsePrazoFinal(String dataStr) throws Exception {
+    public LocalDate parsePrazoFinal(String dataStr) throws Exception {
         if (dataStr == null || dataStr.trim().isEmpty()) {
             throw new Exception("Prazo final é obrigatório");
         }
 
-        // Tentar formato brasileiro com barras (dd/MM/yyyy)
-        if (dataStr.matches("\\d{2}/\\d{2}/\\d{4}")) {
-            try {
-                return LocalDate.parse(dataStr, DATE_FORMATTER_BR);
-            } catch (DateTimeParseException e) {
-                logger.warn("Erro ao parsear data com formato dd/MM/yyyy: {}", dataStr);
-            }
-        }
-
-        // Tentar formato brasileiro com hífens (dd-MM-yyyy)
-        if (dataStr.matches("\\d{2}-\\d{2}-\\d{4}")) {
-            try {
-                return LocalDate.parse(dataStr, DATE_FORMATTER_BR_HIFEN);
-            } catch (DateTimeParseException e) {
-                logger.warn("Erro ao parsear data com formato dd-MM-yyyy: {}", dataStr);
-            }
-        }
-
-        // Tentar formato ISO (yyyy-MM-dd)
-        if (dataStr.matches("\\d{4}-\\d{2}-\\d{2}")) {
-            try {
-                return LocalDate.parse(dataStr);
-            } catch (DateTimeParseException e) {
-                logger.warn("Erro ao parsear data com formato yyyy-MM-dd: {}", dataStr);
-            }
+        // Formato reconhecido pelos separadores, sem regex nem exceções
+        LocalDate data = ConversorDatas.parseData(dataStr);
+        if (data != null) {
+            return data;
         }
 
         throw new Exception("Formato de data inválido. Use dd/MM/yyyy, dd-MM-yyyy ou yyyy-MM-dd");
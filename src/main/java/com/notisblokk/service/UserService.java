@@ -334,6 +334,29 @@ public class UserService {
         }
     }
 
+    /**
+     * Lista uma página do diretório de usuários (paginação por cursor), com busca por
+     * prefixo de username, email ou nome e filtros de perfil e situação.
+     *
+     * @param prefixo início de username, email ou nome (null para todos)
+     * @param role perfil (null para todos)
+     * @param ativo situação (null para todos)
+     * @param aposId ID do último usuário da página anterior (null para a primeira)
+     * @param limite quantidade máxima de usuários
+     * @return List<User> usuários da página, sem hash de senha nem dados de segurança
+     * @throws Exception se houver erro ao listar
+     */
+    public List<User> listarDiretorio(String prefixo, UserRole role, Boolean ativo, Long aposId, int limite)
+            throws Exception {
+        try {
+            return userRepository.buscarDiretorio(prefixo, role, ativo, aposId, limite);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao listar diretório de usuários", e);
+            throw new Exception("Erro ao listar usuários: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Conta o total de usuários no sistema.
      *
@@ -0,0 +1,383 @@
+package com.notisblokk.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Cache de arquivos em disco com limite de espaço e remoção LRU.
+ *
+ * <p>Cada entrada é um arquivo na pasta do cache cujo nome é a própria chave.
+ * Quando o total ultrapassa o limite, os arquivos usados há mais tempo são
+ * removidos. A data de modificação do arquivo registra o último uso, de forma
+ * que a ordem LRU sobrevive a reinícios da aplicação.</p>
+ *
+ * <p>As gravações são feitas em um arquivo temporário e publicadas com uma
+ * movimentação atômica: leitores nunca veem um arquivo pela metade.</p>
+ *
+ * <p><b>Thread-Safety:</b> o índice em memória é protegido por um {@link ReentrantLock}
+ * (não por {@code synchronized}, que fixaria a virtual thread na thread de plataforma
+ * durante a abertura e a remoção de arquivos feitas dentro do lock); a leitura e a
+ * escrita do conteúdo acontecem fora dele.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CacheDisco {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheDisco.class);
+    private static final Pattern CHAVE_VALIDA = Pattern.compile("[A-Za-z0-9_.-]+");
+    private static final String PREFIXO_TEMPORARIO = "gravando_";
+
+    private final String nome;
+    private final Path pasta;
+    private final long limiteBytes;
+
+    // Chave -> tamanho em bytes, em ordem de acesso (primeiro = menos usado recentemente)
+    private final LinkedHashMap<String, Long> entradas = new LinkedHashMap<>(64, 0.75f, true);
+    private long tamanhoTotal;
+    private long acertos;
+    private long faltas;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Conteúdo de uma entrada aberta para leitura.
+     *
+     * @param conteudo stream do arquivo (deve ser fechado pelo chamador)
+     * @param tamanho tamanho em bytes
+     */
+    public record Entrada(InputStream conteudo, long tamanho) {
+    }
+
+    /**
+     * Construtor do cache. Carrega as entradas já existentes na pasta.
+     *
+     * @param nome nome do cache (para logs)
+     * @param pasta pasta dos arquivos
+     * @param limiteBytes espaço máximo em bytes (≤ 0 desativa o cache)
+     */
+    private CacheDisco(String nome, Path pasta, long limiteBytes) {
+        this.nome = nome;
+        this.pasta = pasta;
+        this.limiteBytes = limiteBytes;
+
+        if (isHabilitado()) {
+            carregar();
+            logger.info("Cache '{}' inicializado em {}: {} arquivo(s), {} de {} KB",
+                nome, pasta.toAbsolutePath(), entradas.size(), tamanhoTotal / 1024, limiteBytes / 1024);
+        } else {
+            logger.info("Cache '{}' desativado", nome);
+        }
+    }
+
+    /**
+     * Cria o cache, carregando as entradas já existentes na pasta, e registra suas
+     * métricas de acertos, faltas e espaço ocupado.
+     *
+     * <p>O registro fica fora do construtor para que as métricas só referenciem a
+     * instância depois de construída.</p>
+     *
+     * @param nome nome do cache (para logs e métricas)
+     * @param pasta pasta dos arquivos
+     * @param limiteBytes espaço máximo em bytes (≤ 0 desativa o cache)
+     * @return CacheDisco cache pronto para uso
+     */
+    public static CacheDisco criar(String nome, Path pasta, long limiteBytes) {
+        CacheDisco cache = new CacheDisco(nome, pasta, limiteBytes);
+        if (cache.isHabilitado()) {
+            Metricas.contadorFuncao("notisblokk_cache_acertos_total",
+                "Leituras atendidas pelo cache", cache::getAcertos, "cache", nome);
+            Metricas.contadorFuncao("notisblokk_cache_faltas_total",
+                "Leituras não atendidas pelo cache (ausentes ou expiradas)", cache::getFaltas, "cache", nome);
+            Metricas.medidor("notisblokk_cache_disco_bytes", "Espaço ocupado pelo cache em disco",
+                cache::getTamanhoTotal, "cache", nome);
+        }
+        return cache;
+    }
+
+    /**
+     * @return boolean true se o cache tem espaço configurado
+     */
+    public boolean isHabilitado() {
+        return limiteBytes > 0;
+    }
+
+    /**
+     * Abre uma entrada para leitura e a marca como usada recentemente.
+     *
+     * @param chave chave da entrada
+     * @return Entrada conteúdo e tamanho, ou null se não estiver no cache
+     */
+    public Entrada abrir(String chave) {
+        if (!isHabilitado()) {
+            return null;
+        }
+        validarChave(chave);
+        Path arquivo = pasta.resolve(chave);
+
+        lock.lock();
+        try {
+            Long tamanho = entradas.get(chave);
+            if (tamanho == null) {
+                faltas++;
+                logger.debug("[{}] Cache MISS: key={}", nome, chave);
+                return null;
+            }
+
+            try {
+                // Aberto dentro do lock: uma remoção concorrente não apaga o arquivo antes da abertura
+                InputStream conteudo = Files.newInputStream(arquivo);
+                tocar(arquivo);
+                acertos++;
+                logger.debug("[{}] Cache HIT: key={}", nome, chave);
+                return new Entrada(conteudo, tamanho);
+
+            } catch (IOException e) {
+                // Arquivo removido por fora; esquecer a entrada
+                entradas.remove(chave);
+                tamanhoTotal -= tamanho;
+                faltas++;
+                logger.debug("[{}] Cache entrada perdida: key={} ({})", nome, chave, e.getMessage());
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cria um arquivo temporário na pasta do cache, para ser preenchido e depois
+     * passado a {@link #publicar(String, Path)} ou {@link #descartar(Path)}.
+     *
+     * @return Path arquivo vazio
+     * @throws IOException se o arquivo não puder ser criado
+     */
+    public Path novoTemporario() throws IOException {
+        Files.createDirectories(pasta);
+        return Files.createTempFile(pasta, PREFIXO_TEMPORARIO, ".tmp");
+    }
+
+    /**
+     * Publica um arquivo temporário completo como conteúdo da chave, removendo as
+     * entradas menos usadas se o limite for ultrapassado.
+     *
+     * <p>Com o cache desativado, ou se o arquivo sozinho passar do limite, o
+     * temporário é descartado: publicá-lo esvaziaria o cache inteiro sem que a
+     * própria entrada coubesse.</p>
+     *
+     * @param chave chave da entrada
+     * @param temporario arquivo criado por {@link #novoTemporario()}
+     */
+    public void publicar(String chave, Path temporario) {
+        if (!isHabilitado()) {
+            descartar(temporario);
+            return;
+        }
+        validarChave(chave);
+        Path arquivo = pasta.resolve(chave);
+
+        try {
+            long tamanho = Files.size(temporario);
+            if (tamanho > limiteBytes) {
+                logger.debug("[{}] Cache ignorado: key={} ({} bytes excede o limite)", nome, chave, tamanho);
+                descartar(temporario);
+                return;
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            lock.lock();
+            try {
+                Long anterior = entradas.put(chave, tamanho);
+                tamanhoTotal += tamanho - (anterior != null ? anterior : 0);
+                logger.debug("[{}] Cache PUT: key={} ({} bytes)", nome, chave, tamanho);
+                removerExcedentes();
+            } finally {
+                lock.unlock();
+            }
+
+        } catch (IOException e) {
+            logger.warn("[{}] Não foi possível gravar no cache: {}", nome, e.getMessage());
+            descartar(temporario);
+        }
+    }
+
+    /**
+     * Grava um conteúdo já em memória no cache.
+     *
+     * @param chave chave da entrada
+     * @param conteudo bytes a gravar
+     */
+    public void gravar(String chave, byte[] conteudo) {
+        if (!isHabilitado() || conteudo.length > limiteBytes) {
+            return;
+        }
+        try {
+            Path temporario = novoTemporario();
+            Files.write(temporario, conteudo);
+            publicar(chave, temporario);
+        } catch (IOException e) {
+            logger.warn("[{}] Não foi possível gravar no cache: {}", nome, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove um arquivo temporário que não será publicado.
+     *
+     * @param temporario arquivo criado por {@link #novoTemporario()}
+     */
+    public void descartar(Path temporario) {
+        try {
+            Files.deleteIfExists(temporario);
+        } catch (IOException e) {
+            logger.warn("[{}] Não foi possível remover {}: {}", nome, temporario, e.getMessage());
+        }
+    }
+
+    /**
+     * @return int quantidade de entradas
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entradas.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long espaço ocupado em bytes
+     */
+    public long getTamanhoTotal() {
+        lock.lock();
+        try {
+            return tamanhoTotal;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long quantidade de leituras atendidas pelo cache
+     */
+    public long getAcertos() {
+        lock.lock();
+        try {
+            return acertos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long quantidade de leituras não atendidas pelo cache
+     */
+    public long getFaltas() {
+        lock.lock();
+        try {
+            return faltas;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removerExcedentes() {
+        Iterator<Map.Entry<String, Long>> it = entradas.entrySet().iterator();
+        int removidas = 0;
+
+        while (tamanhoTotal > limiteBytes && it.hasNext()) {
+            Map.Entry<String, Long> maisAntiga = it.next();
+            try {
+                Files.deleteIfExists(pasta.resolve(maisAntiga.getKey()));
+            } catch (IOException e) {
+                // Ex.: arquivo aberto por um leitor no Windows; sai do índice mesmo assim
+                logger.debug("[{}] Não foi possível remover {}: {}", nome, maisAntiga.getKey(), e.getMessage());
+            }
+            tamanhoTotal -= maisAntiga.getValue();
+            it.remove();
+            removidas++;
+        }
+
+        if (removidas > 0) {
+            logger.debug("[{}] {} entrada(s) removida(s) por LRU ({} KB em uso)", nome, removidas, tamanhoTotal / 1024);
+        }
+    }
+
+    private void carregar() {
+        List<Path> arquivos = new ArrayList<>();
+        try {
+            Files.createDirectories(pasta);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(pasta)) {
+                for (Path arquivo : stream) {
+                    if (arquivo.getFileName().toString().startsWith(PREFIXO_TEMPORARIO)) {
+                        // Sobra de uma gravação interrompida
+                        Files.deleteIfExists(arquivo);
+                    } else if (Files.isRegularFile(arquivo)) {
+                        arquivos.add(arquivo);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("[{}] Não foi possível ler a pasta do cache: {}", nome, e.getMessage());
+            return;
+        }
+
+        arquivos.sort(Comparator.comparing(CacheDisco::ultimoUso));
+        lock.lock();
+        try {
+            for (Path arquivo : arquivos) {
+                try {
+                    long tamanho = Files.size(arquivo);
+                    entradas.put(arquivo.getFileName().toString(), tamanho);
+                    tamanhoTotal += tamanho;
+                } catch (IOException e) {
+                    logger.debug("[{}] Ignorando {}: {}", nome, arquivo, e.getMessage());
+                }
+            }
+            removerExcedentes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static FileTime ultimoUso(Path arquivo) {
+        try {
+            return Files.getLastModifiedTime(arquivo);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void tocar(Path arquivo) {
+        try {
+            Files.setLastModifiedTime(arquivo, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (NoSuchFileException e) {
+            // Removido entre a abertura e agora; a leitura continua pelo stream aberto
+        } catch (IOException e) {
+            logger.debug("[{}] Não foi possível atualizar {}: {}", nome, arquivo, e.getMessage());
+        }
+    }
+
+    private static void validarChave(String chave) {
+        if (chave == null || !CHAVE_VALIDA.matcher(chave).matches() || chave.startsWith(PREFIXO_TEMPORARIO)) {
+            throw new IllegalArgumentException("Chave de cache inválida: " + chave);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.notisblokk.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Conversão das datas gravadas como texto no banco, sem exceções nem regex.
+ *
+ * <p>As colunas de data misturam formatos: a aplicação grava
+ * {@code dd/MM/yyyy HH:mm:ss} e {@code dd/MM/yyyy}, enquanto os defaults e
+ * triggers do SQLite ({@code CURRENT_TIMESTAMP}) e bancos antigos deixam ISO.
+ * Tentar um formato e cair no outro pelo {@code catch} custa uma exceção com
+ * stack trace por coluna em toda linha no formato secundário. Aqui o formato é
+ * reconhecido pela posição dos separadores e os dígitos são lidos diretamente;
+ * texto inválido resulta em {@code null}.</p>
+ *
+ * <p>Formatos aceitos:</p>
+ * <ul>
+ *   <li>Data: {@code dd/MM/yyyy}, {@code dd-MM-yyyy} e {@code yyyy-MM-dd}</li>
+ *   <li>Data e hora: {@code dd/MM/yyyy HH:mm:ss} e {@code yyyy-MM-dd[ T]HH:mm[:ss[.fração]]}</li>
+ * </ul>
+ *
+ * <p>Prazos e datas de criação se repetem muito entre linhas, então os últimos
+ * valores convertidos ficam em um cache de mapeamento direto (uma posição por
+ * hash, a entrada nova substitui a antiga). As entradas são imutáveis, por isso o
+ * cache dispensa sincronização: uma corrida entre threads no máximo perde um
+ * acerto.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ConversorDatas {
+
+    /** Posições de cada cache (potência de 2). */
+    private static final int TAMANHO_CACHE = 1024;
+
+    private static final Entrada<?>[] DATAS = new Entrada<?>[TAMANHO_CACHE];
+    private static final Entrada<?>[] DATAS_HORAS = new Entrada<?>[TAMANHO_CACHE];
+
+    private static final int[] POTENCIAS_FRACAO = {
+        0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private record Entrada<T>(String texto, T valor) {
+    }
+
+    private ConversorDatas() {
+    }
+
+    /**
+     * Converte uma data em {@code dd/MM/yyyy}, {@code dd-MM-yyyy} ou {@code yyyy-MM-dd}.
+     *
+     * @param texto texto da data
+     * @return LocalDate data, ou null se o texto for nulo, vazio ou inválido
+     */
+    public static LocalDate parseData(String texto) {
+        if (texto == null || texto.length() != 10) {
+            return null;
+        }
+        int posicao = posicao(texto);
+        Entrada<?> entrada = DATAS[posicao];
+        if (entrada != null && entrada.texto().equals(texto)) {
+            return (LocalDate) entrada.valor();
+        }
+
+        LocalDate data = lerData(texto);
+        if (data != null) {
+            DATAS[posicao] = new Entrada<>(texto, data);
+        }
+        return data;
+    }
+
+    /**
+     * Converte uma data e hora em {@code dd/MM/yyyy HH:mm:ss} ou ISO
+     * ({@code yyyy-MM-dd HH:mm:ss}, com {@code T} ou espaço, segundos e fração opcionais).
+     *
+     * <p>Valores ISO são devolvidos como estão, sem conversão de fuso (como fazia o
+     * fallback {@code LocalDateTime.parse} dos repositórios).</p>
+     *
+     * @param texto texto da data e hora
+     * @return LocalDateTime data e hora, ou null se o texto for nulo, vazio ou inválido
+     */
+    public static LocalDateTime parseDataHora(String texto) {
+        if (texto == null || texto.length() < 16) {
+            return null;
+        }
+        int posicao = posicao(texto);
+        Entrada<?> entrada = DATAS_HORAS[posicao];
+        if (entrada != null && entrada.texto().equals(texto)) {
+            return (LocalDateTime) entrada.valor();
+        }
+
+        LocalDateTime dataHora = lerDataHora(texto);
+        if (dataHora != null) {
+            DATAS_HORAS[posicao] = new Entrada<>(texto, dataHora);
+        }
+        return dataHora;
+    }
+
+    private static LocalDate lerData(String texto) {
+        char c2 = texto.charAt(2);
+        if ((c2 == '/' || c2 == '-') && texto.charAt(5) == c2) {
+            return data(numero(texto, 6, 10), numero(texto, 3, 5), numero(texto, 0, 2));
+        }
+        if (texto.charAt(4) == '-' && texto.charAt(7) == '-') {
+            return data(numero(texto, 0, 4), numero(texto, 5, 7), numero(texto, 8, 10));
+        }
+        return null;
+    }
+
+    private static LocalDateTime lerDataHora(String texto) {
+        int tamanho = texto.length();
+
+        // Brasileiro: dd/MM/yyyy HH:mm:ss
+        if (texto.charAt(2) == '/') {
+            if (tamanho != 19 || texto.charAt(5) != '/' || texto.charAt(10) != ' ') {
+                return null;
+            }
+            LocalDate data = data(numero(texto, 6, 10), numero(texto, 3, 5), numero(texto, 0, 2));
+            LocalTime hora = hora(texto, 11, 19, false);
+            return data != null && hora != null ? LocalDateTime.of(data, hora) : null;
+        }
+
+        // ISO: yyyy-MM-dd[ T]HH:mm[:ss[.fração]]
+        char separador = texto.charAt(10);
+        if (texto.charAt(4) != '-' || texto.charAt(7) != '-' || (separador != ' ' && separador != 'T')) {
+            return null;
+        }
+        LocalDate data = data(numero(texto, 0, 4), numero(texto, 5, 7), numero(texto, 8, 10));
+        LocalTime hora = hora(texto, 11, tamanho, true);
+        return data != null && hora != null ? LocalDateTime.of(data, hora) : null;
+    }
+
+    /**
+     * Lê {@code HH:mm:ss} entre {@code inicio} e {@code fim}; no formato ISO os
+     * segundos e a fração (até nanossegundos) são opcionais.
+     */
+    private static LocalTime hora(String texto, int inicio, int fim, boolean iso) {
+        int tamanho = fim - inicio;
+        if (tamanho < 5 || texto.charAt(inicio + 2) != ':') {
+            return null;
+        }
+        int horas = numero(texto, inicio, inicio + 2);
+        int minutos = numero(texto, inicio + 3, inicio + 5);
+        int segundos = 0;
+        int nanos = 0;
+
+        if (tamanho > 5) {
+            if (tamanho < 8 || texto.charAt(inicio + 5) != ':') {
+                return null;
+            }
+            segundos = numero(texto, inicio + 6, inicio + 8);
+            if (tamanho > 8) {
+                int digitos = tamanho - 9;
+                if (!iso || texto.charAt(inicio + 8) != '.' || digitos < 1 || digitos > 9) {
+                    return null;
+                }
+                int fracao = numero(texto, inicio + 9, fim);
+                nanos = fracao < 0 ? -1 : fracao * POTENCIAS_FRACAO[digitos];
+            }
+        } else if (!iso) {
+            return null;
+        }
+
+        if (horas < 0 || horas > 23 || minutos < 0 || minutos > 59 || segundos < 0 || segundos > 59 || nanos < 0) {
+            return null;
+        }
+        return LocalTime.of(horas, minutos, segundos, nanos);
+    }
+
+    private static LocalDate data(int ano, int mes, int dia) {
+        if (ano < 0 || mes < 1 || mes > 12 || dia < 1 || dia > Month.of(mes).length(Year.isLeap(ano))) {
+            return null;
+        }
+        return LocalDate.of(ano, mes, dia);
+    }
+
+    /**
+     * Valor dos dígitos entre {@code inicio} (inclusivo) e {@code fim} (exclusivo).
+     *
+     * @return int valor, ou -1 se houver um caractere que não é dígito
+     */
+    private static int numero(String texto, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int digito = texto.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    private static int posicao(String texto) {
+        int hash = texto.hashCode();
+        return (hash ^ (hash >>> 16)) & (TAMANHO_CACHE - 1);
+    }
+}
@@ -0,0 +1,215 @@
+package com.notisblokk.util;
+
+import com.notisblokk.config.AppConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor dedicado às operações de hash de senha (BCrypt).
+ *
+ * <p>Cada hash consome centenas de milissegundos de CPU. Executá-los nas threads do
+ * Jetty permite que um pico de logins ocupe todo o servidor; aqui eles ficam em um
+ * pool limitado ({@code senha.hash.threads}) com fila limitada ({@code senha.hash.fila}).
+ * Quando a fila está cheia, ou uma tarefa esperou mais que
+ * {@code senha.hash.espera.maxima.ms}, a operação falha na hora com
+ * {@link SobrecargaException} (respondida como 503) em vez de acumular requisições.</p>
+ *
+ * <p>Registra o tempo de espera na fila e o tempo de hash de cada operação.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ExecutorHashSenha {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorHashSenha.class);
+
+    private static final int THREADS = AppConfig.getSenhaHashThreads();
+    private static final int CAPACIDADE_FILA = AppConfig.getSenhaHashFila();
+    private static final long ESPERA_MAXIMA_NS = TimeUnit.MILLISECONDS.toNanos(AppConfig.getSenhaHashEsperaMaximaMs());
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+        THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(CAPACIDADE_FILA),
+        new java.util.concurrent.ThreadFactory() {
+            private final AtomicInteger contador = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable tarefa) {
+                Thread thread = new Thread(tarefa, "hash-senha-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    // Métricas
+    private static final LongAdder operacoes = new LongAdder();
+    private static final LongAdder rejeitadas = new LongAdder();
+    private static final LongAdder esperaTotalNs = new LongAdder();
+    private static final AtomicLong esperaMaximaNs = new AtomicLong();
+    private static final LongAdder hashTotalNs = new LongAdder();
+    private static final AtomicLong hashMaximoNs = new AtomicLong();
+
+    static {
+        Metricas.contadorFuncao("notisblokk_hash_senha_operacoes_total",
+            "Hashes de senha calculados", operacoes::sum);
+        Metricas.contadorFuncao("notisblokk_hash_senha_rejeitadas_total",
+            "Operações de hash recusadas por sobrecarga", rejeitadas::sum);
+        Metricas.contadorFuncao("notisblokk_hash_senha_espera_segundos_total",
+            "Tempo acumulado na fila do executor de hash", () -> esperaTotalNs.sum() / 1e9);
+        Metricas.contadorFuncao("notisblokk_hash_senha_execucao_segundos_total",
+            "Tempo acumulado calculando hashes", () -> hashTotalNs.sum() / 1e9);
+        Metricas.medidor("notisblokk_hash_senha_fila",
+            "Operações de hash aguardando na fila", () -> EXECUTOR.getQueue().size());
+        Metricas.medidor("notisblokk_hash_senha_ativas",
+            "Operações de hash em execução", EXECUTOR::getActiveCount);
+    }
+
+    private ExecutorHashSenha() {
+    }
+
+    /**
+     * Exceção lançada quando o executor está sobrecarregado.
+     */
+    public static class SobrecargaException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public SobrecargaException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Fotografia das métricas do executor.
+     *
+     * @param operacoes operações concluídas
+     * @param rejeitadas operações recusadas por sobrecarga
+     * @param esperaMediaMs tempo médio na fila
+     * @param esperaMaximaMs maior tempo na fila
+     * @param hashMedioMs tempo médio de hash
+     * @param hashMaximoMs maior tempo de hash
+     * @param emFila tarefas aguardando agora
+     * @param emExecucao tarefas executando agora
+     * @param threads tamanho do pool
+     * @param capacidadeFila tamanho máximo da fila
+     */
+    public record Situacao(long operacoes, long rejeitadas, double esperaMediaMs, double esperaMaximaMs,
+                           double hashMedioMs, double hashMaximoMs, int emFila, int emExecucao,
+                           int threads, int capacidadeFila) {
+    }
+
+    /**
+     * Executa uma operação de hash e aguarda o resultado.
+     *
+     * @param operacao operação (ex.: BCrypt.hashpw)
+     * @return T resultado da operação
+     * @throws SobrecargaException se a fila estiver cheia ou a espera passar do limite
+     */
+    public static <T> T executar(Callable<T> operacao) {
+        long enfileirado = System.nanoTime();
+        Future<T> futuro;
+        try {
+            futuro = EXECUTOR.submit(() -> medir(operacao, enfileirado));
+        } catch (RejectedExecutionException e) {
+            rejeitadas.increment();
+            logger.warn("Fila de hash de senha cheia ({} aguardando); requisição recusada", CAPACIDADE_FILA);
+            throw new SobrecargaException("Servidor ocupado. Tente novamente em alguns segundos.");
+        }
+
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SobrecargaException("Operação de senha interrompida");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(causa);
+        }
+    }
+
+    /**
+     * Executa uma operação em segundo plano somente se não houver fila, para que
+     * trabalho opcional (ex.: rehash) não se acumule à frente de logins.
+     *
+     * @param operacao operação a executar
+     * @return boolean true se a operação foi aceita
+     */
+    public static boolean executarSeOcioso(Runnable operacao) {
+        if (!EXECUTOR.getQueue().isEmpty()) {
+            return false;
+        }
+        long enfileirado = System.nanoTime();
+        try {
+            EXECUTOR.execute(() -> {
+                try {
+                    medir(() -> {
+                        operacao.run();
+                        return null;
+                    }, enfileirado);
+                } catch (Exception e) {
+                    logger.warn("Operação de senha em segundo plano falhou: {}", e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Situacao métricas atuais
+     */
+    public static Situacao getSituacao() {
+        long total = operacoes.sum();
+        return new Situacao(
+            total,
+            rejeitadas.sum(),
+            total > 0 ? esperaTotalNs.sum() / 1e6 / total : 0,
+            esperaMaximaNs.get() / 1e6,
+            total > 0 ? hashTotalNs.sum() / 1e6 / total : 0,
+            hashMaximoNs.get() / 1e6,
+            EXECUTOR.getQueue().size(),
+            EXECUTOR.getActiveCount(),
+            THREADS,
+            CAPACIDADE_FILA);
+    }
+
+    private static <T> T medir(Callable<T> operacao, long enfileirado) throws Exception {
+        long inicio = System.nanoTime();
+        long espera = inicio - enfileirado;
+
+        // O cliente provavelmente já desistiu; não gastar CPU com esta tarefa
+        if (espera > ESPERA_MAXIMA_NS) {
+            rejeitadas.increment();
+            logger.warn("Hash de senha descartado após {} ms na fila", TimeUnit.NANOSECONDS.toMillis(espera));
+            throw new SobrecargaException("Servidor ocupado. Tente novamente em alguns segundos.");
+        }
+
+        try {
+            return operacao.call();
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            operacoes.increment();
+            esperaTotalNs.add(espera);
+            esperaMaximaNs.accumulateAndGet(espera, Math::max);
+            hashTotalNs.add(duracao);
+            hashMaximoNs.accumulateAndGet(duracao, Math::max);
+        }
+    }
+}
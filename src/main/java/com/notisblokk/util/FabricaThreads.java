@@ -0,0 +1,90 @@
+package com.notisblokk.util;
+
+import com.notisblokk.config.AppConfig;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Criação das threads de trabalho bloqueante (JDBC, SMTP, arquivos) conforme o
+ * modo configurado em {@code server.virtual.threads}.
+ *
+ * <p>No modo virtual cada tarefa ganha a sua virtual thread e o limite de
+ * concorrência fica com quem já o impõe (despacho da fila de jobs, pool de
+ * conexões). No modo plataforma o comportamento é o de sempre: threads daemon
+ * em pool fixo.</p>
+ *
+ * <p>Trabalho de CPU (hash de senha, geração de PDF) continua em pools de
+ * plataforma próprios, dimensionados pelos núcleos disponíveis.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FabricaThreads {
+
+    private static final boolean VIRTUAIS = AppConfig.isServerVirtualThreads();
+
+    private FabricaThreads() {
+    }
+
+    /**
+     * @return boolean true se o modo de virtual threads estiver ativo
+     */
+    public static boolean isVirtuais() {
+        return VIRTUAIS;
+    }
+
+    /**
+     * Fábrica de threads nomeadas {@code prefixo-N}.
+     *
+     * @param prefixo prefixo do nome das threads
+     * @return ThreadFactory virtual threads ou threads daemon de plataforma
+     */
+    public static ThreadFactory fabrica(String prefixo) {
+        if (VIRTUAIS) {
+            return Thread.ofVirtual().name(prefixo + "-", 1).factory();
+        }
+
+        AtomicInteger contador = new AtomicInteger();
+        return tarefa -> {
+            Thread thread = new Thread(tarefa, prefixo + "-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executor para tarefas bloqueantes cuja concorrência já é controlada pelo chamador.
+     *
+     * @param prefixo prefixo do nome das threads
+     * @param threads tamanho do pool no modo plataforma (ignorado no modo virtual)
+     * @return ExecutorService uma virtual thread por tarefa, ou pool fixo de plataforma
+     */
+    public static ExecutorService executor(String prefixo, int threads) {
+        if (VIRTUAIS) {
+            return Executors.newThreadPerTaskExecutor(fabrica(prefixo));
+        }
+        return Executors.newFixedThreadPool(threads, fabrica(prefixo));
+    }
+
+    /**
+     * Inicia uma thread avulsa (ex.: leitor de um pipeline produtor/consumidor).
+     *
+     * @param nome nome da thread
+     * @param tarefa código a executar
+     * @return Thread thread já iniciada
+     */
+    public static Thread iniciar(String nome, Runnable tarefa) {
+        if (VIRTUAIS) {
+            return Thread.ofVirtual().name(nome).start(tarefa);
+        }
+
+        Thread thread = new Thread(tarefa, nome);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
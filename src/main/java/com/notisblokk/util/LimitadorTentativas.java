@@ -0,0 +1,239 @@
+package com.notisblokk.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limitador de tentativas em memória baseado em token buckets, um balde por chave
+ * (ex.: IP do cliente ou ID do usuário).
+ *
+ * <p>Cada balde começa cheio com {@code capacidade} fichas; cada tentativa consome
+ * uma ficha e o balde recupera uma ficha a cada intervalo de {@code recarga}.
+ * Sem fichas, a chave está limitada até a próxima recarga.</p>
+ *
+ * <p>A atualização de cada balde é lock-free (compare-and-set). {@link #tentar}
+ * verifica e consome a ficha na mesma operação, então requisições paralelas não
+ * passam todas pela verificação antes de alguma consumir. A memória é limitada a
+ * {@code maxChaves} baldes: baldes que voltaram a ficar cheios não carregam
+ * informação e são removidos periodicamente; se o limite for atingido mesmo assim,
+ * os baldes usados há mais tempo são descartados para abrir espaço (uma chave nova
+ * nunca fica sem limite).</p>
+ *
+ * @param <K> tipo da chave
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LimitadorTentativas<K> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LimitadorTentativas.class);
+
+    // Uma thread compartilhada por todos os limitadores para a limpeza periódica
+    private static final ScheduledExecutorService LIMPEZA = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "limitador-tentativas");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String nome;
+    private final int capacidade;
+    private final long recargaNs;
+    private final int maxChaves;
+    private final ConcurrentHashMap<K, AtomicReference<Saldo>> baldes = new ConcurrentHashMap<>();
+    private volatile long ultimoAvisoLotado;
+
+    /**
+     * Fichas de um balde no instante da última atualização.
+     */
+    private record Saldo(double fichas, long instanteNs) {
+    }
+
+    private record Candidato<K>(K chave, AtomicReference<Saldo> balde, long instanteNs) {
+    }
+
+    private LimitadorTentativas(String nome, int capacidade, Duration recarga, int maxChaves) {
+        this.nome = nome;
+        this.capacidade = Math.max(1, capacidade);
+        this.recargaNs = Math.max(1, recarga.toNanos());
+        this.maxChaves = maxChaves;
+    }
+
+    /**
+     * Cria um limitador, agenda a limpeza dos baldes cheios a cada minuto e registra
+     * a métrica de chaves rastreadas.
+     *
+     * <p>O agendamento e o registro ficam fora do construtor para que a instância só
+     * seja publicada para outras threads depois de construída.</p>
+     *
+     * @param nome nome do limitador (para logs)
+     * @param capacidade fichas de um balde cheio (tentativas seguidas permitidas)
+     * @param recarga tempo para recuperar uma ficha
+     * @param maxChaves quantidade máxima de baldes em memória
+     * @param <K> tipo da chave
+     * @return LimitadorTentativas limitador pronto para uso
+     */
+    public static <K> LimitadorTentativas<K> criar(String nome, int capacidade, Duration recarga, int maxChaves) {
+        LimitadorTentativas<K> limitador = new LimitadorTentativas<>(nome, capacidade, recarga, maxChaves);
+        LIMPEZA.scheduleWithFixedDelay(limitador::removerCheios, 1, 1, TimeUnit.MINUTES);
+        Metricas.medidor("notisblokk_limitador_chaves", "Chaves rastreadas pelo limitador de tentativas",
+            limitador::size, "limitador", nome);
+        return limitador;
+    }
+
+    /**
+     * Consome uma ficha da chave se houver ao menos uma, na mesma operação.
+     *
+     * @param chave chave do balde
+     * @return boolean true se a tentativa é permitida (ficha consumida)
+     */
+    public boolean tentar(K chave) {
+        AtomicReference<Saldo> balde = balde(chave);
+        while (true) {
+            Saldo anterior = balde.get();
+            long agora = System.nanoTime();
+            double disponiveis = fichas(anterior, agora);
+            if (disponiveis < 1) {
+                return false;
+            }
+            if (balde.compareAndSet(anterior, new Saldo(disponiveis - 1, agora))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Devolve uma ficha consumida por {@link #tentar} (ex.: tentativa que deu certo).
+     *
+     * @param chave chave do balde
+     */
+    public void devolver(K chave) {
+        AtomicReference<Saldo> balde = baldes.get(chave);
+        if (balde == null) {
+            return;
+        }
+        while (true) {
+            Saldo anterior = balde.get();
+            long agora = System.nanoTime();
+            double fichas = Math.min(capacidade, fichas(anterior, agora) + 1);
+            if (balde.compareAndSet(anterior, new Saldo(fichas, agora))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Consome uma ficha da chave.
+     *
+     * @param chave chave do balde
+     * @return int fichas inteiras restantes (0 = limitada)
+     */
+    public int consumir(K chave) {
+        AtomicReference<Saldo> balde = balde(chave);
+        while (true) {
+            Saldo anterior = balde.get();
+            long agora = System.nanoTime();
+            double restantes = Math.max(0, fichas(anterior, agora) - 1);
+            if (balde.compareAndSet(anterior, new Saldo(restantes, agora))) {
+                return (int) restantes;
+            }
+        }
+    }
+
+    /**
+     * Tempo até a chave voltar a ter uma ficha.
+     *
+     * @param chave chave do balde
+     * @return long segundos (0 se já permitida)
+     */
+    public long segundosParaLiberar(K chave) {
+        AtomicReference<Saldo> balde = baldes.get(chave);
+        if (balde == null) {
+            return 0;
+        }
+        double faltam = 1 - fichas(balde.get(), System.nanoTime());
+        return faltam <= 0 ? 0 : (long) Math.ceil(faltam * recargaNs / 1e9);
+    }
+
+    /**
+     * Esquece a chave (balde volta a ficar cheio).
+     *
+     * @param chave chave do balde
+     */
+    public void limpar(K chave) {
+        baldes.remove(chave);
+    }
+
+    /**
+     * @return int quantidade de baldes em memória
+     */
+    public int size() {
+        return baldes.size();
+    }
+
+    private AtomicReference<Saldo> balde(K chave) {
+        AtomicReference<Saldo> balde = baldes.get(chave);
+        if (balde != null) {
+            return balde;
+        }
+        if (baldes.size() >= maxChaves) {
+            abrirEspaco();
+        }
+        return baldes.computeIfAbsent(chave, k -> new AtomicReference<>(new Saldo(capacidade, System.nanoTime())));
+    }
+
+    private double fichas(Saldo saldo, long agora) {
+        return Math.min(capacidade, saldo.fichas() + (double) (agora - saldo.instanteNs()) / recargaNs);
+    }
+
+    private void removerCheios() {
+        long agora = System.nanoTime();
+        int antes = baldes.size();
+
+        for (Map.Entry<K, AtomicReference<Saldo>> entrada : baldes.entrySet()) {
+            if (fichas(entrada.getValue().get(), agora) >= capacidade) {
+                // Remove só se o balde não foi substituído nesse meio tempo
+                baldes.remove(entrada.getKey(), entrada.getValue());
+            }
+        }
+
+        int removidos = antes - baldes.size();
+        if (removidos > 0) {
+            logger.debug("[{}] {} balde(s) recarregado(s) removido(s); {} em memória", nome, removidos, baldes.size());
+        }
+    }
+
+    /**
+     * Remove os baldes cheios e, se não bastar, o décimo dos baldes atualizados há
+     * mais tempo (remover um lote de cada vez evita percorrer o mapa a cada chave nova).
+     */
+    private synchronized void abrirEspaco() {
+        removerCheios();
+        if (baldes.size() < maxChaves) {
+            return;
+        }
+
+        int descartar = Math.max(1, baldes.size() - maxChaves + maxChaves / 10);
+        // Instantes copiados antes de ordenar: os baldes continuam mudando durante a ordenação
+        baldes.entrySet().stream()
+            .map(entrada -> new Candidato<>(entrada.getKey(), entrada.getValue(), entrada.getValue().get().instanteNs()))
+            .sorted(Comparator.comparingLong(Candidato::instanteNs))
+            .limit(descartar)
+            .forEach(candidato -> baldes.remove(candidato.chave(), candidato.balde()));
+
+        long agora = System.nanoTime();
+        if (agora - ultimoAvisoLotado > TimeUnit.MINUTES.toNanos(1)) {
+            ultimoAvisoLotado = agora;
+            logger.warn("[{}] Limite de {} chaves atingido; {} balde(s) mais antigo(s) descartado(s)",
+                nome, maxChaves, descartar);
+        }
+    }
+}
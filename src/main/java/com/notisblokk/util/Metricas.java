@@ -0,0 +1,317 @@
+package com.notisblokk.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registro das métricas da aplicação, exportadas no formato de texto do Prometheus
+ * (ver {@link com.notisblokk.controller.MetricasController}).
+ *
+ * <p>O registro de uma série ({@link #contador}, {@link #histograma}) acontece uma
+ * vez; quem mede guarda a série e, a cada evento, apenas incrementa
+ * {@link LongAdder}s, sem locks nem alocação. Valores que já existem em outro lugar
+ * (tamanho de pool, tamanho de fila, memória da JVM) são registrados como funções
+ * e lidos somente na exportação.</p>
+ *
+ * <p>Rótulos são passados em pares nome/valor: {@code contador("x_total", "...", "cache", "Etiquetas")}.
+ * Registrar de novo a mesma série devolve a série existente, de modo que várias
+ * instâncias de um componente somam no mesmo contador.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Metricas {
+
+    /** Limites (segundos) para a latência das requisições HTTP. */
+    public static final double[] LIMITES_REQUISICAO = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    /** Limites (segundos) para a espera e o uso de conexões do banco. */
+    public static final double[] LIMITES_CONEXAO = {0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 30};
+
+    /** Limites (segundos) para a duração de jobs. */
+    public static final double[] LIMITES_JOB = {0.1, 0.5, 1, 5, 10, 30, 60, 300, 900, 3600};
+
+    private static final Map<String, Familia> FAMILIAS = new ConcurrentHashMap<>();
+
+    static {
+        registrarJvm();
+    }
+
+    private Metricas() {
+    }
+
+    private enum Tipo {
+        CONTADOR("counter"),
+        MEDIDOR("gauge"),
+        HISTOGRAMA("histogram");
+
+        private final String texto;
+
+        Tipo(String texto) {
+            this.texto = texto;
+        }
+    }
+
+    /**
+     * Métrica com nome, descrição e tipo; cada combinação de rótulos é uma série.
+     */
+    private record Familia(String nome, String ajuda, Tipo tipo, Map<String, Serie> series) {
+    }
+
+    private interface Serie {
+        void escrever(StringBuilder saida, String nome, String rotulos);
+    }
+
+    /**
+     * Contador monotônico.
+     */
+    public static final class Contador implements Serie {
+        private final LongAdder valor = new LongAdder();
+
+        private Contador() {
+        }
+
+        public void incrementar() {
+            valor.increment();
+        }
+
+        public void somar(long quantidade) {
+            valor.add(quantidade);
+        }
+
+        @Override
+        public void escrever(StringBuilder saida, String nome, String rotulos) {
+            linha(saida, nome, rotulos, valor.sum());
+        }
+    }
+
+    /**
+     * Histograma com limites fixos, em segundos.
+     */
+    public static final class Histograma implements Serie {
+        private final double[] limites;
+        private final long[] limitesNs;
+        private final LongAdder[] baldes;
+        private final LongAdder somaNs = new LongAdder();
+
+        private Histograma(double[] limites) {
+            this.limites = limites;
+            this.limitesNs = new long[limites.length];
+            this.baldes = new LongAdder[limites.length + 1];
+            for (int i = 0; i < limites.length; i++) {
+                limitesNs[i] = (long) (limites[i] * 1e9);
+            }
+            for (int i = 0; i < baldes.length; i++) {
+                baldes[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * @param duracaoNs duração observada em nanossegundos
+         */
+        public void registrarNanos(long duracaoNs) {
+            int i = 0;
+            while (i < limitesNs.length && duracaoNs > limitesNs[i]) {
+                i++;
+            }
+            baldes[i].increment();
+            somaNs.add(duracaoNs);
+        }
+
+        /**
+         * @param duracaoMs duração observada em milissegundos
+         */
+        public void registrarMillis(long duracaoMs) {
+            registrarNanos(TimeUnit.MILLISECONDS.toNanos(duracaoMs));
+        }
+
+        @Override
+        public void escrever(StringBuilder saida, String nome, String rotulos) {
+            String prefixo = rotulos.isEmpty() ? "" : rotulos + ",";
+            long acumulado = 0;
+            for (int i = 0; i < baldes.length; i++) {
+                acumulado += baldes[i].sum();
+                String le = i < limites.length ? Double.toString(limites[i]) : "+Inf";
+                linha(saida, nome + "_bucket", prefixo + "le=\"" + le + "\"", acumulado);
+            }
+            linha(saida, nome + "_sum", rotulos, somaNs.sum() / 1e9);
+            linha(saida, nome + "_count", rotulos, acumulado);
+        }
+    }
+
+    private record Funcao(DoubleSupplier valor) implements Serie {
+        @Override
+        public void escrever(StringBuilder saida, String nome, String rotulos) {
+            linha(saida, nome, rotulos, valor.getAsDouble());
+        }
+    }
+
+    /**
+     * Registra (ou obtém) um contador.
+     *
+     * @param nome nome da métrica (terminado em {@code _total})
+     * @param ajuda descrição
+     * @param rotulos pares nome/valor
+     * @return Contador série a incrementar
+     */
+    public static Contador contador(String nome, String ajuda, String... rotulos) {
+        Serie serie = familia(nome, ajuda, Tipo.CONTADOR).series()
+            .computeIfAbsent(rotulos(rotulos), r -> new Contador());
+        if (!(serie instanceof Contador contador)) {
+            throw new IllegalArgumentException("Série já registrada como função: " + nome);
+        }
+        return contador;
+    }
+
+    /**
+     * Registra (ou obtém) um histograma.
+     *
+     * @param nome nome da métrica (terminado em {@code _segundos})
+     * @param ajuda descrição
+     * @param limites limites superiores dos baldes, em segundos, em ordem crescente
+     * @param rotulos pares nome/valor
+     * @return Histograma série a alimentar
+     */
+    public static Histograma histograma(String nome, String ajuda, double[] limites, String... rotulos) {
+        return (Histograma) familia(nome, ajuda, Tipo.HISTOGRAMA).series()
+            .computeIfAbsent(rotulos(rotulos), r -> new Histograma(limites));
+    }
+
+    /**
+     * Registra um valor instantâneo lido na exportação (substitui um registro anterior).
+     *
+     * @param nome nome da métrica
+     * @param ajuda descrição
+     * @param valor leitura do valor atual
+     * @param rotulos pares nome/valor
+     */
+    public static void medidor(String nome, String ajuda, DoubleSupplier valor, String... rotulos) {
+        familia(nome, ajuda, Tipo.MEDIDOR).series().put(rotulos(rotulos), new Funcao(valor));
+    }
+
+    /**
+     * Registra um contador mantido por outro componente, lido na exportação.
+     *
+     * @param nome nome da métrica (terminado em {@code _total})
+     * @param ajuda descrição
+     * @param valor leitura do total atual
+     * @param rotulos pares nome/valor
+     */
+    public static void contadorFuncao(String nome, String ajuda, DoubleSupplier valor, String... rotulos) {
+        familia(nome, ajuda, Tipo.CONTADOR).series().put(rotulos(rotulos), new Funcao(valor));
+    }
+
+    /**
+     * Exporta todas as métricas no formato de texto do Prometheus (versão 0.0.4).
+     *
+     * @return String métricas, uma série por linha
+     */
+    public static String exportar() {
+        StringBuilder saida = new StringBuilder(16 * 1024);
+        for (Familia familia : new TreeMap<>(FAMILIAS).values()) {
+            saida.append("# HELP ").append(familia.nome()).append(' ').append(familia.ajuda()).append('\n');
+            saida.append("# TYPE ").append(familia.nome()).append(' ').append(familia.tipo().texto).append('\n');
+            new TreeMap<>(familia.series()).forEach((rotulos, serie) -> serie.escrever(saida, familia.nome(), rotulos));
+        }
+        return saida.toString();
+    }
+
+    private static Familia familia(String nome, String ajuda, Tipo tipo) {
+        Familia familia = FAMILIAS.computeIfAbsent(nome,
+            n -> new Familia(n, ajuda, tipo, new ConcurrentHashMap<>()));
+        if (familia.tipo() != tipo) {
+            throw new IllegalArgumentException("Métrica " + nome + " já registrada como " + familia.tipo());
+        }
+        return familia;
+    }
+
+    private static String rotulos(String... pares) {
+        if (pares.length % 2 != 0) {
+            throw new IllegalArgumentException("Rótulos devem ser pares nome/valor");
+        }
+
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < pares.length; i += 2) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(pares[i]).append("=\"");
+            String valor = pares[i + 1] != null ? pares[i + 1] : "";
+            for (int j = 0; j < valor.length(); j++) {
+                char c = valor.charAt(j);
+                switch (c) {
+                    case '\\' -> texto.append("\\\\");
+                    case '"' -> texto.append("\\\"");
+                    case '\n' -> texto.append("\\n");
+                    default -> texto.append(c);
+                }
+            }
+            texto.append('"');
+        }
+        return texto.toString();
+    }
+
+    private static void linha(StringBuilder saida, String nome, String rotulos, long valor) {
+        cabecalho(saida, nome, rotulos).append(valor).append('\n');
+    }
+
+    private static void linha(StringBuilder saida, String nome, String rotulos, double valor) {
+        StringBuilder destino = cabecalho(saida, nome, rotulos);
+        if (Double.isNaN(valor)) {
+            destino.append("NaN");
+        } else if (Double.isInfinite(valor)) {
+            destino.append(valor > 0 ? "+Inf" : "-Inf");
+        } else if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+            destino.append((long) valor);
+        } else {
+            destino.append(valor);
+        }
+        destino.append('\n');
+    }
+
+    private static StringBuilder cabecalho(StringBuilder saida, String nome, String rotulos) {
+        saida.append(nome);
+        if (!rotulos.isEmpty()) {
+            saida.append('{').append(rotulos).append('}');
+        }
+        return saida.append(' ');
+    }
+
+    /**
+     * Memória, coletas de lixo e threads da JVM.
+     */
+    private static void registrarJvm() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        medidor("notisblokk_jvm_memoria_usada_bytes", "Memória usada pela JVM",
+            () -> memoria.getHeapMemoryUsage().getUsed(), "area", "heap");
+        medidor("notisblokk_jvm_memoria_usada_bytes", "Memória usada pela JVM",
+            () -> memoria.getNonHeapMemoryUsage().getUsed(), "area", "nao_heap");
+        medidor("notisblokk_jvm_memoria_reservada_bytes", "Memória reservada (committed) pela JVM",
+            () -> memoria.getHeapMemoryUsage().getCommitted(), "area", "heap");
+        medidor("notisblokk_jvm_memoria_reservada_bytes", "Memória reservada (committed) pela JVM",
+            () -> memoria.getNonHeapMemoryUsage().getCommitted(), "area", "nao_heap");
+        medidor("notisblokk_jvm_memoria_maxima_bytes", "Limite de memória heap da JVM (-Xmx)",
+            () -> memoria.getHeapMemoryUsage().getMax(), "area", "heap");
+
+        for (GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans()) {
+            contadorFuncao("notisblokk_jvm_gc_coletas_total", "Coletas de lixo executadas",
+                coletor::getCollectionCount, "coletor", coletor.getName());
+            contadorFuncao("notisblokk_jvm_gc_tempo_segundos_total", "Tempo acumulado em coletas de lixo",
+                () -> coletor.getCollectionTime() / 1000.0, "coletor", coletor.getName());
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        medidor("notisblokk_jvm_threads", "Threads de plataforma vivas", threads::getThreadCount);
+        medidor("notisblokk_jvm_tempo_ativo_segundos", "Tempo desde o início da JVM",
+            () -> ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0);
+    }
+}
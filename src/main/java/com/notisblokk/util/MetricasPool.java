@@ -0,0 +1,57 @@
+package com.notisblokk.util;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Métricas do pool de conexões HikariCP, ligadas pelo
+ * {@code HikariConfig.setMetricsTrackerFactory}.
+ *
+ * <p>O próprio Hikari informa cada espera por conexão, cada uso e cada timeout;
+ * ocupação do pool (ativas, ociosas, threads aguardando) vem do {@link PoolStats},
+ * que o Hikari atualiza no máximo uma vez por segundo.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricasPool implements MetricsTrackerFactory {
+
+    @Override
+    public IMetricsTracker create(String pool, PoolStats estatisticas) {
+        Metricas.medidor("notisblokk_pool_conexoes", "Conexões do pool por estado",
+            estatisticas::getActiveConnections, "pool", pool, "estado", "ativas");
+        Metricas.medidor("notisblokk_pool_conexoes", "Conexões do pool por estado",
+            estatisticas::getIdleConnections, "pool", pool, "estado", "ociosas");
+        Metricas.medidor("notisblokk_pool_conexoes_maximo", "Tamanho máximo do pool",
+            estatisticas::getMaxConnections, "pool", pool);
+        Metricas.medidor("notisblokk_pool_threads_aguardando", "Threads aguardando uma conexão livre",
+            estatisticas::getPendingThreads, "pool", pool);
+
+        Metricas.Histograma aquisicao = Metricas.histograma("notisblokk_pool_aquisicao_segundos",
+            "Tempo de espera para obter uma conexão", Metricas.LIMITES_CONEXAO, "pool", pool);
+        Metricas.Histograma uso = Metricas.histograma("notisblokk_pool_uso_segundos",
+            "Tempo entre obter e devolver uma conexão", Metricas.LIMITES_CONEXAO, "pool", pool);
+        Metricas.Contador timeouts = Metricas.contador("notisblokk_pool_timeouts_total",
+            "Pedidos de conexão que esgotaram o connectionTimeout", "pool", pool);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long nanos) {
+                aquisicao.registrarNanos(nanos);
+                TempoRequisicao.somar(TempoRequisicao.Etapa.POOL, nanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long millis) {
+                uso.registrarMillis(millis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.incrementar();
+            }
+        };
+    }
+}
@@ -0,0 +1,476 @@
+package com.notisblokk.util;
+
+import com.notisblokk.config.AppConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Cronometra os comandos SQL executados pelas conexões de
+ * {@link com.notisblokk.config.DatabaseConfig#getConnection()} e agrega os números
+ * por consulta.
+ *
+ * <p>O monitor é uma ferramenta de diagnóstico, desligado por padrão
+ * ({@code database.monitor.consultas}). Ligado, a conexão do pool é envolvida por um
+ * proxy que instrumenta os {@link PreparedStatement}s e {@link Statement}s criados
+ * por ela; os repositórios não mudam. O tempo de uma consulta soma o
+ * {@code executeQuery} e cada {@code next()} do resultado ({@link ResultadoCronometrado},
+ * uma delegação escrita à mão para que os getters continuem chamadas diretas), porque o
+ * SQLite avança a consulta linha a linha: uma varredura longa aparece na leitura, não
+ * na execução. As linhas contadas são as lidas (consultas) ou alteradas (atualizações).</p>
+ *
+ * <p>Com o monitor desligado, as conexões obtidas em uma requisição amostrada pelo
+ * {@code Server-Timing} ({@link TempoRequisicao#isAtivo()}) recebem a mesma
+ * instrumentação só para somar o tempo da etapa {@code banco}, sem estatísticas,
+ * parâmetros nem log.</p>
+ *
+ * <p>As consultas são agrupadas pela impressão digital do SQL: literais viram
+ * {@code ?}, listas {@code IN (?, ?, ...)} viram {@code (?+)} e os espaços são
+ * normalizados. Comandos a partir de {@code database.consulta.lenta.ms} vão para o
+ * log com o resultado de {@code EXPLAIN QUERY PLAN}, obtido na mesma conexão e refeito
+ * no máximo a cada 10 minutos por consulta. Os valores ligados (senhas, e-mails,
+ * nomes de usuário) só aparecem no log e na tela com
+ * {@code database.consulta.lenta.parametros=true}; por padrão o SQL vai com os
+ * {@code ?}.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MonitorConsultas {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorConsultas.class);
+
+    private static final boolean ATIVO = AppConfig.isDatabaseMonitorConsultas();
+    private static final long LIMITE_LENTA_NS = TimeUnit.MILLISECONDS.toNanos(AppConfig.getDatabaseConsultaLentaMs());
+    private static final boolean MOSTRAR_PARAMETROS = AppConfig.isDatabaseConsultaLentaParametros();
+
+    /** Consultas distintas guardadas; as demais somam em uma linha única. */
+    private static final int MAXIMO_CONSULTAS = 500;
+    private static final int MAXIMO_IMPRESSOES_EM_CACHE = 2000;
+    private static final long INTERVALO_PLANO_NS = TimeUnit.MINUTES.toNanos(10);
+    private static final int TAMANHO_MAXIMO_VALOR = 64;
+    private static final String OUTRAS = "(demais consultas)";
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern EXPLICAVEL = Pattern.compile(
+        "\\s*(SELECT|INSERT|UPDATE|DELETE|REPLACE|WITH)\\b", Pattern.CASE_INSENSITIVE);
+
+    /** SQL exato (constante dos repositórios) → impressão digital. */
+    private static final Map<String, String> IMPRESSOES = new ConcurrentHashMap<>();
+    private static final Map<String, Estatistica> ESTATISTICAS = new ConcurrentHashMap<>();
+
+    private static final Metricas.Contador COMANDOS = Metricas.contador(
+        "notisblokk_jdbc_comandos_total", "Comandos SQL executados");
+    private static final Metricas.Contador LENTOS = Metricas.contador(
+        "notisblokk_jdbc_comandos_lentos_total", "Comandos SQL acima de database.consulta.lenta.ms");
+
+    private MonitorConsultas() {
+    }
+
+    /**
+     * Números acumulados de uma consulta, para a tela de administração.
+     *
+     * @param consulta impressão digital do SQL
+     * @param execucoes quantidade de execuções
+     * @param tempoTotalMs tempo somado de todas as execuções
+     * @param tempoMedioMs tempo médio por execução
+     * @param tempoMaximoMs maior tempo observado
+     * @param linhas linhas lidas (consultas) ou alteradas (atualizações)
+     * @param lentas execuções acima do limite
+     * @param ultimaLenta SQL da última execução lenta (com os parâmetros, se configurado), ou null
+     * @param plano último EXPLAIN QUERY PLAN obtido, ou null
+     */
+    public record Resumo(String consulta, long execucoes, double tempoTotalMs, double tempoMedioMs,
+                         double tempoMaximoMs, long linhas, long lentas, String ultimaLenta, String plano) {
+    }
+
+    private static final class Estatistica {
+        private final String consulta;
+        private final LongAdder execucoes = new LongAdder();
+        private final LongAdder tempoTotalNs = new LongAdder();
+        private final LongAccumulator tempoMaximoNs = new LongAccumulator(Long::max, 0);
+        private final LongAdder linhas = new LongAdder();
+        private final LongAdder lentas = new LongAdder();
+        private final AtomicLong proximoPlanoNs = new AtomicLong(System.nanoTime());
+        private volatile String ultimaLenta;
+        private volatile String plano;
+
+        private Estatistica(String consulta) {
+            this.consulta = consulta;
+        }
+
+        private Resumo resumo() {
+            long quantidade = execucoes.sum();
+            double totalMs = tempoTotalNs.sum() / 1e6;
+            return new Resumo(consulta, quantidade, totalMs, quantidade > 0 ? totalMs / quantidade : 0,
+                tempoMaximoNs.get() / 1e6, linhas.sum(), lentas.sum(), ultimaLenta, plano);
+        }
+    }
+
+    /**
+     * Envolve uma conexão do pool para cronometrar os comandos criados por ela.
+     * Com {@code database.monitor.consultas=false}, só a conexão de uma requisição
+     * medida pelo {@code Server-Timing} é envolvida (apenas para o tempo de banco); as
+     * demais são devolvidas como estão.
+     *
+     * @param conexao conexão obtida do pool
+     * @return Connection conexão instrumentada
+     */
+    public static Connection instrumentar(Connection conexao) {
+        if (!ATIVO && !TempoRequisicao.isAtivo()) {
+            return conexao;
+        }
+        return proxy(Connection.class, new ConexaoInstrumentada(conexao));
+    }
+
+    /**
+     * Lista as consultas com maior custo.
+     *
+     * @param ordem "total" (tempo somado), "maximo", "media", "execucoes" ou "lentas"
+     * @param limite quantidade máxima de consultas
+     * @return List resumos em ordem decrescente do critério
+     */
+    public static List<Resumo> listar(String ordem, int limite) {
+        Comparator<Resumo> criterio = switch (ordem == null ? "total" : ordem) {
+            case "maximo" -> Comparator.comparingDouble(Resumo::tempoMaximoMs);
+            case "media" -> Comparator.comparingDouble(Resumo::tempoMedioMs);
+            case "execucoes" -> Comparator.comparingLong(Resumo::execucoes);
+            case "lentas" -> Comparator.comparingLong(Resumo::lentas);
+            default -> Comparator.comparingDouble(Resumo::tempoTotalMs);
+        };
+        return ESTATISTICAS.values().stream()
+            .map(Estatistica::resumo)
+            .sorted(criterio.reversed())
+            .limit(limite)
+            .toList();
+    }
+
+    /**
+     * Descarta os números acumulados (ex.: depois de criar um índice).
+     */
+    public static void limpar() {
+        ESTATISTICAS.clear();
+        logger.info("Estatísticas de consultas zeradas");
+    }
+
+    /**
+     * @return long limite de consulta lenta em milissegundos (0 = desativado)
+     */
+    public static long getLimiteLentaMs() {
+        return TimeUnit.NANOSECONDS.toMillis(LIMITE_LENTA_NS);
+    }
+
+    /**
+     * @return boolean true se as conexões estão sendo instrumentadas
+     */
+    public static boolean isAtivo() {
+        return ATIVO;
+    }
+
+    /**
+     * Reduz um SQL à sua forma sem valores, para agrupar execuções da mesma consulta.
+     *
+     * @param sql comando SQL
+     * @return String impressão digital
+     */
+    static String impressaoDigital(String sql) {
+        String texto = TEXTO.matcher(sql).replaceAll("?");
+        texto = NUMERO.matcher(texto).replaceAll("?");
+        texto = ESPACOS.matcher(texto).replaceAll(" ").trim();
+        return LISTA.matcher(texto).replaceAll("(?+)");
+    }
+
+    // ========== Registro ==========
+
+    /**
+     * @param parametros valores ligados, ou null para um lote (sem plano)
+     */
+    private static void registrar(Connection conexao, String sql, List<Object> parametros,
+                                  long duracaoNs, long linhas) {
+        TempoRequisicao.somar(TempoRequisicao.Etapa.BANCO, duracaoNs);
+        if (!ATIVO) {
+            return; // conexão instrumentada só para o Server-Timing
+        }
+        COMANDOS.incrementar();
+        Estatistica estatistica = estatistica(sql);
+        estatistica.execucoes.increment();
+        estatistica.tempoTotalNs.add(duracaoNs);
+        estatistica.tempoMaximoNs.accumulate(duracaoNs);
+        estatistica.linhas.add(linhas);
+
+        if (LIMITE_LENTA_NS <= 0 || duracaoNs < LIMITE_LENTA_NS) {
+            return;
+        }
+
+        estatistica.lentas.increment();
+        LENTOS.incrementar();
+        String sqlCompleto = parametros == null ? sql + " -- lote"
+            : MOSTRAR_PARAMETROS ? preencher(sql, parametros)
+            : ESPACOS.matcher(sql).replaceAll(" ").trim();
+        estatistica.ultimaLenta = sqlCompleto;
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(duracaoNs);
+
+        // O plano de uma consulta quase nunca muda; basta obtê-lo de tempos em tempos
+        long agora = System.nanoTime();
+        long proximo = estatistica.proximoPlanoNs.get();
+        if (parametros != null && agora - proximo >= 0
+                && estatistica.proximoPlanoNs.compareAndSet(proximo, agora + INTERVALO_PLANO_NS)) {
+            String plano = explicar(conexao, sql, parametros);
+            if (plano != null) {
+                estatistica.plano = plano;
+                logger.warn("Consulta lenta ({} ms, {} linhas): {}\nPlano:\n{}", duracaoMs, linhas, sqlCompleto, plano);
+                return;
+            }
+        }
+        logger.warn("Consulta lenta ({} ms, {} linhas): {}", duracaoMs, linhas, sqlCompleto);
+    }
+
+    private static Estatistica estatistica(String sql) {
+        String impressao = IMPRESSOES.get(sql);
+        if (impressao == null) {
+            impressao = impressaoDigital(sql);
+            // SQL montado com valores embutidos não se repete: não vale guardar indefinidamente
+            if (IMPRESSOES.size() < MAXIMO_IMPRESSOES_EM_CACHE) {
+                IMPRESSOES.put(sql, impressao);
+            }
+        }
+
+        Estatistica estatistica = ESTATISTICAS.get(impressao);
+        if (estatistica != null) {
+            return estatistica;
+        }
+        String chave = ESTATISTICAS.size() < MAXIMO_CONSULTAS ? impressao : OUTRAS;
+        return ESTATISTICAS.computeIfAbsent(chave, Estatistica::new);
+    }
+
+    /**
+     * Executa {@code EXPLAIN QUERY PLAN} com os mesmos parâmetros, na conexão
+     * original (não instrumentada). Cada linha do plano é indentada pela profundidade.
+     */
+    private static String explicar(Connection conexao, String sql, List<Object> parametros) {
+        if (!EXPLICAVEL.matcher(sql).lookingAt()) {
+            return null;
+        }
+
+        try (PreparedStatement pstmt = conexao.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            for (int i = 0; i < parametros.size(); i++) {
+                pstmt.setObject(i + 1, parametros.get(i));
+            }
+
+            Map<Integer, Integer> profundidades = new HashMap<>();
+            StringBuilder plano = new StringBuilder();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int profundidade = profundidades.getOrDefault(rs.getInt("parent"), -1) + 1;
+                    profundidades.put(rs.getInt("id"), profundidade);
+                    plano.append("  ".repeat(profundidade)).append(rs.getString("detail")).append('\n');
+                }
+            }
+            // INSERT ... VALUES não tem plano
+            return plano.isEmpty() ? null : plano.toString().stripTrailing();
+
+        } catch (SQLException e) {
+            return "(plano indisponível: " + e.getMessage() + ")";
+        }
+    }
+
+    /**
+     * Substitui cada {@code ?} fora de literais pelo valor ligado. Textos longos são
+     * truncados e blobs aparecem só com o tamanho.
+     */
+    private static String preencher(String sql, List<Object> parametros) {
+        StringBuilder saida = new StringBuilder(sql.length() + 16 * parametros.size());
+        boolean emTexto = false;
+        int indice = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                emTexto = !emTexto;
+            }
+            if (c == '?' && !emTexto) {
+                saida.append(indice < parametros.size() ? literal(parametros.get(indice)) : "?");
+                indice++;
+            } else {
+                saida.append(c);
+            }
+        }
+        return ESPACOS.matcher(saida).replaceAll(" ").trim();
+    }
+
+    private static String literal(Object valor) {
+        if (valor == null) {
+            return "NULL";
+        }
+        if (valor instanceof Number || valor instanceof Boolean) {
+            return valor.toString();
+        }
+        if (valor instanceof byte[] bytes) {
+            return "<blob " + bytes.length + " bytes>";
+        }
+        String texto = valor.toString();
+        if (texto.length() > TAMANHO_MAXIMO_VALOR) {
+            texto = texto.substring(0, TAMANHO_MAXIMO_VALOR) + "…";
+        }
+        return "'" + texto.replace("'", "''") + "'";
+    }
+
+    // ========== Proxies ==========
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(MonitorConsultas.class.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Conexão que devolve comandos instrumentados; o restante vai direto à conexão do pool.
+     */
+    private record ConexaoInstrumentada(Connection conexao) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            Object resultado = invocar(conexao, metodo, args);
+            return switch (metodo.getName()) {
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                    new ComandoInstrumentado(conexao, (Statement) resultado, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class,
+                    new ComandoInstrumentado(conexao, (Statement) resultado, null));
+                default -> resultado;
+            };
+        }
+    }
+
+    /**
+     * Comando que guarda os parâmetros ligados (com o monitor ligado) e cronometra as
+     * execuções. JDBC não é usado por mais de uma thread ao mesmo tempo, então o estado
+     * não é sincronizado.
+     */
+    private static final class ComandoInstrumentado implements InvocationHandler {
+        private final Connection conexao;
+        private final Statement comando;
+        private final String sqlPreparado;
+        private final List<Object> parametros = new ArrayList<>();
+        private ResultadoCronometrado aberto;
+
+        private ComandoInstrumentado(Connection conexao, Statement comando, String sqlPreparado) {
+            this.conexao = conexao;
+            this.comando = comando;
+            this.sqlPreparado = sqlPreparado;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nome = metodo.getName();
+            switch (nome) {
+                case "executeQuery": {
+                    concluirAberto();
+                    String sql = sql(args);
+                    long inicio = System.nanoTime();
+                    ResultSet rs = (ResultSet) invocar(comando, metodo, args);
+                    long execucaoNs = System.nanoTime() - inicio;
+                    // Cópia: os parâmetros podem mudar antes de o resultado terminar
+                    List<Object> valores = parametros.isEmpty() ? List.of() : new ArrayList<>(parametros);
+                    aberto = new ResultadoCronometrado(rs, (Statement) proxy, execucaoNs,
+                        (tempoNs, linhas) -> registrar(conexao, sql, valores, tempoNs, linhas));
+                    return aberto;
+                }
+                case "execute", "executeUpdate", "executeLargeUpdate": {
+                    concluirAberto();
+                    String sql = sql(args);
+                    long inicio = System.nanoTime();
+                    Object resultado = invocar(comando, metodo, args);
+                    long duracao = System.nanoTime() - inicio;
+                    long linhas = resultado instanceof Number n ? n.longValue() : Math.max(comando.getUpdateCount(), 0);
+                    registrar(conexao, sql, parametros, duracao, linhas);
+                    return resultado;
+                }
+                case "executeBatch", "executeLargeBatch": {
+                    concluirAberto();
+                    long inicio = System.nanoTime();
+                    Object resultado = invocar(comando, metodo, args);
+                    long duracao = System.nanoTime() - inicio;
+                    if (sqlPreparado != null) {
+                        registrar(conexao, sqlPreparado, null, duracao, somar(resultado));
+                    }
+                    return resultado;
+                }
+                case "clearParameters":
+                    parametros.clear();
+                    return invocar(comando, metodo, args);
+                case "close":
+                    // Fechar o comando fecha o resultado sem passar pelo close() dele
+                    concluirAberto();
+                    return invocar(comando, metodo, args);
+                default:
+                    // setString(1, ...), setLong(2, ...), setNull(3, Types.X) etc.
+                    if (ATIVO && nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                        guardar(indice, nome.equals("setNull") ? null : args[1]);
+                    }
+                    return invocar(comando, metodo, args);
+            }
+        }
+
+        private String sql(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : sqlPreparado;
+        }
+
+        private void guardar(int indice, Object valor) {
+            while (parametros.size() < indice) {
+                parametros.add(null);
+            }
+            parametros.set(indice - 1, valor);
+        }
+
+        private void concluirAberto() {
+            if (aberto != null) {
+                aberto.concluir();
+                aberto = null;
+            }
+        }
+
+        private static long somar(Object resultado) {
+            long total = 0;
+            if (resultado instanceof int[] contagens) {
+                for (int c : contagens) {
+                    total += Math.max(c, 0);
+                }
+            } else if (resultado instanceof long[] contagens) {
+                for (long c : contagens) {
+                    total += Math.max(c, 0);
+                }
+            }
+            return total;
+        }
+    }
+}
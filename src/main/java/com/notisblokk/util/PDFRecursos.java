@@ -0,0 +1,281 @@
+package com.notisblokk.util;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.borders.Border;
+import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.element.Image;
+import com.notisblokk.config.AppConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recursos compartilhados para geração de PDF (cores, bordas, fontes e modelos).
+ *
+ * <p>Tudo o que não depende de um {@link PdfDocument} específico é criado uma única vez
+ * e reutilizado por todos os documentos. Os objetos são imutáveis após a inicialização
+ * estática e podem ser usados por várias threads ao mesmo tempo.</p>
+ *
+ * <p>Não há objetos {@code Style} compartilhados: aplicados com {@code addStyle}, eles são
+ * percorridos a cada consulta de propriedade do layout e custam mais do que os setters
+ * diretos com as constantes abaixo.</p>
+ *
+ * <p>O que pertence a um documento (PdfFont, XObjects) é obtido pelos métodos que recebem
+ * o {@link PdfDocument}, a partir dos programas de fonte e modelos pré-carregados.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PDFRecursos {
+
+    // ========== Cores ==========
+
+    public static final DeviceRgb COR_PRIMARIA = new DeviceRgb(74, 144, 226);
+    public static final DeviceRgb COR_FUNDO_CLARO = new DeviceRgb(241, 245, 249);
+    public static final DeviceRgb COR_BORDA_CLARA = new DeviceRgb(226, 232, 240);
+    public static final DeviceRgb COR_TITULO = new DeviceRgb(51, 65, 85);
+    public static final DeviceRgb COR_LABEL = new DeviceRgb(71, 85, 105);
+    public static final DeviceRgb COR_RODAPE = new DeviceRgb(148, 163, 184);
+    public static final DeviceRgb COR_BORDA_CABECALHO = new DeviceRgb(30, 41, 59);
+    public static final DeviceRgb COR_BORDA_TABELA = new DeviceRgb(200, 200, 200);
+
+    // ========== Bordas ==========
+
+    public static final Border BORDA_FINA = new SolidBorder(COR_BORDA_CLARA, 0.5f);
+    public static final Border BORDA_DIVISORIA = new SolidBorder(COR_BORDA_CLARA, 1);
+    public static final Border BORDA_CABECALHO_TABELA = new SolidBorder(COR_BORDA_CABECALHO, 1);
+    public static final Border BORDA_TABELA = new SolidBorder(COR_BORDA_TABELA, 1);
+
+    // ========== Fontes ==========
+
+    private static final FontProgram FONTE_REGULAR;
+    private static final FontProgram FONTE_NEGRITO;
+
+    static {
+        try {
+            FONTE_REGULAR = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+            FONTE_NEGRITO = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao carregar fontes padrão do PDF", e);
+        }
+    }
+
+    /** Cores de status já convertidas (poucos status distintos no sistema). */
+    private static final Map<String, DeviceRgb> CORES_STATUS = new ConcurrentHashMap<>();
+    private static final int MAXIMO_CORES_STATUS = 256;
+
+    private PDFRecursos() {
+    }
+
+    /**
+     * Cria um Document com a fonte padrão obtida do programa de fonte pré-carregado,
+     * evitando a resolução da fonte padrão a cada novo PdfDocument.
+     *
+     * @param pdf documento PDF de destino
+     * @param regular fonte regular do documento (ver {@link #fonteRegular(PdfDocument)})
+     * @return Document pronto para receber elementos
+     */
+    public static Document novoDocumento(PdfDocument pdf, PdfFont regular) {
+        Document document = new Document(pdf);
+        document.setFont(regular);
+        return document;
+    }
+
+    /**
+     * @param pdf documento PDF de destino
+     * @return PdfFont Helvetica para o documento
+     */
+    public static PdfFont fonteRegular(PdfDocument pdf) {
+        return pdf.addFont(PdfFontFactory.createFont(FONTE_REGULAR, PdfEncodings.WINANSI));
+    }
+
+    /**
+     * @param pdf documento PDF de destino
+     * @return PdfFont Helvetica-Bold para o documento
+     */
+    public static PdfFont fonteNegrito(PdfDocument pdf) {
+        return pdf.addFont(PdfFontFactory.createFont(FONTE_NEGRITO, PdfEncodings.WINANSI));
+    }
+
+    /**
+     * Converte cor hexadecimal (#RRGGBB) em DeviceRgb, reaproveitando conversões anteriores.
+     *
+     * @param hex cor no formato #RRGGBB
+     * @return DeviceRgb cor correspondente
+     */
+    public static DeviceRgb cor(String hex) {
+        DeviceRgb cor = CORES_STATUS.get(hex);
+        if (cor != null) {
+            return cor;
+        }
+
+        String valor = hex.replace("#", "");
+        cor = new DeviceRgb(
+            Integer.parseInt(valor.substring(0, 2), 16),
+            Integer.parseInt(valor.substring(2, 4), 16),
+            Integer.parseInt(valor.substring(4, 6), 16));
+
+        if (CORES_STATUS.size() < MAXIMO_CORES_STATUS) {
+            CORES_STATUS.putIfAbsent(hex, cor);
+        }
+        return cor;
+    }
+
+    /**
+     * Faixa de cabeçalho do relatório (nome da aplicação e subtítulo) como Image de um XObject.
+     *
+     * <p>O conteúdo gráfico é gerado uma única vez; em cada documento apenas um novo
+     * XObject é criado com esse conteúdo e as fontes do documento, sem passar pelo
+     * motor de layout.</p>
+     *
+     * @param pdf documento PDF de destino
+     * @param regular fonte regular do documento
+     * @param negrito fonte negrito do documento
+     * @return Image faixa de cabeçalho, na largura útil de uma página A4
+     */
+    public static Image cabecalhoRelatorio(PdfDocument pdf, PdfFont regular, PdfFont negrito) {
+        return ModeloCabecalho.INSTANCIA.aplicar(pdf, regular, negrito);
+    }
+
+    /**
+     * Linha divisória do rodapé como Image de um XObject reaproveitado.
+     *
+     * @param pdf documento PDF de destino
+     * @return Image linha na largura útil de uma página A4
+     */
+    public static Image linhaRodape(PdfDocument pdf) {
+        return ModeloRodape.INSTANCIA.aplicar(pdf, null, null);
+    }
+
+    /**
+     * Conteúdo gráfico pré-gerado de um XObject, com as fontes que ele referencia.
+     * Imutável depois de construído.
+     */
+    private static final class ModeloXObject {
+        private final Rectangle caixa;
+        private final byte[] conteudo;
+        private final PdfName nomeRegular;
+        private final PdfName nomeNegrito;
+
+        ModeloXObject(Rectangle caixa, byte[] conteudo, PdfName nomeRegular, PdfName nomeNegrito) {
+            this.caixa = caixa;
+            this.conteudo = conteudo;
+            this.nomeRegular = nomeRegular;
+            this.nomeNegrito = nomeNegrito;
+        }
+
+        Image aplicar(PdfDocument pdf, PdfFont regular, PdfFont negrito) {
+            PdfFormXObject xObject = new PdfFormXObject(caixa);
+            xObject.getPdfObject().setData(conteudo);
+
+            // Fontes adicionadas na mesma ordem do modelo recebem os mesmos nomes de recurso
+            if (nomeRegular != null) {
+                verificarNome(nomeRegular, xObject.getResources().addFont(pdf, regular));
+            }
+            if (nomeNegrito != null) {
+                verificarNome(nomeNegrito, xObject.getResources().addFont(pdf, negrito));
+            }
+            return new Image(xObject);
+        }
+
+        private static void verificarNome(PdfName esperado, PdfName obtido) {
+            if (!esperado.equals(obtido)) {
+                throw new IllegalStateException("Recurso de fonte inesperado no modelo de PDF: " + obtido);
+            }
+        }
+
+        /**
+         * Desenha o modelo em um documento descartável e guarda apenas os bytes do conteúdo.
+         */
+        static ModeloXObject gerar(Rectangle caixa, boolean usaFontes, Desenho desenho) {
+            try (PdfDocument rascunho = new PdfDocument(new PdfWriter(OutputStream.nullOutputStream()))) {
+                PdfFormXObject xObject = new PdfFormXObject(caixa);
+                PdfFont regular = null;
+                PdfFont negrito = null;
+                PdfName nomeRegular = null;
+                PdfName nomeNegrito = null;
+                if (usaFontes) {
+                    regular = fonteRegular(rascunho);
+                    negrito = fonteNegrito(rascunho);
+                    nomeRegular = xObject.getResources().addFont(rascunho, regular);
+                    nomeNegrito = xObject.getResources().addFont(rascunho, negrito);
+                }
+                desenho.desenhar(new PdfCanvas(xObject, rascunho), regular, negrito);
+                rascunho.addNewPage(); // um PdfDocument sem páginas não pode ser fechado
+                return new ModeloXObject(caixa, xObject.getPdfObject().getBytes(), nomeRegular, nomeNegrito);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Desenho {
+        void desenhar(PdfCanvas canvas, PdfFont regular, PdfFont negrito);
+    }
+
+    /** Largura útil de uma página A4 com as margens padrão do Document (36pt). */
+    private static final float LARGURA_UTIL = PageSize.A4.getWidth() - 72;
+
+    /**
+     * Faixa azul com o nome da aplicação (24pt, negrito) e "Relatório de Tarefas" (14pt),
+     * com as mesmas medidas da tabela de cabeçalho usada anteriormente.
+     */
+    private static final class ModeloCabecalho {
+        static final ModeloXObject INSTANCIA = ModeloXObject.gerar(
+            new Rectangle(0, 0, LARGURA_UTIL, 80), true, (canvas, regular, negrito) -> {
+                String titulo = AppConfig.getAppName();
+                String subtitulo = "Relatório de Tarefas";
+
+                canvas.saveState()
+                    .setFillColor(COR_PRIMARIA)
+                    .rectangle(0, 0, LARGURA_UTIL, 80)
+                    .fill()
+                    .restoreState();
+
+                canvas.beginText()
+                    .setFillColor(ColorConstants.WHITE)
+                    .setFontAndSize(negrito, 24)
+                    .moveText((LARGURA_UTIL - negrito.getWidth(titulo, 24)) / 2, 45.4f)
+                    .showText(titulo)
+                    .endText();
+
+                canvas.beginText()
+                    .setFillColor(ColorConstants.WHITE)
+                    .setFontAndSize(regular, 14)
+                    .moveText((LARGURA_UTIL - regular.getWidth(subtitulo, 14)) / 2, 21.8f)
+                    .showText(subtitulo)
+                    .endText();
+            });
+    }
+
+    /**
+     * Linha divisória fina do rodapé do PDF individual.
+     */
+    private static final class ModeloRodape {
+        static final ModeloXObject INSTANCIA = ModeloXObject.gerar(
+            new Rectangle(0, 0, LARGURA_UTIL, 1), false, (canvas, regular, negrito) -> canvas
+                .setStrokeColor(COR_BORDA_CLARA)
+                .setLineWidth(0.5f)
+                .moveTo(0, 0.5f)
+                .lineTo(LARGURA_UTIL, 0.5f)
+                .stroke());
+    }
+}
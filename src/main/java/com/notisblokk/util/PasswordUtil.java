@@ -1,6 +1,9 @@
 package com.notisblokk.util;
 
+import com.notisblokk.config.AppConfig;
 import org.mindrot.jbcrypt.BCrypt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.regex.Pattern;
 
@@ -11,6 +14,7 @@ import java.util.regex.Pattern;
  * <ul>
  *   <li>Gerar hash BCrypt de senhas</li>
  *   <li>Verificar senhas contra hashes</li>
+ *   <li>Calibrar o cost factor e identificar hashes a atualizar</li>
  *   <li>Validar força de senhas</li>
  *   <li>Gerar senhas aleatórias seguras</li>
  * </ul>
@@ -24,17 +28,33 @@ import java.util.regex.Pattern;
  *   <li>Pelo menos um caractere especial (@$!%*?&)</li>
  * </ul>
  *
+ * <p>O hash e a verificação rodam no {@link ExecutorHashSenha}, fora das threads do
+ * servidor HTTP, e podem lançar {@link ExecutorHashSenha.SobrecargaException}.</p>
+ *
  * @author Notisblokk Team
  * @version 1.0
  * @since 2025-01-24
  */
 public class PasswordUtil {
 
+    private static final Logger logger = LoggerFactory.getLogger(PasswordUtil.class);
+
     /**
-     * Cost factor para o BCrypt (12 = ~250ms por hash em hardware moderno).
+     * Cost factor usado enquanto a calibração não roda (12 = ~250ms por hash em hardware moderno).
      * Maior = mais seguro mas mais lento.
      */
-    private static final int BCRYPT_COST = 12;
+    private static final int BCRYPT_COST_PADRAO = 12;
+
+    /**
+     * Maior cost factor que a calibração escolhe (cada unidade dobra o tempo).
+     */
+    private static final int BCRYPT_COST_MAXIMO = 16;
+
+    /**
+     * Cost factor atual dos novos hashes.
+     */
+    private static volatile int bcryptCost = AppConfig.getSenhaHashCusto() > 0
+        ? AppConfig.getSenhaHashCusto() : BCRYPT_COST_PADRAO;
 
     /**
      * Padrão regex para validação de senha forte.
@@ -53,19 +73,31 @@ public class PasswordUtil {
     /**
      * Gera um hash BCrypt a partir de uma senha em texto plano.
      *
-     * <p>Utiliza BCrypt com cost factor 12 para criar um hash seguro
-     * que pode ser armazenado no banco de dados.</p>
+     * <p>Utiliza BCrypt com o cost factor atual (ver {@link #calibrar()}) para criar
+     * um hash seguro que pode ser armazenado no banco de dados.</p>
      *
      * @param plainPassword senha em texto plano
      * @return String hash BCrypt da senha
      * @throws IllegalArgumentException se a senha for nula ou vazia
+     * @throws ExecutorHashSenha.SobrecargaException se o executor de hash estiver sobrecarregado
      */
     public static String hashPassword(String plainPassword) {
         if (plainPassword == null || plainPassword.isEmpty()) {
             throw new IllegalArgumentException("Senha não pode ser nula ou vazia");
         }
 
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(BCRYPT_COST));
+        return ExecutorHashSenha.executar(() -> gerarHash(plainPassword));
+    }
+
+    /**
+     * Gera o hash BCrypt na thread atual. Para uso em tarefas que já rodam no
+     * {@link ExecutorHashSenha}; nas demais, use {@link #hashPassword(String)}.
+     *
+     * @param plainPassword senha em texto plano
+     * @return String hash BCrypt da senha
+     */
+    public static String gerarHash(String plainPassword) {
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(bcryptCost));
     }
 
     /**
@@ -74,20 +106,92 @@ public class PasswordUtil {
      * @param plainPassword senha em texto plano fornecida pelo usuário
      * @param hashedPassword hash BCrypt armazenado no banco
      * @return boolean true se a senha corresponder ao hash, false caso contrário
+     * @throws ExecutorHashSenha.SobrecargaException se o executor de hash estiver sobrecarregado
      */
     public static boolean verifyPassword(String plainPassword, String hashedPassword) {
         if (plainPassword == null || hashedPassword == null) {
             return false;
         }
 
+        return ExecutorHashSenha.executar(() -> {
+            try {
+                return BCrypt.checkpw(plainPassword, hashedPassword);
+            } catch (IllegalArgumentException e) {
+                // Hash inválido
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Verifica se um hash foi gerado com cost factor menor que o atual e deve ser
+     * refeito no próximo login bem-sucedido.
+     *
+     * @param hashedPassword hash BCrypt armazenado no banco
+     * @return boolean true se o hash estiver desatualizado
+     */
+    public static boolean precisaRehash(String hashedPassword) {
+        // Formato: $2a$12$<salt+hash>
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(6) != '$') {
+            return false;
+        }
         try {
-            return BCrypt.checkpw(plainPassword, hashedPassword);
-        } catch (IllegalArgumentException e) {
-            // Hash inválido
+            return Integer.parseInt(hashedPassword.substring(4, 6)) < bcryptCost;
+        } catch (NumberFormatException e) {
             return false;
         }
     }
 
+    /**
+     * Define o cost factor dos novos hashes.
+     *
+     * <p>Com {@code senha.hash.custo} configurado, usa esse valor. Caso contrário mede o
+     * BCrypt nesta máquina e escolhe o maior custo cujo hash leva até
+     * {@code senha.hash.alvo.ms}, nunca abaixo de {@code senha.hash.custo.minimo}.
+     * Deve ser chamado uma vez na inicialização.</p>
+     *
+     * @return int cost factor escolhido
+     */
+    public static int calibrar() {
+        int configurado = AppConfig.getSenhaHashCusto();
+        if (configurado > 0) {
+            bcryptCost = configurado;
+            logger.info("BCrypt cost factor fixo: {}", configurado);
+            return configurado;
+        }
+
+        int minimo = Math.max(4, AppConfig.getSenhaHashCustoMinimo());
+        long alvoMs = AppConfig.getSenhaHashAlvoMs();
+
+        // Aquecimento do JIT antes de medir
+        medirHash(minimo);
+
+        int cost = minimo;
+        long tempoMs = medirHash(cost);
+        // Cada unidade de custo dobra o tempo
+        while (cost < BCRYPT_COST_MAXIMO && tempoMs * 2 <= alvoMs) {
+            cost++;
+            tempoMs = medirHash(cost);
+        }
+
+        bcryptCost = cost;
+        logger.info("BCrypt cost factor calibrado: {} (~{} ms por hash, alvo {} ms)", cost, tempoMs, alvoMs);
+        return cost;
+    }
+
+    /**
+     * @return int cost factor atual dos novos hashes
+     */
+    public static int getCost() {
+        return bcryptCost;
+    }
+
+    private static long medirHash(int cost) {
+        long inicio = System.nanoTime();
+        BCrypt.hashpw("calibracao", BCrypt.gensalt(cost));
+        return (System.nanoTime() - inicio) / 1_000_000;
+    }
+
     /**
      * Valida se uma senha atende aos critérios de força.
      *
@@ -0,0 +1,75 @@
+package com.notisblokk.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de taxa para operações de I/O em lote.
+ *
+ * <p>Mantém o volume processado abaixo de um limite de bytes por segundo,
+ * suspendendo a thread chamadora quando ela está adiantada em relação à taxa
+ * configurada. Usado por tarefas de manutenção (como o backup automático)
+ * para não competir com o tráfego interativo pelo disco.</p>
+ *
+ * <p><b>Thread-Safety:</b> Cada instância deve ser usada por uma única thread.</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RateLimiter {
+
+    private final long bytesPorSegundo;
+    private final long inicioNanos;
+    private long bytesConsumidos;
+
+    /**
+     * Construtor do limitador.
+     *
+     * @param bytesPorSegundo taxa máxima (0 ou negativo = sem limite)
+     */
+    public RateLimiter(long bytesPorSegundo) {
+        this.bytesPorSegundo = bytesPorSegundo;
+        this.inicioNanos = System.nanoTime();
+    }
+
+    /**
+     * Cria um limitador a partir de uma taxa em KB/s.
+     *
+     * @param kbps taxa máxima em KB/s (0 = sem limite)
+     * @return RateLimiter limitador configurado
+     */
+    public static RateLimiter kbps(int kbps) {
+        return new RateLimiter(kbps * 1024L);
+    }
+
+    /**
+     * Registra o consumo de bytes e aguarda o necessário para respeitar a taxa.
+     *
+     * @param bytes quantidade de bytes lidos/escritos desde a última chamada
+     * @throws InterruptedException se a thread for interrompida durante a espera
+     */
+    public void acquire(long bytes) throws InterruptedException {
+        if (bytesPorSegundo <= 0 || bytes <= 0) {
+            return;
+        }
+
+        bytesConsumidos += bytes;
+
+        long esperadoNanos = (long) (bytesConsumidos * 1_000_000_000.0 / bytesPorSegundo);
+        long decorridoNanos = System.nanoTime() - inicioNanos;
+        long esperaNanos = esperadoNanos - decorridoNanos;
+
+        if (esperaNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(esperaNanos);
+        }
+    }
+
+    /**
+     * Indica se o limitador está ativo.
+     *
+     * @return true se há limite configurado
+     */
+    public boolean isLimitado() {
+        return bytesPorSegundo > 0;
+    }
+}
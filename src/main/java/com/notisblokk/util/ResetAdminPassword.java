@@ -1,7 +1,6 @@
 package com.notisblokk.util;
 
 import com.notisblokk.config.DatabaseConfig;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +24,7 @@ public class ResetAdminPassword {
 
             // Nova senha
             String novaSenha = "12345";
-            String senhaHash = BCrypt.hashpw(novaSenha, BCrypt.gensalt(12));
+            String senhaHash = PasswordUtil.hashPassword(novaSenha);
 
             // Atualizar senha do admin
             try (Connection conn = DatabaseConfig.getConnection()) {
@@ -1,8 +1,14 @@
 package com.notisblokk.util;
 
+import com.notisblokk.config.AppConfig;
 import com.notisblokk.model.User;
+import com.notisblokk.model.UserRole;
+import com.notisblokk.repository.UserRepository;
 import io.javalin.http.Context;
+import jakarta.servlet.http.HttpSession;
 
+import java.sql.SQLException;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,11 +24,15 @@ import java.util.UUID;
  *
  * <p><b>Atributos de sessão:</b></p>
  * <ul>
- *   <li>currentUser: usuário logado</li>
+ *   <li>userId / userRole: principal do usuário logado</li>
  *   <li>sessionId: ID da sessão no banco</li>
  *   <li>theme: tema preferido (light/dark)</li>
  * </ul>
  *
+ * <p>A sessão guarda só esse principal compacto, não o objeto {@link User}: as sessões
+ * são persistidas no banco e devem ocupar poucas centenas de bytes. O usuário completo
+ * é carregado sob demanda por {@link #getCurrentUser(Context)}, com cache curto.</p>
+ *
  * @author Notisblokk Team
  * @version 1.0
  * @since 2025-01-24
@@ -30,37 +40,61 @@ import java.util.UUID;
 public class SessionUtil {
 
     // Chaves para atributos de sessão
-    private static final String ATTR_CURRENT_USER = "currentUser";
+    private static final String ATTR_USER_ID = "userId";
+    private static final String ATTR_USER_ROLE = "userRole";
     private static final String ATTR_SESSION_ID = "sessionId";
     private static final String ATTR_THEME = "theme";
 
+    // Chave do usuário já carregado na requisição atual
+    private static final String CTX_CURRENT_USER = "currentUser";
+
+    private static final UserRepository userRepository = new UserRepository();
+
     // Tema padrão
     private static final String DEFAULT_THEME = "light";
 
+    // Proxies reversos cujos headers X-Forwarded-For/X-Real-IP são aceitos
+    private static final Set<String> PROXIES_CONFIAVEIS = AppConfig.getServerProxiesConfiaveis();
+
     /**
-     * Armazena o usuário atual na sessão HTTP.
+     * Armazena o principal do usuário atual (ID e perfil) na sessão HTTP.
      *
      * @param ctx contexto do Javalin
-     * @param user usuário a ser armazenado
+     * @param user usuário autenticado
      */
     public static void setCurrentUser(Context ctx, User user) {
         if (ctx != null && user != null) {
-            ctx.sessionAttribute(ATTR_CURRENT_USER, user);
+            ctx.sessionAttribute(ATTR_USER_ID, user.getId());
+            ctx.sessionAttribute(ATTR_USER_ROLE, user.getRole() != null ? user.getRole().name() : null);
+            ctx.attribute(CTX_CURRENT_USER, user);
         }
     }
 
     /**
-     * Recupera o usuário atual da sessão HTTP.
+     * Recupera o usuário atual a partir do ID guardado na sessão HTTP.
+     *
+     * <p>O usuário é carregado uma vez por requisição, via cache de
+     * {@link UserRepository#buscarPorIdEmCache(Long)}.</p>
      *
      * @param ctx contexto do Javalin
      * @return User usuário logado ou null se não houver
      */
     public static User getCurrentUser(Context ctx) {
-        if (ctx == null) {
+        Long userId = getCurrentUserId(ctx);
+        if (userId == null) {
             return null;
         }
 
-        return ctx.sessionAttribute(ATTR_CURRENT_USER);
+        User user = ctx.attribute(CTX_CURRENT_USER);
+        if (user == null) {
+            try {
+                user = userRepository.buscarPorIdEmCache(userId).orElse(null);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Erro ao carregar usuário da sessão: " + e.getMessage(), e);
+            }
+            ctx.attribute(CTX_CURRENT_USER, user);
+        }
+        return user;
     }
 
     /**
@@ -123,6 +157,7 @@ public class SessionUtil {
      * @return boolean true se houver usuário logado, false caso contrário
      */
     public static boolean isAuthenticated(Context ctx) {
+        // Confere se o usuário ainda existe: a sessão pode ter sobrevivido à sua exclusão
         return getCurrentUser(ctx) != null;
     }
 
@@ -133,8 +168,7 @@ public class SessionUtil {
      * @return boolean true se for admin, false caso contrário
      */
     public static boolean isAdmin(Context ctx) {
-        User user = getCurrentUser(ctx);
-        return user != null && user.isAdmin();
+        return UserRole.ADMIN.name().equals(getCurrentUserRole(ctx));
     }
 
     /**
@@ -144,8 +178,26 @@ public class SessionUtil {
      * @return boolean true se for operador, false caso contrário
      */
     public static boolean isOperator(Context ctx) {
-        User user = getCurrentUser(ctx);
-        return user != null && user.isOperator();
+        return UserRole.OPERATOR.name().equals(getCurrentUserRole(ctx));
+    }
+
+    /**
+     * Verifica se a requisição pertence a uma sessão de administrador, sem criar uma
+     * sessão quando não houver (para filtros que atendem também visitantes anônimos).
+     *
+     * @param ctx contexto do Javalin
+     * @return boolean true se houver sessão de administrador
+     */
+    public static boolean isAdminSemCriarSessao(Context ctx) {
+        if (ctx == null) {
+            return false;
+        }
+        HttpSession sessao = ctx.req().getSession(false);
+        return sessao != null && UserRole.ADMIN.name().equals(sessao.getAttribute(ATTR_USER_ROLE));
+    }
+
+    private static String getCurrentUserRole(Context ctx) {
+        return ctx != null ? ctx.sessionAttribute(ATTR_USER_ROLE) : null;
     }
 
     /**
@@ -162,8 +214,11 @@ public class SessionUtil {
     /**
      * Extrai o endereço IP do cliente do contexto.
      *
-     * <p>Verifica headers de proxy (X-Forwarded-For, X-Real-IP) antes
-     * de usar o IP direto da conexão.</p>
+     * <p>Os headers de proxy (X-Forwarded-For, X-Real-IP) só são considerados quando a
+     * conexão vem de um proxy listado em {@code server.proxies.confiaveis}; de outra
+     * origem eles são escolhidos pelo próprio cliente e o IP direto da conexão é usado.
+     * No X-Forwarded-For vale o último endereço que não é de um proxy confiável (os
+     * anteriores também podem ter sido forjados pelo cliente).</p>
      *
      * @param ctx contexto do Javalin
      * @return String endereço IP do cliente
@@ -173,11 +228,24 @@ public class SessionUtil {
             return "unknown";
         }
 
-        // Verificar headers de proxy primeiro
+        String ip = ctx.ip();
+        if (ip == null) {
+            return "unknown";
+        }
+        if (!PROXIES_CONFIAVEIS.contains(ip)) {
+            return ip;
+        }
+
+        // Conexão de um proxy confiável: percorrer a cadeia da direita para a esquerda
         String xForwardedFor = ctx.header("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            // X-Forwarded-For pode conter múltiplos IPs, pegar o primeiro
-            return xForwardedFor.split(",")[0].trim();
+            String[] enderecos = xForwardedFor.split(",");
+            for (int i = enderecos.length - 1; i >= 0; i--) {
+                String endereco = enderecos[i].trim();
+                if (!endereco.isEmpty() && !PROXIES_CONFIAVEIS.contains(endereco)) {
+                    return endereco;
+                }
+            }
         }
 
         String xRealIp = ctx.header("X-Real-IP");
@@ -185,9 +253,7 @@ public class SessionUtil {
             return xRealIp.trim();
         }
 
-        // Fallback para IP direto
-        String ip = ctx.ip();
-        return ip != null ? ip : "unknown";
+        return ip;
     }
 
     /**
@@ -224,8 +290,11 @@ public class SessionUtil {
      * @return Long ID do usuário ou null se não autenticado
      */
     public static Long getCurrentUserId(Context ctx) {
-        User user = getCurrentUser(ctx);
-        return user != null ? user.getId() : null;
+        if (ctx == null) {
+            return null;
+        }
+
+        return ctx.sessionAttribute(ATTR_USER_ID);
     }
 
     /**
@@ -315,6 +384,24 @@ public class SessionUtil {
         return "Outro";
     }
 
+    /**
+     * Extrai o tipo de dispositivo do User Agent (simplificado).
+     *
+     * @param userAgent string do user agent
+     * @return String Celular, Tablet ou Computador
+     */
+    public static String extractDevice(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return "Desconhecido";
+        }
+
+        if (userAgent.contains("iPad") || userAgent.contains("Tablet")
+                || (userAgent.contains("Android") && !userAgent.contains("Mobile"))) return "Tablet";
+        if (userAgent.contains("Mobi") || userAgent.contains("iPhone")) return "Celular";
+
+        return "Computador";
+    }
+
     /**
      * Extrai o sistema operacional do User Agent (simplificado).
      *
@@ -29,6 +29,10 @@ public class SimpleCache<K, V> {
     private final long ttlMillis;
     private final String cacheName;
 
+    // Compartilhados pelas instâncias de mesmo nome (ver Metricas#contador)
+    private final Metricas.Contador acertos;
+    private final Metricas.Contador faltas;
+
     /**
      * Construtor do cache.
      *
@@ -39,6 +43,10 @@ public class SimpleCache<K, V> {
         this.cacheName = cacheName;
         this.ttlMillis = ttlMinutos * 60L * 1000L;
         this.cache = new ConcurrentHashMap<>();
+        this.acertos = Metricas.contador("notisblokk_cache_acertos_total",
+            "Leituras atendidas pelo cache", "cache", cacheName);
+        this.faltas = Metricas.contador("notisblokk_cache_faltas_total",
+            "Leituras não atendidas pelo cache (ausentes ou expiradas)", "cache", cacheName);
         logger.info("Cache '{}' inicializado com TTL de {} minutos", cacheName, ttlMinutos);
     }
 
@@ -64,17 +72,20 @@ public class SimpleCache<K, V> {
         CacheEntry<V> entry = cache.get(key);
 
         if (entry == null) {
+            faltas.incrementar();
             logger.debug("[{}] Cache MISS: key={}", cacheName, key);
             return null;
         }
 
         // Verificar se expirou
         if (System.currentTimeMillis() > entry.expirationTime) {
+            faltas.incrementar();
             logger.debug("[{}] Cache EXPIRED: key={}", cacheName, key);
             cache.remove(key);
             return null;
         }
 
+        acertos.incrementar();
         logger.debug("[{}] Cache HIT: key={}", cacheName, key);
         return entry.value;
     }
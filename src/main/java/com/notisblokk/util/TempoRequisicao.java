@@ -0,0 +1,138 @@
+package com.notisblokk.util;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tempo de uma requisição dividido por etapa (banco, renderização, JSON, chamadas
+ * externas), exportado no cabeçalho {@code Server-Timing}.
+ *
+ * <p>O contexto fica em um {@link ThreadLocal} da thread que atende a requisição
+ * (de plataforma ou virtual): quem mede uma etapa chama {@link #somar(Etapa, long)}
+ * sem precisar do {@code Context} do Javalin. Fora de uma requisição amostrada
+ * (jobs, requisições fora da amostra) a chamada não faz nada.</p>
+ *
+ * <p>As etapas não se sobrepõem; o tempo restante até o fim do handler aparece como
+ * {@code app} (mapeamento de DTOs, regras de negócio, sessão).</p>
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TempoRequisicao {
+
+    private static final ThreadLocal<TempoRequisicao> ATUAL = new ThreadLocal<>();
+
+    /**
+     * Etapas medidas. Nome e descrição vão para o cabeçalho, que aceita só ASCII.
+     */
+    public enum Etapa {
+        /** Medido pelas conexões instrumentadas de {@link MonitorConsultas} (execução e leitura das linhas). */
+        BANCO("banco", "SQLite"),
+        POOL("pool", "Espera por conexao"),
+        RENDERIZACAO("render", "Thymeleaf"),
+        JSON("json", "Jackson"),
+        EXTERNO("externo", "Chamadas externas");
+
+        private final String nome;
+        private final String descricao;
+
+        Etapa(String nome, String descricao) {
+            this.nome = nome;
+            this.descricao = descricao;
+        }
+    }
+
+    private final long inicioNs = System.nanoTime();
+    private final long[] duracoesNs = new long[Etapa.values().length];
+    private final int[] quantidades = new int[Etapa.values().length];
+
+    private TempoRequisicao() {
+    }
+
+    /**
+     * Abre o contexto da requisição na thread atual, se ela cair na amostra.
+     * Sempre descarta o contexto anterior da thread.
+     *
+     * @param amostragem fração das requisições medidas (0 a 1)
+     */
+    public static void iniciar(double amostragem) {
+        if (amostragem > 0 && (amostragem >= 1 || ThreadLocalRandom.current().nextDouble() < amostragem)) {
+            ATUAL.set(new TempoRequisicao());
+        } else {
+            ATUAL.remove();
+        }
+    }
+
+    /**
+     * @return boolean true se a thread atual atende uma requisição amostrada
+     */
+    public static boolean isAtivo() {
+        return ATUAL.get() != null;
+    }
+
+    /**
+     * Soma a duração de uma execução da etapa à requisição em andamento.
+     *
+     * @param etapa etapa medida
+     * @param duracaoNs duração em nanossegundos
+     */
+    public static void somar(Etapa etapa, long duracaoNs) {
+        TempoRequisicao atual = ATUAL.get();
+        if (atual != null) {
+            atual.duracoesNs[etapa.ordinal()] += duracaoNs;
+            atual.quantidades[etapa.ordinal()]++;
+        }
+    }
+
+    /**
+     * Descarta o contexto da thread atual sem montar o cabeçalho (requisição recusada
+     * por um filtro, que não chega ao filtro {@code after}).
+     */
+    public static void descartar() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Fecha o contexto da thread atual e monta o valor do cabeçalho {@code Server-Timing}.
+     *
+     * @return String valor do cabeçalho, ou null se a requisição não foi amostrada
+     */
+    public static String encerrar() {
+        TempoRequisicao atual = ATUAL.get();
+        if (atual == null) {
+            return null;
+        }
+        ATUAL.remove();
+        return atual.cabecalho(System.nanoTime() - atual.inicioNs);
+    }
+
+    private String cabecalho(long totalNs) {
+        StringBuilder valor = new StringBuilder(160);
+        long medidoNs = 0;
+        for (Etapa etapa : Etapa.values()) {
+            int quantidade = quantidades[etapa.ordinal()];
+            if (quantidade == 0) {
+                continue;
+            }
+            long duracaoNs = duracoesNs[etapa.ordinal()];
+            medidoNs += duracaoNs;
+            String descricao = etapa.descricao + (quantidade > 1 ? " (" + quantidade + "x)" : "");
+            metrica(valor, etapa.nome, descricao, duracaoNs);
+        }
+        metrica(valor, "app", "Demais etapas", Math.max(totalNs - medidoNs, 0));
+        metrica(valor, "total", null, totalNs);
+        return valor.toString();
+    }
+
+    private static void metrica(StringBuilder valor, String nome, String descricao, long duracaoNs) {
+        if (!valor.isEmpty()) {
+            valor.append(", ");
+        }
+        valor.append(nome);
+        if (descricao != null) {
+            valor.append(";desc=\"").append(descricao).append('"');
+        }
+        valor.append(";dur=").append(String.format(Locale.ROOT, "%.2f", duracaoNs / 1e6));
+    }
+}
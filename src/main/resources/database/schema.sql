@@ -32,16 +32,51 @@ CREATE TABLE IF NOT EXISTS sessions (
     ip_address VARCHAR(45),
     user_agent TEXT,
     status VARCHAR(20) DEFAULT 'ACTIVE' CHECK(status IN ('ACTIVE', 'LOGGED_OUT', 'EXPIRED')),
+    last_activity INTEGER, -- epoch em ms da última requisição (gravado em lote)
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+-- Tabela de sessões HTTP (estado do cookie JSESSIONID; sobrevive a reinícios)
+CREATE TABLE IF NOT EXISTS http_sessions (
+    id TEXT PRIMARY KEY,
+    context_path TEXT NOT NULL,
+    vhost TEXT NOT NULL,
+    last_node TEXT,
+    created INTEGER NOT NULL,
+    accessed INTEGER NOT NULL,
+    last_accessed INTEGER NOT NULL,
+    cookie_set INTEGER NOT NULL,
+    expiry INTEGER NOT NULL,
+    max_inactive_ms INTEGER NOT NULL,
+    last_saved INTEGER NOT NULL,
+    atributos BLOB
+);
+
+-- Resumo diário das sessões removidas pela retenção (session.retencao.dias):
+-- logins por dia, usuário, dispositivo, navegador e sistema operacional
+CREATE TABLE IF NOT EXISTS sessions_resumo_diario (
+    dia TEXT NOT NULL, -- yyyy-MM-dd (dia do login)
+    user_id INTEGER NOT NULL,
+    dispositivo TEXT NOT NULL,
+    navegador TEXT NOT NULL,
+    sistema TEXT NOT NULL,
+    logins INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (dia, user_id, dispositivo, navegador, sistema)
+);
+
 -- Índices para performance
 CREATE INDEX IF NOT EXISTS idx_users_username ON users(username);
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_users_active ON users(active);
+-- Diretório de usuários: busca por prefixo (LIKE ignora maiúsculas, por isso NOCASE) e filtros
+CREATE INDEX IF NOT EXISTS idx_users_username_nocase ON users(username COLLATE NOCASE);
+CREATE INDEX IF NOT EXISTS idx_users_email_nocase ON users(email COLLATE NOCASE);
+CREATE INDEX IF NOT EXISTS idx_users_full_name_nocase ON users(full_name COLLATE NOCASE);
+CREATE INDEX IF NOT EXISTS idx_users_role_active ON users(role, active);
 CREATE INDEX IF NOT EXISTS idx_sessions_user_id ON sessions(user_id);
 CREATE INDEX IF NOT EXISTS idx_sessions_login_time ON sessions(login_time);
 CREATE INDEX IF NOT EXISTS idx_sessions_status ON sessions(status);
+CREATE INDEX IF NOT EXISTS idx_http_sessions_expiry ON http_sessions(expiry);
 
 -- Trigger para atualizar updated_at automaticamente
 CREATE TRIGGER IF NOT EXISTS update_users_timestamp
@@ -150,6 +185,8 @@ CREATE TABLE IF NOT EXISTS backups (
     tamanho_bytes INTEGER,
     data_backup TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     usuario_id INTEGER,
+    duracao_ms INTEGER,
+    throughput_kbps REAL,
     FOREIGN KEY (usuario_id) REFERENCES users(id) ON DELETE SET NULL
 );
 
@@ -165,14 +202,38 @@ CREATE TABLE IF NOT EXISTS alertas_enviados (
     FOREIGN KEY (tarefa_id) REFERENCES tarefas(id) ON DELETE CASCADE
 );
 
+-- Tabela de Jobs em segundo plano (relatórios, exportações, importações e backups)
+CREATE TABLE IF NOT EXISTS jobs (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    tipo TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'PENDENTE' CHECK(status IN ('PENDENTE', 'EXECUTANDO', 'CONCLUIDO', 'FALHOU', 'CANCELADO')),
+    parametros TEXT,
+    progresso_atual INTEGER DEFAULT 0,
+    progresso_total INTEGER,
+    mensagem TEXT,
+    artefato_caminho TEXT,
+    artefato_nome TEXT,
+    artefato_tipo TEXT,
+    cancelamento_solicitado BOOLEAN DEFAULT 0,
+    tentativas INTEGER DEFAULT 0,
+    usuario_id INTEGER,
+    data_criacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    data_inicio TIMESTAMP,
+    data_fim TIMESTAMP,
+    FOREIGN KEY (usuario_id) REFERENCES users(id) ON DELETE SET NULL
+);
+
 -- Índices para performance
 CREATE UNIQUE INDEX IF NOT EXISTS idx_configuracoes_usuario_chave ON configuracoes(usuario_id, chave);
 CREATE INDEX IF NOT EXISTS idx_configuracoes_usuario_id ON configuracoes(usuario_id);
 CREATE INDEX IF NOT EXISTS idx_configuracoes_chave ON configuracoes(chave);
 CREATE INDEX IF NOT EXISTS idx_anexos_tarefa_id ON anexos(tarefa_id);
 CREATE INDEX IF NOT EXISTS idx_backups_data ON backups(data_backup);
+CREATE INDEX IF NOT EXISTS idx_backups_tipo_data ON backups(tipo, data_backup);
 CREATE INDEX IF NOT EXISTS idx_alertas_enviados_usuario_tarefa ON alertas_enviados(usuario_id, tarefa_id);
 CREATE INDEX IF NOT EXISTS idx_alertas_enviados_data ON alertas_enviados(data_envio);
+CREATE INDEX IF NOT EXISTS idx_jobs_status ON jobs(status, id);
+CREATE INDEX IF NOT EXISTS idx_jobs_usuario ON jobs(usuario_id, id);
 
 -- Trigger para atualizar data_atualizacao em configuracoes
 CREATE TRIGGER IF NOT EXISTS update_configuracoes_timestamp
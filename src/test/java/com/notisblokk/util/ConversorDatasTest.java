@@ -0,0 +1,151 @@
+package com.notisblokk.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Testes de {@link ConversorDatas}.
+ *
+ * @author Notisblokk Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ConversorDatasTest {
+
+    // ========== parseData ==========
+
+    @Test
+    void parseDataAceitaBarraEHifen() {
+        LocalDate esperada = LocalDate.of(2026, 10, 18);
+        assertEquals(esperada, ConversorDatas.parseData("18/10/2026"));
+        assertEquals(esperada, ConversorDatas.parseData("18-10-2026"));
+        assertEquals(esperada, ConversorDatas.parseData("2026-10-18"));
+    }
+
+    @Test
+    void parseDataRecusaSeparadoresMisturados() {
+        assertNull(ConversorDatas.parseData("18/10-2026"));
+        assertNull(ConversorDatas.parseData("2026/10/18"));
+        assertNull(ConversorDatas.parseData("2026-10/18"));
+    }
+
+    @Test
+    void parseDataRecusaDatasInexistentes() {
+        assertNull(ConversorDatas.parseData("29/02/2025"));
+        assertNull(ConversorDatas.parseData("31/04/2026"));
+        assertNull(ConversorDatas.parseData("2026-13-01"));
+        assertNull(ConversorDatas.parseData("00/10/2026"));
+        assertEquals(LocalDate.of(2024, 2, 29), ConversorDatas.parseData("29/02/2024"));
+    }
+
+    @Test
+    void parseDataRecusaTamanhoErrado() {
+        assertNull(ConversorDatas.parseData(null));
+        assertNull(ConversorDatas.parseData(""));
+        assertNull(ConversorDatas.parseData("5/1/2026"));
+        assertNull(ConversorDatas.parseData("18/10/26"));
+        assertNull(ConversorDatas.parseData("18/10/2026 "));
+        assertNull(ConversorDatas.parseData("18/10/2026 10:00:00"));
+    }
+
+    @Test
+    void parseDataRecusaCaracteresQueNaoSaoDigitos() {
+        assertNull(ConversorDatas.parseData("1a/10/2026"));
+        assertNull(ConversorDatas.parseData("18/10/20 6"));
+        assertNull(ConversorDatas.parseData("+2026-10-1"));
+    }
+
+    // ========== parseDataHora ==========
+
+    @Test
+    void parseDataHoraAceitaFormatoBrasileiro() {
+        assertEquals(LocalDateTime.of(2026, 10, 18, 9, 30, 5),
+            ConversorDatas.parseDataHora("18/10/2026 09:30:05"));
+    }
+
+    @Test
+    void parseDataHoraAceitaIsoComEspacoOuT() {
+        LocalDateTime esperada = LocalDateTime.of(2026, 10, 18, 9, 30, 5);
+        assertEquals(esperada, ConversorDatas.parseDataHora("2026-10-18 09:30:05"));
+        assertEquals(esperada, ConversorDatas.parseDataHora("2026-10-18T09:30:05"));
+        assertEquals(LocalDateTime.of(2026, 10, 18, 9, 30), ConversorDatas.parseDataHora("2026-10-18T09:30"));
+    }
+
+    @Test
+    void parseDataHoraAceitaFracaoIsoDeUmANoveDigitos() {
+        assertEquals(LocalDateTime.of(2026, 10, 18, 9, 30, 5, 100_000_000),
+            ConversorDatas.parseDataHora("2026-10-18 09:30:05.1"));
+        assertEquals(LocalDateTime.of(2026, 10, 18, 9, 30, 5, 123_000_000),
+            ConversorDatas.parseDataHora("2026-10-18T09:30:05.123"));
+        assertEquals(LocalDateTime.of(2026, 10, 18, 9, 30, 5, 123_456_789),
+            ConversorDatas.parseDataHora("2026-10-18T09:30:05.123456789"));
+        assertNull(ConversorDatas.parseDataHora("2026-10-18T09:30:05.1234567891"));
+        assertNull(ConversorDatas.parseDataHora("2026-10-18T09:30:05."));
+    }
+
+    @Test
+    void parseDataHoraRecusaFracaoESegundosOpcionaisNoFormatoBrasileiro() {
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 09:30"));
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 09:30:05.123"));
+        assertNull(ConversorDatas.parseDataHora("18-10-2026 09:30:05"));
+    }
+
+    @Test
+    void parseDataHoraRecusaValoresInvalidos() {
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 24:00:00"));
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 23:60:00"));
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 23:59:60"));
+        assertNull(ConversorDatas.parseDataHora("29/02/2025 10:00:00"));
+        assertNull(ConversorDatas.parseDataHora("2026-02-30T10:00:00"));
+        assertNull(ConversorDatas.parseDataHora("2026-10-18X09:30:05"));
+        assertNull(ConversorDatas.parseDataHora("2026-10-18 09-30-05"));
+    }
+
+    @Test
+    void parseDataHoraRecusaTamanhoErrado() {
+        assertNull(ConversorDatas.parseDataHora(null));
+        assertNull(ConversorDatas.parseDataHora(""));
+        assertNull(ConversorDatas.parseDataHora("2026-10-18"));
+        assertNull(ConversorDatas.parseDataHora("2026-10-18 9:30"));
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 09:30:0"));
+        assertNull(ConversorDatas.parseDataHora("18/10/2026 09:30:050"));
+    }
+
+    // ========== Cache ==========
+
+    @Test
+    void cacheDevolveOMesmoValorDoTipoCerto() {
+        LocalDate data = ConversorDatas.parseData("01/03/2027");
+        assertSame(data, ConversorDatas.parseData("01/03/2027"));
+        assertInstanceOf(LocalDate.class, ConversorDatas.parseData("01/03/2027"));
+
+        LocalDateTime dataHora = ConversorDatas.parseDataHora("2027-03-01 08:00:00");
+        assertSame(dataHora, ConversorDatas.parseDataHora("2027-03-01 08:00:00"));
+        assertInstanceOf(LocalDateTime.class, ConversorDatas.parseDataHora("2027-03-01 08:00:00"));
+    }
+
+    @Test
+    void cacheNaoMisturaDatasComDatasEHoras() {
+        // Mesmo texto nas duas conversões: cada uma tem o próprio cache
+        assertEquals(LocalDate.of(2027, 3, 2), ConversorDatas.parseData("2027-03-02"));
+        assertNull(ConversorDatas.parseDataHora("2027-03-02"));
+
+        assertEquals(LocalDateTime.of(2027, 3, 2, 8, 0), ConversorDatas.parseDataHora("2027-03-02T08:00"));
+        assertNull(ConversorDatas.parseData("2027-03-02T08:00"));
+        assertInstanceOf(LocalDate.class, ConversorDatas.parseData("2027-03-02"));
+    }
+
+    @Test
+    void textoInvalidoNaoEntraNoCache() {
+        assertNull(ConversorDatas.parseData("31/02/2027"));
+        assertNull(ConversorDatas.parseData("31/02/2027"));
+        assertEquals(LocalDate.of(2027, 1, 31), ConversorDatas.parseData("31/01/2027"));
+    }
+}